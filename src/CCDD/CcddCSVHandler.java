@@ -34,6 +34,7 @@ import CCDD.CcddClassesDataTable.TableInformation;
 import CCDD.CcddClassesDataTable.TableTypeDefinition;
 import CCDD.CcddConstants.DefaultInputType;
 import CCDD.CcddConstants.DialogOption;
+import CCDD.CcddConstants.EventLogMessageType;
 import CCDD.CcddConstants.GroupDefinitionColumn;
 import CCDD.CcddConstants.InternalTable.AssociationsColumn;
 import CCDD.CcddConstants.InternalTable.DataTypesColumn;
@@ -264,27 +265,39 @@ public class CcddCSVHandler extends CcddImportSupportHandler implements CcddImpo
             List<String[]> macroDefns = new ArrayList<String[]>();
             List<String[]> reservedMsgIDDefns = new ArrayList<String[]>();
             tableDefinitions = new ArrayList<TableDefinition>();
+            List<String[]> definitionRecords = new ArrayList<String[]>();
+            List<String[]> tableRecords = new ArrayList<String[]>();
 
-            // Make three passes through the file, first to get the input types (which must be
-            // processed prior to adding a table type), second to get the table types, input types,
-            // data types, and macros, and then a third pass to read the table data and fields
+            // Create a buffered reader to read the file
+            br = new BufferedReader(new FileReader(importFile));
+
+            // Read the file a single time, separating the rows into those for the input type,
+            // table type, data type, macro, etc. definitions and those for the table definitions
+            readImportFile(br, importFile, importType, definitionRecords, tableRecords);
+
+            // Make three passes through the rows read from the file, first to get the input types
+            // (which must be processed prior to adding a table type), second to get the table
+            // types, input types, data types, and macros, and then a third pass to read the table
+            // data and fields
             for (int loop = 1; loop <= 3; loop++)
             {
                 int columnNumber = 0;
                 String groupDefnName = null;
 
-                // Create a buffered reader to read the file
-                br = new BufferedReader(new FileReader(importFile));
+                // Get the rows to process in this pass. The first and second passes use the
+                // definition rows and the third pass the table definition rows
+                List<String[]> records = loop == 3
+                                                   ? tableRecords
+                                                   : definitionRecords;
+                int recordIndex = 0;
 
                 // Initialize the import tag
                 CSVTags importTag = null;
 
-                // Read first line in file
-                String line = br.readLine();
-
-                // Continue to read the file until EOF is reached or an error is detected. This
-                // outer while loop accounts for multiple table definitions within a single file
-                while (line != null)
+                // Continue to process the rows until all are processed or an error is detected.
+                // This outer while loop accounts for multiple table definitions within a single
+                // file
+                while (recordIndex < records.size())
                 {
                     TableTypeDefinition tableTypeDefn = null;
 
@@ -308,787 +321,748 @@ public class CcddCSVHandler extends CcddImportSupportHandler implements CcddImpo
                     // a column definition
                     boolean isTypeName = false;
 
-                    // Continue to read the file until EOF is reached or an error is detected. This
-                    // inner while loop reads the information for a single table in the file
-                    while (line != null)
+                    // Continue to process the rows until all are processed or an error is
+                    // detected. This inner while loop processes the information for a single table
+                    // in the file
+                    while (recordIndex < records.size())
                     {
-                        // Remove any leading/trailing white space characters from the row
-                        String trimmedLine = line.trim();
+                        // Get the column values for the row
+                        columnValues = records.get(recordIndex);
+                        boolean isTag = false;
+                        boolean isNextTable = false;
 
-                        // Check that the row isn't empty and isn't a comment line (starts with a #
-                        // character)
-                        if (!trimmedLine.isEmpty() && !trimmedLine.startsWith("#"))
-                        {
-                            boolean isTag = false;
-                            boolean isNextTable = false;
+                        // Remove any leading/trailing white space characters from the first
+                        // column value
+                        String firstColumn = columnValues[0].trim();
 
-                            // Check if the line contains an odd number of double quotes
-                            if (trimmedLine.replaceAll("[^\"]*(\")?", "$1").length() % 2 != 0)
+                        // Step through the import tags
+                        for (CSVTags csvTag : CSVTags.values())
+                        {
+                            // Check if the first column value matches the tag name
+                            if (csvTag.isTag(firstColumn))
                             {
-                                String nextLine = null;
+                                isTag = true;
+
+                                // Set the import tag and stop searching
+                                importTag = csvTag;
 
-                                // Step through the subsequent lines in order to find the end of
-                                // multi-line value
-                                while ((nextLine = br.readLine()) != null)
+                                // Check if this is the table name and table type tag
+                                if (CSVTags.NAME_TYPE.isTag(firstColumn))
                                 {
-                                    // Append the line to the preceding one, inserting the line
-                                    // feed. The non-trimmed variable is used so that trailing
-                                    // spaces within a quoted, multiple-line field aren't lost
-                                    line += "\n" + nextLine;
-
-                                    // Check if this is the line that ends the multi-line value
-                                    // (i.e., it ends with one double quote)
-                                    if (nextLine.replaceAll("[^\"]*(\")?", "$1").length() % 2 != 0)
+                                    // Check if this is the third pass and if the name and type
+                                    // are already set; if so, this is the beginning of another
+                                    // table's information
+                                    if (loop == 3 && !tablePath.isEmpty())
                                     {
-                                        // Stop searching; the multi-line string
-                                        // has been
-                                        // concatenated to the initial line
-                                        break;
+                                        // Set the flag to indicate that this is the beginning
+                                        // of the next table definition
+                                        isNextTable = true;
                                     }
                                 }
+                                // Check if this is the table type tag
+                                else if (CSVTags.TABLE_TYPE.isTag(firstColumn))
+                                {
+                                    // Set the flag so that the next row is treated as the
+                                    // table
+                                    // type name and description
+                                    isTypeName = true;
+                                }
 
-                                // Remove any leading/trailing white space characters from the
-                                // combined multiple line row. This only removed white space
-                                // outside the quotes that bound the text
-                                trimmedLine = line.trim();
+                                break;
                             }
+                        }
 
-                            // Remove any trailing commas and empty quotes from the row. If the CSV
-                            // file is generated from a spreadsheet application then extra commas
-                            // are appended to a row if needed for the number of columns to be
-                            // equal with the other rows. These empty trailing columns are ignored
-                            line = trimmedLine.replaceAll("(?:[,\\s*]|\"\\s*\",|,\"\\s*\")*$", "");
-
-                            // Parse the import data. The values are comma- separated; however,
-                            // commas within quotes are ignored - this allows commas to be included
-                            // in the data values
-                            columnValues = CcddUtilities.splitAndRemoveQuotes(line);
-
-                            // Remove any leading/trailing white space characters from the first
-                            // column value
-                            String firstColumn = columnValues[0].trim();
+                        // Check if this is the beginning of the next table definition
+                        if (isNextTable)
+                        {
+                            // Stop processing the file in order to create the table
+                            // prior to beginning another one
+                            break;
+                        }
 
-                            // Step through the import tags
-                            for (CSVTags csvTag : CSVTags.values())
+                        // Not a tag (or no table name and type are defined); read in the
+                        // information based on the last tag read
+                        if (!isTag)
+                        {
+                            // Check if this is the first pass
+                            if (loop == 1)
                             {
-                                // Check if the first column value matches the tag name
-                                if (csvTag.isTag(firstColumn))
+                                switch (importTag)
                                 {
-                                    isTag = true;
-
-                                    // Set the import tag and stop searching
-                                    importTag = csvTag;
-
-                                    // Check if this is the table name and table type tag
-                                    if (CSVTags.NAME_TYPE.isTag(firstColumn))
-                                    {
-                                        // Check if this is the third pass and if the name and type
-                                        // are already set; if so, this is the beginning of another
-                                        // table's information
-                                        if (loop == 3 && !tablePath.isEmpty())
+                                    case INPUT_TYPE:
+                                        // Check if all definitions are to be loaded
+                                        if (importType == ImportType.IMPORT_ALL)
                                         {
-                                            // Set the flag to indicate that this is the beginning
-                                            // of the next table definition
-                                            isNextTable = true;
+                                            // Check if the expected number of inputs is
+                                            // present
+                                            if (columnValues.length == InputTypesColumn.values().length - 1)
+                                            {
+                                                // Check if the input type definition is valid
+                                                String[] inputTypeDefn = checkInputTypeDefinition(new String[] {columnValues[InputTypesColumn.NAME.ordinal()],
+                                                                                                                columnValues[InputTypesColumn.DESCRIPTION.ordinal()],
+                                                                                                                columnValues[InputTypesColumn.MATCH.ordinal()],
+                                                                                                                columnValues[InputTypesColumn.ITEMS.ordinal()],
+                                                                                                                columnValues[InputTypesColumn.FORMAT.ordinal()],
+                                                                                                                ""});
+
+                                                // Add the input type definition (add a blank
+                                                // to represent the OID)
+                                                inputTypeDefns.add(inputTypeDefn);
+                                            }
+                                            // The number of inputs is incorrect
+                                            else
+                                            {
+                                                // Check if the error should be ignored or the
+                                                // import canceled
+                                                continueOnInputTypeError = getErrorResponse(continueOnInputTypeError,
+                                                                                            "<html><b>Missing or extra input type definition "
+                                                                                                                      + "input(s) in import file '</b>"
+                                                                                                                      + importFile.getAbsolutePath()
+                                                                                                                      + "<b>'; continue?",
+                                                                                            "Input Type Error",
+                                                                                            "Ignore this input type",
+                                                                                            "Ignore this and any remaining invalid input types",
+                                                                                            "Stop importing",
+                                                                                            parent);
+                                            }
                                         }
-                                    }
-                                    // Check if this is the table type tag
-                                    else if (CSVTags.TABLE_TYPE.isTag(firstColumn))
-                                    {
-                                        // Set the flag so that the next row is treated as the
-                                        // table
-                                        // type name and description
-                                        isTypeName = true;
-                                    }
 
-                                    break;
-                                }
-                            }
+                                        break;
 
-                            // Check if this is the beginning of the next table definition
-                            if (isNextTable)
-                            {
-                                // Stop processing the file in order to create the table
-                                // prior to beginning another one
-                                break;
+                                    case CELL_DATA:
+                                    case COLUMN_DATA:
+                                    case DATA_FIELD:
+                                    case DATA_TYPE:
+                                    case DESCRIPTION:
+                                    case MACRO:
+                                    case NAME_TYPE:
+                                    case PROJECT_DATA_FIELD:
+                                    case RESERVED_MSG_IDS:
+                                    case TABLE_TYPE:
+                                    case TABLE_TYPE_DATA_FIELD:
+                                    case GROUP:
+                                    case GROUP_DATA_FIELD:
+                                    case VARIABLE_PATHS:
+                                    case SCRIPT_ASSOCIATION:
+                                        break;
+                                }
                             }
-
-                            // Not a tag (or no table name and type are defined); read in the
-                            // information based on the last tag read
-                            if (!isTag)
+                            // Check if this is the second pass
+                            else if (loop == 2)
                             {
-                                // Check if this is the first pass
-                                if (loop == 1)
+                                switch (importTag)
                                 {
-                                    switch (importTag)
-                                    {
-                                        case INPUT_TYPE:
-                                            // Check if all definitions are to be loaded
-                                            if (importType == ImportType.IMPORT_ALL)
+                                    case TABLE_TYPE:
+                                        // Check if all definitions are to be loaded
+                                        if (importType == ImportType.IMPORT_ALL)
+                                        {
+                                            // Check if this is the table type name and
+                                            // description
+                                            if (isTypeName)
                                             {
+                                                // Reset the flag so that subsequent rows are
+                                                // treated as column definitions
+                                                isTypeName = false;
+                                                columnNumber = NUM_HIDDEN_COLUMNS;
+
                                                 // Check if the expected number of inputs is
                                                 // present
-                                                if (columnValues.length == InputTypesColumn.values().length - 1)
+                                                if (columnValues.length == 2
+                                                    || columnValues.length == 1)
                                                 {
-                                                    // Check if the input type definition is valid
-                                                    String[] inputTypeDefn = checkInputTypeDefinition(new String[] {columnValues[InputTypesColumn.NAME.ordinal()],
-                                                                                                                    columnValues[InputTypesColumn.DESCRIPTION.ordinal()],
-                                                                                                                    columnValues[InputTypesColumn.MATCH.ordinal()],
-                                                                                                                    columnValues[InputTypesColumn.ITEMS.ordinal()],
-                                                                                                                    columnValues[InputTypesColumn.FORMAT.ordinal()],
-                                                                                                                    ""});
-
-                                                    // Add the input type definition (add a blank
-                                                    // to represent the OID)
-                                                    inputTypeDefns.add(inputTypeDefn);
+                                                    // Add the table type definition
+                                                    tableTypeDefn = new TableTypeDefinition(columnValues[0],
+                                                                                            (columnValues.length == 2
+                                                                                                                      ? columnValues[1]
+                                                                                                                      : ""));
+                                                    tableTypeDefns.add(tableTypeDefn);
                                                 }
                                                 // The number of inputs is incorrect
                                                 else
                                                 {
-                                                    // Check if the error should be ignored or the
-                                                    // import canceled
-                                                    continueOnInputTypeError = getErrorResponse(continueOnInputTypeError,
-                                                                                                "<html><b>Missing or extra input type definition "
-                                                                                                                          + "input(s) in import file '</b>"
+                                                    // Check if the error should be ignored or
+                                                    // the import canceled
+                                                    continueOnTableTypeError = getErrorResponse(continueOnTableTypeError,
+                                                                                                "<html><b>Missing table type name in import file '</b>"
                                                                                                                           + importFile.getAbsolutePath()
                                                                                                                           + "<b>'; continue?",
-                                                                                                "Input Type Error",
-                                                                                                "Ignore this input type",
-                                                                                                "Ignore this and any remaining invalid input types",
+                                                                                                "Table Type Error",
+                                                                                                "Ignore this table type",
+                                                                                                "Ignore this and any remaining invalid table types",
                                                                                                 "Stop importing",
                                                                                                 parent);
                                                 }
                                             }
-
-                                            break;
-
-                                        case CELL_DATA:
-                                        case COLUMN_DATA:
-                                        case DATA_FIELD:
-                                        case DATA_TYPE:
-                                        case DESCRIPTION:
-                                        case MACRO:
-                                        case NAME_TYPE:
-                                        case PROJECT_DATA_FIELD:
-                                        case RESERVED_MSG_IDS:
-                                        case TABLE_TYPE:
-                                        case TABLE_TYPE_DATA_FIELD:
-                                        case GROUP:
-                                        case GROUP_DATA_FIELD:
-                                        case VARIABLE_PATHS:
-                                        case SCRIPT_ASSOCIATION:
-                                            break;
-                                    }
-                                }
-                                // Check if this is the second pass
-                                else if (loop == 2)
-                                {
-                                    switch (importTag)
-                                    {
-                                        case TABLE_TYPE:
-                                            // Check if all definitions are to be loaded
-                                            if (importType == ImportType.IMPORT_ALL)
+                                            // This is a column definition
+                                            else
                                             {
-                                                // Check if this is the table type name and
-                                                // description
-                                                if (isTypeName)
+                                                // Check if the expected number of inputs is
+                                                // present
+                                                if (columnValues.length == TableTypeEditorColumnInfo.values().length - 1)
                                                 {
-                                                    // Reset the flag so that subsequent rows are
-                                                    // treated as column definitions
-                                                    isTypeName = false;
-                                                    columnNumber = NUM_HIDDEN_COLUMNS;
-
-                                                    // Check if the expected number of inputs is
-                                                    // present
-                                                    if (columnValues.length == 2
-                                                        || columnValues.length == 1)
-                                                    {
-                                                        // Add the table type definition
-                                                        tableTypeDefn = new TableTypeDefinition(columnValues[0],
-                                                                                                (columnValues.length == 2
-                                                                                                                          ? columnValues[1]
-                                                                                                                          : ""));
-                                                        tableTypeDefns.add(tableTypeDefn);
-                                                    }
-                                                    // The number of inputs is incorrect
-                                                    else
-                                                    {
-                                                        // Check if the error should be ignored or
-                                                        // the import canceled
-                                                        continueOnTableTypeError = getErrorResponse(continueOnTableTypeError,
-                                                                                                    "<html><b>Missing table type name in import file '</b>"
-                                                                                                                              + importFile.getAbsolutePath()
-                                                                                                                              + "<b>'; continue?",
-                                                                                                    "Table Type Error",
-                                                                                                    "Ignore this table type",
-                                                                                                    "Ignore this and any remaining invalid table types",
-                                                                                                    "Stop importing",
-                                                                                                    parent);
-                                                    }
+                                                    // Add the table type column definition,
+                                                    // checking for (and if possible,
+                                                    // correcting) errors
+                                                    continueOnTableTypeError = addImportedTableTypeColumnDefinition(continueOnTableTypeError,
+                                                                                                                    tableTypeDefn,
+                                                                                                                    new String[] {String.valueOf(columnNumber),
+                                                                                                                                  columnValues[TableTypeEditorColumnInfo.NAME.ordinal() - 1],
+                                                                                                                                  columnValues[TableTypeEditorColumnInfo.DESCRIPTION.ordinal() - 1],
+                                                                                                                                  columnValues[TableTypeEditorColumnInfo.INPUT_TYPE.ordinal() - 1],
+                                                                                                                                  columnValues[TableTypeEditorColumnInfo.UNIQUE.ordinal() - 1],
+                                                                                                                                  columnValues[TableTypeEditorColumnInfo.REQUIRED.ordinal() - 1],
+                                                                                                                                  columnValues[TableTypeEditorColumnInfo.STRUCTURE_ALLOWED.ordinal()
+                                                                                                                                               - 1],
+                                                                                                                                  columnValues[TableTypeEditorColumnInfo.POINTER_ALLOWED.ordinal()
+                                                                                                                                               - 1]},
+                                                                                                                    importFile.getAbsolutePath(),
+                                                                                                                    inputTypeHandler,
+                                                                                                                    parent);
+
+                                                    // Update the column index number for the
+                                                    // next column definition
+                                                    columnNumber++;
                                                 }
-                                                // This is a column definition
+                                                // The number of inputs is incorrect
                                                 else
                                                 {
-                                                    // Check if the expected number of inputs is
-                                                    // present
-                                                    if (columnValues.length == TableTypeEditorColumnInfo.values().length - 1)
-                                                    {
-                                                        // Add the table type column definition,
-                                                        // checking for (and if possible,
-                                                        // correcting) errors
-                                                        continueOnTableTypeError = addImportedTableTypeColumnDefinition(continueOnTableTypeError,
-                                                                                                                        tableTypeDefn,
-                                                                                                                        new String[] {String.valueOf(columnNumber),
-                                                                                                                                      columnValues[TableTypeEditorColumnInfo.NAME.ordinal() - 1],
-                                                                                                                                      columnValues[TableTypeEditorColumnInfo.DESCRIPTION.ordinal() - 1],
-                                                                                                                                      columnValues[TableTypeEditorColumnInfo.INPUT_TYPE.ordinal() - 1],
-                                                                                                                                      columnValues[TableTypeEditorColumnInfo.UNIQUE.ordinal() - 1],
-                                                                                                                                      columnValues[TableTypeEditorColumnInfo.REQUIRED.ordinal() - 1],
-                                                                                                                                      columnValues[TableTypeEditorColumnInfo.STRUCTURE_ALLOWED.ordinal()
-                                                                                                                                                   - 1],
-                                                                                                                                      columnValues[TableTypeEditorColumnInfo.POINTER_ALLOWED.ordinal()
-                                                                                                                                                   - 1]},
-                                                                                                                        importFile.getAbsolutePath(),
-                                                                                                                        inputTypeHandler,
-                                                                                                                        parent);
-
-                                                        // Update the column index number for the
-                                                        // next column definition
-                                                        columnNumber++;
-                                                    }
-                                                    // The number of inputs is incorrect
-                                                    else
-                                                    {
-                                                        // Check if the error should be ignored or
-                                                        // the import canceled
-                                                        continueOnTableTypeError = getErrorResponse(continueOnTableTypeError,
-                                                                                                    "<html><b>Table type '</b>"
-                                                                                                                              + tableTypeDefn.getTypeName()
-                                                                                                                              + "<b>' definition has missing or extra "
-                                                                                                                              + "input(s) in import file '</b>"
-                                                                                                                              + importFile.getAbsolutePath()
-                                                                                                                              + "<b>'; continue?",
-                                                                                                    "Table Type Error",
-                                                                                                    "Ignore this table type",
-                                                                                                    "Ignore this and any remaining invalid table types",
-                                                                                                    "Stop importing",
-                                                                                                    parent);
-                                                    }
+                                                    // Check if the error should be ignored or
+                                                    // the import canceled
+                                                    continueOnTableTypeError = getErrorResponse(continueOnTableTypeError,
+                                                                                                "<html><b>Table type '</b>"
+                                                                                                                          + tableTypeDefn.getTypeName()
+                                                                                                                          + "<b>' definition has missing or extra "
+                                                                                                                          + "input(s) in import file '</b>"
+                                                                                                                          + importFile.getAbsolutePath()
+                                                                                                                          + "<b>'; continue?",
+                                                                                                "Table Type Error",
+                                                                                                "Ignore this table type",
+                                                                                                "Ignore this and any remaining invalid table types",
+                                                                                                "Stop importing",
+                                                                                                parent);
                                                 }
                                             }
+                                        }
 
-                                            break;
+                                        break;
 
-                                        case TABLE_TYPE_DATA_FIELD:
-                                            // Check if all definitions are to be loaded
-                                            if (importType == ImportType.IMPORT_ALL)
-                                            {
-                                                // Append empty columns as needed to fill out the
-                                                // expected number of inputs
-                                                columnValues = CcddUtilities.appendArrayColumns(columnValues,
-                                                                                                FieldsColumn.values().length
-                                                                                                              - 1
-                                                                                                              - columnValues.length);
+                                    case TABLE_TYPE_DATA_FIELD:
+                                        // Check if all definitions are to be loaded
+                                        if (importType == ImportType.IMPORT_ALL)
+                                        {
+                                            // Append empty columns as needed to fill out the
+                                            // expected number of inputs
+                                            columnValues = CcddUtilities.appendArrayColumns(columnValues,
+                                                                                            FieldsColumn.values().length
+                                                                                                          - 1
+                                                                                                          - columnValues.length);
 
-                                                // Add the data field definition, checking for (and
-                                                // if possible, correcting) errors
-                                                continueOnTableTypeFieldError = addImportedDataFieldDefinition(continueOnTableTypeFieldError,
-                                                                                                               tableTypeDefn,
-                                                                                                               new String[] {CcddFieldHandler.getFieldTypeName(tableTypeDefn.getTypeName()),
-                                                                                                                             columnValues[FieldsColumn.FIELD_NAME.ordinal() - 1],
-                                                                                                                             columnValues[FieldsColumn.FIELD_DESC.ordinal() - 1],
-                                                                                                                             columnValues[FieldsColumn.FIELD_SIZE.ordinal() - 1],
-                                                                                                                             columnValues[FieldsColumn.FIELD_TYPE.ordinal() - 1],
-                                                                                                                             columnValues[FieldsColumn.FIELD_REQUIRED.ordinal() - 1],
-                                                                                                                             columnValues[FieldsColumn.FIELD_APPLICABILITY.ordinal() - 1],
-                                                                                                                             columnValues[FieldsColumn.FIELD_VALUE.ordinal() - 1],
-                                                                                                                             columnValues[FieldsColumn.FIELD_INHERITED.ordinal() - 1]},
-                                                                                                               importFile.getAbsolutePath(),
-                                                                                                               inputTypeHandler,
-                                                                                                               fieldHandler,
-                                                                                                               parent);
-                                            }
+                                            // Add the data field definition, checking for (and
+                                            // if possible, correcting) errors
+                                            continueOnTableTypeFieldError = addImportedDataFieldDefinition(continueOnTableTypeFieldError,
+                                                                                                           tableTypeDefn,
+                                                                                                           new String[] {CcddFieldHandler.getFieldTypeName(tableTypeDefn.getTypeName()),
+                                                                                                                         columnValues[FieldsColumn.FIELD_NAME.ordinal() - 1],
+                                                                                                                         columnValues[FieldsColumn.FIELD_DESC.ordinal() - 1],
+                                                                                                                         columnValues[FieldsColumn.FIELD_SIZE.ordinal() - 1],
+                                                                                                                         columnValues[FieldsColumn.FIELD_TYPE.ordinal() - 1],
+                                                                                                                         columnValues[FieldsColumn.FIELD_REQUIRED.ordinal() - 1],
+                                                                                                                         columnValues[FieldsColumn.FIELD_APPLICABILITY.ordinal() - 1],
+                                                                                                                         columnValues[FieldsColumn.FIELD_VALUE.ordinal() - 1],
+                                                                                                                         columnValues[FieldsColumn.FIELD_INHERITED.ordinal() - 1]},
+                                                                                                           importFile.getAbsolutePath(),
+                                                                                                           inputTypeHandler,
+                                                                                                           fieldHandler,
+                                                                                                           parent);
+                                        }
 
-                                            break;
+                                        break;
 
-                                        case DATA_TYPE:
-                                            // Check if all definitions are to be loaded
-                                            if (importType == ImportType.IMPORT_ALL)
+                                    case DATA_TYPE:
+                                        // Check if all definitions are to be loaded
+                                        if (importType == ImportType.IMPORT_ALL)
+                                        {
+                                            // Check if the expected number of inputs is
+                                            // present
+                                            if (columnValues.length == DataTypesColumn.values().length - 1)
                                             {
-                                                // Check if the expected number of inputs is
-                                                // present
-                                                if (columnValues.length == DataTypesColumn.values().length - 1)
-                                                {
-                                                    // Build the data type definition
-                                                    String[] dataTypeDefn = new String[] {columnValues[DataTypesColumn.USER_NAME.ordinal()],
-                                                                                          columnValues[DataTypesColumn.C_NAME.ordinal()],
-                                                                                          columnValues[DataTypesColumn.SIZE.ordinal()],
-                                                                                          columnValues[DataTypesColumn.BASE_TYPE.ordinal()],
-                                                                                          ""};
-
-                                                    // Check if the data type definition is valid
-                                                    checkDataTypeDefinition(dataTypeDefn);
-
-                                                    // Add the data type definition (add a blank to
-                                                    // represent the OID)
-                                                    dataTypeDefns.add(dataTypeDefn);
-                                                }
-                                                // The number of inputs is incorrect
-                                                else
-                                                {
-                                                    // Check if the error should be ignored or the
-                                                    // import canceled
-                                                    continueOnDataTypeError = getErrorResponse(continueOnDataTypeError,
-                                                                                               "<html><b>Missing or extra data type definition "
-                                                                                                                        + "input(s) in import file '</b>"
-                                                                                                                        + importFile.getAbsolutePath()
-                                                                                                                        + "<b>'; continue?",
-                                                                                               "Data Type Error",
-                                                                                               "Ignore this data type",
-                                                                                               "Ignore this and any remaining invalid data types",
-                                                                                               "Stop importing",
-                                                                                               parent);
-                                                }
+                                                // Build the data type definition
+                                                String[] dataTypeDefn = new String[] {columnValues[DataTypesColumn.USER_NAME.ordinal()],
+                                                                                      columnValues[DataTypesColumn.C_NAME.ordinal()],
+                                                                                      columnValues[DataTypesColumn.SIZE.ordinal()],
+                                                                                      columnValues[DataTypesColumn.BASE_TYPE.ordinal()],
+                                                                                      ""};
+
+                                                // Check if the data type definition is valid
+                                                checkDataTypeDefinition(dataTypeDefn);
+
+                                                // Add the data type definition (add a blank to
+                                                // represent the OID)
+                                                dataTypeDefns.add(dataTypeDefn);
                                             }
-
-                                            break;
-
-                                        case MACRO:
-                                            // Check if all definitions are to be loaded
-                                            if (importType == ImportType.IMPORT_ALL)
+                                            // The number of inputs is incorrect
+                                            else
                                             {
-                                                // Check if the expected number of inputs is
-                                                // present
-                                                if (columnValues.length == 2
-                                                    || columnValues.length == 1)
-                                                {
-                                                    // Build the macro definition
-                                                    String[] macroDefn = new String[] {columnValues[0],
-                                                                                       (columnValues.length == 2
-                                                                                                                 ? columnValues[1]
-                                                                                                                 : ""),
-                                                                                       ""};
-
-                                                    // Check if the macro definition is valid
-                                                    checkMacroDefinition(macroDefn);
-
-                                                    // Add the macro definition (add a blank to
-                                                    // represent the OID)
-                                                    macroDefns.add(macroDefn);
-                                                }
-                                                // The number of inputs is incorrect
-                                                else
-                                                {
-                                                    // Check if the error should be ignored or the
-                                                    // import canceled
-                                                    continueOnMacroError = getErrorResponse(continueOnMacroError,
-                                                                                            "<html><b>Missing or extra macro definition "
-                                                                                                                  + "input(s) in import file '</b>"
-                                                                                                                  + importFile.getAbsolutePath()
-                                                                                                                  + "<b>'; continue?",
-                                                                                            "Macro Error",
-                                                                                            "Ignore this macro",
-                                                                                            "Ignore this and any remaining invalid macros",
-                                                                                            "Stop importing",
-                                                                                            parent);
-                                                }
+                                                // Check if the error should be ignored or the
+                                                // import canceled
+                                                continueOnDataTypeError = getErrorResponse(continueOnDataTypeError,
+                                                                                           "<html><b>Missing or extra data type definition "
+                                                                                                                    + "input(s) in import file '</b>"
+                                                                                                                    + importFile.getAbsolutePath()
+                                                                                                                    + "<b>'; continue?",
+                                                                                           "Data Type Error",
+                                                                                           "Ignore this data type",
+                                                                                           "Ignore this and any remaining invalid data types",
+                                                                                           "Stop importing",
+                                                                                           parent);
                                             }
+                                        }
 
-                                            break;
+                                        break;
 
-                                        case RESERVED_MSG_IDS:
-                                            // Check if all definitions are to be loaded
-                                            if (importType == ImportType.IMPORT_ALL)
+                                    case MACRO:
+                                        // Check if all definitions are to be loaded
+                                        if (importType == ImportType.IMPORT_ALL)
+                                        {
+                                            // Check if the expected number of inputs is
+                                            // present
+                                            if (columnValues.length == 2
+                                                || columnValues.length == 1)
                                             {
-                                                // Check if the expected number of inputs is
-                                                // present
-                                                if (columnValues.length == 2
-                                                    || columnValues.length == 1)
-                                                {
-                                                    // Append empty columns as needed to fill out
-                                                    // the expected number of inputs
-                                                    columnValues = CcddUtilities.appendArrayColumns(columnValues,
-                                                                                                    2 - columnValues.length);
-
-                                                    // Add the reserved message ID definition (add
-                                                    // a blank to represent the OID)
-                                                    reservedMsgIDDefns.add(new String[] {columnValues[ReservedMsgIDsColumn.MSG_ID.ordinal()],
-                                                                                         columnValues[ReservedMsgIDsColumn.DESCRIPTION.ordinal()],
-                                                                                         ""});
-                                                }
-                                                // The number of inputs is incorrect
-                                                else
-                                                {
-                                                    // Check if the error should be ignored or the
-                                                    // import canceled
-                                                    continueOnReservedMsgIDError = getErrorResponse(continueOnReservedMsgIDError,
-                                                                                                    "<html><b>Missing or extra reserved message ID "
-                                                                                                                                  + "definition input(s) in import file '</b>"
-                                                                                                                                  + importFile.getAbsolutePath()
-                                                                                                                                  + "<b>'; continue?",
-                                                                                                    "Reserved Message ID Error",
-                                                                                                    "Ignore this data type",
-                                                                                                    "Ignore this and any remaining invalid reserved message IDs",
-                                                                                                    "Stop importing",
-                                                                                                    parent);
-                                                }
+                                                // Build the macro definition
+                                                String[] macroDefn = new String[] {columnValues[0],
+                                                                                   (columnValues.length == 2
+                                                                                                             ? columnValues[1]
+                                                                                                             : ""),
+                                                                                   ""};
+
+                                                // Check if the macro definition is valid
+                                                checkMacroDefinition(macroDefn);
+
+                                                // Add the macro definition (add a blank to
+                                                // represent the OID)
+                                                macroDefns.add(macroDefn);
+                                            }
+                                            // The number of inputs is incorrect
+                                            else
+                                            {
+                                                // Check if the error should be ignored or the
+                                                // import canceled
+                                                continueOnMacroError = getErrorResponse(continueOnMacroError,
+                                                                                        "<html><b>Missing or extra macro definition "
+                                                                                                              + "input(s) in import file '</b>"
+                                                                                                              + importFile.getAbsolutePath()
+                                                                                                              + "<b>'; continue?",
+                                                                                        "Macro Error",
+                                                                                        "Ignore this macro",
+                                                                                        "Ignore this and any remaining invalid macros",
+                                                                                        "Stop importing",
+                                                                                        parent);
                                             }
+                                        }
 
-                                            break;
+                                        break;
 
-                                        case PROJECT_DATA_FIELD:
-                                            // Check if all definitions are to be loaded
-                                            if (importType == ImportType.IMPORT_ALL)
+                                    case RESERVED_MSG_IDS:
+                                        // Check if all definitions are to be loaded
+                                        if (importType == ImportType.IMPORT_ALL)
+                                        {
+                                            // Check if the expected number of inputs is
+                                            // present
+                                            if (columnValues.length == 2
+                                                || columnValues.length == 1)
                                             {
-                                                // Append empty columns as needed to fill out the
-                                                // expected number of inputs
+                                                // Append empty columns as needed to fill out
+                                                // the expected number of inputs
                                                 columnValues = CcddUtilities.appendArrayColumns(columnValues,
-                                                                                                FieldsColumn.values().length
-                                                                                                              - 1
-                                                                                                              - columnValues.length);
+                                                                                                2 - columnValues.length);
 
-                                                // Add the data field definition, checking for (and
-                                                // if possible, correcting) errors
-                                                continueOnProjectFieldError = addImportedDataFieldDefinition(continueOnProjectFieldError,
-                                                                                                             projectDefn,
-                                                                                                             new String[] {CcddFieldHandler.getFieldProjectName(),
-                                                                                                                           columnValues[FieldsColumn.FIELD_NAME.ordinal() - 1],
-                                                                                                                           columnValues[FieldsColumn.FIELD_DESC.ordinal() - 1],
-                                                                                                                           columnValues[FieldsColumn.FIELD_SIZE.ordinal() - 1],
-                                                                                                                           columnValues[FieldsColumn.FIELD_TYPE.ordinal() - 1],
-                                                                                                                           columnValues[FieldsColumn.FIELD_REQUIRED.ordinal() - 1],
-                                                                                                                           columnValues[FieldsColumn.FIELD_APPLICABILITY.ordinal() - 1],
-                                                                                                                           columnValues[FieldsColumn.FIELD_VALUE.ordinal() - 1],
-                                                                                                                           columnValues[FieldsColumn.FIELD_INHERITED.ordinal() - 1]},
-                                                                                                             importFile.getAbsolutePath(),
-                                                                                                             inputTypeHandler,
-                                                                                                             fieldHandler,
-                                                                                                             parent);
+                                                // Add the reserved message ID definition (add
+                                                // a blank to represent the OID)
+                                                reservedMsgIDDefns.add(new String[] {columnValues[ReservedMsgIDsColumn.MSG_ID.ordinal()],
+                                                                                     columnValues[ReservedMsgIDsColumn.DESCRIPTION.ordinal()],
+                                                                                     ""});
                                             }
-
-                                            break;
-
-                                        case GROUP:
-                                            // Check if all definitions are to be loaded
-                                            if (importType == ImportType.IMPORT_ALL)
+                                            // The number of inputs is incorrect
+                                            else
                                             {
-                                                // Check if the expected number of inputs is
-                                                // present
-                                                if (columnValues.length == GroupDefinitionColumn.values().length
-                                                    || columnValues.length == GroupDefinitionColumn.values().length - 1)
-                                                {
-                                                    // Append empty columns as needed to fill out
-                                                    // the expected number of inputs
-                                                    columnValues = CcddUtilities.appendArrayColumns(columnValues,
-                                                                                                    GroupDefinitionColumn.values().length
-                                                                                                                  - columnValues.length);
-
-                                                    // Store the group name
-                                                    groupDefnName = columnValues[GroupDefinitionColumn.NAME.ordinal()];
-
-                                                    // Add the group definition, checking for (and
-                                                    // if possible, correcting) errors
-                                                    addImportedGroupDefinition(new String[] {groupDefnName,
-                                                                                             columnValues[GroupDefinitionColumn.DESCRIPTION.ordinal()],
-                                                                                             columnValues[GroupDefinitionColumn.IS_APPLICATION.ordinal()],
-                                                                                             columnValues[GroupDefinitionColumn.MEMBERS.ordinal()]},
-                                                                               importFile.getAbsolutePath(),
-                                                                               replaceExistingGroups,
-                                                                               groupHandler);
-                                                }
-                                                // The number of inputs is incorrect
-                                                else
-                                                {
-                                                    // Check if the error should be ignored or the
-                                                    // import canceled
-                                                    continueOnGroupError = getErrorResponse(continueOnGroupError,
-                                                                                            "<html><b>Group definition has missing "
-                                                                                                                  + "or extra input(s) in import file '</b>"
-                                                                                                                  + importFile.getAbsolutePath()
-                                                                                                                  + "<b>'; continue?",
-                                                                                            "Group Error",
-                                                                                            "Ignore this invalid group",
-                                                                                            "Ignore this and any remaining invalid group definitions",
-                                                                                            "Stop importing",
-                                                                                            parent);
-                                                }
+                                                // Check if the error should be ignored or the
+                                                // import canceled
+                                                continueOnReservedMsgIDError = getErrorResponse(continueOnReservedMsgIDError,
+                                                                                                "<html><b>Missing or extra reserved message ID "
+                                                                                                                              + "definition input(s) in import file '</b>"
+                                                                                                                              + importFile.getAbsolutePath()
+                                                                                                                              + "<b>'; continue?",
+                                                                                                "Reserved Message ID Error",
+                                                                                                "Ignore this data type",
+                                                                                                "Ignore this and any remaining invalid reserved message IDs",
+                                                                                                "Stop importing",
+                                                                                                parent);
                                             }
+                                        }
 
-                                            break;
+                                        break;
+
+                                    case PROJECT_DATA_FIELD:
+                                        // Check if all definitions are to be loaded
+                                        if (importType == ImportType.IMPORT_ALL)
+                                        {
+                                            // Append empty columns as needed to fill out the
+                                            // expected number of inputs
+                                            columnValues = CcddUtilities.appendArrayColumns(columnValues,
+                                                                                            FieldsColumn.values().length
+                                                                                                          - 1
+                                                                                                          - columnValues.length);
 
-                                        case GROUP_DATA_FIELD:
-                                            // Check if all definitions are to be loaded
-                                            if (importType == ImportType.IMPORT_ALL)
+                                            // Add the data field definition, checking for (and
+                                            // if possible, correcting) errors
+                                            continueOnProjectFieldError = addImportedDataFieldDefinition(continueOnProjectFieldError,
+                                                                                                         projectDefn,
+                                                                                                         new String[] {CcddFieldHandler.getFieldProjectName(),
+                                                                                                                       columnValues[FieldsColumn.FIELD_NAME.ordinal() - 1],
+                                                                                                                       columnValues[FieldsColumn.FIELD_DESC.ordinal() - 1],
+                                                                                                                       columnValues[FieldsColumn.FIELD_SIZE.ordinal() - 1],
+                                                                                                                       columnValues[FieldsColumn.FIELD_TYPE.ordinal() - 1],
+                                                                                                                       columnValues[FieldsColumn.FIELD_REQUIRED.ordinal() - 1],
+                                                                                                                       columnValues[FieldsColumn.FIELD_APPLICABILITY.ordinal() - 1],
+                                                                                                                       columnValues[FieldsColumn.FIELD_VALUE.ordinal() - 1],
+                                                                                                                       columnValues[FieldsColumn.FIELD_INHERITED.ordinal() - 1]},
+                                                                                                         importFile.getAbsolutePath(),
+                                                                                                         inputTypeHandler,
+                                                                                                         fieldHandler,
+                                                                                                         parent);
+                                        }
+
+                                        break;
+
+                                    case GROUP:
+                                        // Check if all definitions are to be loaded
+                                        if (importType == ImportType.IMPORT_ALL)
+                                        {
+                                            // Check if the expected number of inputs is
+                                            // present
+                                            if (columnValues.length == GroupDefinitionColumn.values().length
+                                                || columnValues.length == GroupDefinitionColumn.values().length - 1)
                                             {
-                                                // Append empty columns as needed to fill out the
-                                                // expected number of inputs
+                                                // Append empty columns as needed to fill out
+                                                // the expected number of inputs
                                                 columnValues = CcddUtilities.appendArrayColumns(columnValues,
-                                                                                                FieldsColumn.values().length
-                                                                                                              - 1
+                                                                                                GroupDefinitionColumn.values().length
                                                                                                               - columnValues.length);
 
-                                                // Add the data field definition, checking for (and
+                                                // Store the group name
+                                                groupDefnName = columnValues[GroupDefinitionColumn.NAME.ordinal()];
+
+                                                // Add the group definition, checking for (and
                                                 // if possible, correcting) errors
-                                                continueOnGroupFieldError = addImportedDataFieldDefinition(continueOnGroupFieldError,
-                                                                                                           projectDefn,
-                                                                                                           new String[] {CcddFieldHandler.getFieldGroupName(groupDefnName),
-                                                                                                                         columnValues[FieldsColumn.FIELD_NAME.ordinal() - 1],
-                                                                                                                         columnValues[FieldsColumn.FIELD_DESC.ordinal() - 1],
-                                                                                                                         columnValues[FieldsColumn.FIELD_SIZE.ordinal() - 1],
-                                                                                                                         columnValues[FieldsColumn.FIELD_TYPE.ordinal() - 1],
-                                                                                                                         columnValues[FieldsColumn.FIELD_REQUIRED.ordinal() - 1],
-                                                                                                                         columnValues[FieldsColumn.FIELD_APPLICABILITY.ordinal() - 1],
-                                                                                                                         columnValues[FieldsColumn.FIELD_VALUE.ordinal() - 1],
-                                                                                                                         columnValues[FieldsColumn.FIELD_INHERITED.ordinal() - 1]},
-                                                                                                           importFile.getAbsolutePath(),
-                                                                                                           inputTypeHandler,
-                                                                                                           fieldHandler,
-                                                                                                           parent);
+                                                addImportedGroupDefinition(new String[] {groupDefnName,
+                                                                                         columnValues[GroupDefinitionColumn.DESCRIPTION.ordinal()],
+                                                                                         columnValues[GroupDefinitionColumn.IS_APPLICATION.ordinal()],
+                                                                                         columnValues[GroupDefinitionColumn.MEMBERS.ordinal()]},
+                                                                           importFile.getAbsolutePath(),
+                                                                           replaceExistingGroups,
+                                                                           groupHandler);
                                             }
+                                            // The number of inputs is incorrect
+                                            else
+                                            {
+                                                // Check if the error should be ignored or the
+                                                // import canceled
+                                                continueOnGroupError = getErrorResponse(continueOnGroupError,
+                                                                                        "<html><b>Group definition has missing "
+                                                                                                              + "or extra input(s) in import file '</b>"
+                                                                                                              + importFile.getAbsolutePath()
+                                                                                                              + "<b>'; continue?",
+                                                                                        "Group Error",
+                                                                                        "Ignore this invalid group",
+                                                                                        "Ignore this and any remaining invalid group definitions",
+                                                                                        "Stop importing",
+                                                                                        parent);
+                                            }
+                                        }
 
-                                            break;
+                                        break;
+
+                                    case GROUP_DATA_FIELD:
+                                        // Check if all definitions are to be loaded
+                                        if (importType == ImportType.IMPORT_ALL)
+                                        {
+                                            // Append empty columns as needed to fill out the
+                                            // expected number of inputs
+                                            columnValues = CcddUtilities.appendArrayColumns(columnValues,
+                                                                                            FieldsColumn.values().length
+                                                                                                          - 1
+                                                                                                          - columnValues.length);
+
+                                            // Add the data field definition, checking for (and
+                                            // if possible, correcting) errors
+                                            continueOnGroupFieldError = addImportedDataFieldDefinition(continueOnGroupFieldError,
+                                                                                                       projectDefn,
+                                                                                                       new String[] {CcddFieldHandler.getFieldGroupName(groupDefnName),
+                                                                                                                     columnValues[FieldsColumn.FIELD_NAME.ordinal() - 1],
+                                                                                                                     columnValues[FieldsColumn.FIELD_DESC.ordinal() - 1],
+                                                                                                                     columnValues[FieldsColumn.FIELD_SIZE.ordinal() - 1],
+                                                                                                                     columnValues[FieldsColumn.FIELD_TYPE.ordinal() - 1],
+                                                                                                                     columnValues[FieldsColumn.FIELD_REQUIRED.ordinal() - 1],
+                                                                                                                     columnValues[FieldsColumn.FIELD_APPLICABILITY.ordinal() - 1],
+                                                                                                                     columnValues[FieldsColumn.FIELD_VALUE.ordinal() - 1],
+                                                                                                                     columnValues[FieldsColumn.FIELD_INHERITED.ordinal() - 1]},
+                                                                                                       importFile.getAbsolutePath(),
+                                                                                                       inputTypeHandler,
+                                                                                                       fieldHandler,
+                                                                                                       parent);
+                                        }
+
+                                        break;
 
-                                        case SCRIPT_ASSOCIATION:
-                                            // Check if all definitions are to be loaded
-                                            if (importType == ImportType.IMPORT_ALL)
+                                    case SCRIPT_ASSOCIATION:
+                                        // Check if all definitions are to be loaded
+                                        if (importType == ImportType.IMPORT_ALL)
+                                        {
+                                            // Check if the expected number of inputs is
+                                            // present
+                                            if (columnValues.length == AssociationsColumn.values().length)
                                             {
-                                                // Check if the expected number of inputs is
-                                                // present
-                                                if (columnValues.length == AssociationsColumn.values().length)
+                                                // Check if the associations haven't been
+                                                // loaded
+                                                if (associations == null)
                                                 {
-                                                    // Check if the associations haven't been
-                                                    // loaded
-                                                    if (associations == null)
-                                                    {
-                                                        // Get the script associations from the
-                                                        // database
-                                                        associations = scriptHandler.getScriptAssociations(parent);
-                                                    }
-
-                                                    // Add the script association, checking for
-                                                    // errors
-                                                    continueOnAssociationError = addImportedScriptAssociation(continueOnAssociationError,
-                                                                                                              associations,
-                                                                                                              new String[] {columnValues[AssociationsColumn.NAME.ordinal()],
-                                                                                                                            columnValues[AssociationsColumn.DESCRIPTION.ordinal()],
-                                                                                                                            columnValues[AssociationsColumn.SCRIPT_FILE.ordinal()],
-                                                                                                                            CcddScriptHandler.convertAssociationMembersFormat(columnValues[AssociationsColumn.MEMBERS.ordinal()],
-                                                                                                                                                                              true)},
-                                                                                                              importFile.getAbsolutePath(),
-                                                                                                              scriptHandler,
-                                                                                                              parent);
+                                                    // Get the script associations from the
+                                                    // database
+                                                    associations = scriptHandler.getScriptAssociations(parent);
                                                 }
+
+                                                // Add the script association, checking for
+                                                // errors
+                                                continueOnAssociationError = addImportedScriptAssociation(continueOnAssociationError,
+                                                                                                          associations,
+                                                                                                          new String[] {columnValues[AssociationsColumn.NAME.ordinal()],
+                                                                                                                        columnValues[AssociationsColumn.DESCRIPTION.ordinal()],
+                                                                                                                        columnValues[AssociationsColumn.SCRIPT_FILE.ordinal()],
+                                                                                                                        CcddScriptHandler.convertAssociationMembersFormat(columnValues[AssociationsColumn.MEMBERS.ordinal()],
+                                                                                                                                                                          true)},
+                                                                                                          importFile.getAbsolutePath(),
+                                                                                                          scriptHandler,
+                                                                                                          parent);
                                             }
+                                        }
 
-                                            break;
+                                        break;
 
-                                        case INPUT_TYPE:
-                                        case CELL_DATA:
-                                        case COLUMN_DATA:
-                                        case DATA_FIELD:
-                                        case DESCRIPTION:
-                                        case NAME_TYPE:
-                                            break;
+                                    case INPUT_TYPE:
+                                    case CELL_DATA:
+                                    case COLUMN_DATA:
+                                    case DATA_FIELD:
+                                    case DESCRIPTION:
+                                    case NAME_TYPE:
+                                        break;
 
-                                        default:
-                                            // Inform the user that no tag appears in the file
-                                            // before other data
-                                            throw new CCDDException("Tag information missing");
-                                    }
+                                    default:
+                                        // Inform the user that no tag appears in the file
+                                        // before other data
+                                        throw new CCDDException("Tag information missing");
                                 }
-                                // This is the third pass
-                                else
+                            }
+                            // This is the third pass
+                            else
+                            {
+                                switch (importTag)
                                 {
-                                    switch (importTag)
-                                    {
-                                        case NAME_TYPE:
-                                            // Check if the expected number of inputs is present
-                                            // (the third value, the system name, is optional and
-                                            // not used)
-                                            if (columnValues.length == 2 || columnValues.length == 3)
-                                            {
-                                                // Get the table's type definition. If importing
-                                                // into an existing table then use its type
-                                                // definition
-                                                typeDefn = importType == ImportType.IMPORT_ALL
-                                                                                               ? tableTypeHandler.getTypeDefinition(columnValues[1])
-                                                                                               : targetTypeDefn;
-
-                                                // Check if the table type doesn't exist
-                                                if (typeDefn == null)
-                                                {
-                                                    throw new CCDDException("Unknown table type '</b>"
-                                                                            + columnValues[1]
-                                                                            + "<b>'");
-                                                }
-
-                                                // Use the table name (with path, if applicable)
-                                                // and type to build the parent, path, and type for
-                                                // the table information class
-                                                tablePath = columnValues[0];
-                                                tableDefn.setName(tablePath);
-                                                tableDefn.setTypeName(columnValues[1]);
-
-                                                // Get the number of expected columns (the hidden
-                                                // columns, primary key and row index, should not
-                                                // be included in the CSV file)
-                                                numColumns = typeDefn.getColumnCountVisible();
-                                            }
-                                            // Incorrect number of inputs
-                                            else
+                                    case NAME_TYPE:
+                                        // Check if the expected number of inputs is present
+                                        // (the third value, the system name, is optional and
+                                        // not used)
+                                        if (columnValues.length == 2 || columnValues.length == 3)
+                                        {
+                                            // Get the table's type definition. If importing
+                                            // into an existing table then use its type
+                                            // definition
+                                            typeDefn = importType == ImportType.IMPORT_ALL
+                                                                                           ? tableTypeHandler.getTypeDefinition(columnValues[1])
+                                                                                           : targetTypeDefn;
+
+                                            // Check if the table type doesn't exist
+                                            if (typeDefn == null)
                                             {
-                                                throw new CCDDException("Too many/few table name and type inputs");
+                                                throw new CCDDException("Unknown table type '</b>"
+                                                                        + columnValues[1]
+                                                                        + "<b>'");
                                             }
 
-                                            break;
+                                            // Use the table name (with path, if applicable)
+                                            // and type to build the parent, path, and type for
+                                            // the table information class
+                                            tablePath = columnValues[0];
+                                            tableDefn.setName(tablePath);
+                                            tableDefn.setTypeName(columnValues[1]);
+
+                                            // Get the number of expected columns (the hidden
+                                            // columns, primary key and row index, should not
+                                            // be included in the CSV file)
+                                            numColumns = typeDefn.getColumnCountVisible();
+                                        }
+                                        // Incorrect number of inputs
+                                        else
+                                        {
+                                            throw new CCDDException("Too many/few table name and type inputs");
+                                        }
+
+                                        break;
 
-                                        case DESCRIPTION:
-                                            // Store the table description
-                                            tableDefn.setDescription(columnValues[0]);
-                                            break;
+                                    case DESCRIPTION:
+                                        // Store the table description
+                                        tableDefn.setDescription(columnValues[0]);
+                                        break;
 
-                                        case COLUMN_DATA:
-                                            // Check if any column names exist
-                                            if (columnValues.length != 0)
-                                            {
-                                                // Number of columns in an import file that match
-                                                // the target table
-                                                int numValidColumns = 0;
+                                    case COLUMN_DATA:
+                                        // Check if any column names exist
+                                        if (columnValues.length != 0)
+                                        {
+                                            // Number of columns in an import file that match
+                                            // the target table
+                                            int numValidColumns = 0;
+
+                                            // Create storage for the column indices
+                                            columnIndex = new int[columnValues.length];
 
-                                                // Create storage for the column indices
-                                                columnIndex = new int[columnValues.length];
+                                            // Step through each column name
+                                            for (int index = 0; index < columnValues.length; index++)
+                                            {
+                                                // Get the index for this column name
+                                                columnIndex[index] = typeDefn.getVisibleColumnIndexByUserName(columnValues[index]);
 
-                                                // Step through each column name
-                                                for (int index = 0; index < columnValues.length; index++)
+                                                // Check if the column name in the file matches
+                                                // that of a column in the table
+                                                if (columnIndex[index] != -1)
                                                 {
-                                                    // Get the index for this column name
-                                                    columnIndex[index] = typeDefn.getVisibleColumnIndexByUserName(columnValues[index]);
-
-                                                    // Check if the column name in the file matches
-                                                    // that of a column in the table
-                                                    if (columnIndex[index] != -1)
-                                                    {
-                                                        // Increment the counter that tracks the
-                                                        // number of matched columns
-                                                        numValidColumns++;
-                                                    }
-                                                    // The number of inputs is incorrect
-                                                    else
-                                                    {
-                                                        // Check if the error should be ignored or
-                                                        // the import canceled
-                                                        continueOnColumnError = getErrorResponse(continueOnColumnError,
-                                                                                                 "<html><b>Table '</b>"
-                                                                                                                        + tableDefn.getName()
-                                                                                                                        + "<b>' column name '</b>"
-                                                                                                                        + columnValues[index]
-                                                                                                                        + "<b>' unrecognized in import file '</b>"
-                                                                                                                        + importFile.getAbsolutePath()
-                                                                                                                        + "<b>'; continue?",
-                                                                                                 "Column Error",
-                                                                                                 "Ignore this invalid column name",
-                                                                                                 "Ignore this and any remaining invalid column names",
-                                                                                                 "Stop importing",
-                                                                                                 parent);
-                                                    }
+                                                    // Increment the counter that tracks the
+                                                    // number of matched columns
+                                                    numValidColumns++;
                                                 }
-
-                                                // Check if no column names in the file match those
-                                                // in the table
-                                                if (numValidColumns == 0)
+                                                // The number of inputs is incorrect
+                                                else
                                                 {
-                                                    throw new CCDDException("No columns match those in the target table",
-                                                                            JOptionPane.WARNING_MESSAGE);
+                                                    // Check if the error should be ignored or
+                                                    // the import canceled
+                                                    continueOnColumnError = getErrorResponse(continueOnColumnError,
+                                                                                             "<html><b>Table '</b>"
+                                                                                                                    + tableDefn.getName()
+                                                                                                                    + "<b>' column name '</b>"
+                                                                                                                    + columnValues[index]
+                                                                                                                    + "<b>' unrecognized in import file '</b>"
+                                                                                                                    + importFile.getAbsolutePath()
+                                                                                                                    + "<b>'; continue?",
+                                                                                             "Column Error",
+                                                                                             "Ignore this invalid column name",
+                                                                                             "Ignore this and any remaining invalid column names",
+                                                                                             "Stop importing",
+                                                                                             parent);
                                                 }
                                             }
-                                            // The file contains no column data
-                                            else
+
+                                            // Check if no column names in the file match those
+                                            // in the table
+                                            if (numValidColumns == 0)
                                             {
-                                                throw new CCDDException("File format invalid");
+                                                throw new CCDDException("No columns match those in the target table",
+                                                                        JOptionPane.WARNING_MESSAGE);
                                             }
+                                        }
+                                        // The file contains no column data
+                                        else
+                                        {
+                                            throw new CCDDException("File format invalid");
+                                        }
 
-                                            // Set the import tag to look for cell data
-                                            importTag = CSVTags.CELL_DATA;
-                                            break;
-
-                                        case CELL_DATA:
-                                            // Create storage for the row of cell data and
-                                            // initialize the values to nulls (a null indicates
-                                            // that the pasted cell value won't overwrite the
-                                            // current table value if overwriting; if inserting the
-                                            // pasted value is changed to a space)
-                                            String[] rowData = new String[numColumns];
-                                            Arrays.fill(rowData, null);
+                                        // Set the import tag to look for cell data
+                                        importTag = CSVTags.CELL_DATA;
+                                        break;
 
-                                            // Step through each column in the row
-                                            for (int index = 0; index < columnValues.length; index++)
+                                    case CELL_DATA:
+                                        // Create storage for the row of cell data and
+                                        // initialize the values to nulls (a null indicates
+                                        // that the pasted cell value won't overwrite the
+                                        // current table value if overwriting; if inserting the
+                                        // pasted value is changed to a space)
+                                        String[] rowData = new String[numColumns];
+                                        Arrays.fill(rowData, null);
+
+                                        // Step through each column in the row
+                                        for (int index = 0; index < columnValues.length; index++)
+                                        {
+                                            // Check if the column exists
+                                            if (index < columnIndex.length
+                                                && columnIndex[index] != -1)
                                             {
-                                                // Check if the column exists
-                                                if (index < columnIndex.length
-                                                    && columnIndex[index] != -1)
-                                                {
-                                                    // Store the cell data in the column matching
-                                                    // the one in the target table
-                                                    rowData[columnIndex[index]] = columnValues[index];
-                                                }
+                                                // Store the cell data in the column matching
+                                                // the one in the target table
+                                                rowData[columnIndex[index]] = columnValues[index];
                                             }
+                                        }
 
-                                            // Add the row of data read in from the file to the
-                                            // cell data list
-                                            tableDefn.addData(rowData);
-                                            break;
+                                        // Add the row of data read in from the file to the
+                                        // cell data list
+                                        tableDefn.addData(rowData);
+                                        break;
 
-                                        case DATA_FIELD:
-                                            // Append empty columns as needed to fill out the
-                                            // expected number of inputs
-                                            columnValues = CcddUtilities.appendArrayColumns(columnValues,
-                                                                                            FieldsColumn.values().length
-                                                                                                          - 1
-                                                                                                          - columnValues.length);
+                                    case DATA_FIELD:
+                                        // Append empty columns as needed to fill out the
+                                        // expected number of inputs
+                                        columnValues = CcddUtilities.appendArrayColumns(columnValues,
+                                                                                        FieldsColumn.values().length
+                                                                                                      - 1
+                                                                                                      - columnValues.length);
+
+                                        // Add the data field definition, checking for (and if
+                                        // possible, correcting) errors
+                                        continueOnDataFieldError = addImportedDataFieldDefinition(continueOnDataFieldError,
+                                                                                                  tableDefn,
+                                                                                                  new String[] {tableDefn.getName(),
+                                                                                                                columnValues[FieldsColumn.FIELD_NAME.ordinal() - 1],
+                                                                                                                columnValues[FieldsColumn.FIELD_DESC.ordinal() - 1],
+                                                                                                                columnValues[FieldsColumn.FIELD_SIZE.ordinal() - 1],
+                                                                                                                columnValues[FieldsColumn.FIELD_TYPE.ordinal() - 1],
+                                                                                                                columnValues[FieldsColumn.FIELD_REQUIRED.ordinal() - 1],
+                                                                                                                columnValues[FieldsColumn.FIELD_APPLICABILITY.ordinal() - 1],
+                                                                                                                columnValues[FieldsColumn.FIELD_VALUE.ordinal() - 1],
+                                                                                                                columnValues[FieldsColumn.FIELD_INHERITED.ordinal() - 1]},
+                                                                                                  importFile.getAbsolutePath(),
+                                                                                                  inputTypeHandler,
+                                                                                                  fieldHandler,
+                                                                                                  parent);
 
-                                            // Add the data field definition, checking for (and if
-                                            // possible, correcting) errors
-                                            continueOnDataFieldError = addImportedDataFieldDefinition(continueOnDataFieldError,
-                                                                                                      tableDefn,
-                                                                                                      new String[] {tableDefn.getName(),
-                                                                                                                    columnValues[FieldsColumn.FIELD_NAME.ordinal() - 1],
-                                                                                                                    columnValues[FieldsColumn.FIELD_DESC.ordinal() - 1],
-                                                                                                                    columnValues[FieldsColumn.FIELD_SIZE.ordinal() - 1],
-                                                                                                                    columnValues[FieldsColumn.FIELD_TYPE.ordinal() - 1],
-                                                                                                                    columnValues[FieldsColumn.FIELD_REQUIRED.ordinal() - 1],
-                                                                                                                    columnValues[FieldsColumn.FIELD_APPLICABILITY.ordinal() - 1],
-                                                                                                                    columnValues[FieldsColumn.FIELD_VALUE.ordinal() - 1],
-                                                                                                                    columnValues[FieldsColumn.FIELD_INHERITED.ordinal() - 1]},
-                                                                                                      importFile.getAbsolutePath(),
-                                                                                                      inputTypeHandler,
-                                                                                                      fieldHandler,
-                                                                                                      parent);
-
-                                            break;
-
-                                        case DATA_TYPE:
-                                        case INPUT_TYPE:
-                                        case MACRO:
-                                        case TABLE_TYPE:
-                                        case TABLE_TYPE_DATA_FIELD:
-                                        case RESERVED_MSG_IDS:
-                                        case PROJECT_DATA_FIELD:
-                                        case GROUP:
-                                        case GROUP_DATA_FIELD:
-                                        case SCRIPT_ASSOCIATION:
-                                            break;
-
-                                        default:
-                                            // Inform the user that no tag appears in the file
-                                            // before other data
-                                            throw new CCDDException("Tag information missing");
-                                    }
+                                        break;
+
+                                    case DATA_TYPE:
+                                    case INPUT_TYPE:
+                                    case MACRO:
+                                    case TABLE_TYPE:
+                                    case TABLE_TYPE_DATA_FIELD:
+                                    case RESERVED_MSG_IDS:
+                                    case PROJECT_DATA_FIELD:
+                                    case GROUP:
+                                    case GROUP_DATA_FIELD:
+                                    case SCRIPT_ASSOCIATION:
+                                        break;
+
+                                    default:
+                                        // Inform the user that no tag appears in the file
+                                        // before other data
+                                        throw new CCDDException("Tag information missing");
                                 }
                             }
                         }
 
-                        // Read next line in file
-                        line = br.readLine();
+                        // Check if this is the third pass
+                        if (loop == 3)
+                        {
+                            // Release the reference to the row since it isn't needed once
+                            // processed
+                            records.set(recordIndex, null);
+                        }
+
+                        // Advance to the next row
+                        recordIndex++;
                     }
 
                     // Check if this is the third pass
@@ -1202,6 +1176,206 @@ public class CcddCSVHandler extends CcddImportSupportHandler implements CcddImpo
         }
     }
 
+    /**********************************************************************************************
+     * Read the import file a single time, combining the lines of a multiple-line value into a
+     * single row, skipping blank and comment rows, and splitting each row into its column values.
+     * The rows for the table definitions (name and type, description, column names, cell data,
+     * and data fields) are stored separately from those for the other definitions (input types,
+     * table types, data types, macros, etc.) so that the latter can be processed prior to the
+     * tables regardless of their order in the file. Variable path rows are ignored. The number of
+     * characters and rows read, and the read rate, are logged once the file is read
+     *
+     * @param br
+     *            buffered reader for the import file
+     *
+     * @param importFile
+     *            import file reference
+     *
+     * @param importType
+     *            ImportType.IMPORT_ALL to read the entire file; ImportType.FIRST_DATA_ONLY to stop
+     *            reading when the second table definition is reached
+     *
+     * @param definitionRecords
+     *            list to which to add the column values for the input type, table type, data
+     *            type, macro, reserved message ID, project data field, group, and script
+     *            association rows
+     *
+     * @param tableRecords
+     *            list to which to add the column values for the table definition rows
+     *
+     * @throws IOException
+     *             If an import file I/O error occurs
+     *********************************************************************************************/
+    private void readImportFile(BufferedReader br,
+                                FileEnvVar importFile,
+                                ImportType importType,
+                                List<String[]> definitionRecords,
+                                List<String[]> tableRecords) throws IOException
+    {
+        long startTime = System.currentTimeMillis();
+        long numCharacters = 0;
+        int numRows = 0;
+        int numTables = 0;
+        boolean isDone = false;
+        String line;
+
+        // Rows preceding the first tag are stored with the definitions (an error is reported
+        // for these when the rows are processed)
+        List<String[]> records = definitionRecords;
+
+        // Read the file until EOF is reached or, if only the first table's data is to be read,
+        // the next table definition is reached
+        while (!isDone && (line = br.readLine()) != null)
+        {
+            numCharacters += line.length() + 1;
+
+            // Remove any leading/trailing white space characters from the row
+            String trimmedLine = line.trim();
+
+            // Check that the row isn't empty and isn't a comment line (starts with a # character)
+            if (!trimmedLine.isEmpty() && !trimmedLine.startsWith("#"))
+            {
+                // Check if the line contains an odd number of double quotes
+                if (hasOddQuoteCount(trimmedLine))
+                {
+                    StringBuilder multiLine = new StringBuilder(line);
+                    String nextLine = null;
+
+                    // Step through the subsequent lines in order to find the end of multi-line
+                    // value
+                    while ((nextLine = br.readLine()) != null)
+                    {
+                        numCharacters += nextLine.length() + 1;
+
+                        // Append the line to the preceding one, inserting the line feed. The
+                        // non-trimmed line is used so that trailing spaces within a quoted,
+                        // multiple-line field aren't lost
+                        multiLine.append("\n").append(nextLine);
+
+                        // Check if this is the line that ends the multi-line value (i.e., it ends
+                        // with one double quote)
+                        if (hasOddQuoteCount(nextLine))
+                        {
+                            // Stop searching; the multi-line string has been concatenated to the
+                            // initial line
+                            break;
+                        }
+                    }
+
+                    // Remove any leading/trailing white space characters from the combined
+                    // multiple line row. This only removed white space outside the quotes that
+                    // bound the text
+                    trimmedLine = multiLine.toString().trim();
+                }
+
+                // Remove any trailing commas and empty quotes from the row. If the CSV file is
+                // generated from a spreadsheet application then extra commas are appended to a
+                // row if needed for the number of columns to be equal with the other rows. These
+                // empty trailing columns are ignored. Parse the remaining row. The values are
+                // comma-separated; however, commas within quotes are ignored - this allows commas
+                // to be included in the data values
+                String[] columnValues = CcddUtilities.splitAndRemoveQuotes(trimmedLine.replaceAll("(?:[,\\s*]|\"\\s*\",|,\"\\s*\")*$",
+                                                                                                  ""));
+                numRows++;
+
+                // Remove any leading/trailing white space characters from the first column value
+                String firstColumn = columnValues[0].trim();
+
+                // Step through the import tags
+                for (CSVTags csvTag : CSVTags.values())
+                {
+                    // Check if the first column value matches the tag name
+                    if (csvTag.isTag(firstColumn))
+                    {
+                        switch (csvTag)
+                        {
+                            case NAME_TYPE:
+                                numTables++;
+
+                                // Check if only the data from the first table is to be read and
+                                // this is the beginning of the second table's information
+                                if (importType == ImportType.FIRST_DATA_ONLY && numTables > 1)
+                                {
+                                    // Stop reading the file
+                                    isDone = true;
+                                }
+
+                                records = tableRecords;
+                                break;
+
+                            case DESCRIPTION:
+                            case COLUMN_DATA:
+                            case CELL_DATA:
+                            case DATA_FIELD:
+                                records = tableRecords;
+                                break;
+
+                            case VARIABLE_PATHS:
+                                // The variable paths are informational only and aren't imported
+                                records = null;
+                                break;
+
+                            default:
+                                records = definitionRecords;
+                                break;
+                        }
+
+                        // Stop searching
+                        break;
+                    }
+                }
+
+                // Check if the row is to be stored
+                if (!isDone && records != null)
+                {
+                    records.add(columnValues);
+                }
+            }
+        }
+
+        long elapsedTime = Math.max(System.currentTimeMillis() - startTime, 1L);
+
+        // Log the amount of data read and the read rate
+        ccddMain.getSessionEventLog().logEvent(EventLogMessageType.STATUS_MSG,
+                                               "Read "
+                                                                               + numCharacters
+                                                                               + " characters ("
+                                                                               + numRows
+                                                                               + " rows) from import file '"
+                                                                               + importFile.getAbsolutePath()
+                                                                               + "' in "
+                                                                               + elapsedTime
+                                                                               + " msec ("
+                                                                               + (numCharacters * 1000L / elapsedTime)
+                                                                               + " characters/sec)");
+    }
+
+    /**********************************************************************************************
+     * Determine if the supplied text contains an odd number of double quotes
+     *
+     * @param text
+     *            text to check
+     *
+     * @return true if the text contains an odd number of double quotes
+     *********************************************************************************************/
+    private static boolean hasOddQuoteCount(String text)
+    {
+        boolean isOdd = false;
+
+        // Step through each character in the text
+        for (int index = 0; index < text.length(); index++)
+        {
+            // Check if the character is a double quote
+            if (text.charAt(index) == '"')
+            {
+                // Toggle the odd count flag
+                isOdd = !isOdd;
+            }
+        }
+
+        return isOdd;
+    }
+
     /**********************************************************************************************
      * Export the project in CSV format to the specified file
      *
@@ -15,6 +15,7 @@ import static CCDD.CcddConstants.TLM_SCH_SEPARATOR;
 import java.awt.Component;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import javax.swing.JOptionPane;
@@ -601,10 +602,13 @@ public class CcddClassesDataTable
         {
             this.name = name;
             this.type = type;
-            this.dataTypes = dataTypes;
-            this.variableNames = variableNames;
-            this.bitLengths = bitLengths;
-            this.rates = rates;
+
+            // Store the member information lists. The lists can't be modified since the table
+            // members are shared by all users of the table member snapshots
+            this.dataTypes = Collections.unmodifiableList(dataTypes);
+            this.variableNames = Collections.unmodifiableList(variableNames);
+            this.bitLengths = Collections.unmodifiableList(bitLengths);
+            this.rates = Collections.unmodifiableList(rates);
         }
 
         /******************************************************************************************
@@ -647,6 +651,16 @@ public class CcddClassesDataTable
             return variableNames;
         }
 
+        /******************************************************************************************
+         * Get the list of this table's bit lengths associated with the variables
+         *
+         * @return List of this table's bit lengths
+         *****************************************************************************************/
+        protected List<String> getBitLengths()
+        {
+            return bitLengths;
+        }
+
         /******************************************************************************************
          * Get the list of this table's rates associated with the variables
          *
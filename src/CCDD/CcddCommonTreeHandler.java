@@ -254,6 +254,18 @@ public class CcddCommonTreeHandler extends JTree
     {
     }
 
+    /**********************************************************************************************
+     * Placeholder for method to create the child nodes of the specified node if these are created
+     * on demand rather than when the tree is built. Override this method if the tree defers
+     * creation of its child nodes
+     *
+     * @param node
+     *            node for which to create the child nodes
+     *********************************************************************************************/
+    protected void loadChildNodes(TreeNode node)
+    {
+    }
+
     /**********************************************************************************************
      * Set the pattern used for text matching in the node names
      *
@@ -358,6 +370,9 @@ public class CcddCommonTreeHandler extends JTree
         // Get the node for this path
         TreeNode node = (TreeNode) path.getLastPathComponent();
 
+        // Create the node's child nodes if these haven't been created yet
+        loadChildNodes(node);
+
         // Check if the node has any child nodes
         if (node.getChildCount() >= 0)
         {
@@ -877,6 +892,9 @@ public class CcddCommonTreeHandler extends JTree
                                  List<String> excludedPaths,
                                  boolean isVariable)
     {
+        // Create the node's child nodes if these haven't been created yet
+        loadChildNodes(node);
+
         // Check if this node has no children
         if (node.getChildCount() == 0)
         {
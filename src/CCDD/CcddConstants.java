@@ -86,6 +86,15 @@ public class CcddConstants
     // Prefix assigned to internally created CCDD database tables
     protected static final String INTERNAL_TABLE_PREFIX = "__";
 
+    // Expression that extracts the parent table path from a custom values table path (i.e., the
+    // path with the last data type and variable name removed), and the name of the custom values
+    // table index built on this expression. Queries for a table's custom values must use the
+    // identical expression in order for the index to be used
+    protected static final String VALUES_PARENT_PATH = "regexp_replace("
+                                                       + InternalTable.ValuesColumn.TABLE_PATH.getColumnName()
+                                                       + ", E',[^,]*$', '')";
+    protected static final String VALUES_PARENT_INDEX = INTERNAL_TABLE_PREFIX + "values_parent_index";
+
     // Script description text tag
     protected static final String SCRIPT_DESCRIPTION_TAG = "description:";
 
@@ -339,7 +348,9 @@ public class CcddConstants
     {
         QUERY,
         UPDATE,
-        COMMAND
+        COMMAND,
+        BATCH,
+        COPY
     }
 
     // Database manager dialog types
@@ -1259,6 +1270,11 @@ public class CcddConstants
     protected static enum ModifiableSizeInfo
     {
         MAX_LOG_MESSAGE_LENGTH("Maximum log message length", "Maximum number of characters to display in the session event log", "MaximumLogMessageLength", 250, 10, 1000),
+        MAX_LOGGED_COMMAND_LENGTH("Maximum logged command length", "Maximum number of characters of a database command stored in the session event log file. A longer command is shortened, with the number of characters removed noted in its place. 0 to store the entire command", "MaximumLoggedCommandLength", 100000, 0, 10000000),
+        LOGGED_COMMAND_TAIL_LENGTH("Logged command tail length", "Number of characters retained from the end of a shortened database command in the session event log file. 0 to truncate the command, retaining only its beginning", "LoggedCommandTailLength", 1000, 0, 100000),
+        EVENT_LOG_PAGE_SIZE("Event log viewer page size", "Maximum number of log entries displayed at one time when viewing an existing event log file. The remaining entries are displayed by changing pages", "EventLogPageSize", 10000, 100, 1000000),
+        LAZY_RENDERING_ROWS("Lazy table rendering row threshold", "Tables with more rows than this sample this number of rows when sizing the columns, and calculate row heights only for the rows that are visible", "LazyRenderingRowThreshold", 1000, 100, 1000000),
+        MAX_SEARCH_INDEX_CELLS("Maximum search index cells", "Maximum number of table cells held in the in-memory index used by the table and script searches. A project with more cells is searched by the database instead. 0 to always search using the database", "MaximumSearchIndexCells", 2000000, 0, 100000000),
         NUM_REMEMBERED_SEARCHES("Maximum remembered search strings", "Maximum number of remembered search strings", "NumberOfRememberedSearches", 30, 1, 100),
         NUM_REMEMBERED_SERVERS("Maximum remembered server names", "Maximum number of remembered server names", "NumberOfRememberedServers", 30, 1, 100),
         NUM_REMEMBERED_PROJECTS("Maximum remembered project names", "Maximum number of remembered project names", "NumberOfRememberedProjects", 4, 1, 10),
@@ -1280,7 +1296,10 @@ public class CcddConstants
         MAX_GRID_WIDTH("Maximum radio button/check box grid width", "Maximum number of radio buttons or check boxes to display in a column in a dialog", "MaximumGridWidth", 5, 1, 20),
         MAX_STORED_CONVERSIONS("Maximum number of stored variable name conversion lists", "Maximum number of variable name conversion lists to maintain in memory", "MaximumConversionLists", 10, 1, 100),
         TAB_MOVE_LOCATION_INDICATOR_WIDTH("Tab move location indicator width", "Tabbed pane tab move location indicator width in pixels", "TabMoveLocationIndicatorWidth", 3, 1, 15),
-        POSTGRESQL_CONNECTION_TIMEOUT("PostgreSQL Server Timeout", "Number of seconds allowed to validate the PostgreSQL server connection", "MaximumServerTimeout", 5, 1, 60);
+        POSTGRESQL_CONNECTION_TIMEOUT("PostgreSQL Server Timeout", "Number of seconds allowed to validate the PostgreSQL server connection", "MaximumServerTimeout", 5, 1, 60),
+        MAX_BULK_LOAD_TABLES("Maximum tables per bulk load", "Maximum number of tables combined into a single database query when loading multiple tables", "MaximumBulkLoadTables", 100, 1, 1000),
+        READER_CONNECTIONS("Read-only database connections", "Number of additional read-only connections opened to a project database for executing concurrent queries (e.g., web server requests). Changes take effect the next time a project is opened", "ReaderConnections", 2, 0, 16),
+        CONCURRENT_SCRIPT_ASSOCIATIONS("Concurrent script associations", "Maximum number of script associations executed at the same time, each with its own script engine. Associations that use the same script file are executed one at a time in their listed order. A value of 1 executes every association one at a time", "ConcurrentScriptAssociations", 1, 1, 16);
 
         private final String name;
         private final String description;
@@ -3743,7 +3762,16 @@ public class CcddConstants
                                {ValuesColumn.VALUE.columnName,
                                 ValuesColumn.VALUE.dataType}},
                "",
-               "");
+               ""),
+
+        // Content hashes of the tables at the last clean verification
+        VERIFIED_TABLES("verified_tables",
+                        new String[][] {{VerifiedTablesColumn.TABLE_NAME.columnName,
+                                         VerifiedTablesColumn.TABLE_NAME.dataType},
+                                        {VerifiedTablesColumn.TABLE_HASH.columnName,
+                                         VerifiedTablesColumn.TABLE_HASH.dataType}},
+                        "WITH OIDS",
+                        "");
 
         /******************************************************************************************
          * Application scheduler table columns
@@ -4302,6 +4330,33 @@ public class CcddConstants
             }
         }
 
+        /******************************************************************************************
+         * Verified tables table columns
+         *****************************************************************************************/
+        protected static enum VerifiedTablesColumn
+        {
+            TABLE_NAME("table_name", "text"),
+            TABLE_HASH("table_hash", "text");
+
+            private final String columnName;
+            private final String dataType;
+
+            /**************************************************************************************
+             * Verified tables table columns constructor
+             *
+             * @param columnName
+             *            verified tables table column name
+             *
+             * @param dataType
+             *            verified tables table column data type
+             *************************************************************************************/
+            VerifiedTablesColumn(String columnName, String dataType)
+            {
+                this.columnName = columnName;
+                this.dataType = dataType;
+            }
+        }
+
         private final String tableName;
         private final String[][] columns;
         private final String initCommand;
@@ -15,7 +15,9 @@ import java.awt.Component;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -46,6 +48,9 @@ public class CcddDataTypeHandler
     // List containing the data type names and associated data type definitions
     private List<String[]> dataTypes;
 
+    // Map used to locate a data type definition based on its name as the key
+    private volatile Map<String, String[]> dataTypeMap;
+
     /**********************************************************************************************
      * Data type handler class constructor used when setting the data types from a source other
      * than those in the project database
@@ -56,7 +61,12 @@ public class CcddDataTypeHandler
      *********************************************************************************************/
     CcddDataTypeHandler(List<String[]> dataTypes)
     {
-        this.dataTypes = dataTypes;
+        // Store a copy of the data types so that changes to the supplied list can't alter the
+        // contents without the data type name map being updated
+        this.dataTypes = CcddUtilities.copyListOfStringArrays(dataTypes);
+
+        // Build the data type name map
+        buildDataTypeMap();
     }
 
     /**********************************************************************************************
@@ -162,6 +172,17 @@ public class CcddDataTypeHandler
     protected void setDataTypeData(List<String[]> dataTypes)
     {
         this.dataTypes = CcddUtilities.copyListOfStringArrays(dataTypes);
+
+        // Rebuild the data type name map
+        buildDataTypeMap();
+
+        // Check if the macro handler is available
+        if (macroHandler != null)
+        {
+            // Clear the stored macro values and expansions since these may depend on the size of
+            // a data type
+            macroHandler.clearStoredValues();
+        }
     }
 
     /**********************************************************************************************
@@ -222,22 +243,32 @@ public class CcddDataTypeHandler
      *********************************************************************************************/
     protected String[] getDataTypeByName(String dataTypeName)
     {
-        String[] dataType = null;
+        // Locate the data type in the map using its name as the key. The names are case
+        // sensitive
+        return dataTypeMap.get(dataTypeName);
+    }
+
+    /**********************************************************************************************
+     * Build the map used to locate a data type definition based on its name. If more than one
+     * data type has the same name then the first one in the list is used
+     *********************************************************************************************/
+    private void buildDataTypeMap()
+    {
+        Map<String, String[]> typeMap = new HashMap<String, String[]>();
 
         // Step through each defined data type
         for (String[] type : dataTypes)
         {
-            // Check if the supplied name matches this data type's name. The names are case
-            // sensitive
-            if (dataTypeName.equals(getDataTypeName(type)))
+            // Check if a data type with this name isn't already in the map
+            if (!typeMap.containsKey(getDataTypeName(type)))
             {
-                // Store the data type information and stop searching
-                dataType = type;
-                break;
+                // Add the data type to the map, using its name as the key
+                typeMap.put(getDataTypeName(type), type);
             }
         }
 
-        return dataType;
+        // Replace the existing map with the new one
+        dataTypeMap = Collections.unmodifiableMap(typeMap);
     }
 
     /**********************************************************************************************
@@ -609,8 +640,10 @@ public class CcddDataTypeHandler
             // Check if the data type doesn't already exist
             if (dataType == null)
             {
-                // Add the data type
+                // Add the data type and update the data type name map so that the new type is
+                // found by subsequent checks
                 dataTypes.add(typeDefn);
+                buildDataTypeMap();
             }
             // The data type exists; check if the type information provided matches the existing
             // type information
@@ -11,16 +11,24 @@ import static CCDD.CcddConstants.OK_BUTTON;
 import static CCDD.CcddConstants.EventLogMessageType.COMMAND_MSG;
 
 import java.awt.Component;
+import java.io.IOException;
+import java.io.StringReader;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Savepoint;
 import java.sql.Statement;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.swing.JOptionPane;
 
+import org.postgresql.PGConnection;
+
 import CCDD.CcddConstants.DatabaseListCommand;
 import CCDD.CcddConstants.DbCommandType;
 import CCDD.CcddConstants.DialogOption;
@@ -38,11 +46,33 @@ public class CcddDbCommandHandler
     // PostgreSQL database connection
     private Connection connection;
 
-    // PostgreSQL database statement
-    private Statement statement;
+    // Read-only PostgreSQL database connections used to execute queries concurrently with the
+    // primary connection
+    private final List<Connection> readerConnections;
+
+    // Index of the read-only connection to use for the next query
+    private final AtomicInteger readerIndex;
+
+    // Flag, per thread, indicating if the thread's queries are executed using the read-only
+    // connections
+    private final ThreadLocal<Boolean> isReaderThread;
 
     // Save point for transaction roll backs
-    private Savepoint savePoint;
+    private volatile Savepoint savePoint;
+
+    // Thread that established the save point
+    private volatile Thread savePointThread;
+
+    // Lock used to hold the updates from other threads while a save point is established, and to
+    // hold a new save point while other threads' updates are in progress
+    private final Object savePointLock;
+
+    // Number of updates in progress from threads that don't own a save point
+    private int activeUpdates;
+
+    // Number of commands executed that can modify the database. Information loaded from the
+    // database and retained is reloaded if this count changes
+    private final AtomicLong modificationCount;
 
     /**********************************************************************************************
      * Database command handler class constructor
@@ -56,6 +86,26 @@ public class CcddDbCommandHandler
 
         // Initialize the save point
         savePoint = null;
+        savePointThread = null;
+        savePointLock = new Object();
+        activeUpdates = 0;
+
+        modificationCount = new AtomicLong(0);
+
+        // Create storage for the read-only connections
+        readerConnections = new ArrayList<Connection>();
+        readerIndex = new AtomicInteger(0);
+        isReaderThread = new ThreadLocal<Boolean>()
+        {
+            /**************************************************************************************
+             * Queries are executed using the primary connection unless specified otherwise
+             *************************************************************************************/
+            @Override
+            protected Boolean initialValue()
+            {
+                return false;
+            }
+        };
     }
 
     /**********************************************************************************************
@@ -76,17 +126,159 @@ public class CcddDbCommandHandler
     protected void setConnection(Connection connection)
     {
         this.connection = connection;
+
+        // Update the modification count since the connection may be to a different database
+        modificationCount.incrementAndGet();
+    }
+
+    /**********************************************************************************************
+     * Get the number of commands executed that can modify the database. The count changes after
+     * each such command completes, after the database connection changes, and after changes made
+     * while a save point is established are reverted or released
+     *
+     * @return Number of commands executed that can modify the database
+     *********************************************************************************************/
+    protected long getModificationCount()
+    {
+        return modificationCount.get();
+    }
+
+    /**********************************************************************************************
+     * Set the read-only database connections. Any existing read-only connections are closed
+     *
+     * @param connections
+     *            list of read-only database connections; null or an empty list if queries are to
+     *            be executed using only the primary connection
+     *********************************************************************************************/
+    protected void setReaderConnections(List<Connection> connections)
+    {
+        // Close any existing read-only connections
+        closeReaderConnections();
+
+        synchronized (readerConnections)
+        {
+            // Check if any read-only connections are supplied
+            if (connections != null)
+            {
+                // Store the read-only connections
+                readerConnections.addAll(connections);
+            }
+        }
+    }
+
+    /**********************************************************************************************
+     * Close the read-only database connections
+     *********************************************************************************************/
+    protected void closeReaderConnections()
+    {
+        synchronized (readerConnections)
+        {
+            // Step through each read-only connection
+            for (Connection reader : readerConnections)
+            {
+                try
+                {
+                    // Close the connection
+                    reader.close();
+                }
+                catch (SQLException se)
+                {
+                    // Ignore the error; the connection is discarded regardless
+                }
+            }
+
+            readerConnections.clear();
+        }
+    }
+
+    /**********************************************************************************************
+     * Replace a read-only connection dropped by the server with a new connection. The dropped
+     * connection is removed from the rotation while the replacement is established so that other
+     * threads' queries aren't blocked, or sent using the dropped connection, in the meantime. If a
+     * replacement can't be established the rotation continues without it
+     *
+     * @param dropped
+     *            read-only connection that is no longer valid
+     *********************************************************************************************/
+    private void replaceReaderConnection(Connection dropped)
+    {
+        boolean isRemoved;
+
+        synchronized (readerConnections)
+        {
+            // Remove the dropped connection. Another thread may have already removed it
+            isRemoved = readerConnections.remove(dropped);
+        }
+
+        // Check if this thread removed the dropped connection
+        if (isRemoved)
+        {
+            try
+            {
+                // Close the dropped connection
+                dropped.close();
+            }
+            catch (SQLException se)
+            {
+                // Ignore the error; the connection is discarded regardless
+            }
+
+            // Establish a new read-only connection
+            Connection reader = ccddMain.getDbControlHandler().reconnectReaderConnection();
+
+            // Check if the new connection is established
+            if (reader != null)
+            {
+                synchronized (readerConnections)
+                {
+                    // Add the new connection to the rotation
+                    readerConnections.add(reader);
+                }
+            }
+        }
+    }
+
+    /**********************************************************************************************
+     * Set the flag that determines if the queries issued by the calling thread are executed using
+     * the read-only connections. Queries executed this way don't block, and aren't blocked by,
+     * the primary connection, but don't see any changes made by an uncommitted transaction. Only
+     * threads that perform no database updates (e.g., web server requests) should set this flag
+     *
+     * @param enable
+     *            true to execute the calling thread's queries using the read-only connections;
+     *            false to use the primary connection
+     *********************************************************************************************/
+    protected void setReaderMode(boolean enable)
+    {
+        isReaderThread.set(enable);
     }
 
     /**********************************************************************************************
-     * Set the connection statement
+     * Get the connection to use for executing a query. A read-only connection is used if any
+     * exist and either the calling thread is in reader mode or a save point is established on the
+     * primary connection by a different thread (so that the query isn't made part of the other
+     * thread's transaction)
      *
-     * @param statement
-     *            connection statement
+     * @return Connection with which to execute the query
      *********************************************************************************************/
-    protected void setStatement(Statement statement)
+    private Connection getQueryConnection()
     {
-        this.statement = statement;
+        Connection queryConnection = connection;
+
+        synchronized (readerConnections)
+        {
+            // Check if any read-only connections exist and if the query should use one
+            if (!readerConnections.isEmpty()
+                && (isReaderThread.get()
+                    || (savePoint != null && savePointThread != Thread.currentThread())))
+            {
+                // Use the read-only connections in rotation
+                queryConnection = readerConnections.get(Math.floorMod(readerIndex.getAndIncrement(),
+                                                                      readerConnections.size()));
+            }
+        }
+
+        return queryConnection;
     }
 
     /**********************************************************************************************
@@ -105,7 +297,7 @@ public class CcddDbCommandHandler
      *********************************************************************************************/
     protected ResultSet executeDbQuery(String command, Component component) throws SQLException
     {
-        return (ResultSet) executeDbStatement(DbCommandType.QUERY, command, component);
+        return (ResultSet) executeDbStatement(DbCommandType.QUERY, command, null, component);
     }
 
     /**********************************************************************************************
@@ -124,7 +316,7 @@ public class CcddDbCommandHandler
      *********************************************************************************************/
     protected int executeDbUpdate(String command, Component component) throws SQLException
     {
-        return (Integer) executeDbStatement(DbCommandType.UPDATE, command, component);
+        return (Integer) executeDbStatement(DbCommandType.UPDATE, command, null, component);
     }
 
     /**********************************************************************************************
@@ -144,7 +336,153 @@ public class CcddDbCommandHandler
      *********************************************************************************************/
     protected boolean executeDbCommand(String command, Component component) throws SQLException
     {
-        return (Boolean) executeDbStatement(DbCommandType.COMMAND, command, component);
+        return (Boolean) executeDbStatement(DbCommandType.COMMAND, command, null, component);
+    }
+
+    /**********************************************************************************************
+     * Execute a parameterized database command once for each set of parameters, sending the
+     * commands to the server as a single batch. Since the command text is parsed only once and the
+     * parameter values aren't embedded in the command, this is much faster than executing a
+     * command for each parameter set when the number of sets is large. The command (but not the
+     * parameter values) is logged to the session log
+     *
+     * @param command
+     *            SQL command to execute, with a '?' in place of each parameter
+     *
+     * @param parameters
+     *            list of parameter sets. Each set is an array containing a value for each
+     *            parameter in the command. A parameter value's text representation is passed to
+     *            the server, which converts it to the type required by the command; a null value
+     *            is passed as a SQL NULL
+     *
+     * @param component
+     *            GUI component over which to center any error dialog
+     *
+     * @return Total number of rows affected by the commands
+     *
+     * @throws SQLException
+     *             If no connection exists to the server or an error occurs executing the commands
+     *********************************************************************************************/
+    protected int executeDbBatch(String command,
+                                 List<Object[]> parameters,
+                                 Component component) throws SQLException
+    {
+        return (Integer) executeDbStatement(DbCommandType.BATCH, command, parameters, component);
+    }
+
+    /**********************************************************************************************
+     * Execute a PostgreSQL COPY FROM STDIN command, supplying the data to the server from the
+     * specified text. This is the fastest means of inserting a large number of rows into a table.
+     * The command (but not the data) is logged to the session log
+     *
+     * @param command
+     *            COPY FROM STDIN command to execute
+     *
+     * @param data
+     *            rows to copy, in the format specified in the command
+     *
+     * @param component
+     *            GUI component over which to center any error dialog
+     *
+     * @return Number of rows copied
+     *
+     * @throws SQLException
+     *             If no connection exists to the server or an error occurs executing the command
+     *********************************************************************************************/
+    protected long executeDbCopy(String command, String data, Component component) throws SQLException
+    {
+        return (Long) executeDbStatement(DbCommandType.COPY, command, data, component);
+    }
+
+    /**********************************************************************************************
+     * Check if a save point is established
+     *
+     * @return true if a save point is established
+     *********************************************************************************************/
+    protected boolean isSavePoint()
+    {
+        return savePoint != null;
+    }
+
+    /**********************************************************************************************
+     * Check if the calling thread established the save point
+     *
+     * @return true if a save point is established by the calling thread
+     *********************************************************************************************/
+    protected boolean isSavePointOwner()
+    {
+        return savePoint != null && savePointThread == Thread.currentThread();
+    }
+
+    /**********************************************************************************************
+     * Wait until no save point is established by another thread, then register the calling
+     * thread's update as in progress. Updates from other threads are held while a save point is
+     * established since they'd otherwise become part of the save point's transaction, and be
+     * committed or reverted along with it
+     *
+     * @return true if the update is registered and must be ended by a call to endUpdate(); false
+     *         if the calling thread owns the save point
+     *
+     * @throws SQLException
+     *             If the calling thread is interrupted while waiting
+     *********************************************************************************************/
+    private boolean beginUpdate() throws SQLException
+    {
+        boolean isRegistered = false;
+
+        synchronized (savePointLock)
+        {
+            // Wait while a save point is established by another thread
+            while (savePoint != null && savePointThread != Thread.currentThread())
+            {
+                try
+                {
+                    savePointLock.wait();
+                }
+                catch (InterruptedException ie)
+                {
+                    // Preserve the interrupt and abandon the update
+                    Thread.currentThread().interrupt();
+                    throw new SQLException("interrupted waiting for a save point to be released");
+                }
+            }
+
+            // Check if the calling thread doesn't own the save point
+            if (savePoint == null)
+            {
+                // Register the update so that no save point is established until it completes
+                activeUpdates++;
+                isRegistered = true;
+            }
+        }
+
+        return isRegistered;
+    }
+
+    /**********************************************************************************************
+     * End an update registered by beginUpdate()
+     *********************************************************************************************/
+    private void endUpdate()
+    {
+        synchronized (savePointLock)
+        {
+            // Remove the update and wake any thread waiting to establish a save point
+            activeUpdates--;
+            savePointLock.notifyAll();
+        }
+    }
+
+    /**********************************************************************************************
+     * Reset the save point and wake any threads waiting for it to be released
+     *********************************************************************************************/
+    private void clearSavePoint()
+    {
+        synchronized (savePointLock)
+        {
+            savePoint = null;
+            savePointThread = null;
+            savePointLock.notifyAll();
+        }
     }
 
     /**********************************************************************************************
@@ -156,6 +494,10 @@ public class CcddDbCommandHandler
      * @param command
      *            SQL update command to execute
      *
+     * @param data
+     *            list of parameter sets for a batch command, or the data text for a copy command;
+     *            null for other command types
+     *
      * @param component
      *            GUI component over which to center any error dialog
      *
@@ -165,14 +507,31 @@ public class CcddDbCommandHandler
      * @throws SQLException
      *             If no connection exists to the server
      *********************************************************************************************/
+    @SuppressWarnings("unchecked")
     private Object executeDbStatement(DbCommandType commandType,
                                       String command,
+                                      Object data,
                                       Component component) throws SQLException
     {
         Object result = null;
 
+        String logCommand = command;
+
+        // Check if this is a batch command
+        if (commandType == DbCommandType.BATCH)
+        {
+            // Log only the number of parameter sets since the data can be very large
+            logCommand += " [batch of " + ((List<Object[]>) data).size() + "]";
+        }
+        // Check if this is a copy command
+        else if (commandType == DbCommandType.COPY)
+        {
+            // Log only the size of the data since the data can be very large
+            logCommand += " [" + ((String) data).length() + " characters]";
+        }
+
         // Log the command
-        eventLog.logEvent(COMMAND_MSG, command);
+        eventLog.logEvent(COMMAND_MSG, logCommand);
 
         // Check if no valid database connection exists
         if (!ccddMain.getDbControlHandler().isServerConnected())
@@ -180,108 +539,263 @@ public class CcddDbCommandHandler
             throw new SQLException("no database connection");
         }
 
-        try
+        // Get the connection with which to execute the command. Only queries are eligible to use
+        // a read-only connection
+        Connection commandConnection = commandType == DbCommandType.QUERY
+                                                                          ? getQueryConnection()
+                                                                          : connection;
+
+        boolean isRegistered = false;
+
+        // Check if a read-only connection is selected
+        if (commandConnection != connection)
         {
-            switch (commandType)
+            try
             {
-                case QUERY:
-                    // Execute the query command
-                    result = statement.executeQuery(command);
-                    break;
-
-                case COMMAND:
-                    // Execute the command
-                    result = statement.execute(command);
-                    break;
-
-                case UPDATE:
-                    // Execute the update command
-                    result = statement.executeUpdate(command);
-                    break;
+                // Execute the query command using the read-only connection. The statement is
+                // closed when the results are closed
+                Statement statement = commandConnection.createStatement();
+                statement.closeOnCompletion();
+                result = statement.executeQuery(command);
             }
-
-            // Check if auto-commit is disabled and a save point isn't established
-            if (connection.getAutoCommit() == false && savePoint == null)
+            catch (SQLException se)
             {
-                // Commit the change to the database
-                connection.commit();
+                // Check if the server dropped the read-only connection
+                if (!commandConnection.isValid(ModifiableSizeInfo.POSTGRESQL_CONNECTION_TIMEOUT.getSize()))
+                {
+                    // Replace the dropped connection and send the query again. If the
+                    // connection can't be replaced then the query is sent using the remaining
+                    // read-only connections, or the primary connection (which handles its own
+                    // reconnection) if none remain
+                    replaceReaderConnection(commandConnection);
+                    return executeDbStatement(commandType, command, data, component);
+                }
+
+                // Re-throw the exception so that the caller can handle it. The primary
+                // connection's transaction is unaffected
+                throw new SQLException("Invalid SQL command; " + se.getMessage());
             }
         }
-        catch (SQLException se)
+        // The primary connection is used
+        else
         {
+            // Check if the command can modify the database
+            if (commandType != DbCommandType.QUERY)
+            {
+                // Hold the command while another thread's save point is established
+                isRegistered = beginUpdate();
+            }
+
             try
             {
-                // Check if auto-commit is disabled. Roll-backs aren't allowed if auto-commit
-                // is enabled. Auto-commit is usually disabled, but there are instances where
-                // it's enabled so this check is required to prevent an exception
-                if (connection.getAutoCommit() == false)
+                // Create a statement for this command. A separate statement is used for each
+                // command so that results being processed by one thread aren't closed by a command
+                // issued from another thread
+                Statement statement = connection.createStatement();
+
+                switch (commandType)
                 {
-                    try
-                    {
-                        // Check if no save point exists
-                        if (savePoint == null)
+                    case QUERY:
+                        // Execute the query command. The statement is closed when the results are
+                        // closed
+                        statement.closeOnCompletion();
+                        result = statement.executeQuery(command);
+                        break;
+
+                    case COMMAND:
+                        // Execute the command
+                        try
                         {
-                            // Revert the change to the database to before the last uncommitted
-                            // transaction
-                            connection.rollback();
+                            result = statement.execute(command);
                         }
-                        // The save point exists
-                        else
+                        finally
                         {
-                            // Revert any changes to the database to the save point
-                            connection.rollback(savePoint);
+                            statement.close();
                         }
-                    }
-                    catch (SQLException se2)
-                    {
-                        // Inform the user that rolling back the changes failed
-                        eventLog.logFailEvent(component,
-                                              "Cannot revert changes to project; cause '"
-                                                         + se2.getMessage()
-                                                         + "'",
-                                              "<html><b>Cannot revert changes to project");
-                    }
-                    finally
-                    {
-                        savePoint = null;
-                    }
+
+                        break;
+
+                    case UPDATE:
+                        // Execute the update command
+                        try
+                        {
+                            result = statement.executeUpdate(command);
+                        }
+                        finally
+                        {
+                            statement.close();
+                        }
+
+                        break;
+
+                    case BATCH:
+                        // The statement isn't used for a batch command
+                        statement.close();
+
+                        // Create the parameterized command
+                        PreparedStatement prepStatement = connection.prepareStatement(command);
+
+                        try
+                        {
+                            // Step through each parameter set
+                            for (Object[] parameterSet : (List<Object[]>) data)
+                            {
+                                // Step through each parameter value
+                                for (int index = 0; index < parameterSet.length; index++)
+                                {
+                                    // Check if the value is null
+                                    if (parameterSet[index] == null)
+                                    {
+                                        prepStatement.setNull(index + 1, Types.OTHER);
+                                    }
+                                    // The value isn't null
+                                    else
+                                    {
+                                        // Pass the value as text of an unspecified type so that
+                                        // the server converts it to the column's type
+                                        prepStatement.setObject(index + 1,
+                                                                parameterSet[index].toString(),
+                                                                Types.OTHER);
+                                    }
+                                }
+
+                                // Add the command with this parameter set to the batch
+                                prepStatement.addBatch();
+                            }
+
+                            int rowCount = 0;
+
+                            // Execute the batch and step through each command's row count
+                            for (int count : prepStatement.executeBatch())
+                            {
+                                // Check if the row count is known
+                                if (count > 0)
+                                {
+                                    rowCount += count;
+                                }
+                            }
+
+                            result = rowCount;
+                        }
+                        finally
+                        {
+                            prepStatement.close();
+                        }
+
+                        break;
+
+                    case COPY:
+                        // The statement isn't used for a copy command
+                        statement.close();
+
+                        // Copy the data to the server
+                        result = connection.unwrap(PGConnection.class)
+                                           .getCopyAPI()
+                                           .copyIn(command, new StringReader((String) data));
+                        break;
                 }
 
-                // Re-throw the exception so that the caller can handle it
-                throw new SQLException("Invalid SQL command; " + se.getMessage());
+                // Check if auto-commit is disabled and a save point isn't established
+                if (connection.getAutoCommit() == false && savePoint == null)
+                {
+                    // Commit the change to the database
+                    connection.commit();
+                }
             }
-            catch (SQLException se3)
+            catch (IOException | SQLException se)
             {
-                // Check if the server is no longer connected
-                if (!connection.isValid(ModifiableSizeInfo.POSTGRESQL_CONNECTION_TIMEOUT.getSize()))
+                try
                 {
-                    // Execute at least once; continue to execute as long as the user elects to
-                    // attempt to reconnect
-                    while (true)
+                    // Check if auto-commit is disabled. Roll-backs aren't allowed if auto-commit
+                    // is enabled. Auto-commit is usually disabled, but there are instances where
+                    // it's enabled so this check is required to prevent an exception
+                    if (connection.getAutoCommit() == false)
                     {
-                        // Check if the attempt to reconnect to the server is successful
-                        if (!ccddMain.getDbControlHandler().reconnectToDatabase())
+                        try
                         {
-                            // Send the command again
-                            return executeDbStatement(commandType, command, component);
+                            // Check if no save point exists
+                            if (savePoint == null)
+                            {
+                                // Revert the change to the database to before the last uncommitted
+                                // transaction
+                                connection.rollback();
+                            }
+                            // The save point exists
+                            else
+                            {
+                                // Revert any changes to the database to the save point
+                                connection.rollback(savePoint);
+                            }
                         }
-                        // The connection attempt failed. Check if the user elects to try
-                        // reconnecting again
-                        else if (new CcddDialogHandler().showMessageDialog(ccddMain.getMainFrame(),
-                                                                           "<html><b>Server connection lost and "
-                                                                                                    + "reconnection attempt failed; try again?",
-                                                                           "Server Connection Lost",
-                                                                           JOptionPane.QUESTION_MESSAGE,
-                                                                           DialogOption.OK_CANCEL_OPTION) != OK_BUTTON)
+                        catch (SQLException se2)
                         {
-                            throw new SQLException("Connection to server lost");
+                            // Inform the user that rolling back the changes failed
+                            eventLog.logFailEvent(component,
+                                                  "Cannot revert changes to project; cause '"
+                                                             + se2.getMessage()
+                                                             + "'",
+                                                  "<html><b>Cannot revert changes to project");
                         }
+                        finally
+                        {
+                            clearSavePoint();
+
+                            // Update the modification count since changes may have been reverted
+                            modificationCount.incrementAndGet();
+                        }
+                    }
+
+                    // Re-throw the exception so that the caller can handle it
+                    throw new SQLException("Invalid SQL command; " + se.getMessage());
+                }
+                catch (SQLException se3)
+                {
+                    // Check if the server is no longer connected
+                    if (!connection.isValid(ModifiableSizeInfo.POSTGRESQL_CONNECTION_TIMEOUT.getSize()))
+                    {
+                        // Execute at least once; continue to execute as long as the user elects to
+                        // attempt to reconnect
+                        while (true)
+                        {
+                            // Check if the attempt to reconnect to the server is successful
+                            if (!ccddMain.getDbControlHandler().reconnectToDatabase())
+                            {
+                                // Send the command again
+                                return executeDbStatement(commandType, command, data, component);
+                            }
+                            // The connection attempt failed. Check if the user elects to try
+                            // reconnecting again
+                            else if (new CcddDialogHandler().showMessageDialog(ccddMain.getMainFrame(),
+                                                                               "<html><b>Server connection lost and "
+                                                                                                        + "reconnection attempt failed; try again?",
+                                                                               "Server Connection Lost",
+                                                                               JOptionPane.QUESTION_MESSAGE,
+                                                                               DialogOption.OK_CANCEL_OPTION) != OK_BUTTON)
+                            {
+                                throw new SQLException("Connection to server lost");
+                            }
+                        }
+                    }
+                    // The server is connected. Shouldn't be able to get to this
+                    else
+                    {
+                        throw new SQLException(se3.getMessage());
                     }
                 }
-                // The server is connected. Shouldn't be able to get to this
-                else
+            }
+            finally
+            {
+                // Check if the command can modify the database
+                if (commandType != DbCommandType.QUERY)
+                {
+                    // Update the modification count now that the command is complete
+                    modificationCount.incrementAndGet();
+                }
+
+                // Check if the command is registered as an update in progress
+                if (isRegistered)
                 {
-                    throw new SQLException(se3.getMessage());
+                    endUpdate();
                 }
             }
         }
@@ -316,26 +830,53 @@ public class CcddDbCommandHandler
             {
                 // Release the save point
                 releaseSavePoint(component);
+
+                // Update the modification count since the changes are reverted
+                modificationCount.incrementAndGet();
             }
         }
     }
 
     /**********************************************************************************************
-     * Create the save point if it doesn't exist
+     * Create the save point if it doesn't exist. If another thread's save point is established,
+     * or another thread's update is in progress, then the calling thread waits for these to
+     * complete
      *
      * @param component
      *            GUI component over which to center any error dialog
      *
      * @throws SQLException
-     *             If an error occurs creating the save point
+     *             If an error occurs creating the save point, or the calling thread is interrupted
+     *             while waiting
      *********************************************************************************************/
     protected void createSavePoint(Component component) throws SQLException
     {
-        // Check if the save point doesn't already exist
-        if (savePoint == null)
+        synchronized (savePointLock)
         {
-            // Create the save point
-            savePoint = connection.setSavepoint();
+            // Wait while a save point is established by another thread or another thread's
+            // update is in progress
+            while ((savePoint != null && savePointThread != Thread.currentThread())
+                   || (savePoint == null && activeUpdates != 0))
+            {
+                try
+                {
+                    savePointLock.wait();
+                }
+                catch (InterruptedException ie)
+                {
+                    // Preserve the interrupt and abandon the save point
+                    Thread.currentThread().interrupt();
+                    throw new SQLException("interrupted waiting to establish a save point");
+                }
+            }
+
+            // Check if the save point doesn't already exist
+            if (savePoint == null)
+            {
+                // Create the save point and store the thread that established it
+                savePoint = connection.setSavepoint();
+                savePointThread = Thread.currentThread();
+            }
         }
     }
 
@@ -368,11 +909,39 @@ public class CcddDbCommandHandler
             finally
             {
                 // Reset the save point whether or not the release is successful
-                savePoint = null;
+                clearSavePoint();
+
+                // Update the modification count since the changes made while the save point was
+                // established are now visible to the read-only connections
+                modificationCount.incrementAndGet();
             }
         }
     }
 
+    /**********************************************************************************************
+     * Release the save point, if it exists, and commit the changes to the database. Updates from
+     * other threads remain held until the commit completes so that they don't become part of the
+     * committed transaction
+     *
+     * @param component
+     *            GUI component over which to center any error dialog
+     *
+     * @throws SQLException
+     *             If an error occurs committing the changes
+     *********************************************************************************************/
+    protected void commitSavePoint(Component component) throws SQLException
+    {
+        synchronized (savePointLock)
+        {
+            // Release the save point. This must be done within a transaction block, so it must be
+            // done prior to the commit below
+            releaseSavePoint(component);
+
+            // Commit the change(s) to the database
+            connection.commit();
+        }
+    }
+
     /**********************************************************************************************
      * Retrieve a list from the server or database. The command strings are set up to explicitly
      * sort the list alphabetically, without regard to capitalization
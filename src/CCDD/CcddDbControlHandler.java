@@ -25,6 +25,8 @@ import static CCDD.CcddConstants.POSTGRESQL_SERVER_SSL;
 import static CCDD.CcddConstants.PROJECT_STRINGS;
 import static CCDD.CcddConstants.TYPE_STRUCTURE;
 import static CCDD.CcddConstants.USER;
+import static CCDD.CcddConstants.VALUES_PARENT_INDEX;
+import static CCDD.CcddConstants.VALUES_PARENT_PATH;
 import static CCDD.CcddConstants.ConnectionType.NO_CONNECTION;
 import static CCDD.CcddConstants.ConnectionType.TO_DATABASE;
 import static CCDD.CcddConstants.ConnectionType.TO_SERVER_ONLY;
@@ -46,6 +48,7 @@ import java.sql.DatabaseMetaData;
 import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -1653,6 +1656,13 @@ public class CcddDbControlHandler
                 }
             }
 
+            // Check if the custom values table predates the parent table path index
+            if (!isValuesIndexExists(ccddMain.getMainFrame()))
+            {
+                // Add the parent table path index to the custom values table
+                dbCommand.executeDbCommand(buildValuesIndexCommand(), ccddMain.getMainFrame());
+            }
+
             // Create function to search all tables for the input text with case sensitivity
             // determined by an input flag. A second flag determines if the search string is
             // treated as a literal string or as a regular expression. If as a literal, then all
@@ -1882,6 +1892,155 @@ public class CcddDbControlHandler
                                    ccddMain.getMainFrame());
     }
 
+    /**********************************************************************************************
+     * Create the read-only connections to the specified database. These allow queries to execute
+     * concurrently with, and independently of, the transaction in progress on the primary
+     * connection. Each connection is given its own temporary table for storing the results
+     * returned by the database functions
+     *
+     * @param databaseName
+     *            name of the database to which to connect
+     *
+     * @return List containing the read-only connections; an empty list if the number of
+     *         read-only connections is set to zero or a connection cannot be established
+     *********************************************************************************************/
+    private List<Connection> createReaderConnections(String databaseName)
+    {
+        List<Connection> readers = new ArrayList<Connection>();
+
+        try
+        {
+            // Step through each read-only connection to create
+            for (int index = 0; index < ModifiableSizeInfo.READER_CONNECTIONS.getSize(); index++)
+            {
+                // Connect the user to the database
+                readers.add(openReaderConnection(databaseName));
+            }
+        }
+        catch (SQLException se)
+        {
+            // Step through each read-only connection created
+            for (Connection reader : readers)
+            {
+                try
+                {
+                    // Close the connection
+                    reader.close();
+                }
+                catch (SQLException se2)
+                {
+                    // Ignore the error; the connection is discarded regardless
+                }
+            }
+
+            readers.clear();
+
+            // Inform the user that the read-only connections can't be created. Queries are
+            // executed using the primary connection
+            eventLog.logFailEvent(ccddMain.getMainFrame(),
+                                  "Cannot create read-only connections to project database '"
+                                                           + getServerAndDatabase(databaseName)
+                                                           + "'; cause '"
+                                                           + se.getMessage()
+                                                           + "'",
+                                  "<html><b>Cannot create read-only connections to project '</b>"
+                                                                  + activeProject
+                                                                  + "<b>'");
+        }
+
+        return readers;
+    }
+
+    /**********************************************************************************************
+     * Create a read-only connection to the currently open database to replace one that the
+     * server dropped
+     *
+     * @return New read-only connection; null if the connection cannot be established
+     *********************************************************************************************/
+    protected Connection reconnectReaderConnection()
+    {
+        Connection reader = null;
+
+        try
+        {
+            // Connect the user to the database
+            reader = openReaderConnection(activeDatabase);
+
+            // Inform the user that the read-only connection is restored
+            eventLog.logEvent(SUCCESS_MSG,
+                              "Read-only connection to project database '"
+                                           + getServerAndDatabase(activeDatabase)
+                                           + "' restored");
+        }
+        catch (SQLException se)
+        {
+            // Inform the user that the read-only connection can't be restored. The connection's
+            // queries are executed using the primary connection
+            eventLog.logFailEvent(ccddMain.getMainFrame(),
+                                  "Cannot restore read-only connection to project database '"
+                                                           + getServerAndDatabase(activeDatabase)
+                                                           + "'; cause '"
+                                                           + se.getMessage()
+                                                           + "'",
+                                  "<html><b>Cannot restore read-only connection to project '</b>"
+                                                                  + activeProject
+                                                                  + "<b>'");
+        }
+
+        return reader;
+    }
+
+    /**********************************************************************************************
+     * Open a single read-only connection to the specified database and create the connection's
+     * temporary table
+     *
+     * @param databaseName
+     *            name of the database to which to connect
+     *
+     * @return Read-only connection to the database
+     *
+     * @throws SQLException
+     *             If the connection cannot be established or configured
+     *********************************************************************************************/
+    private Connection openReaderConnection(String databaseName) throws SQLException
+    {
+        // Connect the user to the database
+        Connection reader = DriverManager.getConnection(getDatabaseURL(databaseName),
+                                                        activeUser,
+                                                        activePassword);
+
+        try
+        {
+            // Create the temporary table for this connection. This must be done before the
+            // connection is made read-only
+            Statement statement = reader.createStatement();
+            statement.execute("CREATE TEMPORARY TABLE " + TEMP_TABLE_NAME + " (temp_result text);");
+            statement.close();
+
+            // Set the connection so that it can't be used to alter the database, and so that each
+            // query is committed (and its locks released) upon completion
+            reader.setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+            reader.setAutoCommit(true);
+            reader.setReadOnly(true);
+        }
+        catch (SQLException se)
+        {
+            try
+            {
+                // Close the partially configured connection
+                reader.close();
+            }
+            catch (SQLException se2)
+            {
+                // Ignore the error; the connection is discarded regardless
+            }
+
+            throw se;
+        }
+
+        return reader;
+    }
+
     /**********************************************************************************************
      * Create the reusable database functions for obtaining structure table members and
      * structure-defining column values
@@ -2229,7 +2388,52 @@ public class CcddDbControlHandler
                + intTable.getTableName()
                + " "
                + columnCommand
-               + buildOwnerCommand(DatabaseObject.TABLE, intTable.getTableName());
+               + buildOwnerCommand(DatabaseObject.TABLE, intTable.getTableName())
+               + (intTable == InternalTable.VALUES
+                                                   ? buildValuesIndexCommand()
+                                                   : "");
+    }
+
+    /**********************************************************************************************
+     * Build the command to create the index on the parent table path in the custom values table.
+     * The command fails if the index already exists, so for an existing table it must only be
+     * issued if isValuesIndexExists() is false
+     *
+     * @return Command to create the custom values table parent path index
+     *********************************************************************************************/
+    protected String buildValuesIndexCommand()
+    {
+        return "CREATE INDEX "
+               + VALUES_PARENT_INDEX
+               + " ON "
+               + InternalTable.VALUES.getTableName()
+               + " ("
+               + VALUES_PARENT_PATH
+               + "); ";
+    }
+
+    /**********************************************************************************************
+     * Check if the parent table path index exists for the custom values table
+     *
+     * @param parent
+     *            GUI component over which to center any error dialog
+     *
+     * @return true if the custom values table parent path index exists
+     *
+     * @throws SQLException
+     *             If an error occurs querying the database
+     *********************************************************************************************/
+    protected boolean isValuesIndexExists(Component parent) throws SQLException
+    {
+        // Query the database for the custom values table index
+        ResultSet indexData = dbCommand.executeDbQuery("SELECT 1 FROM pg_indexes WHERE indexname = '"
+                                                       + VALUES_PARENT_INDEX
+                                                       + "';",
+                                                       parent);
+        boolean isExists = indexData.next();
+        indexData.close();
+
+        return isExists;
     }
 
     /**********************************************************************************************
@@ -2319,6 +2523,9 @@ public class CcddDbControlHandler
         {
             connectionStatus = NO_CONNECTION;
 
+            // Close any read-only connections to the previous database
+            dbCommand.closeReaderConnections();
+
             // Set the time allowed for the connection to occur
             DriverManager.setLoginTimeout(ModifiableSizeInfo.POSTGRESQL_CONNECTION_TIMEOUT.getSize());
 
@@ -2326,7 +2533,6 @@ public class CcddDbControlHandler
             connection = DriverManager.getConnection(getDatabaseURL(databaseName),
                                                      activeUser,
                                                      activePassword);
-            dbCommand.setStatement(connection.createStatement());
 
             // Reset the flag that indicates a connection failure occurred due to a missing or
             // invalid user name or password
@@ -2429,6 +2635,9 @@ public class CcddDbControlHandler
                 // Set the connection status to indicate a database is connected
                 connectionStatus = TO_DATABASE;
 
+                // Open the read-only connections used for executing concurrent queries
+                dbCommand.setReaderConnections(createReaderConnections(databaseName));
+
                 // Check if this is a reconnection attempt
                 if (isReconnect)
                 {
@@ -3209,7 +3418,8 @@ public class CcddDbControlHandler
                     }
                 }
 
-                // Close the database
+                // Close the read-only connections and the database
+                dbCommand.closeReaderConnections();
                 connection.close();
 
                 // Inform the user that closing the database succeeded and update the connection
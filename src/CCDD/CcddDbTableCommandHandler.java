@@ -21,6 +21,7 @@ import static CCDD.CcddConstants.TLM_SCH_SEPARATOR;
 import static CCDD.CcddConstants.TYPE_COMMAND;
 import static CCDD.CcddConstants.TYPE_OTHER;
 import static CCDD.CcddConstants.TYPE_STRUCTURE;
+import static CCDD.CcddConstants.VALUES_PARENT_PATH;
 import static CCDD.CcddConstants.EventLogMessageType.SUCCESS_MSG;
 
 import java.awt.Component;
@@ -30,7 +31,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import javax.swing.JOptionPane;
@@ -128,9 +134,72 @@ public class CcddDbTableCommandHandler
     // updated as needed, is used in place of querying for the list as needed
     private List<String> rootStructures;
 
+    // Tables expected to be loaded, and those loaded in advance of being requested, by the
+    // calling thread. Each thread (e.g., a script execution or export) has its own tables so that
+    // one thread's tables aren't used, or discarded, by another
+    private final ThreadLocal<TablePrefetch> tablePrefetch;
+
+    // Table member snapshots, keyed by member type and sort order, and the database modification
+    // count when the snapshots were loaded. The snapshots are shared by all callers and are
+    // reloaded from the database only after the database is modified
+    private final Map<String, List<TableMembers>> tableMembersSnapshots;
+    private long tableMembersVersion;
+
     // Characters used to create a unique delimiter for literal strings stored in the database
     private final static String DELIMITER_CHARACTERS = "_ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
 
+    /**********************************************************************************************
+     * Table prefetch class. Contains the list of paths for the tables a thread expects to load,
+     * in the order of their expected loading, and the tables loaded in advance of being
+     * requested. The table comments and descriptions are retained so that they're queried only
+     * once for all of the bulk loads. The loaded tables, comments, and descriptions are discarded
+     * if the database is modified after they're loaded
+     *********************************************************************************************/
+    private class TablePrefetch
+    {
+        private final List<String> paths;
+        private final Map<String, TableInformation> tables;
+        private Map<String, String[]> comments;
+        private Map<String, String> descriptions;
+        private long version;
+
+        /******************************************************************************************
+         * Table prefetch class constructor
+         *
+         * @param tablePaths
+         *            list of paths for the tables expected to be loaded, in the order of their
+         *            expected loading
+         *****************************************************************************************/
+        TablePrefetch(List<String> tablePaths)
+        {
+            paths = new ArrayList<String>(tablePaths);
+            tables = new HashMap<String, TableInformation>();
+            comments = null;
+            descriptions = null;
+            version = -1;
+        }
+
+        /******************************************************************************************
+         * Discard the loaded tables, comments, and descriptions if the database has been
+         * modified since they were loaded. Any discarded table is loaded individually if requested
+         *****************************************************************************************/
+        protected void validate()
+        {
+            // Get the current database modification count
+            long currentVersion = dbCommand.getModificationCount();
+
+            // Check if the database has been modified since the tables were loaded
+            if (version != currentVersion)
+            {
+                // Discard the loaded information and store the count at which it's reloaded
+                tables.clear();
+                comments = null;
+                descriptions = null;
+                version = currentVersion;
+            }
+        }
+    }
+
     /**********************************************************************************************
      * Database table command handler class constructor
      *
@@ -146,6 +215,13 @@ public class CcddDbTableCommandHandler
         dbControl = ccddMain.getDbControlHandler();
         eventLog = ccddMain.getSessionEventLog();
 
+        // Create storage for each thread's tables loaded in advance of being requested
+        tablePrefetch = new ThreadLocal<TablePrefetch>();
+
+        // Create storage for the table member snapshots
+        tableMembersSnapshots = new HashMap<String, List<TableMembers>>();
+        tableMembersVersion = -1;
+
         // Escape any special characters in the script associations and telemetry scheduler table
         // separators
         assnsSeparator = CcddUtilities.escapePostgreSQLReservedChars(ASSN_TABLE_SEPARATOR);
@@ -166,6 +242,12 @@ public class CcddDbTableCommandHandler
         inputTypeHandler = ccddMain.getInputTypeHandler();
         fieldHandler = ccddMain.getFieldHandler();
 
+        // Discard the table member snapshots since these depend on the data types
+        synchronized (tableMembersSnapshots)
+        {
+            tableMembersSnapshots.clear();
+        }
+
         // Get the list of root structure tables
         rootStructures = getRootStructures(ccddMain.getMainFrame());
     }
@@ -786,6 +868,94 @@ public class CcddDbTableCommandHandler
         return parts;
     }
 
+    /**********************************************************************************************
+     * Get the change marker for each table in the project database. The marker changes whenever a
+     * table's rows, columns, or comment change, including changes committed by another session.
+     * The marker combines the table's storage file number, a hash of its column names and types, a
+     * hash of its comment, the number of rows, and the sum of the identifiers of the transactions
+     * that created the rows. An inserted or updated row is created by a newer transaction than the
+     * existing rows, so the sum changes even if the number of rows doesn't. These are read within
+     * the query's transaction snapshot, so a committed change is reflected at once; only the
+     * transaction identifiers are read from the tables, not the row contents
+     *
+     * @param parent
+     *            GUI component over which to center any error dialog
+     *
+     * @return Map containing the change marker for each table, keyed by the database table name
+     *
+     * @throws SQLException
+     *             If an error occurs obtaining the markers
+     *********************************************************************************************/
+    protected Map<String, String> queryTableChangeMarkers(Component parent) throws SQLException
+    {
+        Map<String, String> markers = new HashMap<String, String>();
+        List<String> tableNames = new ArrayList<String>();
+
+        // Get the storage file number and the hashes of the column definitions and comment for
+        // every table
+        ResultSet catalogResult = dbCommand.executeDbQuery("SELECT cls.relname, cls.relfilenode "
+                                                           + "|| ':' || md5(coalesce((SELECT "
+                                                           + "string_agg(att.attname || ' ' || "
+                                                           + "att.atttypid, ',' ORDER BY att.attnum) "
+                                                           + "FROM pg_attribute att WHERE "
+                                                           + "att.attrelid = cls.oid AND att.attnum "
+                                                           + "> 0 AND NOT att.attisdropped), '')) "
+                                                           + "|| ':' || md5(coalesce(obj_description(cls.oid, "
+                                                           + "'pg_class'), '')) FROM pg_class cls JOIN "
+                                                           + "pg_namespace nsp ON cls.relnamespace = nsp.oid "
+                                                           + "WHERE nsp.nspname = 'public' AND "
+                                                           + "cls.relkind = 'r';",
+                                                           parent);
+
+        // Step through each table's catalog information
+        while (catalogResult.next())
+        {
+            // Store the table's name and the catalog portion of its marker
+            tableNames.add(catalogResult.getString(1));
+            markers.put(catalogResult.getString(1), catalogResult.getString(2));
+        }
+
+        catalogResult.close();
+
+        // Step through the tables, reading as many at a time as are loaded in bulk
+        for (int start = 0;
+             start < tableNames.size();
+             start += ModifiableSizeInfo.MAX_BULK_LOAD_TABLES.getSize())
+        {
+            String command = "";
+
+            // Step through each table in this group
+            for (String tableName : tableNames.subList(start,
+                                                       Math.min(tableNames.size(),
+                                                                start + ModifiableSizeInfo.MAX_BULK_LOAD_TABLES.getSize())))
+            {
+                // Add the query for the table's row count and the sum of its rows' creating
+                // transaction identifiers
+                command += (command.isEmpty()
+                                              ? "SELECT "
+                                              : " UNION ALL SELECT ")
+                           + delimitText(tableName)
+                           + ", count(*) || ':' || coalesce(sum(xmin::text::bigint), 0) FROM "
+                           + dbControl.getQuotedName(tableName);
+            }
+
+            // Get the row portion of the markers for the tables in this group
+            ResultSet rowResult = dbCommand.executeDbQuery(command + ";", parent);
+
+            // Step through each table's row information
+            while (rowResult.next())
+            {
+                // Append the row portion to the table's marker
+                markers.put(rowResult.getString(1),
+                            markers.get(rowResult.getString(1)) + ":" + rowResult.getString(2));
+            }
+
+            rowResult.close();
+        }
+
+        return markers;
+    }
+
     /**********************************************************************************************
      * Retrieve a list of all data table descriptions in the database. Any non-data tables are
      * ignored
@@ -1753,7 +1923,7 @@ public class CcddDbTableCommandHandler
             {
                 // Execute the command to reset the rate for links that no longer contain any
                 // variables
-                dbCommand.executeDbQuery("SELECT reset_link_rate();", parent);
+                dbCommand.executeDbCommand("SELECT reset_link_rate();", parent);
             }
 
             // Log that the table deletion succeeded
@@ -2128,6 +2298,47 @@ public class CcddDbTableCommandHandler
                                              boolean loadDescription,
                                              boolean loadColumnOrder,
                                              Component parent)
+    {
+        // Get the table's information if it's been loaded in advance
+        TableInformation tableInfo = getPrefetchedTable(tablePath,
+                                                        loadDescription,
+                                                        loadColumnOrder,
+                                                        parent);
+
+        // Check if the table wasn't loaded in advance
+        if (tableInfo == null)
+        {
+            // Load the table's information from the database
+            tableInfo = queryTableData(tablePath, loadDescription, loadColumnOrder, parent);
+        }
+
+        return tableInfo;
+    }
+
+    /**********************************************************************************************
+     * Perform the database query to load the contents of a database table. The data is sorted in
+     * ascending numerical order based on the index (primary key) column
+     *
+     * @param tablePath
+     *            table path in the format rootTable[,dataType1.variable1[,dataType2
+     *            .variable2[,...]]]
+     *
+     * @param loadDescription
+     *            true to load the table's description
+     *
+     * @param loadColumnOrder
+     *            true to load the table's column order
+     *
+     * @param parent
+     *            GUI component over which to center any error dialog
+     *
+     * @return TableInformation class containing the table data from the database. If the error
+     *         flag is set the an error occurred and the data is invalid
+     *********************************************************************************************/
+    private TableInformation queryTableData(String tablePath,
+                                            boolean loadDescription,
+                                            boolean loadColumnOrder,
+                                            Component parent)
     {
         // Create an empty table information class
         TableInformation tableInfo = new TableInformation(tablePath);
@@ -2140,7 +2351,7 @@ public class CcddDbTableCommandHandler
 
             // Check if the table doesn't exist in the variable list (if it's a structure table) or
             // in the database (if it's another table type)
-            if (!variableHandler.getStructureAndVariablePaths().contains(tablePath)
+            if (!variableHandler.isStructureOrVariablePath(tablePath)
                 && !isTableExists(tableName, parent))
             {
                 throw new CCDDException("Table doesn't exist");
@@ -2184,34 +2395,8 @@ public class CcddDbTableCommandHandler
             // Step through each of the query results
             while (rowData.next())
             {
-                // Create an array to contain the column values
-                Object[] columnValues = new Object[typeDefn.getColumnCountDatabase()];
-
-                // Step through each column in the row
-                for (int column = 0; column < typeDefn.getColumnCountDatabase(); column++)
-                {
-                    // Add the column value to the array. Note that the first column's index in
-                    // the database is 1, not 0
-                    columnValues[column] = rowData.getString(column + 1);
-
-                    // Check if the value is null
-                    if (columnValues[column] == null)
-                    {
-                        // Replace the null with a blank
-                        columnValues[column] = "";
-                    }
-                    // Check if the input type for this column is a boolean
-                    else if (typeDefn.getInputTypes()[column].getInputFormat() == InputTypeFormat.BOOLEAN)
-                    {
-                        // Store the column value as a boolean
-                        columnValues[column] = columnValues[column].toString().equalsIgnoreCase("true")
-                                                                                                        ? true
-                                                                                                        : false;
-                    }
-                }
-
                 // Add the row data to the list
-                dbRows.add(columnValues);
+                dbRows.add(getRowColumnValues(rowData, typeDefn, 0));
             }
 
             rowData.close();
@@ -2231,45 +2416,25 @@ public class CcddDbTableCommandHandler
                                                               : ""),
                                              fieldHandler.getFieldInformationByOwnerCopy(tablePath));
 
-            // Get the index of the variable name and data type columns
-            int varNameIndex = typeDefn.getColumnIndexByInputType(DefaultInputType.VARIABLE);
-            int dataTypeIndex = typeDefn.getColumnIndexByInputType(DefaultInputType.PRIM_AND_STRUCT);
-
-            // Check if the variable name and data type columns exist, and if the table has a path
-            // (i.e., it's a child table). If so it may have values in the custom values table that
-            // must be loaded
-            if (varNameIndex != -1 && dataTypeIndex != -1 && tablePath.contains(","))
+            // Check if the table has a path (i.e., it's a child table). If so it may have values
+            // in the custom values table that must be loaded
+            if (tablePath.contains(",")
+                && typeDefn.getColumnIndexByInputType(DefaultInputType.VARIABLE) != -1
+                && typeDefn.getColumnIndexByInputType(DefaultInputType.PRIM_AND_STRUCT) != -1)
             {
-                // Get the column index for the variable path
-                int varPathIndex = typeDefn.getColumnIndexByInputType(DefaultInputType.VARIABLE_PATH);
-
-                // Check if the variable path column is present
-                if (varPathIndex != -1)
-                {
-                    // Step through each row in the table
-                    for (int row = 0; row < tableInfo.getData().length; row++)
-                    {
-                        // Blank the variable path. This prevents the child table from inheriting a
-                        // user-defined variable path from the prototype
-                        tableInfo.getData()[row][varPathIndex] = "";
-                    }
-                }
-
-                // Place double back slashes before each square brace character in an array index
-                // so that the brackets are interpreted correctly in the query's regular expression
-                // comparisons
-                tablePath = tablePath.replaceAll("\\[(\\d+)\\]", "\\\\\\\\[$1\\\\\\\\]");
+                // Create a list to contain the custom values for the child table
+                List<String[]> customValues = new ArrayList<String[]>();
 
                 // Get the rows from the custom values table that match the specified parent table
                 // and variable path. These values replace those loaded for the prototype of this
-                // table
+                // table. The parent path expression matches that of the custom values table index
                 rowData = dbCommand.executeDbQuery("SELECT * FROM "
                                                    + InternalTable.VALUES.getTableName()
                                                    + " WHERE "
-                                                   + ValuesColumn.TABLE_PATH.getColumnName()
-                                                   + " ~ E'^"
-                                                   + tablePath
-                                                   + ",[^,]+$' AND "
+                                                   + VALUES_PARENT_PATH
+                                                   + " = "
+                                                   + delimitText(tablePath)
+                                                   + " AND "
                                                    + ValuesColumn.COLUMN_NAME.getColumnName()
                                                    + " != '';",
                                                    parent);
@@ -2277,56 +2442,16 @@ public class CcddDbTableCommandHandler
                 // Step through each of the query results
                 while (rowData.next())
                 {
-                    // Get the variable name that will have its value replaced
-                    String variableName = rowData.getString(ValuesColumn.TABLE_PATH.getColumnName());
-
-                    // Get the index of the last data type/variable name separator character (if
-                    // present)
-                    int varIndex = variableName.lastIndexOf(".");
-
-                    // Check if a variable name exists
-                    if (varIndex != -1)
-                    {
-                        // Get the row index for the referenced variable
-                        int row = typeDefn.getRowIndexByColumnValue(tableInfo.getData(),
-                                                                    variableName.substring(varIndex + 1),
-                                                                    varNameIndex);
-
-                        // Check if the table contains the variable and if the data type of the
-                        // variable in the table matches the data type in the path from the custom
-                        // values table
-                        if (row != -1
-                            && tableInfo.getData()[row][dataTypeIndex].equals(variableName.subSequence(variableName.lastIndexOf(",")
-                                                                                                       + 1,
-                                                                                                       varIndex)))
-                        {
-                            // Get the index of the column that will have its data replaced
-                            int column = typeDefn.getColumnIndexByUserName(rowData.getString(ValuesColumn.COLUMN_NAME.getColumnName()));
-
-                            // Check if the table contains the column
-                            if (column != -1)
-                            {
-                                // Check if the input type for this column is a boolean
-                                if (typeDefn.getInputTypes()[column].getInputFormat() == InputTypeFormat.BOOLEAN)
-                                {
-                                    // Store the column value as a boolean
-                                    tableInfo.getData()[row][column] = rowData.getString(ValuesColumn.VALUE.getColumnName()).equalsIgnoreCase("true")
-                                                                                                                                                      ? true
-                                                                                                                                                      : false;
-                                }
-                                // Not a boolean
-                                else
-                                {
-                                    // Replace the value in the table with the one from the custom
-                                    // values table
-                                    tableInfo.getData()[row][column] = rowData.getString(ValuesColumn.VALUE.getColumnName());
-                                }
-                            }
-                        }
-                    }
+                    // Add the variable path, column name, and value to the list
+                    customValues.add(new String[] {rowData.getString(ValuesColumn.TABLE_PATH.getColumnName()),
+                                                   rowData.getString(ValuesColumn.COLUMN_NAME.getColumnName()),
+                                                   rowData.getString(ValuesColumn.VALUE.getColumnName())});
                 }
 
                 rowData.close();
+
+                // Replace the prototype's values with the custom values for this child table
+                applyCustomValues(tableInfo, typeDefn, customValues);
             }
         }
         catch (SQLException | CCDDException se)
@@ -2352,153 +2477,1027 @@ public class CcddDbTableCommandHandler
     }
 
     /**********************************************************************************************
-     * Perform the database query to load the rows from the custom values table that match the
-     * specified column name and column value
+     * Perform the database queries to load the contents of multiple database tables. The table
+     * comments, descriptions, column orders, and custom values are each obtained using a single
+     * query, and the rows for the prototypes of the tables are obtained using one query per table
+     * type (each query combines up to the maximum number of bulk load tables). A prototype's rows
+     * are queried only once regardless of the number of its instances in the list. The data is
+     * sorted in ascending numerical order based on the index (primary key) column
      *
-     * @param columnName
-     *            name to match in the custom values table 'column name' column
+     * @param tablePaths
+     *            list of table paths, each in the format rootTable[,dataType1.variable1[,dataType2
+     *            .variable2[,...]]]. The table path for a non-structure table is simply the root
+     *            table name. For a structure table the root table is the top level structure table
+     *            from which this table descends. The first data type/variable name pair is from
+     *            the root table, with each succeeding pair coming from the next level down in the
+     *            structure's hierarchy
      *
-     * @param columnValue
-     *            value to match in the custom values table 'value' column; null or blank to match
-     *            any value
+     * @param loadDescription
+     *            true to load the tables' descriptions
+     *
+     * @param loadColumnOrder
+     *            true to load the tables' column orders
      *
      * @param parent
      *            GUI component over which to center any error dialog
      *
-     * @return List containing arrays with the row data (table path, column name, and value) from
-     *         the custom values table for those rows that match the specified column name and
-     *         column value
+     * @return Array of TableInformation containing the table data from the database, in the same
+     *         order as the supplied table paths. If the error flag is set for a table then an
+     *         error occurred and the data for that table is invalid
      *********************************************************************************************/
-    protected List<String[]> getCustomValues(String columnName,
-                                             String columnValue,
-                                             Component parent)
+    protected TableInformation[] loadTableData(List<String> tablePaths,
+                                               boolean loadDescription,
+                                               boolean loadColumnOrder,
+                                               Component parent)
     {
-        List<String[]> customValues = new ArrayListMultiple();
-
-        try
-        {
-            // Get the row data from the custom values table for all columns with a matching column
-            // name and column value
-            ResultSet rowData = dbCommand.executeDbQuery("SELECT * FROM "
-                                                         + InternalTable.VALUES.getTableName()
-                                                         + " WHERE "
-                                                         + ValuesColumn.COLUMN_NAME.getColumnName()
-                                                         + " = '"
-                                                         + columnName
-                                                         + "'"
-                                                         + (columnValue == null
-                                                            || columnValue.isEmpty()
-                                                                                     ? ""
-                                                                                     : " AND "
-                                                                                       + ValuesColumn.VALUE.getColumnName()
-                                                                                       + " = '"
-                                                                                       + columnValue
-                                                                                       + "'")
-                                                         + ";",
-                                                         parent);
-
-            // Step through each of the query results
-            while (rowData.next())
-            {
-                // Add the row data from the matching row to the array list
-                customValues.add(new String[] {rowData.getString(ValuesColumn.TABLE_PATH.getColumnName()),
-                                               rowData.getString(ValuesColumn.COLUMN_NAME.getColumnName()),
-                                               rowData.getString(ValuesColumn.VALUE.getColumnName())});
-            }
-
-            rowData.close();
-        }
-        catch (SQLException se)
-        {
-            // Inform the user that loading the custom values failed
-            eventLog.logFailEvent(parent,
-                                  "Cannot load data from the custom values table; cause '"
-                                          + se.getMessage()
-                                          + "'",
-                                  "<html><b>Cannot load data from the custom values table");
-        }
-
-        return customValues;
+        return loadTableData(tablePaths, loadDescription, loadColumnOrder, null, parent);
     }
 
     /**********************************************************************************************
-     * Store the rate parameters in the project database and update the database structure-related
-     * functions
+     * Perform the database queries to load the contents of multiple database tables, using the
+     * table comments and descriptions retained by the calling thread's prefetch (if any)
      *
-     * @param parent
-     *            component calling this method, used for positioning any error dialogs
-     *********************************************************************************************/
-    protected void storeRateParameters(Component parent)
-    {
-        // Build the string containing the rate parameters
-        String comment = rateHandler.getMaxSecondsPerMsg()
-                         + ","
-                         + rateHandler.getMaxMsgsPerSecond()
-                         + ","
-                         + rateHandler.isIncludeUneven();
-
-        // Step through each stream
-        for (RateInformation rateInfo : rateHandler.getRateInformation())
-        {
-            // Build the string containing the rate name and parameters. The name is placed within
-            // double quotes
-            comment += ",\""
-                       + rateInfo.getRateName()
-                       + "\",\""
-                       + rateInfo.getStreamName()
-                       + "\","
-                       + rateInfo.getMaxMsgsPerCycle()
-                       + ","
-                       + rateInfo.getMaxBytesPerSec();
-        }
-
-        // Update the the stored rate parameters
-        setTableComment(InternalTable.TLM_SCHEDULER.getTableName(), comment, parent);
-    }
-
-    /**********************************************************************************************
-     * Create a list of all prototype tables with their child tables (prototypes and instances),
-     * and primitive variables (if specified). The table must contain all of the protected columns
-     * defined for a structure in order for its members to be determined. Non-structure tables are
-     * included in the returned list, but by definition have no members
+     * @param tablePaths
+     *            list of table paths, each in the format rootTable[,dataType1.variable1[,dataType2
+     *            .variable2[,...]]]
      *
-     * @param memberType
-     *            Type of table members to load: TABLES_ONLY to exclude primitive variables or
-     *            INCLUDE_PRIMITIVES to include tables and primitive variables
+     * @param loadDescription
+     *            true to load the tables' descriptions
      *
-     * @param sortByName
-     *            true to return the table members in alphabetical order (e.g., for use in a tree);
-     *            false to return the members sorted by row index (e.g., for use in determining the
-     *            variable offsets in the structure)
+     * @param loadColumnOrder
+     *            true to load the tables' column orders
+     *
+     * @param prefetch
+     *            prefetch in which the table comments and descriptions are retained after they're
+     *            queried; null to query the comments and descriptions without retaining them
      *
      * @param parent
      *            GUI component over which to center any error dialog
      *
-     * @return List containing the table member information. For structure tables the member tables
-     *         are included, along with primitive variables (if specified), sorted by variable name
-     *         or row index as specified
+     * @return Array of TableInformation containing the table data from the database, in the same
+     *         order as the supplied table paths. If the error flag is set for a table then an
+     *         error occurred and the data for that table is invalid
      *********************************************************************************************/
-    protected List<TableMembers> loadTableMembers(TableMemberType memberType,
-                                                  boolean sortByName,
-                                                  final Component parent)
+    private TableInformation[] loadTableData(List<String> tablePaths,
+                                             boolean loadDescription,
+                                             boolean loadColumnOrder,
+                                             TablePrefetch prefetch,
+                                             Component parent)
     {
-        List<TableMembers> tableMembers = new ArrayList<TableMembers>();
+        // Create storage for the table information and initialize each table as unloaded
+        TableInformation[] tableInfo = new TableInformation[tablePaths.size()];
+
+        for (int index = 0; index < tablePaths.size(); index++)
+        {
+            tableInfo[index] = new TableInformation(tablePaths.get(index));
+        }
 
         try
         {
-            // Get the list of prototype tables in alphabetical order
-            String[] tableNames = queryTableList(parent);
+            // Get the map containing the comment for each data table, using the table name (in
+            // lower case) as the key. The prefetch's comments are used if already queried
+            Map<String, String[]> tableComments = prefetch != null && prefetch.comments != null
+                                                                                                  ? prefetch.comments
+                                                                                                  : new HashMap<String, String[]>();
+
+            // Check if the comments haven't already been queried
+            if (prefetch == null || prefetch.comments == null)
+            {
+                // Step through each data table comment
+                for (String[] comment : queryDataTableComments(parent))
+                {
+                    // Store the comment, padding any missing comment elements with blanks
+                    String[] parts = new String[TableCommentIndex.values().length];
+                    Arrays.fill(parts, "");
+                    System.arraycopy(comment, 0, parts, 0, Math.min(parts.length, comment.length));
+                    tableComments.put(parts[TableCommentIndex.NAME.ordinal()].toLowerCase(), parts);
+                }
 
-            // Get the comments for all data tables
-            String[][] comments = queryDataTableComments(parent);
+                // Check if the comments are retained for subsequent bulk loads
+                if (prefetch != null)
+                {
+                    prefetch.comments = tableComments;
+                }
+            }
 
-            // Get the table members of all structure tables by extracting the values from the
-            // table's data type and variable name columns, if present, sorted by variable name or
-            // table index. Non-structure tables and structure tables with no rows are skipped. The
-            // information returned by the PostgreSQL function also returns the bit length,
-            // rate(s), and enumeration(s) for each member; the enumeration information currently
-            // isn't used
-            ResultSet rowData = dbCommand.executeDbQuery("SELECT * FROM "
+            // Create a map to contain the prototype table names for each table type, and a map to
+            // contain the rows for each prototype table
+            Map<String, List<String>> typePrototypes = new LinkedHashMap<String, List<String>>();
+            Map<String, List<Object[]>> prototypeRows = new HashMap<String, List<Object[]>>();
+
+            // Create a set to contain the paths to the tables that are children (i.e., those that
+            // can have values in the custom values table)
+            Set<String> childPaths = new HashSet<String>();
+
+            // Step through each table path
+            for (String tablePath : tablePaths)
+            {
+                // Get the comment for the table's prototype
+                String prototypeName = TableInformation.getPrototypeName(tablePath);
+                String[] comment = tableComments.get(prototypeName.toLowerCase());
+
+                // Check if the prototype table exists and hasn't already been added
+                if (comment != null && !prototypeRows.containsKey(prototypeName))
+                {
+                    String tableType = comment[TableCommentIndex.TYPE.ordinal()];
+
+                    // Check if this is the first table of this type
+                    if (!typePrototypes.containsKey(tableType))
+                    {
+                        // Add the table type to the map
+                        typePrototypes.put(tableType, new ArrayList<String>());
+                    }
+
+                    // Add the prototype to the list of tables of its type and create the storage
+                    // for its rows
+                    typePrototypes.get(tableType).add(prototypeName);
+                    prototypeRows.put(prototypeName, new ArrayList<Object[]>());
+                }
+
+                // Check if the table is a child table
+                if (tablePath.contains(","))
+                {
+                    childPaths.add(tablePath);
+                }
+            }
+
+            // Step through each table type referenced by the tables
+            for (String tableType : typePrototypes.keySet())
+            {
+                // Get the table type definition for this table type
+                TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(tableType);
+
+                // Check if the table type definition is valid (the tables of this type fail to
+                // load if not)
+                if (typeDefn != null)
+                {
+                    List<String> prototypes = typePrototypes.get(tableType);
+
+                    // Get a comma-separated list of the columns for this table's type and the
+                    // index of the row index column (adjusted for the prepended table index
+                    // column)
+                    String columnNames = CcddUtilities.convertArrayToString(typeDefn.getColumnNamesDatabaseQuoted());
+                    int rowIndexColumn = typeDefn.getColumnIndexByDbName(DefaultColumn.ROW_INDEX.getDbName())
+                                         + 2;
+
+                    // Step through the prototype tables of this type, combining the queries for
+                    // as many as allowed
+                    for (int start = 0;
+                         start < prototypes.size();
+                         start += ModifiableSizeInfo.MAX_BULK_LOAD_TABLES.getSize())
+                    {
+                        int end = Math.min(prototypes.size(),
+                                           start + ModifiableSizeInfo.MAX_BULK_LOAD_TABLES.getSize());
+                        StringBuilder command = new StringBuilder();
+
+                        // Step through each prototype table to include in this query
+                        for (int index = start; index < end; index++)
+                        {
+                            // Check if this isn't the first table in the query
+                            if (index != start)
+                            {
+                                command.append(" UNION ALL ");
+                            }
+
+                            // Get the table's rows, preceded by the table's index in the list so
+                            // that the rows can be matched to the table
+                            command.append("SELECT "
+                                           + index
+                                           + ", "
+                                           + columnNames
+                                           + " FROM "
+                                           + dbControl.getQuotedName(prototypes.get(index)));
+                        }
+
+                        try
+                        {
+                            // Get the tables' row information for the specified columns, sorted
+                            // by table and then by row index. The tables must have all of the
+                            // table type's columns or else they fail to load
+                            ResultSet rowData = dbCommand.executeDbQuery(command.toString()
+                                                                         + " ORDER BY 1, "
+                                                                         + rowIndexColumn
+                                                                         + ";",
+                                                                         parent);
+
+                            // Step through each of the query results
+                            while (rowData.next())
+                            {
+                                // Add the row data to the list for the table to which it belongs
+                                prototypeRows.get(prototypes.get(rowData.getInt(1)))
+                                             .add(getRowColumnValues(rowData, typeDefn, 1));
+                            }
+
+                            rowData.close();
+                        }
+                        catch (SQLException se)
+                        {
+                            // Step through each prototype table included in the query
+                            for (int index = start; index < end; index++)
+                            {
+                                // Remove the prototype's rows. The tables referencing this
+                                // prototype are loaded individually so that only the tables in
+                                // error fail to load
+                                prototypeRows.remove(prototypes.get(index));
+                            }
+                        }
+                    }
+                }
+            }
+
+            // Get the map containing the table descriptions, using the table path as the key.
+            // The prefetch's descriptions are used if already queried
+            Map<String, String> descriptions = prefetch != null && prefetch.descriptions != null
+                                                                                                  ? prefetch.descriptions
+                                                                                                  : new HashMap<String, String>();
+
+            // Check if the table descriptions should be loaded and haven't already been queried
+            if (loadDescription && (prefetch == null || prefetch.descriptions == null))
+            {
+                // Step through each table description
+                for (String[] description : queryTableDescriptions(parent))
+                {
+                    // Check if the description is present
+                    if (description.length == 2)
+                    {
+                        // Store the description
+                        descriptions.put(description[0], description[1].trim());
+                    }
+                }
+
+                // Check if the descriptions are retained for subsequent bulk loads
+                if (prefetch != null)
+                {
+                    prefetch.descriptions = descriptions;
+                }
+            }
+
+            // Create a map to contain the column orders, using the table path as the key
+            Map<String, String> columnOrders = new HashMap<String, String>();
+
+            // Check if the table column orders should be loaded
+            if (loadColumnOrder)
+            {
+                // Get the column orders for the current user
+                ResultSet orderData = dbCommand.executeDbQuery("SELECT "
+                                                               + OrdersColumn.TABLE_PATH.getColumnName()
+                                                               + ", "
+                                                               + OrdersColumn.COLUMN_ORDER.getColumnName()
+                                                               + " FROM "
+                                                               + InternalTable.ORDERS.getTableName()
+                                                               + " WHERE "
+                                                               + OrdersColumn.USER_NAME.getColumnName()
+                                                               + " = '"
+                                                               + dbControl.getUser()
+                                                               + "';",
+                                                               parent);
+
+                // Step through each of the query results
+                while (orderData.next())
+                {
+                    // Store the column order
+                    columnOrders.put(orderData.getString(1), orderData.getString(2));
+                }
+
+                orderData.close();
+            }
+
+            // Create a map to contain the custom values for the child tables, using the child
+            // table's path as the key
+            Map<String, List<String[]>> customValues = new HashMap<String, List<String[]>>();
+
+            // Check if any of the tables are child tables
+            if (!childPaths.isEmpty())
+            {
+                StringBuilder parentPaths = new StringBuilder();
+
+                // Step through each child table path
+                for (String childPath : childPaths)
+                {
+                    // Add the path to the list of parent paths to match
+                    parentPaths.append(parentPaths.length() == 0
+                                                                 ? ""
+                                                                 : ", ")
+                               .append(delimitText(childPath));
+                }
+
+                // Get the rows from the custom values table for the variables in the child
+                // tables. The parent path expression matches that of the custom values table index
+                ResultSet valueData = dbCommand.executeDbQuery("SELECT "
+                                                               + VALUES_PARENT_PATH
+                                                               + ", "
+                                                               + ValuesColumn.TABLE_PATH.getColumnName()
+                                                               + ", "
+                                                               + ValuesColumn.COLUMN_NAME.getColumnName()
+                                                               + ", "
+                                                               + ValuesColumn.VALUE.getColumnName()
+                                                               + " FROM "
+                                                               + InternalTable.VALUES.getTableName()
+                                                               + " WHERE "
+                                                               + VALUES_PARENT_PATH
+                                                               + " IN ("
+                                                               + parentPaths
+                                                               + ") AND "
+                                                               + ValuesColumn.COLUMN_NAME.getColumnName()
+                                                               + " != '';",
+                                                               parent);
+
+                // Step through each of the query results
+                while (valueData.next())
+                {
+                    String tablePath = valueData.getString(1);
+
+                    // Check if this is the first custom value for this table
+                    if (!customValues.containsKey(tablePath))
+                    {
+                        // Create the storage for the table's custom values
+                        customValues.put(tablePath, new ArrayList<String[]>());
+                    }
+
+                    // Add the variable path, column name, and value to the table's list
+                    customValues.get(tablePath).add(new String[] {valueData.getString(2),
+                                                                  valueData.getString(3),
+                                                                  valueData.getString(4)});
+                }
+
+                valueData.close();
+            }
+
+            // Create a set to contain the prototype tables for which the rows have been used. Any
+            // subsequent reference to the prototype uses a copy of the rows
+            Set<String> usedPrototypes = new HashSet<String>();
+
+            // Step through each table path
+            for (int index = 0; index < tablePaths.size(); index++)
+            {
+                String tablePath = tablePaths.get(index);
+                String prototypeName = TableInformation.getPrototypeName(tablePath);
+                String[] comment = tableComments.get(prototypeName.toLowerCase());
+
+                // Check if the table doesn't exist or its type is invalid
+                if (comment == null
+                    || tableTypeHandler.getTypeDefinition(comment[TableCommentIndex.TYPE.ordinal()]) == null)
+                {
+                    // Inform the user that loading the table failed
+                    eventLog.logFailEvent(parent,
+                                          "Cannot load table '"
+                                                  + tablePath
+                                                  + "'; cause '"
+                                                  + (comment == null
+                                                                     ? "Table doesn't exist"
+                                                                     : "Invalid table type")
+                                                  + "'",
+                                          "<html><b>Cannot load table '</b>"
+                                                         + tablePath
+                                                         + "<b>'");
+                    continue;
+                }
+
+                // Get the table's rows
+                List<Object[]> rows = prototypeRows.get(prototypeName);
+
+                // Check if the rows failed to load as part of the combined query
+                if (rows == null)
+                {
+                    // Load the table individually
+                    tableInfo[index] = queryTableData(tablePath,
+                                                      loadDescription,
+                                                      loadColumnOrder,
+                                                      parent);
+                    continue;
+                }
+
+                // Get the table's type and type definition
+                String tableType = comment[TableCommentIndex.TYPE.ordinal()];
+                TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(tableType);
+                Object[][] tableData = new Object[rows.size()][];
+
+                // Check if the prototype's rows haven't been used by another table
+                if (usedPrototypes.add(prototypeName))
+                {
+                    // Use the prototype's rows directly
+                    tableData = rows.toArray(tableData);
+                }
+                // The rows are already in use
+                else
+                {
+                    // Step through each row
+                    for (int row = 0; row < rows.size(); row++)
+                    {
+                        // Copy the row so that changes to one table don't affect the other
+                        tableData[row] = Arrays.copyOf(rows.get(row), rows.get(row).length);
+                    }
+                }
+
+                // Get the table's description, using the prototype's description if this is a
+                // child table and it has no description of its own
+                String description = "";
+
+                if (loadDescription)
+                {
+                    description = descriptions.containsKey(tablePath)
+                                                                      ? descriptions.get(tablePath)
+                                                                      : "";
+
+                    if (description.isEmpty() && tablePath.contains(","))
+                    {
+                        description = descriptions.containsKey(prototypeName)
+                                                                              ? descriptions.get(prototypeName)
+                                                                              : "";
+                    }
+                }
+
+                // Create the table information handler for this table
+                tableInfo[index] = new TableInformation(tableType,
+                                                        tablePath,
+                                                        tableData,
+                                                        (loadColumnOrder
+                                                                         ? (columnOrders.containsKey(tablePath)
+                                                                                                                ? columnOrders.get(tablePath)
+                                                                                                                : tableTypeHandler.getDefaultColumnOrder(tableType))
+                                                                         : ""),
+                                                        description,
+                                                        fieldHandler.getFieldInformationByOwnerCopy(tablePath));
+
+                // Check if the table is a child table and it contains variable name and data type
+                // columns
+                if (childPaths.contains(tablePath)
+                    && typeDefn.getColumnIndexByInputType(DefaultInputType.VARIABLE) != -1
+                    && typeDefn.getColumnIndexByInputType(DefaultInputType.PRIM_AND_STRUCT) != -1)
+                {
+                    // Replace the prototype's values with the custom values for this child table
+                    applyCustomValues(tableInfo[index],
+                                      typeDefn,
+                                      customValues.containsKey(tablePath)
+                                                                          ? customValues.get(tablePath)
+                                                                          : new ArrayList<String[]>(0));
+                }
+            }
+        }
+        catch (SQLException se)
+        {
+            // Inform the user that loading the tables failed
+            eventLog.logFailEvent(parent,
+                                  "Cannot load tables; cause '" + se.getMessage() + "'",
+                                  "<html><b>Cannot load tables");
+
+            // Step through each table
+            for (int index = 0; index < tablePaths.size(); index++)
+            {
+                // Flag the table as not loaded
+                tableInfo[index] = new TableInformation(tablePaths.get(index));
+            }
+        }
+        catch (Exception e)
+        {
+            // Display a dialog providing details on the unanticipated error
+            CcddUtilities.displayException(e, parent);
+        }
+
+        return tableInfo;
+    }
+
+    /**********************************************************************************************
+     * Set the list of tables that are expected to be loaded, in the order they are expected to be
+     * requested. When a listed table is requested via loadTableData() the table and those that
+     * follow it in the list (up to the maximum number of bulk load tables) are loaded using a
+     * single bulk load, and the remaining tables from the bulk load are retained until requested.
+     * This reduces the number of database queries for operations (such as exporting) that load
+     * tables one at a time. The list applies only to tables requested by the calling thread, and
+     * should be cleared by the calling thread (e.g., in a finally block) once its tables are
+     * loaded
+     *
+     * @param tablePaths
+     *            list of paths for the tables expected to be loaded, in the order of their
+     *            expected loading; null or an empty list to clear the calling thread's list of
+     *            expected tables and discard any tables loaded but not yet requested
+     *********************************************************************************************/
+    protected void setPrefetchTables(List<String> tablePaths)
+    {
+        // Check if the list of table paths is supplied
+        if (tablePaths != null && !tablePaths.isEmpty())
+        {
+            // Store the tables expected to be loaded by the calling thread
+            tablePrefetch.set(new TablePrefetch(tablePaths));
+        }
+        // No tables are expected to be loaded
+        else
+        {
+            // Discard the calling thread's expected and loaded tables
+            tablePrefetch.remove();
+        }
+    }
+
+    /**********************************************************************************************
+     * Get the table information for a table from those the calling thread expects to load. If
+     * the table has not been loaded then it, along with the tables following it in the list of
+     * expected tables, are bulk loaded
+     *
+     * @param tablePath
+     *            table path
+     *
+     * @param loadDescription
+     *            true to load the table's description
+     *
+     * @param loadColumnOrder
+     *            true to load the table's column order
+     *
+     * @param parent
+     *            GUI component over which to center any error dialog
+     *
+     * @return TableInformation class containing the table data from the database; null if the
+     *         table isn't one of those expected to be loaded or the table failed to load
+     *********************************************************************************************/
+    private TableInformation getPrefetchedTable(String tablePath,
+                                                boolean loadDescription,
+                                                boolean loadColumnOrder,
+                                                Component parent)
+    {
+        TableInformation tableInfo = null;
+
+        // Get the tables the calling thread expects to load
+        TablePrefetch prefetch = tablePrefetch.get();
+
+        // Check if the thread expects to load tables (the expected tables are loaded without the
+        // column order)
+        if (prefetch != null && !loadColumnOrder)
+        {
+            // Discard any tables loaded before the database was last modified
+            prefetch.validate();
+
+            // Check if the table hasn't been loaded and is one of the tables expected to be
+            // loaded
+            if (!prefetch.tables.containsKey(tablePath) && prefetch.paths.contains(tablePath))
+            {
+                // Get the list of tables to load, starting with the requested table
+                int start = prefetch.paths.indexOf(tablePath);
+                List<String> loadPaths = prefetch.paths.subList(start,
+                                                                Math.min(prefetch.paths.size(),
+                                                                         start + ModifiableSizeInfo.MAX_BULK_LOAD_TABLES.getSize()));
+
+                // Load the tables' data
+                TableInformation[] loadedInfo = loadTableData(new ArrayList<String>(loadPaths),
+                                                              true,
+                                                              false,
+                                                              prefetch,
+                                                              parent);
+
+                // Step through each table loaded
+                for (TableInformation info : loadedInfo)
+                {
+                    // Check if the table loaded successfully
+                    if (!info.isErrorFlag())
+                    {
+                        // Retain the table's information until it's requested
+                        prefetch.tables.put(info.getTablePath(), info);
+                    }
+                }
+
+                // Remove the loaded tables from the list of those expected
+                loadPaths.clear();
+            }
+
+            // Get the table's information (if present), removing it since it's only used once
+            tableInfo = prefetch.tables.remove(tablePath);
+        }
+
+        // Check if the table was loaded and the description isn't requested
+        if (tableInfo != null && !loadDescription)
+        {
+            // Remove the description
+            tableInfo.setDescription("");
+        }
+
+        return tableInfo;
+    }
+
+    /**********************************************************************************************
+     * Get the column values for the current row of a table data query
+     *
+     * @param rowData
+     *            result set, positioned at the row to get
+     *
+     * @param typeDefn
+     *            table type definition for the table from which the row is obtained
+     *
+     * @param offset
+     *            number of columns in the result set that precede the table's columns
+     *
+     * @return Array containing the row's column values. Null values are replaced with blanks, and
+     *         values in boolean columns are converted to Boolean
+     *
+     * @throws SQLException
+     *             If an error occurs obtaining the column values
+     *********************************************************************************************/
+    private Object[] getRowColumnValues(ResultSet rowData,
+                                        TypeDefinition typeDefn,
+                                        int offset) throws SQLException
+    {
+        // Create an array to contain the column values
+        Object[] columnValues = new Object[typeDefn.getColumnCountDatabase()];
+
+        // Step through each column in the row
+        for (int column = 0; column < typeDefn.getColumnCountDatabase(); column++)
+        {
+            // Add the column value to the array. Note that the first column's index in the
+            // database is 1, not 0
+            columnValues[column] = rowData.getString(column + offset + 1);
+
+            // Check if the value is null
+            if (columnValues[column] == null)
+            {
+                // Replace the null with a blank
+                columnValues[column] = "";
+            }
+            // Check if the input type for this column is a boolean
+            else if (typeDefn.getInputTypes()[column].getInputFormat() == InputTypeFormat.BOOLEAN)
+            {
+                // Store the column value as a boolean
+                columnValues[column] = columnValues[column].toString().equalsIgnoreCase("true")
+                                                                                                ? true
+                                                                                                : false;
+            }
+        }
+
+        return columnValues;
+    }
+
+    /**********************************************************************************************
+     * Replace the values in a child table, loaded from its prototype, with the table's values from
+     * the custom values table. The variable path column values are blanked; this prevents the
+     * child table from inheriting a user-defined variable path from the prototype
+     *
+     * @param tableInfo
+     *            reference to the child table's information
+     *
+     * @param typeDefn
+     *            table type definition for the child table
+     *
+     * @param customValues
+     *            list containing the variable path, column name, and value for each of the child
+     *            table's custom values
+     *********************************************************************************************/
+    private void applyCustomValues(TableInformation tableInfo,
+                                   TypeDefinition typeDefn,
+                                   List<String[]> customValues)
+    {
+        // Get the index of the variable name, data type, and variable path columns
+        int varNameIndex = typeDefn.getColumnIndexByInputType(DefaultInputType.VARIABLE);
+        int dataTypeIndex = typeDefn.getColumnIndexByInputType(DefaultInputType.PRIM_AND_STRUCT);
+        int varPathIndex = typeDefn.getColumnIndexByInputType(DefaultInputType.VARIABLE_PATH);
+
+        // Check if the variable path column is present
+        if (varPathIndex != -1)
+        {
+            // Step through each row in the table
+            for (int row = 0; row < tableInfo.getData().length; row++)
+            {
+                // Blank the variable path. This prevents the child table from inheriting a
+                // user-defined variable path from the prototype
+                tableInfo.getData()[row][varPathIndex] = "";
+            }
+        }
+
+        // Create a map to contain the row index for each variable name in the table
+        Map<Object, Integer> variableRows = new HashMap<Object, Integer>();
+
+        // Check if the table has any custom values
+        if (!customValues.isEmpty())
+        {
+            // Step through each row in the table
+            for (int row = 0; row < tableInfo.getData().length; row++)
+            {
+                // Store the row index for the variable name, unless the name is already stored
+                // (the first occurrence is used)
+                variableRows.putIfAbsent(tableInfo.getData()[row][varNameIndex], row);
+            }
+        }
+
+        // Step through each custom value
+        for (String[] customValue : customValues)
+        {
+            // Get the variable name that will have its value replaced
+            String variableName = customValue[0];
+
+            // Get the index of the last data type/variable name separator character (if present)
+            int varIndex = variableName.lastIndexOf(".");
+
+            // Check if a variable name exists
+            if (varIndex != -1)
+            {
+                // Get the row index for the referenced variable
+                Integer row = variableRows.get(variableName.substring(varIndex + 1));
+
+                // Check if the table contains the variable and if the data type of the variable in
+                // the table matches the data type in the path from the custom values table
+                if (row != null
+                    && tableInfo.getData()[row][dataTypeIndex].equals(variableName.subSequence(variableName.lastIndexOf(",")
+                                                                                               + 1,
+                                                                                               varIndex)))
+                {
+                    // Get the index of the column that will have its data replaced
+                    int column = typeDefn.getColumnIndexByUserName(customValue[1]);
+
+                    // Check if the table contains the column
+                    if (column != -1)
+                    {
+                        // Check if the input type for this column is a boolean
+                        if (typeDefn.getInputTypes()[column].getInputFormat() == InputTypeFormat.BOOLEAN)
+                        {
+                            // Store the column value as a boolean
+                            tableInfo.getData()[row][column] = customValue[2].equalsIgnoreCase("true")
+                                                                                                       ? true
+                                                                                                       : false;
+                        }
+                        // Not a boolean
+                        else
+                        {
+                            // Replace the value in the table with the one from the custom values
+                            // table
+                            tableInfo.getData()[row][column] = customValue[2];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**********************************************************************************************
+     * Perform the database query to load the rows from the custom values table that match the
+     * specified column name and column value
+     *
+     * @param columnName
+     *            name to match in the custom values table 'column name' column
+     *
+     * @param columnValue
+     *            value to match in the custom values table 'value' column; null or blank to match
+     *            any value
+     *
+     * @param parent
+     *            GUI component over which to center any error dialog
+     *
+     * @return List containing arrays with the row data (table path, column name, and value) from
+     *         the custom values table for those rows that match the specified column name and
+     *         column value
+     *********************************************************************************************/
+    protected List<String[]> getCustomValues(String columnName,
+                                             String columnValue,
+                                             Component parent)
+    {
+        List<String[]> customValues = new ArrayListMultiple();
+
+        try
+        {
+            // Get the row data from the custom values table for all columns with a matching column
+            // name and column value
+            ResultSet rowData = dbCommand.executeDbQuery("SELECT * FROM "
+                                                         + InternalTable.VALUES.getTableName()
+                                                         + " WHERE "
+                                                         + ValuesColumn.COLUMN_NAME.getColumnName()
+                                                         + " = '"
+                                                         + columnName
+                                                         + "'"
+                                                         + (columnValue == null
+                                                            || columnValue.isEmpty()
+                                                                                     ? ""
+                                                                                     : " AND "
+                                                                                       + ValuesColumn.VALUE.getColumnName()
+                                                                                       + " = '"
+                                                                                       + columnValue
+                                                                                       + "'")
+                                                         + ";",
+                                                         parent);
+
+            // Step through each of the query results
+            while (rowData.next())
+            {
+                // Add the row data from the matching row to the array list
+                customValues.add(new String[] {rowData.getString(ValuesColumn.TABLE_PATH.getColumnName()),
+                                               rowData.getString(ValuesColumn.COLUMN_NAME.getColumnName()),
+                                               rowData.getString(ValuesColumn.VALUE.getColumnName())});
+            }
+
+            rowData.close();
+        }
+        catch (SQLException se)
+        {
+            // Inform the user that loading the custom values failed
+            eventLog.logFailEvent(parent,
+                                  "Cannot load data from the custom values table; cause '"
+                                          + se.getMessage()
+                                          + "'",
+                                  "<html><b>Cannot load data from the custom values table");
+        }
+
+        return customValues;
+    }
+
+    /**********************************************************************************************
+     * Store the rate parameters in the project database and update the database structure-related
+     * functions
+     *
+     * @param parent
+     *            component calling this method, used for positioning any error dialogs
+     *********************************************************************************************/
+    protected void storeRateParameters(Component parent)
+    {
+        // Build the string containing the rate parameters
+        String comment = rateHandler.getMaxSecondsPerMsg()
+                         + ","
+                         + rateHandler.getMaxMsgsPerSecond()
+                         + ","
+                         + rateHandler.isIncludeUneven();
+
+        // Step through each stream
+        for (RateInformation rateInfo : rateHandler.getRateInformation())
+        {
+            // Build the string containing the rate name and parameters. The name is placed within
+            // double quotes
+            comment += ",\""
+                       + rateInfo.getRateName()
+                       + "\",\""
+                       + rateInfo.getStreamName()
+                       + "\","
+                       + rateInfo.getMaxMsgsPerCycle()
+                       + ","
+                       + rateInfo.getMaxBytesPerSec();
+        }
+
+        // Update the the stored rate parameters
+        setTableComment(InternalTable.TLM_SCHEDULER.getTableName(), comment, parent);
+    }
+
+    /**********************************************************************************************
+     * Create a list of all prototype tables with their child tables (prototypes and instances),
+     * and primitive variables (if specified). The table must contain all of the protected columns
+     * defined for a structure in order for its members to be determined. Non-structure tables are
+     * included in the returned list, but by definition have no members. The members are loaded
+     * from the database only if the database is modified after the members were last loaded;
+     * otherwise the previously loaded snapshot is returned
+     *
+     * @param memberType
+     *            Type of table members to load: TABLES_ONLY to exclude primitive variables or
+     *            INCLUDE_PRIMITIVES to include tables and primitive variables
+     *
+     * @param sortByName
+     *            true to return the table members in alphabetical order (e.g., for use in a tree);
+     *            false to return the members sorted by row index (e.g., for use in determining the
+     *            variable offsets in the structure)
+     *
+     * @param parent
+     *            GUI component over which to center any error dialog
+     *
+     * @return List containing the table member information. For structure tables the member tables
+     *         are included, along with primitive variables (if specified), sorted by variable name
+     *         or row index as specified. The list is shared by all callers and can't be modified;
+     *         null if an error occurs loading the members
+     *********************************************************************************************/
+    protected List<TableMembers> loadTableMembers(TableMemberType memberType,
+                                                  boolean sortByName,
+                                                  Component parent)
+    {
+        List<TableMembers> tableMembers;
+
+        synchronized (tableMembersSnapshots)
+        {
+            // Get the database modification count prior to loading the members
+            long version = dbCommand.getModificationCount();
+
+            // Check if the database is modified since the snapshots were loaded
+            if (version != tableMembersVersion)
+            {
+                // Discard the snapshots
+                tableMembersSnapshots.clear();
+                tableMembersVersion = version;
+            }
+
+            // Get the snapshot for the member type and sort order
+            tableMembers = tableMembersSnapshots.get(memberType.toString() + sortByName);
+
+            // Check if the snapshot doesn't exist
+            if (tableMembers == null)
+            {
+                // Get the snapshot that includes the primitive variables for the sort order
+                List<TableMembers> allMembers = tableMembersSnapshots.get(TableMemberType.INCLUDE_PRIMITIVES.toString()
+                                                                          + sortByName);
+
+                // Check if the snapshot that includes primitive variables doesn't exist
+                if (allMembers == null)
+                {
+                    // Load the table members, including primitive variables, from the database
+                    allMembers = queryTableMembers(sortByName, parent);
+                }
+
+                // Check if the members loaded successfully
+                if (allMembers != null)
+                {
+                    // Create the snapshot for the member type, removing the primitive variables
+                    // if these aren't included
+                    tableMembers = memberType == TableMemberType.INCLUDE_PRIMITIVES
+                                                                                    ? Collections.unmodifiableList(allMembers)
+                                                                                    : removePrimitiveMembers(allMembers);
+
+                    // Check that the database wasn't modified while the members were loading and
+                    // that no save point is established (changes made after the save point aren't
+                    // visible to every connection)
+                    if (version == dbCommand.getModificationCount() && !dbCommand.isSavePoint())
+                    {
+                        // Store the snapshots
+                        tableMembersSnapshots.put(TableMemberType.INCLUDE_PRIMITIVES.toString()
+                                                  + sortByName,
+                                                  Collections.unmodifiableList(allMembers));
+                        tableMembersSnapshots.put(memberType.toString() + sortByName,
+                                                  tableMembers);
+                    }
+                }
+            }
+        }
+
+        return tableMembers;
+    }
+
+    /**********************************************************************************************
+     * Create a copy of the specified table members with the primitive variables removed
+     *
+     * @param allMembers
+     *            list of table members, including primitive variables
+     *
+     * @return Unmodifiable list containing the table members with only the member tables
+     *********************************************************************************************/
+    private List<TableMembers> removePrimitiveMembers(List<TableMembers> allMembers)
+    {
+        List<TableMembers> tableMembers = new ArrayList<TableMembers>(allMembers.size());
+
+        // Step through each table
+        for (TableMembers member : allMembers)
+        {
+            List<String> dataTypes = new ArrayList<String>();
+            List<String> variableNames = new ArrayList<String>();
+            List<String> bitLengths = new ArrayList<String>();
+            List<String[]> rates = new ArrayList<String[]>();
+
+            // Step through each of the table's members
+            for (int index = 0; index < member.getDataTypes().size(); index++)
+            {
+                // Check if the member's data type isn't a primitive (i.e., this is a structure)
+                if (!dataTypeHandler.isPrimitive(member.getDataTypes().get(index)))
+                {
+                    // Add the member's data type, variable name, bit length, and rate(s) to the
+                    // lists for this table
+                    dataTypes.add(member.getDataTypes().get(index));
+                    variableNames.add(member.getVariableNames().get(index));
+                    bitLengths.add(member.getBitLengths().get(index));
+                    rates.add(member.getRates().get(index));
+                }
+            }
+
+            // Add the table name, table type, and the table's member information to the members
+            // list
+            tableMembers.add(new TableMembers(member.getTableName(),
+                                              member.getTableType(),
+                                              dataTypes,
+                                              variableNames,
+                                              bitLengths,
+                                              rates));
+        }
+
+        return Collections.unmodifiableList(tableMembers);
+    }
+
+    /**********************************************************************************************
+     * Load a list of all prototype tables with their child tables (prototypes and instances) and
+     * primitive variables from the database
+     *
+     * @param sortByName
+     *            true to return the table members in alphabetical order (e.g., for use in a tree);
+     *            false to return the members sorted by row index (e.g., for use in determining the
+     *            variable offsets in the structure)
+     *
+     * @param parent
+     *            GUI component over which to center any error dialog
+     *
+     * @return List containing the table member information; null if an error occurs loading the
+     *         members
+     *********************************************************************************************/
+    private List<TableMembers> queryTableMembers(boolean sortByName, final Component parent)
+    {
+        List<TableMembers> tableMembers = new ArrayList<TableMembers>();
+
+        try
+        {
+            // Get the list of prototype tables in alphabetical order
+            String[] tableNames = queryTableList(parent);
+
+            // Get the comments for all data tables
+            String[][] comments = queryDataTableComments(parent);
+
+            // Get the table members of all structure tables by extracting the values from the
+            // table's data type and variable name columns, if present, sorted by variable name or
+            // table index. Non-structure tables and structure tables with no rows are skipped. The
+            // information returned by the PostgreSQL function also returns the bit length,
+            // rate(s), and enumeration(s) for each member; the enumeration information currently
+            // isn't used
+            ResultSet rowData = dbCommand.executeDbQuery("SELECT * FROM "
                                                          + (sortByName
                                                                        ? "get_table_members_by_name();"
                                                                        : "get_table_members_by_index();"),
@@ -2536,15 +3535,11 @@ public class CcddDbTableCommandHandler
                     String bitLength = rowData.getString(4);
                     String[] rate = rowData.getString(5).split(",", rateHandler.getNumRateColumns());
 
-                    // Check if a data type and variable name exist, and that the data type is not
-                    // a primitive type (i.e., this is a structure) or if primitive types are to be
-                    // included
+                    // Check if a data type and variable name exist
                     if (dataType != null
                         && !dataType.isEmpty()
                         && variableName != null
-                        && !variableName.isEmpty()
-                        && (!dataTypeHandler.isPrimitive(dataType)
-                            || memberType == TableMemberType.INCLUDE_PRIMITIVES))
+                        && !variableName.isEmpty())
                     {
                         // Get the number of variable names in the list
                         int addIndex = variableNames.size();
@@ -2855,6 +3850,7 @@ public class CcddDbTableCommandHandler
         boolean errorFlag = false;
         ReferenceCheckResults msgIDRefChk = null;
         boolean isRefFieldChange = false;
+        boolean isLocalSavePoint = false;
 
         try
         {
@@ -2959,17 +3955,15 @@ public class CcddDbTableCommandHandler
                                                                                               tableInfo.getColumnOrder())
                                                                            : ""));
 
-            // Build the commands to add, modify, and delete table rows, and to update any table
-            // cells or data fields that have the message name & ID input type if a message name or
-            // ID value is changed
+            // Build the commands to update the internal tables for the added, modified, and
+            // deleted table rows, and to update any table cells or data fields that have the
+            // message name & ID input type if a message name or ID is changed
             command.append(buildAdditionCommand(tableInfo,
                                                 additions,
-                                                dbTableName,
                                                 typeDefinition,
                                                 skipInternalTables)
                            + buildModificationCommand(tableInfo,
                                                       modifications,
-                                                      dbTableName,
                                                       typeDefinition,
                                                       newDataTypeHandler,
                                                       tableTree,
@@ -2978,7 +3972,6 @@ public class CcddDbTableCommandHandler
                                                       cmdRefChk)
                            + buildDeletionCommand(tableInfo,
                                                   deletions,
-                                                  dbTableName,
                                                   typeDefinition,
                                                   skipInternalTables,
                                                   varRefChk,
@@ -2989,12 +3982,43 @@ public class CcddDbTableCommandHandler
                                                              deletions,
                                                              msgIDRefChk));
 
-            // Check if a command was generated (e.g., the additions, modifications, and deletions
-            // lists aren't empty)
-            if (command.length() != 0)
+            // Check if a command was generated or if there are table rows to store (e.g., the
+            // additions, modifications, and deletions lists aren't empty)
+            if (command.length() != 0
+                || !additions.isEmpty()
+                || !modifications.isEmpty()
+                || !deletions.isEmpty())
             {
-                // Execute the commands
-                dbCommand.executeDbUpdate(command.toString(), parent);
+                // Check if no save point is established by the caller
+                isLocalSavePoint = !dbCommand.isSavePointOwner();
+
+                // Establish a save point so that the table row changes and the internal table
+                // updates are committed, or reverted, together
+                dbCommand.createSavePoint(parent);
+
+                // Add, modify, and delete the table rows
+                storeTableRows(tableInfo,
+                               additions,
+                               modifications,
+                               deletions,
+                               dbTableName,
+                               typeDefinition,
+                               parent);
+
+                // Check if there are internal table updates
+                if (command.length() != 0)
+                {
+                    // Execute the commands
+                    dbCommand.executeDbUpdate(command.toString(), parent);
+                }
+
+                // Check if the save point was established above
+                if (isLocalSavePoint)
+                {
+                    // Release the save point and commit the change(s) to the database
+                    dbCommand.commitSavePoint(parent);
+                    isLocalSavePoint = false;
+                }
 
                 // Check if references in the internal tables are to be updated
                 if (!skipInternalTables && typeDefinition.isStructure())
@@ -3029,7 +4053,7 @@ public class CcddDbTableCommandHandler
 
                     // Execute the command to reset the rate for links that no longer contain any
                     // variables
-                    dbCommand.executeDbQuery("SELECT reset_link_rate();", parent);
+                    dbCommand.executeDbCommand("SELECT reset_link_rate();", parent);
                 }
 
                 // Check if the table type is a structure
@@ -3067,6 +4091,29 @@ public class CcddDbTableCommandHandler
             errorFlag = true;
         }
 
+        // Check if the save point established above remains (e.g., an error occurred)
+        if (isLocalSavePoint)
+        {
+            try
+            {
+                // Revert any changes made since the save point
+                dbCommand.rollbackToSavePoint(parent);
+            }
+            catch (SQLException se)
+            {
+                // Inform the user that rolling back the changes failed
+                eventLog.logFailEvent(parent,
+                                      "Cannot revert changes to table '"
+                                              + tableInfo.getProtoVariableName()
+                                              + "'; cause '"
+                                              + se.getMessage()
+                                              + "'",
+                                      "<html><b>Cannot revert changes to table '</b>"
+                                                     + tableInfo.getProtoVariableName()
+                                                     + "<b>'");
+            }
+        }
+
         // Check that no error occurred
         if (!errorFlag)
         {
@@ -3074,55 +4121,235 @@ public class CcddDbTableCommandHandler
             // type, array size, or bit length has changed
             if (isVariablePathChange)
             {
-                // Rebuild the variable paths and offsets lists
-                variableHandler.buildPathAndOffsetLists();
+                // Update the variable paths and offsets lists for the modified structure and the
+                // structures that reference it
+                variableHandler.updatePathAndOffsetLists(Collections.singleton(tableInfo.getPrototypeName()));
+            }
+            // Check if a data field exists that uses the variable reference, command reference, or
+            // message name & ID input type
+            if (isRefFieldChange)
+            {
+                // Rebuild the data field information from the the field definitions stored in the
+                // database
+                fieldHandler.buildFieldInformation(parent);
+            }
+            // Check if the table's data fields were updated
+            else if (updateFieldInfo)
+            {
+                // Update the table's data field information in the field handler
+                fieldHandler.replaceFieldInformationByOwner(tableInfo.getTablePath(),
+                                                            tableInfo.getFieldInformation());
+            }
+
+            // Check if a command has been added or deleted, or an existing command's name, code,
+            // or argument(s) has changed
+            if (isCommandChange)
+            {
+                // Rebuild the command list
+                commandHandler.buildCommandList();
+            }
+
+            // Check if a data field exists that references the message name & ID input type
+            if (isMsgIDChange)
+            {
+                // Update the message name & ID input type list
+                inputTypeHandler.updateMessageReferences(parent);
+            }
+
+            // Make changes to any open table editors
+            CcddTableEditorDialog.doTableModificationComplete(ccddMain,
+                                                              tableInfo,
+                                                              modifications,
+                                                              deletions,
+                                                              forceUpdate,
+                                                              isRefFieldChange,
+                                                              isMsgIDChange);
+        }
+
+        return errorFlag;
+    }
+
+    /**********************************************************************************************
+     * Add, modify, and delete the rows of a table in the database. The rows to add are copied to
+     * the table in a single operation, and the row modifications and deletions are each executed
+     * as a batch of parameterized commands. Since the row values aren't embedded in the commands
+     * the server parses each command only once, and the (possibly very large) row values aren't
+     * written to the session log. Rows are only modified in a prototype table; an instance
+     * table's modifications are stored in the custom values table by buildModificationCommand()
+     *
+     * @param tableInfo
+     *            table information
+     *
+     * @param additions
+     *            list of row addition information
+     *
+     * @param modifications
+     *            list of row modification information
+     *
+     * @param deletions
+     *            list of row deletion information
+     *
+     * @param dbTableName
+     *            name of the table's prototype in which to add, modify, and delete rows
+     *
+     * @param typeDefn
+     *            table type definition
+     *
+     * @param parent
+     *            GUI component over which to center any error dialog
+     *
+     * @throws SQLException
+     *             If an error occurs storing the table rows
+     *********************************************************************************************/
+    private void storeTableRows(TableInformation tableInfo,
+                                List<TableModification> additions,
+                                List<TableModification> modifications,
+                                List<TableModification> deletions,
+                                String dbTableName,
+                                TypeDefinition typeDefn,
+                                Component parent) throws SQLException
+    {
+        String keyColumn = typeDefn.getColumnNamesDatabase()[DefaultColumn.PRIMARY_KEY.ordinal()];
+
+        // Check if there are any table additions
+        if (!additions.isEmpty())
+        {
+            StringBuilder columnNames = new StringBuilder("");
+            StringBuilder rows = new StringBuilder("");
+
+            // Step through each column
+            for (int column = 0; column < typeDefn.getColumnNamesDatabaseQuoted().length; column++)
+            {
+                // Check that this isn't the primary key column (the key is assigned by the
+                // server)
+                if (column != DefaultColumn.PRIMARY_KEY.ordinal())
+                {
+                    // Add the column name to the list
+                    columnNames.append(typeDefn.getColumnNamesDatabaseQuoted()[column] + ", ");
+                }
             }
-            // Check if a data field exists that uses the variable reference, command reference, or
-            // message name & ID input type
-            if (isRefFieldChange)
+
+            // Step through each addition
+            for (TableModification add : additions)
             {
-                // Rebuild the data field information from the the field definitions stored in the
-                // database
-                fieldHandler.buildFieldInformation(parent);
+                // For each column in the row
+                for (int column = 0; column < add.getRowData().length; column++)
+                {
+                    // Check that this isn't the primary key column
+                    if (column != DefaultColumn.PRIMARY_KEY.ordinal())
+                    {
+                        // Check if the column value exists; a missing value is stored as a null
+                        // (represented by an empty, unquoted field)
+                        if (add.getRowData()[column] != null)
+                        {
+                            // Append the value, enclosed in quotes and with any quotes within the
+                            // value doubled
+                            rows.append("\""
+                                        + add.getRowData()[column].toString().replaceAll("\"", "\"\"")
+                                        + "\"");
+                        }
+
+                        rows.append(",");
+                    }
+                }
+
+                // Replace the trailing comma with the row terminator
+                rows.setCharAt(rows.length() - 1, '\n');
             }
-            // Check if the table's data fields were updated
-            else if (updateFieldInfo)
+
+            // Copy the rows into the table
+            dbCommand.executeDbCopy("COPY "
+                                    + dbTableName
+                                    + " ("
+                                    + CcddUtilities.removeTrailer(columnNames, ", ")
+                                    + ") FROM STDIN WITH (FORMAT csv)",
+                                    rows.toString(),
+                                    parent);
+        }
+
+        // Check if there are any table modifications and this is a prototype table
+        if (!modifications.isEmpty() && tableInfo.isPrototype())
+        {
+            // Create storage for the update commands and their parameter sets. The command for a
+            // row depends on which of its columns changed, so rows with the same changed columns
+            // are grouped into the same batch
+            Map<String, List<Object[]>> updateBatches = new LinkedHashMap<String, List<Object[]>>();
+
+            // Step through each modification
+            for (TableModification mod : modifications)
             {
-                // Update the table's data field information in the field handler
-                fieldHandler.replaceFieldInformationByOwner(tableInfo.getTablePath(),
-                                                            tableInfo.getFieldInformation());
+                StringBuilder modCmd = new StringBuilder("");
+                List<Object> values = new ArrayList<Object>();
+
+                // Step through each column
+                for (int column = 0; column < mod.getRowData().length; column++)
+                {
+                    // Check if the column value changed
+                    if (mod.getOriginalRowData()[column] == null
+                        || !mod.getOriginalRowData()[column].equals(mod.getRowData()[column]))
+                    {
+                        // Add the column to the command and store the new value
+                        modCmd.append(typeDefn.getColumnNamesDatabaseQuoted()[column] + " = ?, ");
+                        values.add(mod.getRowData()[column]);
+                    }
+                }
+
+                // Check if any of the row's column values changed
+                if (modCmd.length() != 0)
+                {
+                    // Complete the update command, with the condition based on the row's primary
+                    // key
+                    String command = "UPDATE "
+                                     + dbTableName
+                                     + " SET "
+                                     + CcddUtilities.removeTrailer(modCmd, ", ")
+                                     + " WHERE "
+                                     + keyColumn
+                                     + " = ?";
+                    values.add(mod.getRowData()[DefaultColumn.PRIMARY_KEY.ordinal()]);
+
+                    // Check if this is the first row with these changed columns
+                    if (!updateBatches.containsKey(command))
+                    {
+                        // Create a batch for the command
+                        updateBatches.put(command, new ArrayList<Object[]>());
+                    }
+
+                    // Add the row's values to the command's batch
+                    updateBatches.get(command).add(values.toArray());
+                }
             }
 
-            // Check if a command has been added or deleted, or an existing command's name, code,
-            // or argument(s) has changed
-            if (isCommandChange)
+            // Step through each update command
+            for (Map.Entry<String, List<Object[]>> updateBatch : updateBatches.entrySet())
             {
-                // Rebuild the command list
-                commandHandler.buildCommandList();
+                // Update the rows
+                dbCommand.executeDbBatch(updateBatch.getKey(), updateBatch.getValue(), parent);
             }
+        }
 
-            // Check if a data field exists that references the message name & ID input type
-            if (isMsgIDChange)
+        // Check if there are any table deletions
+        if (!deletions.isEmpty())
+        {
+            List<Object[]> keys = new ArrayList<Object[]>();
+
+            // Step through each deletion
+            for (TableModification del : deletions)
             {
-                // Update the message name & ID input type list
-                inputTypeHandler.updateMessageReferences(parent);
+                // Store the row's primary key
+                keys.add(new Object[] {del.getRowData()[DefaultColumn.PRIMARY_KEY.ordinal()]});
             }
 
-            // Make changes to any open table editors
-            CcddTableEditorDialog.doTableModificationComplete(ccddMain,
-                                                              tableInfo,
-                                                              modifications,
-                                                              deletions,
-                                                              forceUpdate,
-                                                              isRefFieldChange,
-                                                              isMsgIDChange);
+            // Delete the rows
+            dbCommand.executeDbBatch("DELETE FROM " + dbTableName + " WHERE " + keyColumn + " = ?",
+                                     keys,
+                                     parent);
         }
-
-        return errorFlag;
     }
 
     /**********************************************************************************************
-     * Build the command to add table rows. Only prototype tables can have a row added
+     * Build the commands to update the internal tables for added table rows. Only prototype
+     * tables can have a row added. The rows themselves are added by storeTableRows()
      *
      * @param tableInfo
      *            table information
@@ -3130,9 +4357,6 @@ public class CcddDbTableCommandHandler
      * @param additions
      *            list of row addition information
      *
-     * @param dbTableName
-     *            name of the table to which to add rows
-     *
      * @param typeDefn
      *            table type definition
      *
@@ -3141,11 +4365,10 @@ public class CcddDbTableCommandHandler
      *            used during a data type update where only the data type name has changed in order
      *            to speed up the operation
      *
-     * @return Table row addition command
+     * @return Internal table update command for the table row additions
      *********************************************************************************************/
     private String buildAdditionCommand(TableInformation tableInfo,
                                         List<TableModification> additions,
-                                        String dbTableName,
                                         TypeDefinition typeDefn,
                                         boolean skipInternalTables)
     {
@@ -3163,35 +4386,9 @@ public class CcddDbTableCommandHandler
             StringBuilder linksDelCmd = new StringBuilder("");
             StringBuilder tlmDelCmd = new StringBuilder("");
 
-            // Create the insert table data command. The array of column names is converted to a
-            // string
-            addCmd.append("INSERT INTO "
-                          + dbTableName
-                          + " ("
-                          + CcddUtilities.convertArrayToString(typeDefn.getColumnNamesDatabaseQuoted())
-                          + ") VALUES ");
-
             // Step through each addition
             for (TableModification add : additions)
             {
-                addCmd.append("(DEFAULT, ");
-
-                // For each column in the matching row
-                for (int column = 0; column < add.getRowData().length; column++)
-                {
-                    // Check that this isn't the primary key column
-                    if (column != DefaultColumn.PRIMARY_KEY.ordinal())
-                    {
-                        // Append the column value
-                        addCmd.append(delimitText(add.getRowData()[column]) + ", ");
-                    }
-                }
-
-                // Remove the ending comma and space, append the closing parenthesis, and add the
-                // command to add this row
-                addCmd = CcddUtilities.removeTrailer(addCmd, ", ");
-                addCmd.append("), ");
-
                 // Check if internal tables are to be updated and the parent table is a structure
                 if (!skipInternalTables && typeDefn.isStructure())
                 {
@@ -3414,10 +4611,9 @@ public class CcddDbTableCommandHandler
                 }
             }
 
-            // Remove the ending comma and space, and append the command's closing semi-colon
-            addCmd = CcddUtilities.removeTrailer(addCmd, ", ");
-            addCmd.append("; "
-                          + valuesAddCmd.toString()
+            // Add the commands to update the internal tables. The rows themselves are added by
+            // storeTableRows()
+            addCmd.append(valuesAddCmd.toString()
                           + groupsAddCmd.toString()
                           + fieldsAddCmd.toString()
                           + ordersAddCmd.toString()
@@ -3430,7 +4626,9 @@ public class CcddDbTableCommandHandler
     }
 
     /**********************************************************************************************
-     * Build the commands to modify the table
+     * Build the commands to update the internal tables (and the custom values table for an
+     * instance table) for modified table rows. The rows of a prototype table are updated by
+     * storeTableRows()
      *
      * @param tableInfo
      *            table information
@@ -3438,9 +4636,6 @@ public class CcddDbTableCommandHandler
      * @param modifications
      *            list of row modification information
      *
-     * @param dbTableName
-     *            name of the table's prototype to which to modify rows
-     *
      * @param typeDefn
      *            table type definition
      *
@@ -3463,11 +4658,10 @@ public class CcddDbTableCommandHandler
      * @param cmdRefChkResults
      *            results of the command reference input type search
      *
-     * @return Table row modification command
+     * @return Internal table update command for the table row modifications
      *********************************************************************************************/
     private String buildModificationCommand(TableInformation tableInfo,
                                             List<TableModification> modifications,
-                                            String dbTableName,
                                             TypeDefinition typeDefn,
                                             CcddDataTypeHandler newDataTypeHandler,
                                             CcddTableTreeHandler tableTree,
@@ -3506,24 +4700,6 @@ public class CcddDbTableCommandHandler
                     StringBuilder ordersModCmd = new StringBuilder("");
                     StringBuilder assnsModCmd = new StringBuilder("");
 
-                    // Build the update command
-                    modCmd.append("UPDATE " + dbTableName + " SET ");
-
-                    // Step through each changed column
-                    for (int column = 0; column < mod.getRowData().length; column++)
-                    {
-                        // Check if the column value changed
-                        if (mod.getOriginalRowData()[column] == null
-                            || !mod.getOriginalRowData()[column].equals(mod.getRowData()[column]))
-                        {
-                            // Build the command to change the column value
-                            modCmd.append(typeDefn.getColumnNamesDatabaseQuoted()[column]
-                                          + " = "
-                                          + delimitText(mod.getRowData()[column])
-                                          + ", ");
-                        }
-                    }
-
                     // Check if the internal tables are to be updated and the table represents a
                     // structure
                     if (!skipInternalTables && typeDefn.isStructure())
@@ -4189,15 +5365,9 @@ public class CcddDbTableCommandHandler
                                            + "$', E'', 'ng'); ");
                     }
 
-                    // Remove the trailing comma and space, then add the condition based on the
-                    // row's primary key, and add the commands to update the internal tables
-                    modCmd = CcddUtilities.removeTrailer(modCmd, ", ");
-                    modCmd.append(" WHERE "
-                                  + typeDefn.getColumnNamesDatabase()[DefaultColumn.PRIMARY_KEY.ordinal()]
-                                  + " = "
-                                  + mod.getRowData()[DefaultColumn.PRIMARY_KEY.ordinal()]
-                                  + "; "
-                                  + valuesModCmd.toString()
+                    // Add the commands to update the internal tables. The row itself is updated by
+                    // storeTableRows()
+                    modCmd.append(valuesModCmd.toString()
                                   + groupsModCmd.toString()
                                   + fieldsModCmd.toString()
                                   + ordersModCmd.toString()
@@ -4308,7 +5478,8 @@ public class CcddDbTableCommandHandler
     }
 
     /**********************************************************************************************
-     * Build the command to delete a table row. Only prototype tables can have a row deleted
+     * Build the commands to update the internal tables for deleted table rows. Only prototype
+     * tables can have a row deleted. The rows themselves are deleted by storeTableRows()
      *
      * @param tableInfo
      *            table information
@@ -4316,9 +5487,6 @@ public class CcddDbTableCommandHandler
      * @param deletions
      *            list of row deletion information
      *
-     * @param dbTableName
-     *            name of the table to which to delete rows
-     *
      * @param typeDefn
      *            table type definition
      *
@@ -4333,11 +5501,10 @@ public class CcddDbTableCommandHandler
      * @param cmdRefChkResults
      *            results of the command reference input type search
      *
-     * @return Table row deletion command
+     * @return Internal table update command for the table row deletions
      *********************************************************************************************/
     private String buildDeletionCommand(TableInformation tableInfo,
                                         List<TableModification> deletions,
-                                        String dbTableName,
                                         TypeDefinition typeDefn,
                                         boolean skipInternalTables,
                                         ReferenceCheckResults varRefChkResults,
@@ -4359,15 +5526,6 @@ public class CcddDbTableCommandHandler
             // Step through each deletion
             for (TableModification del : deletions)
             {
-                // Add the table row deletion command
-                delCmd.append("DELETE FROM "
-                              + dbTableName
-                              + " WHERE "
-                              + typeDefn.getColumnNamesDatabase()[DefaultColumn.PRIMARY_KEY.ordinal()]
-                              + " = "
-                              + del.getRowData()[DefaultColumn.PRIMARY_KEY.ordinal()]
-                              + "; ");
-
                 // Check if the internal tables are to be updated and the table represents a
                 // structure
                 if (!skipInternalTables && typeDefn.isStructure())
@@ -6104,6 +7262,7 @@ public class CcddDbTableCommandHandler
                 case SCRIPT:
                 case TLM_SCHEDULER:
                 case USERS:
+                case VERIFIED_TABLES:
                     // Build the command for storing the script configurations, groups, links, etc.
                     // table
                     command += storeNonTableTypesInfoTableCommand(intTable,
@@ -6231,13 +7390,16 @@ public class CcddDbTableCommandHandler
             case SCRIPT:
             case TABLE_TYPES:
             case VALUES:
+            case VERIFIED_TABLES:
                 break;
         }
     }
 
     /**********************************************************************************************
      * Build the command for storing the groups, script associations, links table, data fields, or
-     * script
+     * script. If the internal table exists and its columns match the table definition then only
+     * the differences between the table's existing and new contents are stored; otherwise the
+     * table is deleted and recreated
      *
      * @param intTable
      *            type of internal table to store
@@ -6257,6 +7419,347 @@ public class CcddDbTableCommandHandler
                                                       List<String[]> tableData,
                                                       String tableComment,
                                                       Component parent)
+    {
+        // Build the command to store the changes to the internal table's contents
+        String command = storeInfoTableChangesCommand(intTable, tableData, tableComment, parent);
+
+        // Check if the changes can't be stored (the table doesn't exist or its columns differ
+        // from the table definition)
+        if (command == null)
+        {
+            // Build the command to replace the entire internal table
+            command = replaceInfoTableCommand(intTable, tableData, tableComment, parent);
+        }
+
+        return command;
+    }
+
+    /**********************************************************************************************
+     * Build the command for storing the changes between the existing and new contents of the
+     * groups, script associations, links table, data fields, or script. Rows are read from the
+     * internal tables in OID order, so each existing row is identified by its OID. A row that
+     * matches the next existing row is unchanged; a row that matches a later existing row causes
+     * the existing rows preceding it to be deleted; any other row replaces the next existing row's
+     * values (which retains its position), or is inserted after the existing rows if there are
+     * none remaining. Any existing rows left unmatched are deleted
+     *
+     * @param intTable
+     *            type of internal table to store
+     *
+     * @param tableData
+     *            array containing the table data to store
+     *
+     * @param tableComment
+     *            table comment; null if unchanged
+     *
+     * @param parent
+     *            GUI component over which to center any error dialog
+     *
+     * @return Command for storing the changes to the specified table; null if the table doesn't
+     *         exist, its columns differ from the table definition, or the number of values in a
+     *         row of the table data differs from the number of columns
+     *********************************************************************************************/
+    private String storeInfoTableChangesCommand(InternalTable intTable,
+                                                List<String[]> tableData,
+                                                String tableComment,
+                                                Component parent)
+    {
+        StringBuilder command = null;
+
+        // Get the internal table's name
+        String tableName = intTable.getTableName(tableComment);
+
+        try
+        {
+            // Get the names of the internal table's columns, in order, and the flag indicating if
+            // the table has OIDs
+            ResultSet columnInfo = dbCommand.executeDbQuery("SELECT c.column_name::text, "
+                                                            + "cl.relhasoids FROM "
+                                                            + "information_schema.columns AS c "
+                                                            + "JOIN pg_namespace AS n ON n.nspname "
+                                                            + "= c.table_schema JOIN pg_class AS "
+                                                            + "cl ON (cl.relname = c.table_name "
+                                                            + "AND cl.relnamespace = n.oid) WHERE "
+                                                            + "c.table_schema = 'public' AND "
+                                                            + "c.table_name = "
+                                                            + delimitText(tableName)
+                                                            + " ORDER BY c.ordinal_position;",
+                                                            parent);
+
+            int numColumns = 0;
+            boolean isSchemaMatch = true;
+
+            // Step through each of the table's columns
+            while (columnInfo.next())
+            {
+                // Check if the column name and OID flag match the table definition
+                isSchemaMatch &= columnInfo.getString(1).equals(intTable.getColumnName(numColumns))
+                                 && columnInfo.getBoolean(2);
+                numColumns++;
+            }
+
+            columnInfo.close();
+
+            // Check if the number of columns matches the table definition (the table doesn't
+            // exist if there are no columns)
+            isSchemaMatch &= numColumns != 0 && numColumns == intTable.getNumColumns();
+
+            // Step through each row in the table data while the table's columns match
+            for (int row = 0; row < tableData.size() && isSchemaMatch; row++)
+            {
+                // Check if the number of values in the row matches the number of columns
+                isSchemaMatch = tableData.get(row).length == numColumns;
+            }
+
+            // Check if the table's columns match the table definition and the table data
+            if (isSchemaMatch)
+            {
+                List<List<String>> existingRows = new ArrayList<List<String>>();
+                List<String> existingOIDs = new ArrayList<String>();
+                Map<List<String>, List<Integer>> existingRowIndices = new HashMap<List<String>, List<Integer>>();
+
+                // Get the table's existing rows and their OIDs
+                ResultSet existingData = dbCommand.executeDbQuery("SELECT *, OID FROM "
+                                                                  + tableName
+                                                                  + " ORDER BY OID;",
+                                                                  parent);
+
+                // Step through each of the existing rows
+                while (existingData.next())
+                {
+                    String[] columnValues = new String[numColumns];
+
+                    // Step through each column in the row
+                    for (int column = 0; column < numColumns; column++)
+                    {
+                        // Add the column value to the array, replacing a null with a blank (the
+                        // same as when the table is retrieved). Note that the first column's
+                        // index in the database is 1, not 0
+                        columnValues[column] = existingData.getString(column + 1);
+
+                        if (columnValues[column] == null)
+                        {
+                            columnValues[column] = "";
+                        }
+                    }
+
+                    // Store the row's values and OID
+                    List<String> existingRow = Arrays.asList(columnValues);
+                    existingRows.add(existingRow);
+                    existingOIDs.add(existingData.getString(numColumns + 1));
+
+                    // Get the list of indices of the existing rows with these values
+                    List<Integer> rowIndices = existingRowIndices.get(existingRow);
+
+                    // Check if this is the first existing row with these values
+                    if (rowIndices == null)
+                    {
+                        // Create the list and add it to the map
+                        rowIndices = new ArrayList<Integer>();
+                        existingRowIndices.put(existingRow, rowIndices);
+                    }
+
+                    // Add the row's index to the list
+                    rowIndices.add(existingRows.size() - 1);
+                }
+
+                existingData.close();
+
+                command = new StringBuilder();
+                StringBuilder insertCommand = new StringBuilder();
+                List<String> deletedOIDs = new ArrayList<String>();
+                int existingIndex = 0;
+
+                // Step through each row in the table data
+                for (String[] row : tableData)
+                {
+                    String[] columnValues = new String[numColumns];
+
+                    // Step through each column in the row
+                    for (int column = 0; column < numColumns; column++)
+                    {
+                        // Store the column value, replacing a null with a blank so that it can be
+                        // compared to the existing value
+                        columnValues[column] = row[column] == null
+                                                                   ? ""
+                                                                   : row[column];
+                    }
+
+                    List<String> newRow = Arrays.asList(columnValues);
+
+                    // Check if the row doesn't match the next existing row
+                    if (existingIndex >= existingRows.size()
+                        || !newRow.equals(existingRows.get(existingIndex)))
+                    {
+                        int matchIndex = -1;
+
+                        // Get the indices of the existing rows with the same values
+                        List<Integer> rowIndices = existingRowIndices.get(newRow);
+
+                        // Check if an existing row has the same values
+                        if (rowIndices != null)
+                        {
+                            // Find the first matching existing row that hasn't been passed
+                            int position = Collections.binarySearch(rowIndices, existingIndex);
+
+                            if (position < 0)
+                            {
+                                position = -position - 1;
+                            }
+
+                            // Check if a later existing row matches
+                            if (position < rowIndices.size())
+                            {
+                                matchIndex = rowIndices.get(position);
+                            }
+                        }
+
+                        // Check if a later existing row matches the row
+                        if (matchIndex != -1)
+                        {
+                            // Delete the existing rows preceding the matching row
+                            deletedOIDs.addAll(existingOIDs.subList(existingIndex, matchIndex));
+                            existingIndex = matchIndex;
+                        }
+                        // Check if any existing rows remain
+                        else if (existingIndex < existingRows.size())
+                        {
+                            StringBuilder setCommand = new StringBuilder();
+
+                            // Step through each column in the row
+                            for (int column = 0; column < numColumns; column++)
+                            {
+                                // Check if the value differs from the existing row's value
+                                if (!columnValues[column].equals(existingRows.get(existingIndex).get(column)))
+                                {
+                                    // Add the column's new value to the command
+                                    setCommand.append(intTable.getColumnName(column)
+                                                      + " = "
+                                                      + delimitText(row[column])
+                                                      + ", ");
+                                }
+                            }
+
+                            // Build the command to replace the existing row's values with the
+                            // row's values
+                            command.append("UPDATE "
+                                           + tableName
+                                           + " SET "
+                                           + CcddUtilities.removeTrailer(setCommand, ", ")
+                                           + " WHERE OID = "
+                                           + existingOIDs.get(existingIndex)
+                                           + "; ");
+                        }
+                        // No existing rows remain
+                        else
+                        {
+                            // Add the column initiator
+                            insertCommand.append("(");
+
+                            // Step through each column in the row
+                            for (String column : row)
+                            {
+                                // Add the item to the command enclosing it in an appropriate
+                                // delimiter if the item is text
+                                insertCommand.append(delimitText(column) + ", ");
+                            }
+
+                            // Remove the trailing comma and space, then terminate the column
+                            insertCommand = CcddUtilities.removeTrailer(insertCommand, ", ");
+                            insertCommand.append("), ");
+                        }
+                    }
+
+                    // Move to the next existing row
+                    existingIndex++;
+                }
+
+                // Check if any existing rows remain
+                if (existingIndex < existingRows.size())
+                {
+                    // Delete the remaining existing rows
+                    deletedOIDs.addAll(existingOIDs.subList(existingIndex, existingRows.size()));
+                }
+
+                // Check if any existing rows are deleted
+                if (!deletedOIDs.isEmpty())
+                {
+                    // Build the command to delete the rows. The deletions precede the updates and
+                    // insertions
+                    command.insert(0,
+                                   "DELETE FROM "
+                                      + tableName
+                                      + " WHERE OID IN ("
+                                      + CcddUtilities.convertArrayToString(deletedOIDs.toArray(new String[0]))
+                                      + "); ");
+                }
+
+                // Check if any rows are inserted
+                if (insertCommand.length() != 0)
+                {
+                    // Append the insert value command to add the rows, replacing the trailing
+                    // comma and space with a semicolon
+                    command.append("INSERT INTO "
+                                   + tableName
+                                   + " VALUES "
+                                   + CcddUtilities.removeTrailer(insertCommand, ", ")
+                                   + "; ");
+                }
+
+                // Check if a comment is provided
+                if (tableComment != null)
+                {
+                    // Build the command to update the table's comment
+                    command.append("COMMENT ON TABLE "
+                                   + tableName
+                                   + " IS "
+                                   + delimitText(tableComment)
+                                   + "; ");
+                }
+            }
+        }
+        catch (SQLException se)
+        {
+            // Inform the user that loading the internal table failed
+            eventLog.logFailEvent(parent,
+                                  "Cannot load internal table '"
+                                          + tableName
+                                          + "'; cause '"
+                                          + se.getMessage()
+                                          + "'",
+                                  "<html><b>Cannot load internal table '</b>"
+                                                 + tableName
+                                                 + "<b>'");
+            command = null;
+        }
+
+        return command == null
+                               ? null
+                               : command.toString();
+    }
+
+    /**********************************************************************************************
+     * Build the command for replacing the groups, script associations, links table, data fields,
+     * or script. The table is deleted, recreated, and its contents stored
+     *
+     * @param intTable
+     *            type of internal table to store
+     *
+     * @param tableData
+     *            array containing the table data to store
+     *
+     * @param tableComment
+     *            table comment; null if unchanged
+     *
+     * @param parent
+     *            GUI component over which to center any error dialog
+     *
+     * @return Command for building the specified table
+     *********************************************************************************************/
+    private String replaceInfoTableCommand(InternalTable intTable,
+                                           List<String[]> tableData,
+                                           String tableComment,
+                                           Component parent)
     {
         // Get the internal table's name
         String tableName = intTable.getTableName(tableComment);
@@ -6272,6 +7775,13 @@ public class CcddDbTableCommandHandler
                                                   + dbControl.buildOwnerCommand(DatabaseObject.TABLE,
                                                                                 tableName));
 
+        // Check if this is the custom values table
+        if (intTable == InternalTable.VALUES)
+        {
+            // Recreate the index on the parent table path, which is deleted along with the table
+            command.append(dbControl.buildValuesIndexCommand());
+        }
+
         try
         {
             // Check if no comment is provided
@@ -6866,7 +8376,7 @@ public class CcddDbTableCommandHandler
 
                         // Execute the command to reset the rate for links that no longer contain
                         // any variables
-                        dbCommand.executeDbQuery("SELECT reset_link_rate();", parent);
+                        dbCommand.executeDbCommand("SELECT reset_link_rate();", parent);
 
                         // Check if the the deleted type represented a structure
                         if (isStructure)
@@ -8773,12 +10283,8 @@ public class CcddDbTableCommandHandler
                                           dialog);
             }
 
-            // Release the save point. This must be done within a transaction block, so it must be
-            // done prior to the commit below
-            dbCommand.releaseSavePoint(dialog);
-
-            // Commit the change(s) to the database
-            dbControl.getConnection().commit();
+            // Release the save point and commit the change(s) to the database
+            dbCommand.commitSavePoint(dialog);
 
             // Inform the user that the update succeeded
             eventLog.logEvent(SUCCESS_MSG, changeName + " and all affected tables updated");
@@ -9155,12 +10661,8 @@ public class CcddDbTableCommandHandler
                                                                                  dialog),
                                               dialog);
 
-                    // Release the save point. This must be done within a transaction block, so it
-                    // must be done prior to the commit below
-                    dbCommand.releaseSavePoint(dialog);
-
-                    // Commit the change(s) to the database
-                    dbControl.getConnection().commit();
+                    // Release the save point and commit the change(s) to the database
+                    dbCommand.commitSavePoint(dialog);
 
                     // Inform the user that the update succeeded
                     eventLog.logEvent(SUCCESS_MSG,
@@ -29,8 +29,19 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 
 import javax.swing.BorderFactory;
@@ -51,6 +62,7 @@ import CCDD.CcddClassesComponent.ToolTipTreeNode;
 import CCDD.CcddClassesDataTable.ArrayVariable;
 import CCDD.CcddClassesDataTable.FieldInformation;
 import CCDD.CcddClassesDataTable.TableInformation;
+import CCDD.CcddClassesDataTable.TableMembers;
 import CCDD.CcddClassesDataTable.TableModification;
 import CCDD.CcddConstants.DefaultColumn;
 import CCDD.CcddConstants.DefaultInputType;
@@ -64,10 +76,13 @@ import CCDD.CcddConstants.InternalTable.OrdersColumn;
 import CCDD.CcddConstants.InternalTable.TableTypesColumn;
 import CCDD.CcddConstants.InternalTable.TlmSchedulerColumn;
 import CCDD.CcddConstants.InternalTable.ValuesColumn;
+import CCDD.CcddConstants.InternalTable.VerifiedTablesColumn;
 import CCDD.CcddConstants.ModifiableColorInfo;
 import CCDD.CcddConstants.ModifiableFontInfo;
+import CCDD.CcddConstants.ModifiableSizeInfo;
 import CCDD.CcddConstants.ModifiableSpacingInfo;
 import CCDD.CcddConstants.TableCommentIndex;
+import CCDD.CcddConstants.TableMemberType;
 import CCDD.CcddConstants.TableSelectionMode;
 import CCDD.CcddConstants.TableTreeType;
 import CCDD.CcddConstants.VerificationColumnInfo;
@@ -87,7 +102,6 @@ public class CcddDbVerificationHandler
     private final CcddTableTypeHandler tableTypeHandler;
     private final CcddMacroHandler macroHandler;
     private final CcddInputTypeHandler inputTypeHandler;
-    private TypeDefinition typeDefn;
     private CcddJTableHandler updateTable;
     private CcddHaltDialog haltDlg;
 
@@ -99,30 +113,42 @@ public class CcddDbVerificationHandler
     private final List<TableIssue> issues;
     private List<TableChange> tableChanges;
 
-    // Number of remaining array members expected
-    private int membersRemaining;
-
     // Data table column indices
     private final int primaryKeyIndex;
     private final int rowIndex;
-    private int variableNameIndex;
-    private int dataTypeIndex;
-    private int arraySizeIndex;
-
-    // Array member index values
-    private int[] totalArraySize;
-    private int[] currentArrayIndex;
-
-    // Array definition row index
-    private int definitionRow;
-
-    // Flag indicating if changes are to be made to the tables
-    private boolean isChanges;
 
     // Counters used for tracking the total number of selected and selectable issues
     private int selectedColumnCount;
     private int allColumnCount;
 
+    // Internal tables that define the data tables' contents. A change to any of these tables
+    // requires that all of the data tables be verified
+    private static final InternalTable[] DEFINITION_TABLES = new InternalTable[] {InternalTable.TABLE_TYPES,
+                                                                                  InternalTable.DATA_TYPES,
+                                                                                  InternalTable.INPUT_TYPES,
+                                                                                  InternalTable.MACROS,
+                                                                                  InternalTable.ORDERS};
+
+    // Flag indicating if only the tables changed since the last clean verification are verified
+    private final boolean isChangedOnly;
+
+    // Content hash for each data table and table definition internal table, keyed by the
+    // database table name; null until the hashes are needed
+    private Map<String, String> tableHashes;
+
+    // Name and content hash for each table stored at the last clean verification, keyed by the
+    // database table name
+    private Map<String, String[]> verifiedTables;
+
+    // Names of the data tables to verify; null if all data tables are verified
+    private Set<String> changedTables;
+
+    // Names of the data tables in which an issue is detected or that fail to load
+    private final Set<String> issueTables;
+
+    // Flag indicating if an issue is detected by the table type check
+    private boolean isTableTypeIssue;
+
     /**********************************************************************************************
      * Table data storage class. An instance is created for each data table to contain its table
      * information and current cell values
@@ -505,14 +531,89 @@ public class CcddDbVerificationHandler
     }
 
     /**********************************************************************************************
-     * Database verification handler class constructor
+     * Verification phase class. An instance is created for each verification check that is
+     * performed concurrently with the other checks, and contains the issues detected by the check
+     *********************************************************************************************/
+    private abstract class VerificationPhase implements Callable<Void>
+    {
+        // List of issues detected by the check
+        private final List<TableIssue> phaseIssues;
+
+        /******************************************************************************************
+         * Verification phase class constructor
+         *****************************************************************************************/
+        VerificationPhase()
+        {
+            phaseIssues = new ArrayList<TableIssue>();
+        }
+
+        /******************************************************************************************
+         * Get the list of issues detected by the check
+         *
+         * @return List of issues detected by the check
+         *****************************************************************************************/
+        protected List<TableIssue> getIssues()
+        {
+            return phaseIssues;
+        }
+
+        /******************************************************************************************
+         * Perform the check
+         *
+         * @param phaseIssues
+         *            list to which to add the issues detected
+         *****************************************************************************************/
+        protected abstract void verify(List<TableIssue> phaseIssues);
+
+        /******************************************************************************************
+         * Perform the check using the read-only database connections
+         *****************************************************************************************/
+        @Override
+        public Void call()
+        {
+            // Direct this thread's database queries to the read-only connections
+            dbCommand.setReaderMode(true);
+
+            try
+            {
+                verify(phaseIssues);
+            }
+            finally
+            {
+                dbCommand.setReaderMode(false);
+            }
+
+            return null;
+        }
+    }
+
+    /**********************************************************************************************
+     * Database verification handler class constructor. All of the tables are verified
      *
      * @param ccddMain
      *            main class
      *********************************************************************************************/
     CcddDbVerificationHandler(CcddMain ccddMain)
+    {
+        this(ccddMain, false);
+    }
+
+    /**********************************************************************************************
+     * Database verification handler class constructor
+     *
+     * @param ccddMain
+     *            main class
+     *
+     * @param isChangedOnly
+     *            true to verify only the data tables changed since the last clean verification
+     *            (and the tables that reference these); false to verify all of the tables. All of
+     *            the tables are verified if the table definitions changed or no clean verification
+     *            has been recorded
+     *********************************************************************************************/
+    CcddDbVerificationHandler(CcddMain ccddMain, boolean isChangedOnly)
     {
         this.ccddMain = ccddMain;
+        this.isChangedOnly = isChangedOnly;
 
         // Create references to shorten subsequent calls
         dbControl = ccddMain.getDbControlHandler();
@@ -527,8 +628,10 @@ public class CcddDbVerificationHandler
         primaryKeyIndex = DefaultColumn.PRIMARY_KEY.ordinal();
         rowIndex = DefaultColumn.ROW_INDEX.ordinal();
 
-        // Initialize the database issues list
-        issues = new ArrayList<TableIssue>();
+        // Initialize the database issues list. The list is synchronized since the issues are
+        // detected by multiple threads
+        issues = Collections.synchronizedList(new ArrayList<TableIssue>());
+        issueTables = new HashSet<String>();
 
         // Execute the consistency check
         verifyDatabase();
@@ -556,23 +659,25 @@ public class CcddDbVerificationHandler
                                              "Verification in progress",
                                              "verification",
                                              100,
-                                             8,
+                                             4,
                                              ccddMain.getMainFrame());
 
-                // Set flags indicating no changes are pending, no inconsistencies exist, and the
-                // user hasn't canceled the check
-                isChanges = false;
-
                 try
                 {
                     // Get the comments for all data tables
                     comments = dbTable.queryDataTableComments(ccddMain.getMainFrame());
 
-                    // Get metadata for all tables
-                    ResultSet tableResult = dbControl.getConnection().getMetaData().getTables(null,
-                                                                                              null,
-                                                                                              null,
-                                                                                              new String[] {"TABLE"});
+                    // Check if only the tables changed since the last clean verification are to
+                    // be verified
+                    if (isChangedOnly)
+                    {
+                        // Get the tables stored at the last clean verification and the current
+                        // content hash for each data table and table definition internal table,
+                        // then the names of the data tables to verify
+                        verifiedTables = getVerifiedTables();
+                        tableHashes = getTableHashes();
+                        changedTables = getChangedTables();
+                    }
 
                     // Check if verification isn't canceled
                     if (!haltDlg.isHalted())
@@ -589,69 +694,23 @@ public class CcddDbVerificationHandler
                         if (!haltDlg.isHalted())
                         {
                             // Update the progress bar
-                            haltDlg.updateProgressBar("Verify internal tables",
+                            haltDlg.updateProgressBar("Verify internal tables, references, and types",
                                                       haltDlg.getNumDivisionPerStep() * 2);
 
-                            // Check for inconsistencies in the internal tables
-                            verifyInternalTables(tableResult);
+                            // Check for inconsistencies in the internal tables, the table and
+                            // variable path references, the input types, the data field
+                            // inheritance, and the table types
+                            verifyTablesConcurrently();
 
                             // Check if verification isn't canceled
                             if (!haltDlg.isHalted())
                             {
                                 // Update the progress bar
-                                haltDlg.updateProgressBar("Verify path references",
+                                haltDlg.updateProgressBar("Verify data tables",
                                                           haltDlg.getNumDivisionPerStep() * 3);
 
-                                // Verify the table and variable path references in the internal
-                                // tables
-                                verifyPathReferences(tableResult);
-
-                                // Check if verification isn't canceled
-                                if (!haltDlg.isHalted())
-                                {
-                                    // Update the progress bar
-                                    haltDlg.updateProgressBar("Verify input types",
-                                                              haltDlg.getNumDivisionPerStep() * 4);
-
-                                    // Verify the input types in the table types and data fields
-                                    // internal tables
-                                    verifyInputTypes(tableResult);
-
-                                    // Check if verification isn't canceled
-                                    if (!haltDlg.isHalted())
-                                    {
-                                        // Update the progress bar
-                                        haltDlg.updateProgressBar("Verify data field inheritance",
-                                                                  haltDlg.getNumDivisionPerStep() * 5);
-
-                                        // Verify that all default data fields are inherited by the
-                                        // affected tables
-                                        verifyDataFieldInheritance();
-
-                                        // Check if verification isn't canceled
-                                        if (!haltDlg.isHalted())
-                                        {
-                                            // Update the progress bar
-                                            haltDlg.updateProgressBar("Verify table types",
-                                                                      haltDlg.getNumDivisionPerStep() * 6);
-
-                                            // Check for inconsistencies between the table type
-                                            // definitions and the tables of that type
-                                            verifyTableTypes(tableResult);
-
-                                            // Check if verification isn't canceled
-                                            if (!haltDlg.isHalted())
-                                            {
-                                                // Update the progress bar
-                                                haltDlg.updateProgressBar("Verify data tables",
-                                                                          haltDlg.getNumDivisionPerStep() * 7);
-
-                                                // Check for inconsistencies within the data tables
-                                                verifyDataTables();
-                                            }
-                                        }
-                                    }
-                                }
+                                // Check for inconsistencies within the data tables
+                                verifyDataTables();
                             }
                         }
                     }
@@ -712,6 +771,523 @@ public class CcddDbVerificationHandler
      *            not change the initial value
      *********************************************************************************************/
 
+    /**********************************************************************************************
+     * Check the internal tables, table and variable path references, input types, data field
+     * inheritance, and table types. These checks are independent of one another so they are
+     * performed concurrently, with their database queries made using the read-only connections.
+     * The issues detected by each check are added to the issues list in the same order as if the
+     * checks were performed one after another
+     *
+     * @throws SQLException
+     *             If an error occurs obtaining the table metadata
+     *
+     * @throws InterruptedException
+     *             If a check is interrupted
+     *
+     * @throws ExecutionException
+     *             If a check fails
+     *********************************************************************************************/
+    private void verifyTablesConcurrently() throws SQLException,
+                                                   InterruptedException,
+                                                   ExecutionException
+    {
+        // Get the metadata for all tables for each check that steps through the tables. Each
+        // check uses its own result set so that the checks don't alter each other's position in
+        // the result set
+        final ResultSet internalResult = getTableMetadata();
+        final ResultSet referenceResult = getTableMetadata();
+        final ResultSet inputTypeResult = getTableMetadata();
+        final ResultSet tableTypeResult = getTableMetadata();
+
+        // Initialize the progress bar within-step total to the total number of rows stepped
+        // through by the checks that use the result sets
+        internalResult.last();
+        haltDlg.setItemsPerStep(internalResult.getRow() * 4);
+
+        // Create the list of checks, in the order in which the detected issues are listed
+        List<VerificationPhase> phases = new ArrayList<VerificationPhase>();
+
+        // Check for inconsistencies in the internal tables
+        phases.add(new VerificationPhase()
+        {
+            /**************************************************************************************
+             * Verify the internal tables
+             *************************************************************************************/
+            @Override
+            protected void verify(List<TableIssue> phaseIssues)
+            {
+                verifyInternalTables(internalResult, phaseIssues);
+            }
+        });
+
+        // Verify the table and variable path references in the internal tables
+        phases.add(new VerificationPhase()
+        {
+            /**************************************************************************************
+             * Verify the path references
+             *************************************************************************************/
+            @Override
+            protected void verify(List<TableIssue> phaseIssues)
+            {
+                verifyPathReferences(referenceResult, phaseIssues);
+            }
+        });
+
+        // Verify the input types in the table types and data fields internal tables
+        phases.add(new VerificationPhase()
+        {
+            /**************************************************************************************
+             * Verify the input types
+             *************************************************************************************/
+            @Override
+            protected void verify(List<TableIssue> phaseIssues)
+            {
+                verifyInputTypes(inputTypeResult, phaseIssues);
+            }
+        });
+
+        // Verify that all default data fields are inherited by the affected tables
+        phases.add(new VerificationPhase()
+        {
+            /**************************************************************************************
+             * Verify the data field inheritance
+             *************************************************************************************/
+            @Override
+            protected void verify(List<TableIssue> phaseIssues)
+            {
+                verifyDataFieldInheritance(phaseIssues);
+            }
+        });
+
+        // Check for inconsistencies between the table type definitions and the tables of that
+        // type
+        VerificationPhase tableTypePhase = new VerificationPhase()
+        {
+            /**************************************************************************************
+             * Verify the table types
+             *************************************************************************************/
+            @Override
+            protected void verify(List<TableIssue> phaseIssues)
+            {
+                verifyTableTypes(tableTypeResult, phaseIssues);
+            }
+        };
+        phases.add(tableTypePhase);
+
+        // Create a pool to perform the checks. The number of threads matches the number of
+        // read-only database connections
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1,
+                                                      Math.min(phases.size(),
+                                                               ModifiableSizeInfo.READER_CONNECTIONS.getSize())));
+
+        try
+        {
+            // Step through each check, waiting for it to complete
+            for (Future<Void> future : pool.invokeAll(phases))
+            {
+                future.get();
+            }
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+
+        // Step through each check
+        for (VerificationPhase phase : phases)
+        {
+            // Add the issues detected by the check to the list
+            issues.addAll(phase.getIssues());
+        }
+
+        // Set the flag if the table type check detected an issue
+        isTableTypeIssue = !tableTypePhase.getIssues().isEmpty();
+    }
+
+    /**********************************************************************************************
+     * Get the metadata for all tables in the project database
+     *
+     * @return Metadata for all tables
+     *
+     * @throws SQLException
+     *             If an error occurs obtaining the table metadata
+     *********************************************************************************************/
+    private ResultSet getTableMetadata() throws SQLException
+    {
+        return dbControl.getConnection().getMetaData().getTables(null,
+                                                                 null,
+                                                                 null,
+                                                                 new String[] {"TABLE"});
+    }
+
+    /**********************************************************************************************
+     * Get the tables stored at the last clean verification
+     *
+     * @return Map containing the name and content hash for each table stored at the last clean
+     *         verification, keyed by the database table name
+     *********************************************************************************************/
+    private Map<String, String[]> getVerifiedTables()
+    {
+        Map<String, String[]> verified = new HashMap<String, String[]>();
+
+        // Step through each table stored at the last clean verification
+        for (String[] verifiedTable : dbTable.retrieveInformationTable(InternalTable.VERIFIED_TABLES,
+                                                                       false,
+                                                                       ccddMain.getMainFrame()))
+        {
+            // Store the table's information, keyed by the table name
+            verified.put(verifiedTable[VerifiedTablesColumn.TABLE_NAME.ordinal()], verifiedTable);
+        }
+
+        return verified;
+    }
+
+    /**********************************************************************************************
+     * Get the content hash for each data table and for each internal table that defines the data
+     * tables' contents. The hashes are computed by the database from the table comment and the
+     * table rows
+     *
+     * @return Map containing the content hash for each table, keyed by the database table name
+     *
+     * @throws SQLException
+     *             If an error occurs obtaining the table metadata or the hashes
+     *********************************************************************************************/
+    private Map<String, String> getTableHashes() throws SQLException
+    {
+        Map<String, String> hashes = new TreeMap<String, String>();
+        List<String> dbTableNames = new ArrayList<String>();
+
+        // Step through each internal table that defines the data tables' contents
+        for (InternalTable intTable : DEFINITION_TABLES)
+        {
+            // Add the internal table's name to the list of tables to hash
+            dbTableNames.add(intTable.getTableName());
+        }
+
+        // Get the metadata for all tables
+        ResultSet tableResult = getTableMetadata();
+
+        // Step through each database table
+        while (tableResult.next())
+        {
+            // Get the table name
+            String dbTableName = tableResult.getString("TABLE_NAME");
+
+            // Check if this is a data table
+            if (!dbTableName.startsWith(INTERNAL_TABLE_PREFIX))
+            {
+                // Add the data table's name to the list of tables to hash
+                dbTableNames.add(dbTableName);
+            }
+        }
+
+        tableResult.close();
+
+        // Step through the tables, hashing as many at a time as are loaded in bulk
+        for (int start = 0;
+             start < dbTableNames.size();
+             start += ModifiableSizeInfo.MAX_BULK_LOAD_TABLES.getSize())
+        {
+            String command = "";
+
+            // Step through each table in this group
+            for (String dbTableName : dbTableNames.subList(start,
+                                                           Math.min(dbTableNames.size(),
+                                                                    start + ModifiableSizeInfo.MAX_BULK_LOAD_TABLES.getSize())))
+            {
+                // Add the query for the hash of the table's comment and rows. The rows are
+                // ordered by their contents so that the hash doesn't depend on the storage order
+                command += (command.isEmpty()
+                                              ? "SELECT '"
+                                              : " UNION ALL SELECT '")
+                           + dbTableName
+                           + "', md5(coalesce(obj_description('public."
+                           + dbTableName
+                           + "'::regclass, 'pg_class'), '') || coalesce(string_agg(t::text, "
+                           + "E'\\n' ORDER BY t::text), '')) FROM "
+                           + dbTableName
+                           + " AS t";
+            }
+
+            // Get the hashes for the tables in this group
+            ResultSet hashResult = dbCommand.executeDbQuery(command + ";",
+                                                            ccddMain.getMainFrame());
+
+            // Step through each table's hash
+            while (hashResult.next())
+            {
+                // Store the table's hash
+                hashes.put(hashResult.getString(1), hashResult.getString(2));
+            }
+
+            hashResult.close();
+        }
+
+        return hashes;
+    }
+
+    /**********************************************************************************************
+     * Get the names of the data tables changed since the last clean verification. A table is
+     * changed if it's new or its content hash differs from the one stored at the last clean
+     * verification. The tables that have a changed or deleted table as a member, directly or via
+     * other member tables, are included since their data type references depend on the member
+     * table
+     *
+     * @return Set containing the names of the data tables to verify; null if all of the data
+     *         tables must be verified since the table definitions changed or no clean verification
+     *         has been recorded
+     *********************************************************************************************/
+    private Set<String> getChangedTables()
+    {
+        Set<String> changed = null;
+        Map<String, String> verifiedHashes = new HashMap<String, String>();
+
+        // Step through each table stored at the last clean verification
+        for (String[] verifiedTable : verifiedTables.values())
+        {
+            // Store the table's hash at the last clean verification
+            verifiedHashes.put(verifiedTable[VerifiedTablesColumn.TABLE_NAME.ordinal()],
+                               verifiedTable[VerifiedTablesColumn.TABLE_HASH.ordinal()]);
+        }
+
+        // Set the flag if no clean verification is recorded
+        boolean isDefinitionChanged = verifiedHashes.isEmpty();
+
+        // Step through each internal table that defines the data tables' contents
+        for (InternalTable intTable : DEFINITION_TABLES)
+        {
+            // Get the internal table's current hash
+            String hash = tableHashes.get(intTable.getTableName());
+
+            // Check if the internal table changed since the last clean verification
+            if (hash == null || !hash.equals(verifiedHashes.get(intTable.getTableName())))
+            {
+                // Set the flag to indicate the table definitions changed
+                isDefinitionChanged = true;
+            }
+        }
+
+        // Check if the table definitions are unchanged since the last clean verification
+        if (!isDefinitionChanged)
+        {
+            changed = new HashSet<String>();
+
+            // Step through each table's current hash
+            for (Entry<String, String> tableHash : tableHashes.entrySet())
+            {
+                // Check if this is a data table that is new or changed since the last clean
+                // verification
+                if (!tableHash.getKey().startsWith(INTERNAL_TABLE_PREFIX)
+                    && !tableHash.getValue().equals(verifiedHashes.get(tableHash.getKey())))
+                {
+                    // Add the table to the list of those to verify
+                    changed.add(tableHash.getKey());
+                }
+            }
+
+            // Step through each table stored at the last clean verification
+            for (String dbTableName : verifiedHashes.keySet())
+            {
+                // Check if the table has since been deleted
+                if (!tableHashes.containsKey(dbTableName))
+                {
+                    // Add the table to the list so that the tables referencing it are verified
+                    changed.add(dbTableName);
+                }
+            }
+
+            // Get the tables that have a table as a member
+            List<TableMembers> tableMembers = dbTable.loadTableMembers(TableMemberType.TABLES_ONLY,
+                                                                       false,
+                                                                       ccddMain.getMainFrame());
+            boolean isAdded;
+
+            do
+            {
+                isAdded = false;
+
+                // Step through each table that has a table as a member
+                for (TableMembers member : tableMembers)
+                {
+                    String tableName = member.getTableName().toLowerCase();
+
+                    // Check if the table isn't already in the list of those to verify
+                    if (!changed.contains(tableName))
+                    {
+                        // Step through each of the table's member data types
+                        for (String dataType : member.getDataTypes())
+                        {
+                            // Check if the member table is changed
+                            if (changed.contains(dataType.toLowerCase()))
+                            {
+                                // Add the table to the list of those to verify, and repeat the
+                                // search since the tables that have this table as a member must
+                                // also be verified
+                                changed.add(tableName);
+                                isAdded = true;
+                                break;
+                            }
+                        }
+                    }
+                }
+            } while (isAdded);
+
+            // Inform the user of the number of tables to verify
+            eventLog.logEvent(STATUS_MSG,
+                              "Verifying "
+                                          + changed.size()
+                                          + " data table(s) changed since the last clean verification");
+        }
+        // The table definitions changed or no clean verification is recorded
+        else
+        {
+            // Inform the user that all of the data tables are verified
+            eventLog.logEvent(STATUS_MSG,
+                              "No clean verification is recorded for the current table "
+                                          + "definitions; verifying all data tables");
+        }
+
+        return changed;
+    }
+
+    /**********************************************************************************************
+     * Check if the specified data table is to be verified
+     *
+     * @param tableName
+     *            data table name
+     *
+     * @return true if all data tables are verified or if the table changed since the last clean
+     *         verification
+     *********************************************************************************************/
+    private boolean isTableToVerify(String tableName)
+    {
+        return changedTables == null || changedTables.contains(tableName.toLowerCase());
+    }
+
+    /**********************************************************************************************
+     * Store the content hashes of the tables that verified without issue once any corrections
+     * authorized by the user are made. The hashes for the internal tables that define the data
+     * tables' contents are included so that a later check of the changed tables can detect a
+     * change to the table definitions. When all of the data tables are verified the hashes are
+     * stored only if no issues are detected, and are computed at that time. Nothing is stored if
+     * the table type check detected an issue, or if the user doesn't have write access to the
+     * project database
+     *
+     * @param fixedTables
+     *            names of the tables altered by the corrections made
+     *********************************************************************************************/
+    private void storeVerifiedTableHashes(final Set<String> fixedTables)
+    {
+        // Check if the table type check detected no issues, the user can update the database,
+        // and either only the changed tables were verified or no issues were detected
+        if (!isTableTypeIssue
+            && dbControl.isAccessReadWrite()
+            && (isChangedOnly || issues.isEmpty()))
+        {
+            // Store the hashes in a separate thread since computing them reads the table rows
+            CcddBackgroundCommand.executeInBackground(ccddMain, new BackgroundCommand()
+            {
+                /**********************************************************************************
+                 * Store the verified table hashes
+                 *********************************************************************************/
+                @Override
+                protected void execute()
+                {
+                    try
+                    {
+                        // Check if the hashes weren't computed prior to verification
+                        if (tableHashes == null)
+                        {
+                            // Get the content hash for each data table and table definition
+                            // internal table
+                            tableHashes = getTableHashes();
+                        }
+
+                        List<String[]> verifiedList = new ArrayList<String[]>();
+
+                        // Step through each table's hash
+                        for (Entry<String, String> tableHash : tableHashes.entrySet())
+                        {
+                            // Check if no issue is detected in the table and no correction
+                            // altered it
+                            if (!issueTables.contains(tableHash.getKey())
+                                && !fixedTables.contains(tableHash.getKey()))
+                            {
+                                // Add the table and its hash to the list
+                                verifiedList.add(new String[] {tableHash.getKey(),
+                                                               tableHash.getValue()});
+                            }
+                        }
+
+                        // Store the verified table hashes
+                        dbTable.storeInformationTable(InternalTable.VERIFIED_TABLES,
+                                                      verifiedList,
+                                                      null,
+                                                      ccddMain.getMainFrame());
+                    }
+                    catch (SQLException se)
+                    {
+                        // Inform the user that computing the table hashes failed
+                        eventLog.logFailEvent(ccddMain.getMainFrame(),
+                                              "Cannot store verified table hashes; cause '"
+                                                                       + se.getMessage()
+                                                                       + "'",
+                                              "<html><b>Cannot store verified table hashes");
+                    }
+                }
+            });
+        }
+    }
+
+    /**********************************************************************************************
+     * Get the names of the tables altered by a correction. A correction to a data table's cell
+     * values alters the data table, and may alter the internal tables that define the data
+     * tables' contents. A correction made by a PostgreSQL command alters each hashed table named
+     * in the command
+     *
+     * @param issue
+     *            table issue flagged to be fixed
+     *
+     * @param fixedTables
+     *            set to which the names of the altered tables are added
+     *********************************************************************************************/
+    private void addFixedTables(TableIssue issue, Set<String> fixedTables)
+    {
+        // Check if the issue changes a data table's cell values
+        if (issue.getRow() != -1 && issue.getTableInformation() != null)
+        {
+            // Add the data table to the list
+            fixedTables.add(issue.getTableInformation().getPrototypeName().toLowerCase());
+
+            // Step through each internal table that defines the data tables' contents
+            for (InternalTable intTable : DEFINITION_TABLES)
+            {
+                // Add the internal table to the list since modifying the data table can update
+                // it as well
+                fixedTables.add(intTable.getTableName());
+            }
+        }
+
+        // Check if the issue is corrected by a command and the table hashes are computed
+        if (issue.getCommand() != null && tableHashes != null)
+        {
+            String command = issue.getCommand().toLowerCase();
+
+            // Step through each hashed table
+            for (String dbTableName : tableHashes.keySet())
+            {
+                // Check if the command references the table
+                if (Pattern.compile("\\b" + Pattern.quote(dbTableName) + "\\b")
+                           .matcher(command)
+                           .find())
+                {
+                    // Add the table to the list
+                    fixedTables.add(dbTableName);
+                }
+            }
+        }
+    }
+
     /**********************************************************************************************
      * Check that the owner role matches for the project database and its tables, sequences,
      * indices, and functions. A database administrator is required in order to alter the owner
@@ -856,18 +1432,16 @@ public class CcddDbVerificationHandler
      *
      * @param tableResult
      *            metadata for all tables
+     *
+     * @param phaseIssues
+     *            list to which to add the issues detected
      *********************************************************************************************/
-    private void verifyInternalTables(ResultSet tableResult)
+    private void verifyInternalTables(ResultSet tableResult, List<TableIssue> phaseIssues)
     {
         String dbTableName = "";
 
         try
         {
-            // Initialize the progress bar within-step total to the total number of rows in the
-            // result set
-            tableResult.last();
-            haltDlg.setItemsPerStep(tableResult.getRow());
-
             // Start before the first row in the result set
             tableResult.beforeFirst();
 
@@ -913,15 +1487,15 @@ public class CcddDbVerificationHandler
                             if (columnResult.getRow() < intTable.getNumColumns())
                             {
                                 // Table has too few columns
-                                issues.add(new TableIssue("Internal table '"
-                                                          + dbTableName
-                                                          + "' is missing one or more columns",
-                                                          "Delete table",
-                                                          "DROP TABLE "
-                                                                          + dbTableName
-                                                                          + "; "
-                                                                          + dbControl.buildInformationTableCommand(intTable)
-                                                                          + " "));
+                                phaseIssues.add(new TableIssue("Internal table '"
+                                                               + dbTableName
+                                                               + "' is missing one or more columns",
+                                                               "Delete table",
+                                                               "DROP TABLE "
+                                                                               + dbTableName
+                                                                               + "; "
+                                                                               + dbControl.buildInformationTableCommand(intTable)
+                                                                               + " "));
                             }
                             // The number of columns is correct
                             else
@@ -944,15 +1518,15 @@ public class CcddDbVerificationHandler
                                     if (columnIndex == intTable.getNumColumns())
                                     {
                                         // Table has too many columns
-                                        issues.add(new TableIssue("Internal table '"
-                                                                  + dbTableName
-                                                                  + "' has too many columns",
-                                                                  "Delete extra column(s)",
-                                                                  "ALTER TABLE "
-                                                                                            + dbTableName
-                                                                                            + " DROP COLUMN "
-                                                                                            + columnResult.getString("COLUMN_NAME")
-                                                                                            + "; "));
+                                        phaseIssues.add(new TableIssue("Internal table '"
+                                                                       + dbTableName
+                                                                       + "' has too many columns",
+                                                                       "Delete extra column(s)",
+                                                                       "ALTER TABLE "
+                                                                                                 + dbTableName
+                                                                                                 + " DROP COLUMN "
+                                                                                                 + columnResult.getString("COLUMN_NAME")
+                                                                                                 + "; "));
 
                                         // Stop checking this table
                                         break;
@@ -969,23 +1543,23 @@ public class CcddDbVerificationHandler
                                     if (!columnName.equals(expectedName))
                                     {
                                         // Column name is unknown
-                                        issues.add(new TableIssue("Internal table '"
-                                                                  + dbTableName
-                                                                  + "' column "
-                                                                  + columnIndex
-                                                                  + " name mismatch (expected: '"
-                                                                  + expectedName
-                                                                  + "', actual: '"
-                                                                  + columnName
-                                                                  + "')",
-                                                                  "Rename column",
-                                                                  "ALTER TABLE "
-                                                                                   + dbTableName
-                                                                                   + " RENAME COLUMN "
-                                                                                   + columnName
-                                                                                   + " TO "
-                                                                                   + expectedName
-                                                                                   + "; "));
+                                        phaseIssues.add(new TableIssue("Internal table '"
+                                                                       + dbTableName
+                                                                       + "' column "
+                                                                       + columnIndex
+                                                                       + " name mismatch (expected: '"
+                                                                       + expectedName
+                                                                       + "', actual: '"
+                                                                       + columnName
+                                                                       + "')",
+                                                                       "Rename column",
+                                                                       "ALTER TABLE "
+                                                                                        + dbTableName
+                                                                                        + " RENAME COLUMN "
+                                                                                        + columnName
+                                                                                        + " TO "
+                                                                                        + expectedName
+                                                                                        + "; "));
                                     }
 
                                     // Check if the data type of the column in the database matches
@@ -995,33 +1569,46 @@ public class CcddDbVerificationHandler
                                     if (!columnType.startsWith(expectedType.substring(0, 3)))
                                     {
                                         // Column's type is incorrect
-                                        issues.add(new TableIssue("Internal table '"
-                                                                  + dbTableName
-                                                                  + "' column '"
-                                                                  + columnName
-                                                                  + "' data type mismatch (expected: '"
-                                                                  + expectedType
-                                                                  + "', actual: '"
-                                                                  + columnType
-                                                                  + "')",
-                                                                  "Modify table type",
-                                                                  "ALTER TABLE "
-                                                                                       + dbTableName
-                                                                                       + " ALTER COLUMN "
-                                                                                       + columnName
-                                                                                       + " TYPE "
-                                                                                       + expectedType
-                                                                                       + " USING "
-                                                                                       + columnName
-                                                                                       + "::"
-                                                                                       + expectedType
-                                                                                       + "; "));
+                                        phaseIssues.add(new TableIssue("Internal table '"
+                                                                       + dbTableName
+                                                                       + "' column '"
+                                                                       + columnName
+                                                                       + "' data type mismatch (expected: '"
+                                                                       + expectedType
+                                                                       + "', actual: '"
+                                                                       + columnType
+                                                                       + "')",
+                                                                       "Modify table type",
+                                                                       "ALTER TABLE "
+                                                                                            + dbTableName
+                                                                                            + " ALTER COLUMN "
+                                                                                            + columnName
+                                                                                            + " TYPE "
+                                                                                            + expectedType
+                                                                                            + " USING "
+                                                                                            + columnName
+                                                                                            + "::"
+                                                                                            + expectedType
+                                                                                            + "; "));
                                     }
 
                                     columnIndex++;
                                 }
                             }
 
+                            // Check if this is the custom values table and its parent table path
+                            // index is missing
+                            if (intTable == InternalTable.VALUES
+                                && !dbControl.isValuesIndexExists(ccddMain.getMainFrame()))
+                            {
+                                // Table index is missing
+                                phaseIssues.add(new TableIssue("Internal table '"
+                                                               + dbTableName
+                                                               + "' is missing the parent table path index",
+                                                               "Create index",
+                                                               dbControl.buildValuesIndexCommand()));
+                            }
+
                             isFound = true;
                         }
                     }
@@ -1030,11 +1617,11 @@ public class CcddDbVerificationHandler
                     if (!isFound)
                     {
                         // Internal table name doesn't match one of the expected ones
-                        issues.add(new TableIssue("Unknown internal table '"
-                                                  + dbTableName
-                                                  + "'",
-                                                  "Delete table",
-                                                  "DROP TABLE " + dbTableName + "; "));
+                        phaseIssues.add(new TableIssue("Unknown internal table '"
+                                                       + dbTableName
+                                                       + "'",
+                                                       "Delete table",
+                                                       "DROP TABLE " + dbTableName + "; "));
                     }
                 }
 
@@ -1063,18 +1650,16 @@ public class CcddDbVerificationHandler
      *
      * @param tableResult
      *            metadata for all tables
+     *
+     * @param phaseIssues
+     *            list to which to add the issues detected
      *********************************************************************************************/
-    private void verifyInputTypes(ResultSet tableResult)
+    private void verifyInputTypes(ResultSet tableResult, List<TableIssue> phaseIssues)
     {
         String dbTableName = "";
 
         try
         {
-            // Initialize the progress bar within-step total to the total number of rows in the
-            // result set
-            tableResult.last();
-            haltDlg.setItemsPerStep(tableResult.getRow());
-
             // Start before the first row in the result set
             tableResult.beforeFirst();
 
@@ -1123,25 +1708,25 @@ public class CcddDbVerificationHandler
                         if (!inputTypeHandler.isInputTypeValid(inputType[0]))
                         {
                             // Invalid input type
-                            issues.add(new TableIssue("Internal table '"
-                                                      + dbTableName
-                                                      + "' references an invalid input type, '"
-                                                      + inputType[0]
-                                                      + "'",
-                                                      "Replace input type with '"
-                                                             + DefaultInputType.TEXT.getInputName()
-                                                             + "'",
-                                                      "UPDATE "
-                                                                    + dbTableName
-                                                                    + " SET "
-                                                                    + columnName
-                                                                    + " = '"
-                                                                    + DefaultInputType.TEXT.getInputName()
-                                                                    + "' WHERE "
-                                                                    + columnName
-                                                                    + " = '"
-                                                                    + inputType[0]
-                                                                    + "';"));
+                            phaseIssues.add(new TableIssue("Internal table '"
+                                                           + dbTableName
+                                                           + "' references an invalid input type, '"
+                                                           + inputType[0]
+                                                           + "'",
+                                                           "Replace input type with '"
+                                                                  + DefaultInputType.TEXT.getInputName()
+                                                                  + "'",
+                                                           "UPDATE "
+                                                                         + dbTableName
+                                                                         + " SET "
+                                                                         + columnName
+                                                                         + " = '"
+                                                                         + DefaultInputType.TEXT.getInputName()
+                                                                         + "' WHERE "
+                                                                         + columnName
+                                                                         + " = '"
+                                                                         + inputType[0]
+                                                                         + "';"));
                         }
                     }
                 }
@@ -1171,8 +1756,11 @@ public class CcddDbVerificationHandler
      *
      * @param tableResult
      *            metadata for all tables
+     *
+     * @param phaseIssues
+     *            list to which to add the issues detected
      *********************************************************************************************/
-    private void verifyPathReferences(ResultSet tableResult)
+    private void verifyPathReferences(ResultSet tableResult, List<TableIssue> phaseIssues)
     {
         String dbTableName = "";
 
@@ -1195,11 +1783,6 @@ public class CcddDbVerificationHandler
             // logging multiple issues for the same table/variable in the same internal table
             List<String> badRefs = new ArrayList<String>();
 
-            // Initialize the progress bar within-step total to the total number of rows in the
-            // result set
-            tableResult.last();
-            haltDlg.setItemsPerStep(tableResult.getRow());
-
             // Start before the first row in the result set
             tableResult.beforeFirst();
 
@@ -1246,25 +1829,25 @@ public class CcddDbVerificationHandler
                                     if (!groupNames.contains(groupName))
                                     {
                                         // Association table reference is invalid
-                                        issues.add(new TableIssue("Internal table '"
-                                                                  + dbTableName
-                                                                  + "' references a non-existent group, '"
-                                                                  + groupName
-                                                                  + "', associated with script '"
-                                                                  + member[1]
-                                                                  + "'",
-                                                                  "Delete script association",
-                                                                  "DELETE FROM "
-                                                                                               + dbTableName
-                                                                                               + " WHERE "
-                                                                                               + AssociationsColumn.SCRIPT_FILE.getColumnName()
-                                                                                               + " = "
-                                                                                               + CcddDbTableCommandHandler.delimitText(member[1])
-                                                                                               + " AND "
-                                                                                               + AssociationsColumn.MEMBERS.getColumnName()
-                                                                                               + " = "
-                                                                                               + CcddDbTableCommandHandler.delimitText(member[0])
-                                                                                               + "; "));
+                                        phaseIssues.add(new TableIssue("Internal table '"
+                                                                       + dbTableName
+                                                                       + "' references a non-existent group, '"
+                                                                       + groupName
+                                                                       + "', associated with script '"
+                                                                       + member[1]
+                                                                       + "'",
+                                                                       "Delete script association",
+                                                                       "DELETE FROM "
+                                                                                                    + dbTableName
+                                                                                                    + " WHERE "
+                                                                                                    + AssociationsColumn.SCRIPT_FILE.getColumnName()
+                                                                                                    + " = "
+                                                                                                    + CcddDbTableCommandHandler.delimitText(member[1])
+                                                                                                    + " AND "
+                                                                                                    + AssociationsColumn.MEMBERS.getColumnName()
+                                                                                                    + " = "
+                                                                                                    + CcddDbTableCommandHandler.delimitText(member[0])
+                                                                                                    + "; "));
 
                                         // Skip any other invalid references in this association;
                                         // this prevents allowing the user to select removal of the
@@ -1276,25 +1859,25 @@ public class CcddDbVerificationHandler
                                 else if (!allTableAndVariableList.contains(table))
                                 {
                                     // Association table reference is invalid
-                                    issues.add(new TableIssue("Internal table '"
-                                                              + dbTableName
-                                                              + "' references a non-existent table, '"
-                                                              + table
-                                                              + "', associated with script '"
-                                                              + member[1]
-                                                              + "'",
-                                                              "Delete script association",
-                                                              "DELETE FROM "
-                                                                                           + dbTableName
-                                                                                           + " WHERE "
-                                                                                           + AssociationsColumn.SCRIPT_FILE.getColumnName()
-                                                                                           + " = "
-                                                                                           + CcddDbTableCommandHandler.delimitText(member[1])
-                                                                                           + " AND "
-                                                                                           + AssociationsColumn.MEMBERS.getColumnName()
-                                                                                           + " = "
-                                                                                           + CcddDbTableCommandHandler.delimitText(member[0])
-                                                                                           + "; "));
+                                    phaseIssues.add(new TableIssue("Internal table '"
+                                                                   + dbTableName
+                                                                   + "' references a non-existent table, '"
+                                                                   + table
+                                                                   + "', associated with script '"
+                                                                   + member[1]
+                                                                   + "'",
+                                                                   "Delete script association",
+                                                                   "DELETE FROM "
+                                                                                                + dbTableName
+                                                                                                + " WHERE "
+                                                                                                + AssociationsColumn.SCRIPT_FILE.getColumnName()
+                                                                                                + " = "
+                                                                                                + CcddDbTableCommandHandler.delimitText(member[1])
+                                                                                                + " AND "
+                                                                                                + AssociationsColumn.MEMBERS.getColumnName()
+                                                                                                + " = "
+                                                                                                + CcddDbTableCommandHandler.delimitText(member[0])
+                                                                                                + "; "));
 
                                     // Skip any other invalid references in this association; this
                                     // prevents allowing the user to select removal of the same
@@ -1330,19 +1913,19 @@ public class CcddDbVerificationHandler
                             && !allTableAndVariableList.contains(member[0]))
                         {
                             // Data field table owner reference is invalid
-                            issues.add(new TableIssue("Internal table '"
-                                                      + dbTableName
-                                                      + "' references a non-existent table, '"
-                                                      + member[0]
-                                                      + "'",
-                                                      "Delete table's data field(s)",
-                                                      "DELETE FROM "
-                                                                                      + dbTableName
-                                                                                      + " WHERE "
-                                                                                      + FieldsColumn.OWNER_NAME.getColumnName()
-                                                                                      + " = "
-                                                                                      + CcddDbTableCommandHandler.delimitText(member[0])
-                                                                                      + "; "));
+                            phaseIssues.add(new TableIssue("Internal table '"
+                                                           + dbTableName
+                                                           + "' references a non-existent table, '"
+                                                           + member[0]
+                                                           + "'",
+                                                           "Delete table's data field(s)",
+                                                           "DELETE FROM "
+                                                                                           + dbTableName
+                                                                                           + " WHERE "
+                                                                                           + FieldsColumn.OWNER_NAME.getColumnName()
+                                                                                           + " = "
+                                                                                           + CcddDbTableCommandHandler.delimitText(member[0])
+                                                                                           + "; "));
 
                             // Add the invalid entry to the bad reference list so that any other
                             // references to it (for other columns) aren't logged as duplicate
@@ -1375,19 +1958,19 @@ public class CcddDbVerificationHandler
                             && !allTableAndVariableList.contains(member[0]))
                         {
                             // Group table member reference is invalid
-                            issues.add(new TableIssue("Internal table '"
-                                                      + dbTableName
-                                                      + "' references a non-existent table, '"
-                                                      + member[0]
-                                                      + "'",
-                                                      "Delete table from group",
-                                                      "DELETE FROM "
-                                                                                 + dbTableName
-                                                                                 + " WHERE "
-                                                                                 + GroupsColumn.MEMBERS.getColumnName()
-                                                                                 + " = "
-                                                                                 + CcddDbTableCommandHandler.delimitText(member[0])
-                                                                                 + "; "));
+                            phaseIssues.add(new TableIssue("Internal table '"
+                                                           + dbTableName
+                                                           + "' references a non-existent table, '"
+                                                           + member[0]
+                                                           + "'",
+                                                           "Delete table from group",
+                                                           "DELETE FROM "
+                                                                                      + dbTableName
+                                                                                      + " WHERE "
+                                                                                      + GroupsColumn.MEMBERS.getColumnName()
+                                                                                      + " = "
+                                                                                      + CcddDbTableCommandHandler.delimitText(member[0])
+                                                                                      + "; "));
 
                             // Add the invalid entry to the bad reference list so that any other
                             // references to it (for other columns) aren't logged as duplicate
@@ -1420,19 +2003,19 @@ public class CcddDbVerificationHandler
                             && !allTableAndVariableList.contains(member[0]))
                         {
                             // Link variable member reference is invalid
-                            issues.add(new TableIssue("Internal table '"
-                                                      + dbTableName
-                                                      + "' references a non-existent variable, '"
-                                                      + member[0]
-                                                      + "'",
-                                                      "Delete variable from link",
-                                                      "DELETE FROM "
-                                                                                   + dbTableName
-                                                                                   + " WHERE "
-                                                                                   + LinksColumn.MEMBER.getColumnName()
-                                                                                   + " = "
-                                                                                   + CcddDbTableCommandHandler.delimitText(member[0])
-                                                                                   + "; "));
+                            phaseIssues.add(new TableIssue("Internal table '"
+                                                           + dbTableName
+                                                           + "' references a non-existent variable, '"
+                                                           + member[0]
+                                                           + "'",
+                                                           "Delete variable from link",
+                                                           "DELETE FROM "
+                                                                                        + dbTableName
+                                                                                        + " WHERE "
+                                                                                        + LinksColumn.MEMBER.getColumnName()
+                                                                                        + " = "
+                                                                                        + CcddDbTableCommandHandler.delimitText(member[0])
+                                                                                        + "; "));
 
                             // Add the invalid entry to the bad reference list so that any other
                             // references to it (for other columns) aren't logged as duplicate
@@ -1467,21 +2050,21 @@ public class CcddDbVerificationHandler
                                                                                         "")))
                         {
                             // Telemetry scheduler message variable member reference is invalid
-                            issues.add(new TableIssue("Internal table '"
-                                                      + dbTableName
-                                                      + "' references a non-existent variable, '"
-                                                      + member[0].replaceFirst(".*"
-                                                                               + Pattern.quote(TLM_SCH_SEPARATOR),
-                                                                               "")
-                                                      + "'",
-                                                      "Delete variable from message(s)",
-                                                      "DELETE FROM "
-                                                                                         + dbTableName
-                                                                                         + " WHERE "
-                                                                                         + TlmSchedulerColumn.MEMBER.getColumnName()
-                                                                                         + " = "
-                                                                                         + CcddDbTableCommandHandler.delimitText(member[0])
-                                                                                         + "; "));
+                            phaseIssues.add(new TableIssue("Internal table '"
+                                                           + dbTableName
+                                                           + "' references a non-existent variable, '"
+                                                           + member[0].replaceFirst(".*"
+                                                                                    + Pattern.quote(TLM_SCH_SEPARATOR),
+                                                                                    "")
+                                                           + "'",
+                                                           "Delete variable from message(s)",
+                                                           "DELETE FROM "
+                                                                                              + dbTableName
+                                                                                              + " WHERE "
+                                                                                              + TlmSchedulerColumn.MEMBER.getColumnName()
+                                                                                              + " = "
+                                                                                              + CcddDbTableCommandHandler.delimitText(member[0])
+                                                                                              + "; "));
 
                             // Add the invalid entry to the bad reference list so that any other
                             // references to it (for other columns) aren't logged as duplicate
@@ -1548,19 +2131,19 @@ public class CcddDbVerificationHandler
                             if (!badRefs.contains(member[0]) && !cleanName.contains(member[0]))
                             {
                                 // Custom values variable member reference is invalid
-                                issues.add(new TableIssue("Internal table '"
-                                                          + dbTableName
-                                                          + "' references a non-existent variable, '"
-                                                          + member[0]
-                                                          + "'",
-                                                          "Delete variable reference",
-                                                          "DELETE FROM "
-                                                                                       + dbTableName
-                                                                                       + " WHERE "
-                                                                                       + ValuesColumn.TABLE_PATH.getColumnName()
-                                                                                       + " = "
-                                                                                       + CcddDbTableCommandHandler.delimitText(member[0])
-                                                                                       + "; "));
+                                phaseIssues.add(new TableIssue("Internal table '"
+                                                               + dbTableName
+                                                               + "' references a non-existent variable, '"
+                                                               + member[0]
+                                                               + "'",
+                                                               "Delete variable reference",
+                                                               "DELETE FROM "
+                                                                                            + dbTableName
+                                                                                            + " WHERE "
+                                                                                            + ValuesColumn.TABLE_PATH.getColumnName()
+                                                                                            + " = "
+                                                                                            + CcddDbTableCommandHandler.delimitText(member[0])
+                                                                                            + "; "));
 
                                 // Add the invalid entry to the bad reference list so that any
                                 // other references to it (for other columns) aren't logged as
@@ -1641,8 +2224,11 @@ public class CcddDbVerificationHandler
     /**********************************************************************************************
      * Check that the table type data fields are inherited by all tables of that type. If any
      * inconsistencies are detected then get user approval to update the field(s)
+     *
+     * @param phaseIssues
+     *            list to which to add the issues detected
      *********************************************************************************************/
-    private void verifyDataFieldInheritance()
+    private void verifyDataFieldInheritance(List<TableIssue> phaseIssues)
     {
         // Get the reference to the data field handler
         CcddFieldHandler fieldHandler = ccddMain.getFieldHandler();
@@ -1681,41 +2267,41 @@ public class CcddDbVerificationHandler
                                 || inheritedFld.isInherited() != true)
                             {
                                 // Inherited field parameter(s) differ from the default
-                                issues.add(new TableIssue("Table '"
-                                                          + tablePath
-                                                          + "' inherited data field '"
-                                                          + inheritedFld.getFieldName()
-                                                          + "' parameters differ from the table type's default field",
-                                                          "Update table's field parameters to match table type's",
-                                                          "UPDATE "
-                                                                                                                   + InternalTable.FIELDS.getTableName()
-                                                                                                                   + " SET "
-                                                                                                                   + FieldsColumn.FIELD_DESC.getColumnName()
-                                                                                                                   + " = "
-                                                                                                                   + CcddDbTableCommandHandler.delimitText(typeFld.getDescription())
-                                                                                                                   + ", "
-                                                                                                                   + FieldsColumn.FIELD_APPLICABILITY.getColumnName()
-                                                                                                                   + " = '"
-                                                                                                                   + typeFld.getApplicabilityType().getApplicabilityName()
-                                                                                                                   + "', "
-                                                                                                                   + FieldsColumn.FIELD_REQUIRED.getColumnName()
-                                                                                                                   + " = '"
-                                                                                                                   + String.valueOf(typeFld.isRequired())
-                                                                                                                   + "', "
-                                                                                                                   + FieldsColumn.FIELD_SIZE.getColumnName()
-                                                                                                                   + " = '"
-                                                                                                                   + String.valueOf(typeFld.getSize())
-                                                                                                                   + "', "
-                                                                                                                   + FieldsColumn.FIELD_INHERITED.getColumnName()
-                                                                                                                   + " = 'true' WHERE "
-                                                                                                                   + FieldsColumn.OWNER_NAME.getColumnName()
-                                                                                                                   + " = '"
-                                                                                                                   + tablePath
-                                                                                                                   + "' AND "
-                                                                                                                   + FieldsColumn.FIELD_NAME.getColumnName()
-                                                                                                                   + " = '"
-                                                                                                                   + typeFld.getFieldName()
-                                                                                                                   + "'; "));
+                                phaseIssues.add(new TableIssue("Table '"
+                                                               + tablePath
+                                                               + "' inherited data field '"
+                                                               + inheritedFld.getFieldName()
+                                                               + "' parameters differ from the table type's default field",
+                                                               "Update table's field parameters to match table type's",
+                                                               "UPDATE "
+                                                                                                                        + InternalTable.FIELDS.getTableName()
+                                                                                                                        + " SET "
+                                                                                                                        + FieldsColumn.FIELD_DESC.getColumnName()
+                                                                                                                        + " = "
+                                                                                                                        + CcddDbTableCommandHandler.delimitText(typeFld.getDescription())
+                                                                                                                        + ", "
+                                                                                                                        + FieldsColumn.FIELD_APPLICABILITY.getColumnName()
+                                                                                                                        + " = '"
+                                                                                                                        + typeFld.getApplicabilityType().getApplicabilityName()
+                                                                                                                        + "', "
+                                                                                                                        + FieldsColumn.FIELD_REQUIRED.getColumnName()
+                                                                                                                        + " = '"
+                                                                                                                        + String.valueOf(typeFld.isRequired())
+                                                                                                                        + "', "
+                                                                                                                        + FieldsColumn.FIELD_SIZE.getColumnName()
+                                                                                                                        + " = '"
+                                                                                                                        + String.valueOf(typeFld.getSize())
+                                                                                                                        + "', "
+                                                                                                                        + FieldsColumn.FIELD_INHERITED.getColumnName()
+                                                                                                                        + " = 'true' WHERE "
+                                                                                                                        + FieldsColumn.OWNER_NAME.getColumnName()
+                                                                                                                        + " = '"
+                                                                                                                        + tablePath
+                                                                                                                        + "' AND "
+                                                                                                                        + FieldsColumn.FIELD_NAME.getColumnName()
+                                                                                                                        + " = '"
+                                                                                                                        + typeFld.getFieldName()
+                                                                                                                        + "'; "));
                             }
                         }
                         // The input types don't match. The table's field is considered to be a
@@ -1723,29 +2309,29 @@ public class CcddDbVerificationHandler
                         else
                         {
                             // Rename existing table field
-                            issues.add(new TableIssue("Table '"
-                                                      + tablePath
-                                                      + "' data field '"
-                                                      + inheritedFld.getFieldName()
-                                                      + "' name conflicts with a table type's default field",
-                                                      "Rename the table's data field",
-                                                      "UPDATE "
-                                                                                       + InternalTable.FIELDS.getTableName()
-                                                                                       + " SET "
-                                                                                       + FieldsColumn.FIELD_NAME.getColumnName()
-                                                                                       + " = '"
-                                                                                       + CcddFieldHandler.alterFieldName(fieldHandler.getFieldInformationCopy(),
-                                                                                                                         tablePath,
-                                                                                                                         inheritedFld.getFieldName())
-                                                                                       + "' WHERE "
-                                                                                       + FieldsColumn.OWNER_NAME.getColumnName()
-                                                                                       + " = '"
-                                                                                       + tablePath
-                                                                                       + "' AND "
-                                                                                       + FieldsColumn.FIELD_NAME.getColumnName()
-                                                                                       + " = '"
-                                                                                       + typeFld.getFieldName()
-                                                                                       + "'; "));
+                            phaseIssues.add(new TableIssue("Table '"
+                                                           + tablePath
+                                                           + "' data field '"
+                                                           + inheritedFld.getFieldName()
+                                                           + "' name conflicts with a table type's default field",
+                                                           "Rename the table's data field",
+                                                           "UPDATE "
+                                                                                            + InternalTable.FIELDS.getTableName()
+                                                                                            + " SET "
+                                                                                            + FieldsColumn.FIELD_NAME.getColumnName()
+                                                                                            + " = '"
+                                                                                            + CcddFieldHandler.alterFieldName(fieldHandler.getFieldInformationCopy(),
+                                                                                                                              tablePath,
+                                                                                                                              inheritedFld.getFieldName())
+                                                                                            + "' WHERE "
+                                                                                            + FieldsColumn.OWNER_NAME.getColumnName()
+                                                                                            + " = '"
+                                                                                            + tablePath
+                                                                                            + "' AND "
+                                                                                            + FieldsColumn.FIELD_NAME.getColumnName()
+                                                                                            + " = '"
+                                                                                            + typeFld.getFieldName()
+                                                                                            + "'; "));
                         }
                     }
                     // Check if the table isn't a child structure (all fields are stored for
@@ -1757,32 +2343,32 @@ public class CcddDbVerificationHandler
                                                                null))
                     {
                         // Inherited field missing
-                        issues.add(new TableIssue("Table '"
-                                                  + tablePath
-                                                  + "' is missing inherited data field '"
-                                                  + typeFld.getFieldName()
-                                                  + "'",
-                                                  "Create missing inherited field",
-                                                  "INSERT INTO "
-                                                                                    + InternalTable.FIELDS.getTableName()
-                                                                                    + " VALUES "
-                                                                                    + "('"
-                                                                                    + tablePath
-                                                                                    + "', "
-                                                                                    + CcddDbTableCommandHandler.delimitText(typeFld.getFieldName())
-                                                                                    + ", "
-                                                                                    + CcddDbTableCommandHandler.delimitText(typeFld.getDescription())
-                                                                                    + ", "
-                                                                                    + typeFld.getSize()
-                                                                                    + ", "
-                                                                                    + CcddDbTableCommandHandler.delimitText(typeFld.getInputType().getInputName())
-                                                                                    + ", "
-                                                                                    + String.valueOf(typeFld.isRequired())
-                                                                                    + ", "
-                                                                                    + CcddDbTableCommandHandler.delimitText(typeFld.getApplicabilityType().getApplicabilityName())
-                                                                                    + ", "
-                                                                                    + CcddDbTableCommandHandler.delimitText(typeFld.getValue())
-                                                                                    + ", 'true'); "));
+                        phaseIssues.add(new TableIssue("Table '"
+                                                       + tablePath
+                                                       + "' is missing inherited data field '"
+                                                       + typeFld.getFieldName()
+                                                       + "'",
+                                                       "Create missing inherited field",
+                                                       "INSERT INTO "
+                                                                                         + InternalTable.FIELDS.getTableName()
+                                                                                         + " VALUES "
+                                                                                         + "('"
+                                                                                         + tablePath
+                                                                                         + "', "
+                                                                                         + CcddDbTableCommandHandler.delimitText(typeFld.getFieldName())
+                                                                                         + ", "
+                                                                                         + CcddDbTableCommandHandler.delimitText(typeFld.getDescription())
+                                                                                         + ", "
+                                                                                         + typeFld.getSize()
+                                                                                         + ", "
+                                                                                         + CcddDbTableCommandHandler.delimitText(typeFld.getInputType().getInputName())
+                                                                                         + ", "
+                                                                                         + String.valueOf(typeFld.isRequired())
+                                                                                         + ", "
+                                                                                         + CcddDbTableCommandHandler.delimitText(typeFld.getApplicabilityType().getApplicabilityName())
+                                                                                         + ", "
+                                                                                         + CcddDbTableCommandHandler.delimitText(typeFld.getValue())
+                                                                                         + ", 'true'); "));
                     }
                 }
             }
@@ -1795,8 +2381,11 @@ public class CcddDbVerificationHandler
      *
      * @param tableResult
      *            metadata for all tables
+     *
+     * @param phaseIssues
+     *            list to which to add the issues detected
      *********************************************************************************************/
-    private void verifyTableTypes(ResultSet tableResult)
+    private void verifyTableTypes(ResultSet tableResult, List<TableIssue> phaseIssues)
     {
         String dbTableName = "";
 
@@ -1807,11 +2396,6 @@ public class CcddDbVerificationHandler
                                                                      false,
                                                                      ccddMain.getMainFrame());
 
-            // Initialize the progress bar within-step total to the total number of rows in the
-            // result set
-            tableResult.last();
-            haltDlg.setItemsPerStep(tableResult.getRow());
-
             // Start before the first row in the result set
             tableResult.beforeFirst();
 
@@ -1827,8 +2411,8 @@ public class CcddDbVerificationHandler
                 // Get the table name
                 dbTableName = tableResult.getString("TABLE_NAME");
 
-                // Check if this is a data table
-                if (!dbTableName.startsWith(INTERNAL_TABLE_PREFIX))
+                // Check if this is a data table that is to be verified
+                if (!dbTableName.startsWith(INTERNAL_TABLE_PREFIX) && isTableToVerify(dbTableName))
                 {
                     String tableName = "";
 
@@ -1855,27 +2439,27 @@ public class CcddDbVerificationHandler
                                 && orders.get(index)[OrdersColumn.COLUMN_ORDER.ordinal()].split(":").length != typeDefinition.getColumnCountDatabase())
                             {
                                 // Column order table has an invalid entry for this table
-                                issues.add(new TableIssue("Incorrect number of columns indicated for table '"
-                                                          + orders.get(index)[OrdersColumn.TABLE_PATH.ordinal()]
-                                                          + "' in the column order table for user '"
-                                                          + orders.get(index)[OrdersColumn.USER_NAME.ordinal()]
-                                                          + "'",
-                                                          "Modify column order table",
-                                                          "UPDATE "
-                                                                                       + InternalTable.ORDERS.getTableName()
-                                                                                       + " SET "
-                                                                                       + OrdersColumn.COLUMN_ORDER.getColumnName()
-                                                                                       + " = '"
-                                                                                       + tableTypeHandler.getDefaultColumnOrder(typeDefinition.getName())
-                                                                                       + "' WHERE "
-                                                                                       + OrdersColumn.USER_NAME.getColumnName()
-                                                                                       + " = '"
-                                                                                       + orders.get(index)[OrdersColumn.USER_NAME.ordinal()]
-                                                                                       + "' AND "
-                                                                                       + OrdersColumn.TABLE_PATH.getColumnName()
-                                                                                       + " = '"
-                                                                                       + orders.get(index)[OrdersColumn.TABLE_PATH.ordinal()]
-                                                                                       + "'; "));
+                                phaseIssues.add(new TableIssue("Incorrect number of columns indicated for table '"
+                                                               + orders.get(index)[OrdersColumn.TABLE_PATH.ordinal()]
+                                                               + "' in the column order table for user '"
+                                                               + orders.get(index)[OrdersColumn.USER_NAME.ordinal()]
+                                                               + "'",
+                                                               "Modify column order table",
+                                                               "UPDATE "
+                                                                                            + InternalTable.ORDERS.getTableName()
+                                                                                            + " SET "
+                                                                                            + OrdersColumn.COLUMN_ORDER.getColumnName()
+                                                                                            + " = '"
+                                                                                            + tableTypeHandler.getDefaultColumnOrder(typeDefinition.getName())
+                                                                                            + "' WHERE "
+                                                                                            + OrdersColumn.USER_NAME.getColumnName()
+                                                                                            + " = '"
+                                                                                            + orders.get(index)[OrdersColumn.USER_NAME.ordinal()]
+                                                                                            + "' AND "
+                                                                                            + OrdersColumn.TABLE_PATH.getColumnName()
+                                                                                            + " = '"
+                                                                                            + orders.get(index)[OrdersColumn.TABLE_PATH.ordinal()]
+                                                                                            + "'; "));
                             }
                         }
 
@@ -1914,21 +2498,21 @@ public class CcddDbVerificationHandler
                                 if (!columnType.startsWith(DefaultColumn.getColumnDbType(columnIndex).substring(0, 3)))
                                 {
                                     // Column's data type is incorrect
-                                    issues.add(new TableIssue("Table '"
-                                                              + tableName
-                                                              + "' column '"
-                                                              + columnName
-                                                              + "' data type is invalid ("
-                                                              + columnType
-                                                              + ")",
-                                                              "Modify data type",
-                                                              "ALTER TABLE "
-                                                                                  + dbControl.getQuotedName(dbTableName)
-                                                                                  + " ALTER COLUMN "
-                                                                                  + dbControl.getQuotedName(columnName)
-                                                                                  + " TYPE "
-                                                                                  + DefaultColumn.getColumnDbType(columnIndex)
-                                                                                  + "; "));
+                                    phaseIssues.add(new TableIssue("Table '"
+                                                                   + tableName
+                                                                   + "' column '"
+                                                                   + columnName
+                                                                   + "' data type is invalid ("
+                                                                   + columnType
+                                                                   + ")",
+                                                                   "Modify data type",
+                                                                   "ALTER TABLE "
+                                                                                       + dbControl.getQuotedName(dbTableName)
+                                                                                       + " ALTER COLUMN "
+                                                                                       + dbControl.getQuotedName(columnName)
+                                                                                       + " TYPE "
+                                                                                       + DefaultColumn.getColumnDbType(columnIndex)
+                                                                                       + "; "));
                                 }
 
                                 // Set the flag to indicate the column exists for this table
@@ -1939,17 +2523,17 @@ public class CcddDbVerificationHandler
                             else
                             {
                                 // Column name is unknown
-                                issues.add(new TableIssue("Table '"
-                                                          + tableName
-                                                          + "' has an unknown column ("
-                                                          + columnName
-                                                          + ")",
-                                                          "Delete column",
-                                                          "ALTER TABLE "
-                                                                           + dbControl.getQuotedName(dbTableName)
-                                                                           + " DROP COLUMN "
-                                                                           + dbControl.getQuotedName(columnName)
-                                                                           + "; "));
+                                phaseIssues.add(new TableIssue("Table '"
+                                                               + tableName
+                                                               + "' has an unknown column ("
+                                                               + columnName
+                                                               + ")",
+                                                               "Delete column",
+                                                               "ALTER TABLE "
+                                                                                + dbControl.getQuotedName(dbTableName)
+                                                                                + " DROP COLUMN "
+                                                                                + dbControl.getQuotedName(columnName)
+                                                                                + "; "));
                             }
                         }
 
@@ -1962,19 +2546,19 @@ public class CcddDbVerificationHandler
                             if (!isFound[index])
                             {
                                 // Column is missing
-                                issues.add(new TableIssue("Table '"
-                                                          + tableName
-                                                          + "' is missing column '"
-                                                          + typeDefinition.getColumnNamesUser()[index]
-                                                          + "'",
-                                                          "Add missing column",
-                                                          "ALTER TABLE "
-                                                                                + dbControl.getQuotedName(dbTableName)
-                                                                                + " ADD COLUMN "
-                                                                                + typeDefinition.getColumnNamesDatabaseQuoted()[index]
-                                                                                + " "
-                                                                                + DefaultColumn.getColumnDbType(index)
-                                                                                + " DEFAULT ''; "));
+                                phaseIssues.add(new TableIssue("Table '"
+                                                               + tableName
+                                                               + "' is missing column '"
+                                                               + typeDefinition.getColumnNamesUser()[index]
+                                                               + "'",
+                                                               "Add missing column",
+                                                               "ALTER TABLE "
+                                                                                     + dbControl.getQuotedName(dbTableName)
+                                                                                     + " ADD COLUMN "
+                                                                                     + typeDefinition.getColumnNamesDatabaseQuoted()[index]
+                                                                                     + " "
+                                                                                     + DefaultColumn.getColumnDbType(index)
+                                                                                     + " DEFAULT ''; "));
                             }
                         }
                     }
@@ -1982,15 +2566,15 @@ public class CcddDbVerificationHandler
                     else
                     {
                         // Table type is unknown
-                        issues.add(new TableIssue("Table '"
-                                                  + tableName
-                                                  + "' is an unknown type ("
-                                                  + comment[TableCommentIndex.TYPE.ordinal()]
-                                                  + ")",
-                                                  "Delete table",
-                                                  "DROP TABLE "
-                                                                  + dbControl.getQuotedName(dbTableName)
-                                                                  + "; "));
+                        phaseIssues.add(new TableIssue("Table '"
+                                                       + tableName
+                                                       + "' is an unknown type ("
+                                                       + comment[TableCommentIndex.TYPE.ordinal()]
+                                                       + ")",
+                                                       "Delete table",
+                                                       "DROP TABLE "
+                                                                       + dbControl.getQuotedName(dbTableName)
+                                                                       + "; "));
                     }
                 }
 
@@ -2022,9 +2606,18 @@ public class CcddDbVerificationHandler
 
     /**********************************************************************************************
      * Check that the tables' data are consistent with their type definitions. If any
-     * inconsistencies are detected then get user approval to alter the table(s)
+     * inconsistencies are detected then get user approval to alter the table(s). The tables are
+     * loaded in bulk, and each loaded table is checked by a worker thread while the next group of
+     * tables is loaded. The issues detected for each table are added to the issues list in table
+     * order once all of the tables are checked
+     *
+     * @throws InterruptedException
+     *             If a worker thread is interrupted while checking a table
+     *
+     * @throws ExecutionException
+     *             If a worker thread fails while checking a table
      *********************************************************************************************/
-    private void verifyDataTables()
+    private void verifyDataTables() throws InterruptedException, ExecutionException
     {
         // Build the table tree
         CcddTableTreeHandler tableTree = new CcddTableTreeHandler(ccddMain,
@@ -2034,671 +2627,838 @@ public class CcddDbVerificationHandler
         // Initialize the storage for each table's information and committed data
         tableStorage = new ArrayList<TableStorage>();
 
-        // Initialize the progress bar within-step total to the total number of rows in the table
-        // tree
-        haltDlg.setItemsPerStep(tableTree.getNodeCount(tableTree.getRootNode()));
+        // Create a list to contain the paths of the tables to verify
+        List<String> tablePaths = new ArrayList<String>();
 
         // Step through the root node's children
-        for (Enumeration<?> element = tableTree.getRootNode().preorderEnumeration(); element.hasMoreElements();)
+        for (Enumeration<?> element = tableTree.getPreorderEnumeration(tableTree.getRootNode()); element.hasMoreElements();)
         {
-            // Check if the user canceled verification
-            if (haltDlg.isHalted())
-            {
-                break;
-            }
-
             // Get the referenced node and the path to the node
             ToolTipTreeNode tableNode = (ToolTipTreeNode) element.nextElement();
             TreePath path = new TreePath(tableNode.getPath());
 
-            // Check if the path references a table
-            if (path.getPathCount() > tableTree.getHeaderNodeLevel())
+            // Check if the path references a table that is to be verified
+            if (path.getPathCount() > tableTree.getHeaderNodeLevel()
+                && isTableToVerify(tableTree.getFullVariablePath(path.getPath())))
             {
-                // Get the information from the database for the specified table
-                TableInformation tableInfo = dbTable.loadTableData(tableTree.getFullVariablePath(path.getPath()),
-                                                                   false,
-                                                                   false,
-                                                                   ccddMain.getMainFrame());
-
-                // Check if the table loaded successfully and that the table has data
-                if (!tableInfo.isErrorFlag() && tableInfo.getData().length > 0)
+                // Add the table's path to the list
+                tablePaths.add(tableTree.getFullVariablePath(path.getPath()));
+            }
+        }
+
+        // Initialize the progress bar within-step total to the total number of tables
+        haltDlg.setItemsPerStep(tablePaths.size());
+
+        // Create the lists to contain the verifier for each table and the result of its check
+        List<DataTableVerifier> verifiers = new ArrayList<DataTableVerifier>();
+        List<Future<Void>> futures = new ArrayList<Future<Void>>();
+
+        // Create a pool of worker threads for checking the tables. The checks don't access the
+        // database so the pool size is based on the number of processors
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors()));
+
+        try
+        {
+            // Step through the tables, loading as many at a time as allowed
+            for (int start = 0;
+                 start < tablePaths.size() && !haltDlg.isHalted();
+                 start += ModifiableSizeInfo.MAX_BULK_LOAD_TABLES.getSize())
+            {
+                // Get the information from the database for the tables
+                TableInformation[] loadedTableInfo = dbTable.loadTableData(tablePaths.subList(start,
+                                                                                              Math.min(tablePaths.size(),
+                                                                                                       start + ModifiableSizeInfo.MAX_BULK_LOAD_TABLES.getSize())),
+                                                                           false,
+                                                                           false,
+                                                                           ccddMain.getMainFrame());
+
+                // Step through each table loaded
+                for (final TableInformation tableInfo : loadedTableInfo)
                 {
-                    // Add the table information and data to the list. This stores a copy of the
-                    // data (as it appears in the database) so that any changes made can be
-                    // detected
-                    tableStorage.add(new TableStorage(tableInfo));
+                    // Check if the user canceled verification
+                    if (haltDlg.isHalted())
+                    {
+                        break;
+                    }
 
-                    // Get the table's type definition
-                    typeDefn = tableTypeHandler.getTypeDefinition(tableInfo.getType());
-
-                    // Get the variable name, data type, and array size column indices for this
-                    // table type
-                    variableNameIndex = typeDefn.getColumnIndexByInputType(DefaultInputType.VARIABLE);
-                    dataTypeIndex = typeDefn.getColumnIndexByInputType(DefaultInputType.PRIM_AND_STRUCT);
-                    arraySizeIndex = typeDefn.getColumnIndexByInputType(DefaultInputType.ARRAY_INDEX);
-
-                    // Initialize the array check parameters: array data type, name, number of
-                    // members, array dimension sizes, and current index position
-                    String dataType = "";
-                    String arrayName = "";
-                    membersRemaining = 0;
-                    totalArraySize = new int[0];
-                    currentArrayIndex = new int[0];
-
-                    // Initialize the array definition and last missing array member row indices
-                    definitionRow = 0;
-                    int lastMissingRow = 0;
+                    // Check if the table loaded successfully and that the table has data
+                    if (!tableInfo.isErrorFlag() && tableInfo.getData().length > 0)
+                    {
+                        // Add the table information and data to the list. This stores a copy of
+                        // the data (as it appears in the database) so that any changes made can
+                        // be detected. The copy is made before the table is checked since the
+                        // check can add missing array members to the table data
+                        tableStorage.add(new TableStorage(tableInfo));
+
+                        // Create the verifier for this table
+                        final DataTableVerifier verifier = new DataTableVerifier(tableInfo.getPrototypeName());
+                        verifiers.add(verifier);
+
+                        // Check the table using a worker thread
+                        futures.add(pool.submit(new Callable<Void>()
+                        {
+                            /**********************************************************************
+                             * Check the table's data
+                             *********************************************************************/
+                            @Override
+                            public Void call()
+                            {
+                                // Check if the user hasn't canceled verification
+                                if (!haltDlg.isHalted())
+                                {
+                                    // Check the table for inconsistencies
+                                    verifier.verifyTable(tableInfo);
+                                }
 
-                    // Step through each row in the table
-                    for (int row = 0; row < tableInfo.getData().length && !haltDlg.isHalted(); row++)
+                                // Update the within-step progress value
+                                haltDlg.updateProgressBar(null, -1);
+
+                                return null;
+                            }
+                        }));
+                    }
+                    // The table failed to load or has no data to check
+                    else
                     {
-                        // Step through each column in the table
-                        for (int column = 0; column < tableInfo.getData()[row].length && !haltDlg.isHalted(); column++)
+                        // Check if the table failed to load
+                        if (tableInfo.isErrorFlag())
                         {
-                            // Check if the cell value doesn't match the cell's input type
-                            checkInputType(tableInfo, row, column);
+                            // Add the table to the list of those with issues so that it's
+                            // verified again on the next check of the changed tables
+                            issueTables.add(tableInfo.getPrototypeName().toLowerCase());
                         }
 
-                        // Check if the user canceled verification
-                        if (haltDlg.isHalted())
+                        // Update the within-step progress value
+                        haltDlg.updateProgressBar(null, -1);
+                    }
+                }
+            }
+
+            // Step through the table checks in the order the tables were loaded
+            for (int index = 0; index < futures.size(); index++)
+            {
+                // Wait for the check to complete, then add the issues detected in the table to the
+                // list
+                futures.get(index).get();
+                issues.addAll(verifiers.get(index).getIssues());
+
+                // Check if an issue is detected in the table
+                if (!verifiers.get(index).getIssues().isEmpty())
+                {
+                    // Add the table to the list of those with issues
+                    issueTables.add(verifiers.get(index).getTableName().toLowerCase());
+                }
+            }
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    /**********************************************************************************************
+     * Data table verifier class. An instance is created for each data table to contain the array
+     * member check parameters and the issues detected while checking the table. This allows the
+     * data tables to be checked in parallel
+     *********************************************************************************************/
+    private class DataTableVerifier
+    {
+        // Name of the table
+        private final String tableName;
+
+        // List of issues detected in the table
+        private final List<TableIssue> tableIssues;
+
+        // Table's type definition
+        private TypeDefinition typeDefn;
+
+        // Number of remaining array members expected
+        private int membersRemaining;
+
+        // Data table column indices
+        private int variableNameIndex;
+        private int dataTypeIndex;
+        private int arraySizeIndex;
+
+        // Array member index values
+        private int[] totalArraySize;
+        private int[] currentArrayIndex;
+
+        // Array definition row index
+        private int definitionRow;
+
+        // Flag indicating if changes are to be made to the table
+        private boolean isChanges;
+
+        /******************************************************************************************
+         * Data table verifier class constructor
+         *
+         * @param tableName
+         *            name of the table
+         *****************************************************************************************/
+        DataTableVerifier(String tableName)
+        {
+            this.tableName = tableName;
+            tableIssues = new ArrayList<TableIssue>();
+            isChanges = false;
+        }
+
+        /******************************************************************************************
+         * Get the name of the table
+         *
+         * @return Name of the table
+         *****************************************************************************************/
+        protected String getTableName()
+        {
+            return tableName;
+        }
+
+        /******************************************************************************************
+         * Get the list of issues detected in the table
+         *
+         * @return List of issues detected in the table
+         *****************************************************************************************/
+        protected List<TableIssue> getIssues()
+        {
+            return tableIssues;
+        }
+
+        /******************************************************************************************
+         * Check that the table's data are consistent with its type definition
+         *
+         * @param tableInfo
+         *            reference to the table information
+         *****************************************************************************************/
+        protected void verifyTable(TableInformation tableInfo)
+        {
+            // Get the table's type definition
+            typeDefn = tableTypeHandler.getTypeDefinition(tableInfo.getType());
+
+            // Get the variable name, data type, and array size column indices for this
+            // table type
+            variableNameIndex = typeDefn.getColumnIndexByInputType(DefaultInputType.VARIABLE);
+            dataTypeIndex = typeDefn.getColumnIndexByInputType(DefaultInputType.PRIM_AND_STRUCT);
+            arraySizeIndex = typeDefn.getColumnIndexByInputType(DefaultInputType.ARRAY_INDEX);
+
+            // Initialize the array check parameters: array data type, name, number of
+            // members, array dimension sizes, and current index position
+            String dataType = "";
+            String arrayName = "";
+            membersRemaining = 0;
+            totalArraySize = new int[0];
+            currentArrayIndex = new int[0];
+
+            // Initialize the array definition and last missing array member row indices
+            definitionRow = 0;
+            int lastMissingRow = 0;
+
+            // Step through each row in the table
+            for (int row = 0; row < tableInfo.getData().length && !haltDlg.isHalted(); row++)
+            {
+                // Step through each column in the table
+                for (int column = 0; column < tableInfo.getData()[row].length && !haltDlg.isHalted(); column++)
+                {
+                    // Check if the cell value doesn't match the cell's input type
+                    checkInputType(tableInfo, row, column);
+                }
+
+                // Check if the user canceled verification
+                if (haltDlg.isHalted())
+                {
+                    continue;
+                }
+
+                // Check if this is a structure table
+                if (typeDefn.isStructure())
+                {
+                    // Check if the array size isn't blank
+                    if (tableInfo.getData()[row][arraySizeIndex] != null
+                        && !tableInfo.getData()[row][arraySizeIndex].toString().isEmpty())
+                    {
+                        // Check if this is the first pass through the array; an array
+                        // definition is expected
+                        if (membersRemaining == 0)
                         {
-                            continue;
-                        }
+                            // Get the variable name for this row
+                            arrayName = tableInfo.getData()[row][variableNameIndex].toString();
 
-                        // Check if this is a structure table
-                        if (typeDefn.isStructure())
-                        {
-                            // Check if the array size isn't blank
-                            if (tableInfo.getData()[row][arraySizeIndex] != null
-                                && !tableInfo.getData()[row][arraySizeIndex].toString().isEmpty())
-                            {
-                                // Check if this is the first pass through the array; an array
-                                // definition is expected
-                                if (membersRemaining == 0)
-                                {
-                                    // Get the variable name for this row
-                                    arrayName = tableInfo.getData()[row][variableNameIndex].toString();
+                            // Store the index of the array definition row
+                            definitionRow = row;
 
-                                    // Store the index of the array definition row
-                                    definitionRow = row;
+                            // Store the row number for use if other members are found to
+                            // be missing after all other rows have been checked
+                            lastMissingRow = row;
 
-                                    // Store the row number for use if other members are found to
-                                    // be missing after all other rows have been checked
-                                    lastMissingRow = row;
+                            // Check that no extra array member exists
+                            if (!checkExcessArrayMember(tableInfo, row, arrayName))
+                            {
+                                // Get the number of array members remaining and data type
+                                // for this row and initialize the array index
+                                totalArraySize = ArrayVariable.getArrayIndexFromSize(macroHandler.getMacroExpansion(tableInfo.getData()[row][arraySizeIndex].toString()));
 
-                                    // Check that no extra array member exists
-                                    if (!checkExcessArrayMember(tableInfo, row, arrayName))
-                                    {
-                                        // Get the number of array members remaining and data type
-                                        // for this row and initialize the array index
-                                        totalArraySize = ArrayVariable.getArrayIndexFromSize(macroHandler.getMacroExpansion(tableInfo.getData()[row][arraySizeIndex].toString()));
-
-                                        // Get the total number of members for this array
-                                        membersRemaining = ArrayVariable.getNumMembersFromArrayDimension(totalArraySize);
-
-                                        // Initialize the current array index values
-                                        currentArrayIndex = new int[totalArraySize.length];
-
-                                        // Get the data type
-                                        dataType = tableInfo.getData()[row][dataTypeIndex].toString();
-
-                                        // Check if the expected array definition is missing
-                                        if (checkForArrayDefinition(tableInfo, row, arrayName))
-                                        {
-                                            // Remove the array index from the array variable name
-                                            // and back up a row so that the array members can be
-                                            // checked
-                                            arrayName = ArrayVariable.removeArrayIndex(arrayName);
-                                            row--;
-                                        }
-                                    }
-                                }
-                                // This is not the first pass through this array; i.e., an array
-                                // member is expected
-                                else
-                                {
-                                    // Check if the array definition and all of its members don't
-                                    // have the same variable name
-                                    if (checkArrayNamesMatch(tableInfo, row, arrayName))
-                                    {
-                                        // Back up a row so that it can be checked as a separate
-                                        // variable
-                                        row--;
-                                    }
-                                    // The array names match
-                                    else
-                                    {
-                                        // Check if the array definition and all of its members
-                                        // have the same array size
-                                        checkArraySizesMatch(tableInfo,
-                                                             row,
-                                                             arrayName,
-                                                             tableInfo.getData()[row][arraySizeIndex].toString());
-
-                                        // Check if the array definition and all of its members
-                                        // have the same data type
-                                        checkDataTypesMatch(tableInfo, row, arrayName, dataType);
-
-                                        // Store the row number for use if other members are found
-                                        // to be missing after all other rows have been checked
-                                        lastMissingRow = row;
-                                    }
+                                // Get the total number of members for this array
+                                membersRemaining = ArrayVariable.getNumMembersFromArrayDimension(totalArraySize);
+
+                                // Initialize the current array index values
+                                currentArrayIndex = new int[totalArraySize.length];
 
-                                    // Update the array member counters
-                                    membersRemaining--;
+                                // Get the data type
+                                dataType = tableInfo.getData()[row][dataTypeIndex].toString();
 
-                                    // Update the current array index value(s)
-                                    goToNextArrayMember();
+                                // Check if the expected array definition is missing
+                                if (checkForArrayDefinition(tableInfo, row, arrayName))
+                                {
+                                    // Remove the array index from the array variable name
+                                    // and back up a row so that the array members can be
+                                    // checked
+                                    arrayName = ArrayVariable.removeArrayIndex(arrayName);
+                                    row--;
                                 }
                             }
-                            // Check if there are remaining array members that don't exist
+                        }
+                        // This is not the first pass through this array; i.e., an array
+                        // member is expected
+                        else
+                        {
+                            // Check if the array definition and all of its members don't
+                            // have the same variable name
+                            if (checkArrayNamesMatch(tableInfo, row, arrayName))
+                            {
+                                // Back up a row so that it can be checked as a separate
+                                // variable
+                                row--;
+                            }
+                            // The array names match
                             else
                             {
-                                // Check if an array member is expected but not present
-                                checkForMissingArrayMember(tableInfo, row, arrayName);
+                                // Check if the array definition and all of its members
+                                // have the same array size
+                                checkArraySizesMatch(tableInfo,
+                                                     row,
+                                                     arrayName,
+                                                     tableInfo.getData()[row][arraySizeIndex].toString());
+
+                                // Check if the array definition and all of its members
+                                // have the same data type
+                                checkDataTypesMatch(tableInfo, row, arrayName, dataType);
+
+                                // Store the row number for use if other members are found
+                                // to be missing after all other rows have been checked
+                                lastMissingRow = row;
                             }
-                        }
-                    }
 
-                    // Check if this is a structure table
-                    if (typeDefn.isStructure())
-                    {
-                        // Perform for each remaining missing array member
-                        while (membersRemaining != 0)
-                        {
-                            // Check if there are remaining array members that don't exist
-                            checkForMissingArrayMember(tableInfo, lastMissingRow + 1, arrayName);
+                            // Update the array member counters
+                            membersRemaining--;
+
+                            // Update the current array index value(s)
+                            goToNextArrayMember();
                         }
                     }
-
-                    // Check if the flag to make changes is not already set
-                    if (!isChanges)
+                    // Check if there are remaining array members that don't exist
+                    else
                     {
-                        // Check if a row is missing based on the row indices
-                        checkForRowIndexMismatch(tableInfo);
+                        // Check if an array member is expected but not present
+                        checkForMissingArrayMember(tableInfo, row, arrayName);
                     }
+                }
+            }
 
-                    // Check if columns marked as unique contain duplicate values
-                    checkForDuplicates(tableInfo);
+            // Check if this is a structure table
+            if (typeDefn.isStructure())
+            {
+                // Perform for each remaining missing array member
+                while (membersRemaining != 0)
+                {
+                    // Check if there are remaining array members that don't exist
+                    checkForMissingArrayMember(tableInfo, lastMissingRow + 1, arrayName);
                 }
             }
 
-            // Update the within-step progress value
-            haltDlg.updateProgressBar(null, -1);
+            // Check if the flag to make changes is not already set
+            if (!isChanges)
+            {
+                // Check if a row is missing based on the row indices
+                checkForRowIndexMismatch(tableInfo);
+            }
+
+            // Check if columns marked as unique contain duplicate values
+            checkForDuplicates(tableInfo);
         }
-    }
 
-    /**********************************************************************************************
-     * Increment the current array index value(s) to the next array member
-     *********************************************************************************************/
-    private void goToNextArrayMember()
-    {
-        // Step through the array index values, starting with the last and working backward
-        for (int index = currentArrayIndex.length - 1; index >= 0; index--)
+        /******************************************************************************************
+         * Increment the current array index value(s) to the next array member
+         *****************************************************************************************/
+        private void goToNextArrayMember()
         {
-            // Increment the array index
-            currentArrayIndex[index]++;
-
-            // Check if the array index hasn't reached its limit
-            if (currentArrayIndex[index] < totalArraySize[index])
+            // Step through the array index values, starting with the last and working backward
+            for (int index = currentArrayIndex.length - 1; index >= 0; index--)
             {
-                // Stop adjusting the array index values
-                break;
-            }
+                // Increment the array index
+                currentArrayIndex[index]++;
 
-            // Reset this array index back to zero and continue looping to adjust the next array
-            // index up the chain
-            currentArrayIndex[index] = 0;
-        }
-    }
+                // Check if the array index hasn't reached its limit
+                if (currentArrayIndex[index] < totalArraySize[index])
+                {
+                    // Stop adjusting the array index values
+                    break;
+                }
 
-    /**********************************************************************************************
-     * Check if the cell value matches the expected input type
-     *
-     * @param tableInfo
-     *            reference to the table information
-     *
-     * @param row
-     *            row index
-     *
-     * @param column
-     *            column index
-     *********************************************************************************************/
-    private void checkInputType(TableInformation tableInfo, int row, int column)
-    {
-        // Get the cell value
-        String data = macroHandler.getMacroExpansion(tableInfo.getData()[row][column].toString());
-
-        // Check if the cell is not an array member variable name and if the value doesn't match
-        // the input type expected for this column
-        if (data != null
-            && !data.isEmpty()
-            && !(column == variableNameIndex
-                 && ArrayVariable.isArrayMember(data))
-            && typeDefn.getInputTypes()[column] != null
-            && !data.matches(typeDefn.getInputTypes()[column].getInputMatch()))
-        {
-            // Value doesn't match the input type specified in the type definition
-            issues.add(new TableIssue("Table '"
-                                      + tableInfo.getProtoVariableName()
-                                      + "' row "
-                                      + row
-                                      + " column '"
-                                      + typeDefn.getColumnNamesUser()[column]
-                                      + "' input type mismatch",
-                                      "Replace with a blank",
-                                      row,
-                                      column,
-                                      "",
-                                      tableInfo));
+                // Reset this array index back to zero and continue looping to adjust the next array
+                // index up the chain
+                currentArrayIndex[index] = 0;
+            }
         }
-    }
 
-    /**********************************************************************************************
-     * Check if an extra array member exists
-     *
-     * @param tableInfo
-     *            reference to the table information
-     *
-     * @param row
-     *            row index
-     *
-     * @param arrayName
-     *            array variable name
-     *
-     * @return true if an extra array member is detected
-     *********************************************************************************************/
-    private boolean checkExcessArrayMember(TableInformation tableInfo,
-                                           int row,
-                                           String arrayName)
-    {
-        boolean isGoToNextRow = false;
+        /******************************************************************************************
+         * Check if the cell value matches the expected input type
+         *
+         * @param tableInfo
+         *            reference to the table information
+         *
+         * @param row
+         *            row index
+         *
+         * @param column
+         *            column index
+         *****************************************************************************************/
+        private void checkInputType(TableInformation tableInfo, int row, int column)
+        {
+            // Get the cell value
+            String data = macroHandler.getMacroExpansion(tableInfo.getData()[row][column].toString());
+
+            // Check if the cell is not an array member variable name and if the value doesn't match
+            // the input type expected for this column
+            if (data != null
+                && !data.isEmpty()
+                && !(column == variableNameIndex
+                     && ArrayVariable.isArrayMember(data))
+                && typeDefn.getInputTypes()[column] != null
+                && !data.matches(typeDefn.getInputTypes()[column].getInputMatch()))
+            {
+                // Value doesn't match the input type specified in the type definition
+                tableIssues.add(new TableIssue("Table '"
+                                               + tableInfo.getProtoVariableName()
+                                               + "' row "
+                                               + row
+                                               + " column '"
+                                               + typeDefn.getColumnNamesUser()[column]
+                                               + "' input type mismatch",
+                                               "Replace with a blank",
+                                               row,
+                                               column,
+                                               "",
+                                               tableInfo));
+            }
+        }
 
-        // Check if this isn't the first row
-        if (row != 0)
+        /******************************************************************************************
+         * Check if an extra array member exists
+         *
+         * @param tableInfo
+         *            reference to the table information
+         *
+         * @param row
+         *            row index
+         *
+         * @param arrayName
+         *            array variable name
+         *
+         * @return true if an extra array member is detected
+         *****************************************************************************************/
+        private boolean checkExcessArrayMember(TableInformation tableInfo,
+                                               int row,
+                                               String arrayName)
         {
-            // Get the variable name from the preceding row
-            String previousName = tableInfo.getData()[row - 1][variableNameIndex].toString();
+            boolean isGoToNextRow = false;
 
-            // Check if the current and previous rows contain array members
-            if (ArrayVariable.isArrayMember(arrayName)
-                && ArrayVariable.isArrayMember(previousName))
+            // Check if this isn't the first row
+            if (row != 0)
             {
-                // Remove the array index from the variable names
-                arrayName = ArrayVariable.removeArrayIndex(arrayName);
-                previousName = ArrayVariable.removeArrayIndex(previousName);
+                // Get the variable name from the preceding row
+                String previousName = tableInfo.getData()[row - 1][variableNameIndex].toString();
 
-                // Check if the variable names match
-                if (arrayName.equals(previousName))
+                // Check if the current and previous rows contain array members
+                if (ArrayVariable.isArrayMember(arrayName)
+                    && ArrayVariable.isArrayMember(previousName))
                 {
-                    // Array has an extra member
-                    issues.add(new TableIssue("Table '"
-                                              + tableInfo.getProtoVariableName()
-                                              + "' variable '"
-                                              + arrayName
-                                              + "' has an extra array member",
-                                              "Remove extra member",
-                                              row,
-                                              null,
-                                              tableInfo));
-
-                    // Set the flag indicating that no further checks are to be made for this row
-                    isGoToNextRow = true;
+                    // Remove the array index from the variable names
+                    arrayName = ArrayVariable.removeArrayIndex(arrayName);
+                    previousName = ArrayVariable.removeArrayIndex(previousName);
+
+                    // Check if the variable names match
+                    if (arrayName.equals(previousName))
+                    {
+                        // Array has an extra member
+                        tableIssues.add(new TableIssue("Table '"
+                                                       + tableInfo.getProtoVariableName()
+                                                       + "' variable '"
+                                                       + arrayName
+                                                       + "' has an extra array member",
+                                                       "Remove extra member",
+                                                       row,
+                                                       null,
+                                                       tableInfo));
+
+                        // Set the flag indicating that no further checks are to be made for this
+                        // row
+                        isGoToNextRow = true;
+                    }
                 }
             }
-        }
-
-        return isGoToNextRow;
-    }
 
-    /**********************************************************************************************
-     * Check if the expected array definition exists
-     *
-     * @param tableInfo
-     *            reference to the table information
-     *
-     * @param row
-     *            row index
-     *
-     * @param arrayName
-     *            array variable name
-     *
-     * @return true if the array definition is missing
-     *********************************************************************************************/
-    private boolean checkForArrayDefinition(TableInformation tableInfo,
-                                            int row,
-                                            String arrayName)
-    {
-        boolean isMissing = false;
+            return isGoToNextRow;
+        }
 
-        // Check if an array member is found instead of the expected array definition
-        if (ArrayVariable.isArrayMember(arrayName))
+        /******************************************************************************************
+         * Check if the expected array definition exists
+         *
+         * @param tableInfo
+         *            reference to the table information
+         *
+         * @param row
+         *            row index
+         *
+         * @param arrayName
+         *            array variable name
+         *
+         * @return true if the array definition is missing
+         *****************************************************************************************/
+        private boolean checkForArrayDefinition(TableInformation tableInfo,
+                                                int row,
+                                                String arrayName)
         {
-            // Get the expected variable name for the array definition
-            arrayName = ArrayVariable.removeArrayIndex(arrayName);
+            boolean isMissing = false;
 
-            // Array definition is missing
-            issues.add(new TableIssue("Table '"
-                                      + tableInfo.getProtoVariableName()
-                                      + "' variable '"
-                                      + arrayName
-                                      + "' is missing the array definition",
-                                      "Add missing array definition",
-                                      row,
-                                      addMissingArrayRow(tableInfo, arrayName, new int[0]),
-                                      tableInfo));
+            // Check if an array member is found instead of the expected array definition
+            if (ArrayVariable.isArrayMember(arrayName))
+            {
+                // Get the expected variable name for the array definition
+                arrayName = ArrayVariable.removeArrayIndex(arrayName);
 
-            // Set the flag indicating the array definition is missing
-            isMissing = true;
-        }
+                // Array definition is missing
+                tableIssues.add(new TableIssue("Table '"
+                                               + tableInfo.getProtoVariableName()
+                                               + "' variable '"
+                                               + arrayName
+                                               + "' is missing the array definition",
+                                               "Add missing array definition",
+                                               row,
+                                               addMissingArrayRow(tableInfo, arrayName, new int[0]),
+                                               tableInfo));
+
+                // Set the flag indicating the array definition is missing
+                isMissing = true;
+            }
 
-        return isMissing;
-    }
+            return isMissing;
+        }
 
-    /**********************************************************************************************
-     * Check if the variable name is an array member, but it doesn't match the array definition and
-     * its members or is not the next array member in sequence. This implies that one or more array
-     * members are missing as well as the next array variable's definition
-     *
-     * @param tableInfo
-     *            reference to the table information
-     *
-     * @param row
-     *            row index
-     *
-     * @param arrayName
-     *            array variable name
-     *
-     * @return true if an an array name mismatch is detected
-     *********************************************************************************************/
-    private boolean checkArrayNamesMatch(TableInformation tableInfo, int row, String arrayName)
-    {
-        boolean isMismatch = false;
+        /******************************************************************************************
+         * Check if the variable name is an array member, but it doesn't match the array definition
+         * and its members or is not the next array member in sequence. This implies that one or
+         * more array members are missing as well as the next array variable's definition
+         *
+         * @param tableInfo
+         *            reference to the table information
+         *
+         * @param row
+         *            row index
+         *
+         * @param arrayName
+         *            array variable name
+         *
+         * @return true if an an array name mismatch is detected
+         *****************************************************************************************/
+        private boolean checkArrayNamesMatch(TableInformation tableInfo, int row, String arrayName)
+        {
+            boolean isMismatch = false;
 
-        // Build the array index string for the expected array member
-        String expectedArrayIndex = ArrayVariable.formatArrayIndex(currentArrayIndex);
+            // Build the array index string for the expected array member
+            String expectedArrayIndex = ArrayVariable.formatArrayIndex(currentArrayIndex);
 
-        // Check if the variable name doesn't match the expected array member name
-        if (!tableInfo.getData()[row][variableNameIndex].toString().matches(Pattern.quote(arrayName
-                                                                                          + expectedArrayIndex)))
-        {
-            // Expected array member is missing
-            issues.add(new TableIssue("Table '"
-                                      + tableInfo.getProtoVariableName()
-                                      + "' variable '"
-                                      + arrayName
-                                      + "' is missing array member "
-                                      + expectedArrayIndex,
-                                      "Add missing array member",
-                                      row,
-                                      addMissingArrayRow(tableInfo, arrayName, currentArrayIndex),
-                                      tableInfo));
+            // Check if the variable name doesn't match the expected array member name
+            if (!tableInfo.getData()[row][variableNameIndex].toString().matches(Pattern.quote(arrayName
+                                                                                              + expectedArrayIndex)))
+            {
+                // Expected array member is missing
+                tableIssues.add(new TableIssue("Table '"
+                                               + tableInfo.getProtoVariableName()
+                                               + "' variable '"
+                                               + arrayName
+                                               + "' is missing array member "
+                                               + expectedArrayIndex,
+                                               "Add missing array member",
+                                               row,
+                                               addMissingArrayRow(tableInfo, arrayName, currentArrayIndex),
+                                               tableInfo));
+
+                isMismatch = true;
+            }
 
-            isMismatch = true;
+            return isMismatch;
         }
 
-        return isMismatch;
-    }
-
-    /**********************************************************************************************
-     * Check if the array size is the same for the array definition and all of it members
-     *
-     * @param tableInfo
-     *            reference to the table information
-     *
-     * @param row
-     *            row index
-     *
-     * @param arrayName
-     *            array variable name
-     *
-     * @param arraySize
-     *            number of members in the array
-     *********************************************************************************************/
-    private void checkArraySizesMatch(TableInformation tableInfo,
-                                      int row,
-                                      String arrayName,
-                                      String arraySize)
-    {
-        // Check if the member's array size doesn't match the array definition
-        if (!arraySize.equals(tableInfo.getData()[row][arraySizeIndex]))
-        {
-            // Array size doesn't match the array definition
-            issues.add(new TableIssue("Table '"
-                                      + tableInfo.getProtoVariableName()
-                                      + "' variable '"
-                                      + arrayName
-                                      + "' array member "
-                                      + ArrayVariable.formatArrayIndex(currentArrayIndex)
-                                      + " array size doesn't match the array definition "
-                                      + tableInfo.getData()[row][arraySizeIndex],
-                                      "Change array size",
-                                      row,
-                                      arraySizeIndex,
-                                      arraySize,
-                                      tableInfo));
+        /******************************************************************************************
+         * Check if the array size is the same for the array definition and all of it members
+         *
+         * @param tableInfo
+         *            reference to the table information
+         *
+         * @param row
+         *            row index
+         *
+         * @param arrayName
+         *            array variable name
+         *
+         * @param arraySize
+         *            number of members in the array
+         *****************************************************************************************/
+        private void checkArraySizesMatch(TableInformation tableInfo,
+                                          int row,
+                                          String arrayName,
+                                          String arraySize)
+        {
+            // Check if the member's array size doesn't match the array definition
+            if (!arraySize.equals(tableInfo.getData()[row][arraySizeIndex]))
+            {
+                // Array size doesn't match the array definition
+                tableIssues.add(new TableIssue("Table '"
+                                               + tableInfo.getProtoVariableName()
+                                               + "' variable '"
+                                               + arrayName
+                                               + "' array member "
+                                               + ArrayVariable.formatArrayIndex(currentArrayIndex)
+                                               + " array size doesn't match the array definition "
+                                               + tableInfo.getData()[row][arraySizeIndex],
+                                               "Change array size",
+                                               row,
+                                               arraySizeIndex,
+                                               arraySize,
+                                               tableInfo));
+            }
         }
-    }
 
-    /**********************************************************************************************
-     * Check if the data type is the same for the array definition and all of it members
-     *
-     * @param tableInfo
-     *            reference to the table information
-     *
-     * @param row
-     *            row index
-     *
-     * @param arrayName
-     *            array variable name
-     *
-     * @param dataType
-     *            type array data type
-     *********************************************************************************************/
-    private void checkDataTypesMatch(TableInformation tableInfo,
-                                     int row,
-                                     String arrayName,
-                                     String dataType)
-    {
-        // Check if the member's array size doesn't match the array definition
-        if (!dataType.equals(tableInfo.getData()[row][dataTypeIndex]))
-        {
-            // Data type doesn't match the array definition
-            issues.add(new TableIssue("Table '"
-                                      + tableInfo.getProtoVariableName()
-                                      + "' variable '"
-                                      + arrayName
-                                      + "' array member "
-                                      + ArrayVariable.formatArrayIndex(currentArrayIndex)
-                                      + " data type doesn't match the array definition",
-                                      "Change data type",
-                                      row,
-                                      dataTypeIndex,
-                                      dataType,
-                                      tableInfo));
+        /******************************************************************************************
+         * Check if the data type is the same for the array definition and all of it members
+         *
+         * @param tableInfo
+         *            reference to the table information
+         *
+         * @param row
+         *            row index
+         *
+         * @param arrayName
+         *            array variable name
+         *
+         * @param dataType
+         *            type array data type
+         *****************************************************************************************/
+        private void checkDataTypesMatch(TableInformation tableInfo,
+                                         int row,
+                                         String arrayName,
+                                         String dataType)
+        {
+            // Check if the member's array size doesn't match the array definition
+            if (!dataType.equals(tableInfo.getData()[row][dataTypeIndex]))
+            {
+                // Data type doesn't match the array definition
+                tableIssues.add(new TableIssue("Table '"
+                                               + tableInfo.getProtoVariableName()
+                                               + "' variable '"
+                                               + arrayName
+                                               + "' array member "
+                                               + ArrayVariable.formatArrayIndex(currentArrayIndex)
+                                               + " data type doesn't match the array definition",
+                                               "Change data type",
+                                               row,
+                                               dataTypeIndex,
+                                               dataType,
+                                               tableInfo));
+            }
         }
-    }
 
-    /**********************************************************************************************
-     * Check if the array doesn't have an expected member
-     *
-     * @param tableInfo
-     *            reference to the table information
-     *
-     * @param row
-     *            row index
-     *
-     * @param arrayName
-     *            array variable name
-     *********************************************************************************************/
-    private void checkForMissingArrayMember(TableInformation tableInfo, int row, String arrayName)
-    {
-        // Check if there are remaining array members that don't exist
-        if (membersRemaining != 0)
-        {
-            // Expected array member is missing
-            issues.add(new TableIssue("Table '"
-                                      + tableInfo.getProtoVariableName()
-                                      + "' variable '"
-                                      + (ArrayVariable.isArrayMember(arrayName)
-                                                                                ? ArrayVariable.removeArrayIndex(arrayName)
-                                                                                : arrayName)
-                                      + "' is missing array member "
-                                      + ArrayVariable.formatArrayIndex(currentArrayIndex),
-                                      "Add missing array member",
-                                      row,
-                                      addMissingArrayRow(tableInfo, arrayName, currentArrayIndex),
-                                      tableInfo));
-
-            // Update the array member counter
-            membersRemaining--;
-
-            // Update the current array index value(s)
-            goToNextArrayMember();
+        /******************************************************************************************
+         * Check if the array doesn't have an expected member
+         *
+         * @param tableInfo
+         *            reference to the table information
+         *
+         * @param row
+         *            row index
+         *
+         * @param arrayName
+         *            array variable name
+         *****************************************************************************************/
+        private void checkForMissingArrayMember(TableInformation tableInfo, int row, String arrayName)
+        {
+            // Check if there are remaining array members that don't exist
+            if (membersRemaining != 0)
+            {
+                // Expected array member is missing
+                tableIssues.add(new TableIssue("Table '"
+                                               + tableInfo.getProtoVariableName()
+                                               + "' variable '"
+                                               + (ArrayVariable.isArrayMember(arrayName)
+                                                                                         ? ArrayVariable.removeArrayIndex(arrayName)
+                                                                                         : arrayName)
+                                               + "' is missing array member "
+                                               + ArrayVariable.formatArrayIndex(currentArrayIndex),
+                                               "Add missing array member",
+                                               row,
+                                               addMissingArrayRow(tableInfo, arrayName, currentArrayIndex),
+                                               tableInfo));
+
+                // Update the array member counter
+                membersRemaining--;
+
+                // Update the current array index value(s)
+                goToNextArrayMember();
+            }
         }
-    }
 
-    /**********************************************************************************************
-     * Check if a row index doesn't match the expected value
-     *
-     * @param tableInfo
-     *            reference to the table information
-     *********************************************************************************************/
-    private void checkForRowIndexMismatch(TableInformation tableInfo)
-    {
-        // Step through each row in the table
-        for (int row = 0; row < tableInfo.getData().length && !haltDlg.isHalted(); row++)
+        /******************************************************************************************
+         * Check if a row index doesn't match the expected value
+         *
+         * @param tableInfo
+         *            reference to the table information
+         *****************************************************************************************/
+        private void checkForRowIndexMismatch(TableInformation tableInfo)
         {
-            // Check if the row index doesn't match the next consecutive row number
-            if (!tableInfo.getData()[row][rowIndex].equals(String.valueOf(row + 1)))
+            // Step through each row in the table
+            for (int row = 0; row < tableInfo.getData().length && !haltDlg.isHalted(); row++)
             {
-                // Row index mismatch
-                issues.add(new TableIssue("Table '"
-                                          + tableInfo.getProtoVariableName()
-                                          + "' row "
-                                          + (row + 1)
-                                          + " index mismatch",
-                                          "Update row index",
-                                          row,
-                                          rowIndex,
-                                          String.valueOf(row + 1),
-                                          tableInfo));
-
-                // Stop checking the row indices
-                break;
+                // Check if the row index doesn't match the next consecutive row number
+                if (!tableInfo.getData()[row][rowIndex].equals(String.valueOf(row + 1)))
+                {
+                    // Row index mismatch
+                    tableIssues.add(new TableIssue("Table '"
+                                                   + tableInfo.getProtoVariableName()
+                                                   + "' row "
+                                                   + (row + 1)
+                                                   + " index mismatch",
+                                                   "Update row index",
+                                                   row,
+                                                   rowIndex,
+                                                   String.valueOf(row + 1),
+                                                   tableInfo));
+
+                    // Stop checking the row indices
+                    break;
+                }
             }
         }
-    }
 
-    /**********************************************************************************************
-     * Check if a column marked as unique for this table type has duplicate values in one or more
-     * rows
-     *
-     * @param tableInfo
-     *            reference to the table information
-     *********************************************************************************************/
-    private void checkForDuplicates(TableInformation tableInfo)
-    {
-        String[] columnValues = new String[tableInfo.getData().length];
+        /******************************************************************************************
+         * Check if a column marked as unique for this table type has duplicate values in one or
+         * more rows
+         *
+         * @param tableInfo
+         *            reference to the table information
+         *****************************************************************************************/
+        private void checkForDuplicates(TableInformation tableInfo)
+        {
+            String[] columnValues = new String[tableInfo.getData().length];
 
-        // Get the comment array for this table
-        String[] comment = dbTable.getTableComment(tableInfo.getTablePath(), comments);
+            // Get the comment array for this table
+            String[] comment = dbTable.getTableComment(tableInfo.getTablePath(), comments);
 
-        // Get the table's type definition
-        TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(comment[TableCommentIndex.TYPE.ordinal()]);
+            // Get the table's type definition
+            TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(comment[TableCommentIndex.TYPE.ordinal()]);
 
-        // Step through each column in the table
-        for (int column = 0; column < tableInfo.getData()[0].length && !haltDlg.isHalted(); column++)
-        {
-            // Check if the values in this column must be unique
-            if (typeDefn != null && typeDefn.isRowValueUnique()[column])
+            // Step through each column in the table
+            for (int column = 0; column < tableInfo.getData()[0].length && !haltDlg.isHalted(); column++)
             {
-                // Step through each row in the table
-                for (int row = 0; row < tableInfo.getData().length - 1 && !haltDlg.isHalted(); row++)
+                // Check if the values in this column must be unique
+                if (typeDefn != null && typeDefn.isRowValueUnique()[column])
                 {
-                    // Store the column value in the temporary column value array, expanding any
-                    // macros in the value. The temporary column values are stored so that macro
-                    // expansion need only be done once per table cell, which speeds the comparison
-                    // below
-                    columnValues[row] = !tableInfo.getData()[row][column].toString().isEmpty()
-                                                                                               ? macroHandler.getMacroExpansion(tableInfo.getData()[row][column].toString())
-                                                                                               : "";
-                }
+                    // Step through each row in the table
+                    for (int row = 0; row < tableInfo.getData().length - 1 && !haltDlg.isHalted(); row++)
+                    {
+                        // Store the column value in the temporary column value array, expanding any
+                        // macros in the value. The temporary column values are stored so that macro
+                        // expansion need only be done once per table cell, which speeds the
+                        // comparison below
+                        columnValues[row] = !tableInfo.getData()[row][column].toString().isEmpty()
+                                                                                                   ? macroHandler.getMacroExpansion(tableInfo.getData()[row][column].toString())
+                                                                                                   : "";
+                    }
 
-                // Step through each row in the table
-                for (int row = 0; row < tableInfo.getData().length - 1 && !haltDlg.isHalted(); row++)
-                {
-                    // Step through the remaining rows in the table
-                    for (int otherRow = row + 1; otherRow < tableInfo.getData().length && !haltDlg.isHalted(); otherRow++)
+                    // Step through each row in the table
+                    for (int row = 0; row < tableInfo.getData().length - 1 && !haltDlg.isHalted(); row++)
                     {
-                        // Check if the values in the columns for these two rows match and that the
-                        // values aren't blank
-                        if (!columnValues[row].isEmpty()
-                            && columnValues[row].equals(columnValues[otherRow]))
+                        // Step through the remaining rows in the table
+                        for (int otherRow = row + 1; otherRow < tableInfo.getData().length && !haltDlg.isHalted(); otherRow++)
                         {
-                            // Duplicate item exists in a column designated as having unique values
-                            issues.add(new TableIssue("Table '"
-                                                      + tableInfo.getProtoVariableName()
-                                                      + "' column '"
-                                                      + typeDefn.getColumnNamesUser()[column]
-                                                      + "' rows "
-                                                      + (row + 1)
-                                                      + " and "
-                                                      + (otherRow + 1)
-                                                      + " have duplicate values",
-                                                      "Replace with a blank",
-                                                      otherRow,
-                                                      column,
-                                                      "",
-                                                      tableInfo));
+                            // Check if the values in the columns for these two rows match and that
+                            // the values aren't blank
+                            if (!columnValues[row].isEmpty()
+                                && columnValues[row].equals(columnValues[otherRow]))
+                            {
+                                // Duplicate item exists in a column designated as having unique
+                                // values
+                                tableIssues.add(new TableIssue("Table '"
+                                                               + tableInfo.getProtoVariableName()
+                                                               + "' column '"
+                                                               + typeDefn.getColumnNamesUser()[column]
+                                                               + "' rows "
+                                                               + (row + 1)
+                                                               + " and "
+                                                               + (otherRow + 1)
+                                                               + " have duplicate values",
+                                                               "Replace with a blank",
+                                                               otherRow,
+                                                               column,
+                                                               "",
+                                                               tableInfo));
+                            }
                         }
                     }
                 }
             }
         }
-    }
 
-    /**********************************************************************************************
-     * Add a missing array definition or member
-     *
-     * @param tableInfo
-     *            reference to the table information
-     *
-     * @param arrayName
-     *            array variable name
-     *
-     * @param arrayMemberIndex
-     *            current array member index
-     *
-     * @return Array containing the new array row data
-     *********************************************************************************************/
-    private String[] addMissingArrayRow(TableInformation tableInfo,
-                                        String arrayName,
-                                        int[] arrayMemberIndex)
-    {
-        // Check if this row represents an array member
-        if (arrayMemberIndex.length != 0)
+        /******************************************************************************************
+         * Add a missing array definition or member
+         *
+         * @param tableInfo
+         *            reference to the table information
+         *
+         * @param arrayName
+         *            array variable name
+         *
+         * @param arrayMemberIndex
+         *            current array member index
+         *
+         * @return Array containing the new array row data
+         *****************************************************************************************/
+        private String[] addMissingArrayRow(TableInformation tableInfo,
+                                            String arrayName,
+                                            int[] arrayMemberIndex)
         {
-            // Build the variable name for the expected array member
-            arrayName = arrayName + ArrayVariable.formatArrayIndex(arrayMemberIndex);
-        }
+            // Check if this row represents an array member
+            if (arrayMemberIndex.length != 0)
+            {
+                // Build the variable name for the expected array member
+                arrayName = arrayName + ArrayVariable.formatArrayIndex(arrayMemberIndex);
+            }
 
-        // Create an empty row
-        String[] arrayRow = new String[tableInfo.getData()[definitionRow].length];
-        Arrays.fill(arrayRow, "");
+            // Create an empty row
+            String[] arrayRow = new String[tableInfo.getData()[definitionRow].length];
+            Arrays.fill(arrayRow, "");
 
-        // Initialize the primary key and row index for the new row, and replace the variable name
-        // with the expected array name
-        arrayRow[primaryKeyIndex] = "";
-        arrayRow[rowIndex] = "";
-        arrayRow[variableNameIndex] = arrayName;
-        arrayRow[dataTypeIndex] = tableInfo.getData()[definitionRow][dataTypeIndex].toString();
-        arrayRow[arraySizeIndex] = tableInfo.getData()[definitionRow][arraySizeIndex].toString();
+            // Initialize the primary key and row index for the new row, and replace the variable
+            // name with the expected array name
+            arrayRow[primaryKeyIndex] = "";
+            arrayRow[rowIndex] = "";
+            arrayRow[variableNameIndex] = arrayName;
+            arrayRow[dataTypeIndex] = tableInfo.getData()[definitionRow][dataTypeIndex].toString();
+            arrayRow[arraySizeIndex] = tableInfo.getData()[definitionRow][arraySizeIndex].toString();
 
-        // Set the flag indicating a table changed
-        isChanges = true;
+            // Set the flag indicating a table changed
+            isChanges = true;
 
-        return arrayRow;
+            return arrayRow;
+        }
     }
 
     /**********************************************************************************************
@@ -2751,6 +3511,9 @@ public class CcddDbVerificationHandler
         // Initialize the event log status message
         String message = "No project database inconsistencies detected";
 
+        // Names of the tables altered by the corrections
+        Set<String> fixedTables = new HashSet<String>();
+
         // Check if any issues exist
         if (!issues.isEmpty())
         {
@@ -3099,11 +3862,18 @@ public class CcddDbVerificationHandler
                         {
                             isSomeIgnored = true;
                         }
-                        // Check if the PostgreSQL command has been assigned
-                        else if (issue.getCommand() != null)
+                        // The issue is to be fixed
+                        else
                         {
-                            // Add the command to fix the issue to the command string
-                            command += issue.getCommand();
+                            // Add the tables altered by the fix to the list
+                            addFixedTables(issue, fixedTables);
+
+                            // Check if the PostgreSQL command has been assigned
+                            if (issue.getCommand() != null)
+                            {
+                                // Add the command to fix the issue to the command string
+                                command += issue.getCommand();
+                            }
                         }
 
                         row++;
@@ -3217,12 +3987,8 @@ public class CcddDbVerificationHandler
                     // Check if an errors occurred when making the updates
                     if (!isErrors)
                     {
-                        // Release the save point. This must be done within a transaction block, so
-                        // it must be done prior to the commit below
-                        dbCommand.releaseSavePoint(ccddMain.getMainFrame());
-
-                        // Commit the change(s) to the database
-                        dbControl.getConnection().commit();
+                        // Release the save point and commit the change(s) to the database
+                        dbCommand.commitSavePoint(ccddMain.getMainFrame());
 
                         // Update the various handlers so that the updated internal tables will now
                         // be in use
@@ -3289,5 +4055,8 @@ public class CcddDbVerificationHandler
 
         // Log the consistency check completion message
         eventLog.logEvent(STATUS_MSG, message);
+
+        // Store the content hashes of the tables that verified without issue
+        storeVerifiedTableHashes(fixedTables);
     }
 }
@@ -10,8 +10,11 @@ package CCDD;
 import static CCDD.CcddConstants.CCDD_ICON;
 import static CCDD.CcddConstants.CLOSE_ICON;
 import static CCDD.CcddConstants.LAF_SCROLL_BAR_WIDTH;
+import static CCDD.CcddConstants.LEFT_ICON;
 import static CCDD.CcddConstants.PRINT_ICON;
+import static CCDD.CcddConstants.RIGHT_ICON;
 import static CCDD.CcddConstants.SEARCH_ICON;
+import static CCDD.CcddConstants.EventLogMessageType.COMMAND_MSG;
 import static CCDD.CcddConstants.EventLogMessageType.FAIL_MSG;
 
 import java.awt.AlphaComposite;
@@ -27,15 +30,17 @@ import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
 import java.awt.print.PageFormat;
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
 
 import javax.imageio.ImageIO;
 import javax.swing.BorderFactory;
@@ -50,6 +55,7 @@ import javax.swing.ListSelectionModel;
 import javax.swing.RowFilter;
 import javax.swing.SwingConstants;
 import javax.swing.SwingUtilities;
+import javax.swing.Timer;
 import javax.swing.border.EtchedBorder;
 import javax.swing.filechooser.FileNameExtensionFilter;
 import javax.swing.table.DefaultTableModel;
@@ -107,6 +113,204 @@ public class CcddEventLogDialog extends CcddFrameHandler
     // CCDD logo graphic
     private BufferedImage image;
 
+    // Handler for reading an existing event log file, the row index (zero-based) of the first log
+    // entry in the displayed page of entries, and the page change buttons
+    private CcddEventLogFileHandler logFileHandler;
+    private int pageFirstRow;
+    private JButton btnPrevious;
+    private JButton btnNext;
+
+    // Events awaiting output to the session log file and table, and the thread that outputs them
+    private LogEventRing pendingEvents;
+    private Thread logWriterThread;
+
+    // Flag indicating if the log writer thread is waiting for events to output
+    private volatile boolean isWriterWaiting;
+
+    // Flag indicating if the session log file is closed
+    private volatile boolean isLogClosed;
+
+    // Number of threads in the process of queuing an event for the log writer. The writer doesn't
+    // end while an event that was accepted before the log closed is still being queued
+    private final AtomicInteger queuingThreads = new AtomicInteger();
+
+    // Events written to the session log file that await insertion into the log table, and the
+    // timer that limits how often the table is updated
+    private List<LogEntry> tableEvents;
+    private Timer tableUpdateTimer;
+
+    // Maximum number of events that can await output, and the maximum number output in one batch
+    private static final int RING_CAPACITY = 8192;
+    private static final int MAX_WRITE_BATCH = 1024;
+
+    // Time, in milliseconds, the log writer waits for new events before checking again for events
+    // or log closure, and the minimum interval between log table updates
+    private static final int WRITER_WAIT_TIME = 250;
+    private static final int TABLE_UPDATE_INTERVAL = 100;
+
+    /**********************************************************************************************
+     * Event log entry class
+     *********************************************************************************************/
+    private static class LogEntry
+    {
+        private final String server;
+        private final String database;
+        private final String user;
+        private final EventLogMessageType type;
+        private final String timestamp;
+        private final String message;
+
+        /******************************************************************************************
+         * Event log entry class constructor
+         *
+         * @param server
+         *            server host and port
+         *
+         * @param database
+         *            database connection
+         *
+         * @param user
+         *            user name
+         *
+         * @param type
+         *            message type (e.g., COMMAND_MSG)
+         *
+         * @param timestamp
+         *            date and time when event occurred
+         *
+         * @param message
+         *            event's log message
+         *****************************************************************************************/
+        LogEntry(String server,
+                 String database,
+                 String user,
+                 EventLogMessageType type,
+                 String timestamp,
+                 String message)
+        {
+            this.server = server;
+            this.database = database;
+            this.user = user;
+            this.type = type;
+            this.timestamp = timestamp;
+            this.message = message;
+        }
+    }
+
+    /**********************************************************************************************
+     * Event log ring buffer class. Holds the events awaiting output in the order logged. Events
+     * can be added by any number of threads without locking; only the log writer thread removes
+     * events. A thread adding an event when the buffer is full waits until the writer removes an
+     * event, unless the writer has ended
+     *********************************************************************************************/
+    private static class LogEventRing
+    {
+        private final AtomicReferenceArray<LogEntry> slots;
+        private final int mask;
+        private final AtomicLong tail;
+        private volatile long head;
+
+        /******************************************************************************************
+         * Event log ring buffer class constructor
+         *
+         * @param capacity
+         *            maximum number of events held; must be a power of 2
+         *****************************************************************************************/
+        LogEventRing(int capacity)
+        {
+            slots = new AtomicReferenceArray<LogEntry>(capacity);
+            mask = capacity - 1;
+            tail = new AtomicLong(0);
+            head = 0;
+        }
+
+        /******************************************************************************************
+         * Add an event to the buffer
+         *
+         * @param entry
+         *            event to add
+         *
+         * @param writer
+         *            log writer thread
+         *
+         * @return true if the event is added; false if the buffer is full and the log writer
+         *         thread has ended, in which case the event must be output directly
+         *****************************************************************************************/
+        protected boolean add(LogEntry entry, Thread writer)
+        {
+            boolean isAdded = true;
+
+            // Claim the next position in the buffer
+            long sequence = tail.getAndIncrement();
+
+            // Wait while the buffer is full and the log writer is able to remove events
+            while (sequence - head >= slots.length() && isAdded)
+            {
+                // Check if the log writer has ended
+                if (!writer.isAlive())
+                {
+                    // Abandon the claimed position; the buffer is no longer in use
+                    isAdded = false;
+                }
+                // The log writer is running
+                else
+                {
+                    Thread.yield();
+                }
+            }
+
+            // Check if the buffer has room for the event
+            if (isAdded)
+            {
+                // Store the event in the claimed position. The event becomes visible to the
+                // writer once stored
+                slots.set((int) (sequence & mask), entry);
+            }
+
+            return isAdded;
+        }
+
+        /******************************************************************************************
+         * Remove the events from the buffer, in the order added, up to the specified maximum.
+         * Only the log writer thread may call this method
+         *
+         * @param maxEntries
+         *            maximum number of events to remove
+         *
+         * @return List containing the events removed; empty if no event is available
+         *****************************************************************************************/
+        protected List<LogEntry> drain(int maxEntries)
+        {
+            List<LogEntry> entries = new ArrayList<LogEntry>();
+            long next = head;
+            LogEntry entry = slots.get((int) (next & mask));
+
+            // Continue while an event is available and the maximum isn't reached
+            while (entry != null && entries.size() < maxEntries)
+            {
+                // Remove the event from the buffer, then free its position for reuse
+                entries.add(entry);
+                slots.set((int) (next & mask), null);
+                next++;
+                head = next;
+
+                entry = slots.get((int) (next & mask));
+            }
+
+            return entries;
+        }
+
+        /******************************************************************************************
+         * Check if the buffer contains no events, including events being added
+         *
+         * @return true if the buffer is empty
+         *****************************************************************************************/
+        protected boolean isEmpty()
+        {
+            return tail.get() == head;
+        }
+    }
+
     /**********************************************************************************************
      * Event log class constructor
      *
@@ -210,6 +414,13 @@ public class CcddEventLogDialog extends CcddFrameHandler
             // Create the event log window
             createEventLogWindow(!isOpenSingleEntry);
 
+            // Check if this is the current session's event log
+            if (isSessionLog)
+            {
+                // Start the thread that outputs the logged events to the log file and table
+                startLogWriter();
+            }
+
             // Check if this log can display multiple log entries (this prevents reopening the log
             // entry for a single entry table)
             if (!isOpenSingleEntry)
@@ -285,9 +496,62 @@ public class CcddEventLogDialog extends CcddFrameHandler
                     }
                 });
 
-                // Create a panel for the dialog buttons and add the buttons to the panel
+                // Create a panel for the dialog buttons
                 JPanel buttonPnl = new JPanel();
                 buttonPnl.setBorder(BorderFactory.createEmptyBorder());
+
+                // Check if this log can display multiple log entries
+                if (!isOpenSingleEntry)
+                {
+                    // Previous page button
+                    btnPrevious = CcddButtonPanelHandler.createButton("Previous",
+                                                                      LEFT_ICON,
+                                                                      KeyEvent.VK_R,
+                                                                      "Display the previous page of log entries");
+
+                    // Add a listener for the Previous button
+                    btnPrevious.addActionListener(new ActionListener()
+                    {
+                        /**************************************************************************
+                         * Display the previous page of log entries
+                         *************************************************************************/
+                        @Override
+                        public void actionPerformed(ActionEvent ae)
+                        {
+                            showEventLogPage(Math.max(0,
+                                                      pageFirstRow
+                                                         - ModifiableSizeInfo.EVENT_LOG_PAGE_SIZE.getSize()));
+                        }
+                    });
+
+                    // Next page button
+                    btnNext = CcddButtonPanelHandler.createButton("Next",
+                                                                  RIGHT_ICON,
+                                                                  KeyEvent.VK_N,
+                                                                  "Display the next page of log entries");
+
+                    // Add a listener for the Next button
+                    btnNext.addActionListener(new ActionListener()
+                    {
+                        /**************************************************************************
+                         * Display the next page of log entries
+                         *************************************************************************/
+                        @Override
+                        public void actionPerformed(ActionEvent ae)
+                        {
+                            showEventLogPage(pageFirstRow
+                                             + ModifiableSizeInfo.EVENT_LOG_PAGE_SIZE.getSize());
+                        }
+                    });
+
+                    // Set the page button states for the first page and add the buttons to the
+                    // panel
+                    updatePageButtons();
+                    buttonPnl.add(btnPrevious);
+                    buttonPnl.add(btnNext);
+                }
+
+                // Add the remaining buttons to the panel
                 buttonPnl.add(btnSearch);
                 buttonPnl.add(btnPrint);
                 buttonPnl.add(btnClose);
@@ -297,7 +561,7 @@ public class CcddEventLogDialog extends CcddFrameHandler
                             logPanel,
                             buttonPnl,
                             btnClose,
-                            "Event Log: " + logFile.getName(),
+                            getEventLogTitle(),
                             null);
             }
         }
@@ -337,6 +601,14 @@ public class CcddEventLogDialog extends CcddFrameHandler
     {
         // Remove this event log dialog from the list of open event logs
         ccddMain.getEventLogs().remove(CcddEventLogDialog.this);
+
+        // Check if an existing event log file is open for reading
+        if (logFileHandler != null)
+        {
+            // Close the event log file
+            logFileHandler.close();
+            logFileHandler = null;
+        }
     }
 
     /**********************************************************************************************
@@ -398,7 +670,7 @@ public class CcddEventLogDialog extends CcddFrameHandler
                 setTableWidth(totalWidth + LAF_SCROLL_BAR_WIDTH);
 
                 // Set the dialog's title so that it includes the event log file name
-                setTitle("Event Log: " + logFile.getName());
+                setTitle(getEventLogTitle());
 
                 // Clear the event log list since it is no longer needed
                 eventLogList.clear();
@@ -874,7 +1146,9 @@ public class CcddEventLogDialog extends CcddFrameHandler
     }
 
     /**********************************************************************************************
-     * Read an existing event log file
+     * Read an existing event log file. The file is opened for reading and the log entries for the
+     * first page are loaded; the remaining entries are read from the file only when their page is
+     * displayed
      *
      * @param targetRow
      *            row index a specific log entry in an existing log to display in a stand-alone
@@ -885,54 +1159,34 @@ public class CcddEventLogDialog extends CcddFrameHandler
     {
         try
         {
-            // Create a log reader
-            BufferedReader logReader = new BufferedReader(new FileReader(logFile));
+            // Open the event log file for reading
+            logFileHandler = new CcddEventLogFileHandler(logFile);
+            pageFirstRow = 0;
 
-            // Read first line in file
-            String line = logReader.readLine();
-
-            // Log entry row index
-            long row = 1;
-
-            // Continue to read the file until EOF is reached or an error is detected
-            while (line != null)
+            // Check if a target row is provided (i.e., only a single log entry is loaded for this
+            // event log)
+            if (targetRow != null)
             {
-                // Break the input line into its separate columns
-                String[] parts = line.split("[|]", EventColumns.values().length - 1);
+                // Get the target log entry from the file
+                String line = logFileHandler.getLine((int) (targetRow - 1));
 
-                // Check if no target time stamp is provided, or if one is that it matches this log
-                // entry's time stamp
-                if (targetRow == null || row == targetRow)
+                // Check if the log entry exists
+                if (line != null)
                 {
-                    // Add the new event log entry. Truncate the message length if needed, unless
-                    // this is a single log entry viewer
-                    eventLogList.add(new Object[] {row,
-                                                   getServerLog(parts[EventColumns.SERVER.ordinal() - 1]),
-                                                   parts[EventColumns.PROJECT.ordinal() - 1],
-                                                   parts[EventColumns.USER.ordinal() - 1],
-                                                   getDateTimeStampLog(parts[EventColumns.TIME.ordinal() - 1]),
-                                                   getMessageType(parts[EventColumns.TYPE.ordinal() - 1]).getTypeMsg(),
-                                                   (targetRow == null
-                                                                      ? truncateLogMessage(parts[EventColumns.MESSAGE.ordinal() - 1])
-                                                                      : parts[EventColumns.MESSAGE.ordinal() - 1])});
-
-                    // Check if a target time stamp is provided (i.e., only a single log entry is
-                    // loaded for this event log)
-                    if (targetRow != null)
-                    {
-                        // Stop searching
-                        break;
-                    }
+                    // Add the log entry without truncating the message length
+                    addLogEntry(targetRow, line, false);
                 }
 
-                row++;
-
-                // Read the next line in the file
-                line = logReader.readLine();
+                // Close the event log file since no other entries are read from it
+                logFileHandler.close();
+                logFileHandler = null;
+            }
+            // Load all log entries, a page at a time
+            else
+            {
+                // Load the log entries for the first page
+                readEventLogPage();
             }
-
-            // Close the log reader
-            logReader.close();
         }
         catch (Exception e)
         {
@@ -945,19 +1199,325 @@ public class CcddEventLogDialog extends CcddFrameHandler
         }
     }
 
+    /**********************************************************************************************
+     * Read the log entries for the current page from the existing event log file into the event
+     * log list
+     *
+     * @throws IOException
+     *             If an error occurs reading the log file
+     *********************************************************************************************/
+    private void readEventLogPage() throws IOException
+    {
+        int lastRow = pageFirstRow + ModifiableSizeInfo.EVENT_LOG_PAGE_SIZE.getSize();
+
+        // Step through each log entry in the page
+        for (int row = pageFirstRow; row < lastRow; row++)
+        {
+            // Get the log entry from the file
+            String line = logFileHandler.getLine(row);
+
+            // Check if the end of the file has been reached
+            if (line == null)
+            {
+                // Stop reading
+                break;
+            }
+
+            // Add the log entry, truncating the message length if needed
+            addLogEntry(row + 1, line, true);
+        }
+    }
+
+    /**********************************************************************************************
+     * Add a log entry read from an existing event log file to the event log list. Lines that
+     * don't contain all of the log entry columns are ignored
+     *
+     * @param row
+     *            log entry row number
+     *
+     * @param line
+     *            log entry line from the event log file
+     *
+     * @param isTruncate
+     *            true to truncate the log message if its length exceeds the maximum allowed
+     *********************************************************************************************/
+    private void addLogEntry(long row, String line, boolean isTruncate)
+    {
+        // Break the input line into its separate columns
+        String[] parts = CcddEventLogFileHandler.splitLine(line);
+
+        // Check if the line contains all of the log entry columns
+        if (parts.length == EventColumns.values().length - 1)
+        {
+            // Add the new event log entry. Truncate the message length if needed
+            eventLogList.add(new Object[] {row,
+                                           getServerLog(parts[EventColumns.SERVER.ordinal() - 1]),
+                                           parts[EventColumns.PROJECT.ordinal() - 1],
+                                           parts[EventColumns.USER.ordinal() - 1],
+                                           getDateTimeStampLog(parts[EventColumns.TIME.ordinal() - 1]),
+                                           getMessageType(parts[EventColumns.TYPE.ordinal() - 1]).getTypeMsg(),
+                                           (isTruncate
+                                                       ? truncateLogMessage(parts[EventColumns.MESSAGE.ordinal() - 1])
+                                                       : parts[EventColumns.MESSAGE.ordinal() - 1])});
+        }
+    }
+
+    /**********************************************************************************************
+     * Display the page of log entries beginning with the specified row from the existing event
+     * log file
+     *
+     * @param firstRow
+     *            row index (zero-based) of the first log entry in the page
+     *********************************************************************************************/
+    private void showEventLogPage(int firstRow)
+    {
+        try
+        {
+            // Check if the page contains at least one log entry
+            if (logFileHandler.hasLine(firstRow))
+            {
+                // Load the page's log entries
+                pageFirstRow = firstRow;
+                eventLogList.clear();
+                readEventLogPage();
+
+                // Place the log entries into the table, then reset the table's row sorter and
+                // event type filter
+                eventTable.loadAndFormatData();
+                eventTable.setRowSorter(null);
+                eventTable.setTableSortable();
+            }
+
+            // Update the page button states
+            updatePageButtons();
+        }
+        catch (IOException ioe)
+        {
+            // Inform the user that an error occurred reading the log
+            new CcddDialogHandler().showMessageDialog(CcddEventLogDialog.this,
+                                                      "<html><b>Cannot read event log file",
+                                                      "Log Error",
+                                                      JOptionPane.WARNING_MESSAGE,
+                                                      DialogOption.OK_OPTION);
+        }
+    }
+
+    /**********************************************************************************************
+     * Enable or disable the page change buttons based on the displayed page's position in the
+     * existing event log file
+     *********************************************************************************************/
+    private void updatePageButtons()
+    {
+        boolean isNextPage = false;
+
+        try
+        {
+            // Determine if a log entry exists following the displayed page
+            isNextPage = logFileHandler != null
+                         && logFileHandler.hasLine(pageFirstRow
+                                                   + ModifiableSizeInfo.EVENT_LOG_PAGE_SIZE.getSize());
+        }
+        catch (IOException ioe)
+        {
+            // Ignore the error; the next page is treated as not existing
+        }
+
+        btnPrevious.setEnabled(pageFirstRow != 0);
+        btnNext.setEnabled(isNextPage);
+    }
+
+    /**********************************************************************************************
+     * Get the event log window title. For an existing event log file that contains more than a
+     * single page of log entries the title includes the range of entries displayed
+     *
+     * @return The event log window title
+     *********************************************************************************************/
+    private String getEventLogTitle()
+    {
+        String title = "Event Log: " + logFile.getName();
+
+        // Check if an existing event log file is displayed
+        if (logFileHandler != null)
+        {
+            try
+            {
+                int lastRow = pageFirstRow + ModifiableSizeInfo.EVENT_LOG_PAGE_SIZE.getSize();
+                boolean isNextPage = logFileHandler.hasLine(lastRow);
+
+                // Check if the log has more entries than fit on a single page
+                if (pageFirstRow != 0 || isNextPage)
+                {
+                    // Add the displayed entry range to the title. The total number of entries is
+                    // included once the entire file has been indexed
+                    title += "  [entries "
+                             + (pageFirstRow + 1)
+                             + " - "
+                             + (isNextPage
+                                           ? lastRow
+                                           : logFileHandler.getLineCount())
+                             + (logFileHandler.isIndexComplete()
+                                                                 ? " of " + logFileHandler.getLineCount()
+                                                                 : "")
+                             + "]";
+                }
+            }
+            catch (IOException ioe)
+            {
+                // Ignore the error; the entry range isn't included in the title
+            }
+        }
+
+        return title;
+    }
+
     /**********************************************************************************************
      * Close the event log file
      *********************************************************************************************/
     protected void closeEventLogFile()
     {
+        // Set the flag to indicate subsequent events aren't queued for the log writer
+        isLogClosed = true;
+
+        // Check if the log writer thread exists
+        if (logWriterThread != null)
+        {
+            // Wake the log writer so that it outputs any remaining events and then ends
+            LockSupport.unpark(logWriterThread);
+
+            try
+            {
+                // Wait for the log writer to output the events accepted before the log closed
+                logWriterThread.join();
+            }
+            catch (InterruptedException ie)
+            {
+                // Restore the interrupt status; the log file is closed regardless
+                Thread.currentThread().interrupt();
+            }
+
+            // Check if the log writer has ended
+            if (!logWriterThread.isAlive())
+            {
+                // Write any events the log writer didn't output (e.g., if it ended due to an
+                // error). The writer has ended, so the buffer can be drained by this thread
+                writeMessagesToFile(pendingEvents.drain(Integer.MAX_VALUE));
+            }
+        }
+
         // Check if the log is open
         if (isLogWrite)
         {
             // Close the event log file
+            isLogWrite = false;
             logWriter.close();
         }
     }
 
+    /**********************************************************************************************
+     * Start the thread that outputs the session log events. Events are written to the log file in
+     * batches, with the file flushed after each batch. The events written are then added to the
+     * log table; the table updates are combined so that the table is updated at most once per
+     * update interval
+     *********************************************************************************************/
+    private void startLogWriter()
+    {
+        pendingEvents = new LogEventRing(RING_CAPACITY);
+        tableEvents = new ArrayList<LogEntry>();
+
+        // Create the timer that adds the written events to the log table
+        tableUpdateTimer = new Timer(TABLE_UPDATE_INTERVAL, new ActionListener()
+        {
+            /**************************************************************************************
+             * Add the events awaiting insertion to the log table. This is executed on the event
+             * dispatch thread
+             *************************************************************************************/
+            @Override
+            public void actionPerformed(ActionEvent ae)
+            {
+                List<LogEntry> entries;
+
+                synchronized (tableEvents)
+                {
+                    // Get the events awaiting insertion and clear the list
+                    entries = new ArrayList<LogEntry>(tableEvents);
+                    tableEvents.clear();
+                }
+
+                // Add the events to the log table
+                addMessagesToTable(entries);
+            }
+        });
+        tableUpdateTimer.setRepeats(false);
+
+        // Create the log writer thread
+        logWriterThread = new Thread(new Runnable()
+        {
+            /**************************************************************************************
+             * Output the logged events until the log is closed
+             *************************************************************************************/
+            @Override
+            public void run()
+            {
+                // Continue until the log is closed, no event accepted before closing is still
+                // being queued, and all of the events are output
+                while (!isLogClosed
+                       || queuingThreads.get() != 0
+                       || !pendingEvents.isEmpty())
+                {
+                    // Get the next batch of events
+                    List<LogEntry> entries = pendingEvents.drain(MAX_WRITE_BATCH);
+
+                    // Check if any events are available
+                    if (!entries.isEmpty())
+                    {
+                        // Write the events to the log file
+                        writeMessagesToFile(entries);
+
+                        synchronized (tableEvents)
+                        {
+                            // Add the events to the list of those awaiting insertion into the log
+                            // table
+                            tableEvents.addAll(entries);
+
+                            // Check if a log table update isn't already scheduled
+                            if (!tableUpdateTimer.isRunning())
+                            {
+                                // Schedule the log table update
+                                tableUpdateTimer.start();
+                            }
+                        }
+                    }
+                    // No event is available
+                    else
+                    {
+                        // Set the flag so that the next event logged wakes this thread, then
+                        // check for events once more before waiting (in case an event was added
+                        // before the flag was set)
+                        isWriterWaiting = true;
+
+                        // Check if no event was added and the log isn't closed
+                        if (pendingEvents.isEmpty() && !isLogClosed)
+                        {
+                            // Wait for an event to be logged
+                            LockSupport.parkNanos(WRITER_WAIT_TIME * 1000000L);
+                        }
+                        // An event was just added, but is still being stored
+                        else
+                        {
+                            Thread.yield();
+                        }
+
+                        isWriterWaiting = false;
+                    }
+                }
+            }
+        }, "CCDD event log writer");
+
+        // Allow the application to exit without waiting on the log writer, then start the thread
+        logWriterThread.setDaemon(true);
+        logWriterThread.start();
+    }
+
     /**********************************************************************************************
      * Determine an event log message type by the type name
      *
@@ -1010,31 +1570,85 @@ public class CcddEventLogDialog extends CcddFrameHandler
 
         // Remove any embedded line feed characters since these interfere with parsing when reading
         // the log files
-        final String message = logMessage.replaceAll("\n", "");
+        String cleanMessage = logMessage.indexOf('\n') == -1
+                                                             ? logMessage
+                                                             : logMessage.replace("\n", "");
 
-        // Check if the log event call is made on the event dispatch thread
-        if (SwingUtilities.isEventDispatchThread())
+        // Check if this is a database command
+        if (type == COMMAND_MSG)
         {
-            // Add the message to the event log
-            addMessageToLog(server, database, user, type, timestamp, message);
+            // Shorten the command if it exceeds the maximum logged length
+            cleanMessage = shortenCommand(cleanMessage);
         }
-        // The log event call is made from a background thread
-        else
+
+        final String message = cleanMessage;
+        boolean isQueued = false;
+
+        // Check if the session log writer exists
+        if (pendingEvents != null)
         {
-            // Create a runnable object to be executed
-            SwingUtilities.invokeLater(new Runnable()
+            // Register this thread as queuing an event before checking if the log is closed. If
+            // the log closes after the check then the log writer sees the registration and
+            // doesn't end until the event is queued and output
+            queuingThreads.incrementAndGet();
+
+            try
             {
-                /**********************************************************************************
-                 * Since the log addition involves a GUI update use invokeLater to execute the call
-                 * on the event dispatch thread
-                 *********************************************************************************/
-                @Override
-                public void run()
+                // Check if the log is still open and the log writer is running
+                if (!isLogClosed && logWriterThread.isAlive())
                 {
-                    // Add the message to the event log
-                    addMessageToLog(server, database, user, type, timestamp, message);
+                    // Queue the event for output by the log writer. If the writer ends before
+                    // the event can be queued then the event is output directly
+                    isQueued = pendingEvents.add(new LogEntry(server,
+                                                              database,
+                                                              user,
+                                                              type,
+                                                              timestamp,
+                                                              message),
+                                                 logWriterThread);
                 }
-            });
+            }
+            finally
+            {
+                queuingThreads.decrementAndGet();
+            }
+
+            // Check if the event was queued and the log writer is waiting for an event
+            if (isQueued && isWriterWaiting)
+            {
+                // Wake the log writer
+                LockSupport.unpark(logWriterThread);
+            }
+        }
+
+        // Check if the event wasn't queued for the log writer (the log isn't the session log or
+        // is closed)
+        if (!isQueued)
+        {
+            // Check if the log event call is made on the event dispatch thread
+            if (SwingUtilities.isEventDispatchThread())
+            {
+                // Add the message to the event log
+                addMessageToLog(server, database, user, type, timestamp, message);
+            }
+            // The log event call is made from a background thread
+            else
+            {
+                // Create a runnable object to be executed
+                SwingUtilities.invokeLater(new Runnable()
+                {
+                    /******************************************************************************
+                     * Since the log addition involves a GUI update use invokeLater to execute the
+                     * call on the event dispatch thread
+                     *****************************************************************************/
+                    @Override
+                    public void run()
+                    {
+                        // Add the message to the event log
+                        addMessageToLog(server, database, user, type, timestamp, message);
+                    }
+                });
+            }
         }
     }
 
@@ -1171,6 +1785,138 @@ public class CcddEventLogDialog extends CcddFrameHandler
         }
     }
 
+    /**********************************************************************************************
+     * Add the supplied log entries to the event log table. This must be executed on the event
+     * dispatch thread
+     *
+     * @param entries
+     *            list of log entries to add
+     *********************************************************************************************/
+    private void addMessagesToTable(List<LogEntry> entries)
+    {
+        // Check if there are any entries to add
+        if (!entries.isEmpty())
+        {
+            int viewRow = -1;
+
+            // Step through each log entry
+            for (LogEntry entry : entries)
+            {
+                // Insert the event at the end of the event log table
+                viewRow = eventTable.insertRowData(eventTableModel.getRowCount() - 1,
+                                                   new Object[] {indexNum,
+                                                                 getServerLog(entry.server),
+                                                                 entry.database,
+                                                                 entry.user,
+                                                                 getDateTimeStampLog(entry.timestamp),
+                                                                 entry.type.getTypeMsg(),
+                                                                 truncateLogMessage(entry.message)});
+
+                // Update the log entry counter
+                indexNum++;
+            }
+
+            // Set the table row sorter. This is required so that command line options to filter
+            // the events are handled properly
+            eventTable.setTableSortable();
+
+            // Select and scroll to the last row added
+            eventTable.setSelectedRow(viewRow);
+        }
+    }
+
+    /**********************************************************************************************
+     * Write the supplied log entries to the event log file, then flush the file
+     *
+     * @param entries
+     *            list of log entries to write
+     *********************************************************************************************/
+    private void writeMessagesToFile(List<LogEntry> entries)
+    {
+        // Check if the event log file exists
+        if (isLogWrite)
+        {
+            // Step through each log entry
+            for (LogEntry entry : entries)
+            {
+                // Write the entry to the event log file
+                logWriter.print(entry.server);
+                logWriter.print('|');
+                logWriter.print(entry.database);
+                logWriter.print('|');
+                logWriter.print(entry.user);
+                logWriter.print('|');
+                logWriter.print(entry.timestamp);
+                logWriter.print('|');
+                logWriter.print(entry.type.getTypeName());
+                logWriter.print('|');
+                logWriter.println(entry.message);
+            }
+
+            logWriter.flush();
+
+            // Check if an error occurred writing to the log
+            if (logWriter.checkError())
+            {
+                // Stop writing to the log file
+                isLogWrite = false;
+
+                // Create a runnable object to be executed
+                SwingUtilities.invokeLater(new Runnable()
+                {
+                    /******************************************************************************
+                     * Since the dialog involves a GUI update use invokeLater to execute the call
+                     * on the event dispatch thread
+                     *****************************************************************************/
+                    @Override
+                    public void run()
+                    {
+                        // Inform the user that an error occurred writing to the log
+                        new CcddDialogHandler().showMessageDialog(ccddMain.getMainFrame(),
+                                                                  "<html><b>Cannot write to event log",
+                                                                  "Log Error",
+                                                                  JOptionPane.WARNING_MESSAGE,
+                                                                  DialogOption.OK_OPTION);
+                    }
+                });
+            }
+        }
+    }
+
+    /**********************************************************************************************
+     * Shorten a database command if its length exceeds the maximum logged command length. The
+     * command is reduced to its beginning and, if a tail length is set, its end, with the number
+     * of characters removed noted between them
+     *
+     * @param command
+     *            database command
+     *
+     * @return Database command, shortened if its length exceeds the maximum logged command length
+     *********************************************************************************************/
+    private String shortenCommand(String command)
+    {
+        int maxLength = ModifiableSizeInfo.MAX_LOGGED_COMMAND_LENGTH.getSize();
+
+        // Check if the command length is limited and if the command exceeds the limit
+        if (maxLength != 0 && command.length() > maxLength)
+        {
+            // Get the number of characters to retain from the end of the command; this can't
+            // exceed the maximum length
+            int tailLength = Math.min(ModifiableSizeInfo.LOGGED_COMMAND_TAIL_LENGTH.getSize(),
+                                      maxLength);
+
+            // Retain the beginning and end of the command, and note the number of characters
+            // removed
+            command = command.substring(0, maxLength - tailLength)
+                      + " ... ["
+                      + (command.length() - maxLength)
+                      + " characters] ... "
+                      + command.substring(command.length() - tailLength);
+        }
+
+        return command;
+    }
+
     /**********************************************************************************************
      * Get the current system date and time stamp
      *
@@ -1244,14 +1990,21 @@ public class CcddEventLogDialog extends CcddFrameHandler
                     && SwingUtilities.isRightMouseButton(me))
                 {
                     // Get the table row that was selected
-                    long row = eventTable.convertRowIndexToModel(eventTable.rowAtPoint(me.getPoint()));
+                    int row = eventTable.rowAtPoint(me.getPoint());
 
                     // Check if the row is valid
                     if (row != -1)
                     {
                         // Open a new event log displaying the selected log entry, without
-                        // constraining the message length
-                        new CcddEventLogDialog(ccddMain, logFile, row + 1, false);
+                        // constraining the message length. The log entry's row number is taken
+                        // from the index column since the table may display only a page of the
+                        // log's entries
+                        new CcddEventLogDialog(ccddMain,
+                                               logFile,
+                                               Long.valueOf(eventTableModel.getValueAt(eventTable.convertRowIndexToModel(row),
+                                                                                       EventColumns.INDEX.ordinal())
+                                                                           .toString()),
+                                               false);
                     }
                 }
             }
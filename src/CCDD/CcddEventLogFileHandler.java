@@ -0,0 +1,563 @@
+/**
+ * CFS Command and Data Dictionary event log file handler.
+ *
+ * Copyright 2017 United States Government as represented by the Administrator of the National
+ * Aeronautics and Space Administration. No copyright is claimed in the United States under Title
+ * 17, U.S. Code. All Other Rights Reserved.
+ */
+package CCDD;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+import CCDD.CcddConstants.EventColumns;
+
+/**************************************************************************************************
+ * CFS Command and Data Dictionary event log file handler class. The log file is accessed through
+ * memory-mapped windows so that only the portions of the file that are needed are read. An index
+ * of line offsets is built lazily as lines are requested, allowing any log entry to be retrieved
+ * without reading the entries that precede it. The file's contents are those at the time the
+ * handler is created; entries added to the file afterwards are ignored
+ *************************************************************************************************/
+public class CcddEventLogFileHandler
+{
+    // Log file reader and its channel
+    private final RandomAccessFile logReader;
+    private final FileChannel logChannel;
+
+    // Log file size, in bytes, when the handler is created
+    private final long fileSize;
+
+    // Character set used to decode the log entries. This matches the one used to write the log
+    private final Charset charset;
+
+    // Byte offset of the start of each line indexed so far
+    private long[] lineOffsets;
+
+    // Number of lines indexed so far
+    private int numLines;
+
+    // Byte offset in the log file at which indexing resumes
+    private long indexPosition;
+
+    // Size, in bytes, of the file window mapped when extending the line index
+    private static final int INDEX_WINDOW_SIZE = 8 * 1024 * 1024;
+
+    // Minimum and maximum size, in bytes, of the file chunk searched by each search task
+    private static final int MIN_SEARCH_CHUNK_SIZE = 1024 * 1024;
+    private static final int MAX_SEARCH_CHUNK_SIZE = 64 * 1024 * 1024;
+
+    // Size, in bytes, of the file window mapped when locating the start of a line
+    private static final int LINE_START_WINDOW_SIZE = 64 * 1024;
+
+    /**********************************************************************************************
+     * Search results for a single chunk of the log file class
+     *********************************************************************************************/
+    private class ChunkResult
+    {
+        // Number of lines in the chunk
+        private int numChunkLines;
+
+        // Search matches in the chunk. The row number of each match is relative to the chunk's
+        // first line
+        private final List<Object[]> matches;
+
+        /******************************************************************************************
+         * Search results for a single chunk of the log file class constructor
+         *****************************************************************************************/
+        ChunkResult()
+        {
+            numChunkLines = 0;
+            matches = new ArrayList<Object[]>();
+        }
+    }
+
+    /**********************************************************************************************
+     * Event log file handler class constructor
+     *
+     * @param logFile
+     *            event log file
+     *
+     * @throws IOException
+     *             If the log file cannot be opened
+     *********************************************************************************************/
+    CcddEventLogFileHandler(File logFile) throws IOException
+    {
+        logReader = new RandomAccessFile(logFile, "r");
+        logChannel = logReader.getChannel();
+        fileSize = logChannel.size();
+        charset = Charset.defaultCharset();
+
+        // Create storage for the line index
+        lineOffsets = new long[1024];
+        numLines = 0;
+        indexPosition = 0;
+
+        // Check if the file isn't empty
+        if (fileSize != 0)
+        {
+            // The first line starts at the beginning of the file
+            lineOffsets[numLines] = 0;
+            numLines++;
+        }
+    }
+
+    /**********************************************************************************************
+     * Close the event log file
+     *********************************************************************************************/
+    protected void close()
+    {
+        try
+        {
+            logReader.close();
+        }
+        catch (IOException ioe)
+        {
+            // Ignore the error if the file cannot be closed
+        }
+    }
+
+    /**********************************************************************************************
+     * Break an event log file line into its separate columns
+     *
+     * @param line
+     *            event log file line
+     *
+     * @return Array containing the line's columns (the index column is not included since it
+     *         isn't stored in the file)
+     *********************************************************************************************/
+    protected static String[] splitLine(String line)
+    {
+        return line.split("[|]", EventColumns.values().length - 1);
+    }
+
+    /**********************************************************************************************
+     * Get the number of lines in the event log file. The entire line index is built if it hasn't
+     * been already
+     *
+     * @return Number of lines in the event log file
+     *
+     * @throws IOException
+     *             If an error occurs reading the log file
+     *********************************************************************************************/
+    protected synchronized int getLineCount() throws IOException
+    {
+        indexLines(Integer.MAX_VALUE);
+        return numLines;
+    }
+
+    /**********************************************************************************************
+     * Check if the entire event log file has been indexed
+     *
+     * @return true if the line index covers the entire event log file
+     *********************************************************************************************/
+    protected synchronized boolean isIndexComplete()
+    {
+        return indexPosition >= fileSize;
+    }
+
+    /**********************************************************************************************
+     * Check if the event log file contains the specified line. The line index is extended as
+     * needed
+     *
+     * @param line
+     *            line index (zero-based)
+     *
+     * @return true if the line exists in the event log file
+     *
+     * @throws IOException
+     *             If an error occurs reading the log file
+     *********************************************************************************************/
+    protected synchronized boolean hasLine(int line) throws IOException
+    {
+        indexLines(line);
+        return line < numLines;
+    }
+
+    /**********************************************************************************************
+     * Get the specified line from the event log file. The line index is extended as needed
+     *
+     * @param line
+     *            line index (zero-based)
+     *
+     * @return The line's text, without the line terminator; null if the line doesn't exist
+     *
+     * @throws IOException
+     *             If an error occurs reading the log file
+     *********************************************************************************************/
+    protected synchronized String getLine(int line) throws IOException
+    {
+        String text = null;
+
+        // Extend the index so that the end of the line is known
+        indexLines(line + 1);
+
+        // Check if the line exists
+        if (line >= 0 && line < numLines)
+        {
+            long start = lineOffsets[line];
+            long end = line + 1 < numLines
+                                           ? lineOffsets[line + 1]
+                                           : fileSize;
+
+            // Read the line's bytes from the file
+            ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+            int bytesRead = 0;
+
+            // Continue to read until the line is complete or the end of the file is reached
+            while (buffer.hasRemaining() && bytesRead != -1)
+            {
+                bytesRead = logChannel.read(buffer, start + buffer.position());
+            }
+
+            // Convert the bytes to text, removing the line terminator
+            text = decodeLine(buffer.array(), 0, buffer.position());
+        }
+
+        return text;
+    }
+
+    /**********************************************************************************************
+     * Extend the line index until it includes the specified line or the end of the file is
+     * reached
+     *
+     * @param line
+     *            line index (zero-based)
+     *
+     * @throws IOException
+     *             If an error occurs reading the log file
+     *********************************************************************************************/
+    private void indexLines(int line) throws IOException
+    {
+        // Continue to map windows of the file until the line is indexed or the end of the file is
+        // reached
+        while (numLines <= line && indexPosition < fileSize)
+        {
+            long windowSize = Math.min(INDEX_WINDOW_SIZE, fileSize - indexPosition);
+            MappedByteBuffer window = logChannel.map(FileChannel.MapMode.READ_ONLY,
+                                                     indexPosition,
+                                                     windowSize);
+
+            // Step through each byte in the window
+            for (int index = 0; index < windowSize; index++)
+            {
+                // Check if this is the end of a line and it isn't the last byte in the file
+                if (window.get(index) == '\n' && indexPosition + index + 1 < fileSize)
+                {
+                    // Check if the index storage is full
+                    if (numLines == lineOffsets.length)
+                    {
+                        // Expand the index storage
+                        lineOffsets = Arrays.copyOf(lineOffsets, numLines * 2);
+                    }
+
+                    // Store the start of the next line
+                    lineOffsets[numLines] = indexPosition + index + 1;
+                    numLines++;
+                }
+            }
+
+            indexPosition += windowSize;
+        }
+    }
+
+    /**********************************************************************************************
+     * Convert the bytes for a line to text, removing the line terminator
+     *
+     * @param bytes
+     *            array containing the line's bytes
+     *
+     * @param offset
+     *            index of the line's first byte in the array
+     *
+     * @param length
+     *            number of bytes in the line, including any line terminator
+     *
+     * @return The line's text, without the line terminator
+     *********************************************************************************************/
+    private String decodeLine(byte[] bytes, int offset, int length)
+    {
+        // Remove the line feed and carriage return characters from the end of the line
+        while (length > 0
+               && (bytes[offset + length - 1] == '\n' || bytes[offset + length - 1] == '\r'))
+        {
+            length--;
+        }
+
+        return new String(bytes, offset, length, charset);
+    }
+
+    /**********************************************************************************************
+     * Search the event log file for occurrences of a pattern. The file is divided into chunks,
+     * each beginning at the start of a line, which are searched in parallel. The chunk results are
+     * then combined in file order
+     *
+     * @param searchPattern
+     *            regular expression search pattern
+     *
+     * @param targetRow
+     *            row number (one-based) of the only log entry to search; null to search every log
+     *            entry
+     *
+     * @return List containing an object array for each match. The array contains the log entry's
+     *         row number (one-based), the index of the column in which the match occurs (the index
+     *         column is not included, so the first stored column is 0), and the column text
+     *
+     * @throws IOException
+     *             If an error occurs reading the log file
+     *********************************************************************************************/
+    protected List<Object[]> search(final Pattern searchPattern,
+                                    Long targetRow) throws IOException
+    {
+        List<Object[]> matches = new ArrayList<Object[]>();
+
+        // Check if only a single log entry is to be searched
+        if (targetRow != null)
+        {
+            // Get the log entry's line from the file
+            String line = getLine((int) (targetRow - 1));
+
+            // Check if the line exists
+            if (line != null)
+            {
+                // Search the line for matches
+                searchLine(line, targetRow, searchPattern, matches);
+            }
+        }
+        // Search every log entry
+        else
+        {
+            List<Callable<ChunkResult>> tasks = new ArrayList<Callable<ChunkResult>>();
+            int numThreads = Runtime.getRuntime().availableProcessors();
+
+            // Calculate the chunk size so that each thread has a chunk to search, but within the
+            // minimum and maximum sizes
+            long chunkSize = Math.min(MAX_SEARCH_CHUNK_SIZE,
+                                      Math.max(MIN_SEARCH_CHUNK_SIZE,
+                                               fileSize / numThreads + 1));
+            long chunkStart = 0;
+
+            // Step through the file until all of it is assigned to a chunk
+            while (chunkStart < fileSize)
+            {
+                // Move the end of the chunk so that it falls at the start of a line
+                final long start = chunkStart;
+                final long end = findLineStart(chunkStart + chunkSize);
+
+                // Create the task to search the chunk
+                tasks.add(new Callable<ChunkResult>()
+                {
+                    /******************************************************************************
+                     * Search the log entries in the chunk
+                     *****************************************************************************/
+                    @Override
+                    public ChunkResult call() throws Exception
+                    {
+                        return searchChunk(start, end, searchPattern);
+                    }
+                });
+
+                chunkStart = end;
+            }
+
+            // Create a pool to search the chunks
+            ForkJoinPool pool = new ForkJoinPool(Math.max(1, Math.min(numThreads, tasks.size())));
+
+            try
+            {
+                long rowOffset = 0;
+
+                // Step through each chunk's task, in file order, waiting for it to complete
+                for (Future<ChunkResult> future : pool.invokeAll(tasks))
+                {
+                    ChunkResult result = future.get();
+
+                    // Step through each match in the chunk
+                    for (Object[] match : result.matches)
+                    {
+                        // Convert the match's row number from relative to the chunk to relative
+                        // to the file
+                        match[0] = (Long) match[0] + rowOffset;
+                        matches.add(match);
+                    }
+
+                    rowOffset += result.numChunkLines;
+                }
+            }
+            catch (InterruptedException | ExecutionException e)
+            {
+                throw new IOException(e.getMessage(), e);
+            }
+            finally
+            {
+                pool.shutdown();
+            }
+        }
+
+        return matches;
+    }
+
+    /**********************************************************************************************
+     * Search the log entries in a chunk of the event log file
+     *
+     * @param start
+     *            byte offset of the chunk's start; this must be the start of a line
+     *
+     * @param end
+     *            byte offset of the chunk's end; this must be the start of a line or the end of
+     *            the file
+     *
+     * @param searchPattern
+     *            regular expression search pattern
+     *
+     * @return Search results for the chunk
+     *
+     * @throws IOException
+     *             If an error occurs reading the log file
+     *********************************************************************************************/
+    private ChunkResult searchChunk(long start,
+                                    long end,
+                                    Pattern searchPattern) throws IOException
+    {
+        ChunkResult result = new ChunkResult();
+
+        // Map the chunk into memory
+        MappedByteBuffer chunk = logChannel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        int chunkLength = (int) (end - start);
+        byte[] lineBytes = new byte[1024];
+        int lineStart = 0;
+
+        // Step through the lines in the chunk
+        while (lineStart < chunkLength)
+        {
+            int lineEnd = lineStart;
+
+            // Locate the end of the line
+            while (lineEnd < chunkLength && chunk.get(lineEnd) != '\n')
+            {
+                lineEnd++;
+            }
+
+            // Check if the end of the line isn't the end of the chunk
+            if (lineEnd < chunkLength)
+            {
+                // Include the line feed in the line
+                lineEnd++;
+            }
+
+            // Check if the line storage is too small to contain the line
+            if (lineEnd - lineStart > lineBytes.length)
+            {
+                // Expand the line storage
+                lineBytes = new byte[lineEnd - lineStart];
+            }
+
+            // Copy the line from the file and convert it to text
+            chunk.position(lineStart);
+            chunk.get(lineBytes, 0, lineEnd - lineStart);
+            result.numChunkLines++;
+
+            // Search the line for matches
+            searchLine(decodeLine(lineBytes, 0, lineEnd - lineStart),
+                       result.numChunkLines,
+                       searchPattern,
+                       result.matches);
+
+            lineStart = lineEnd;
+        }
+
+        return result;
+    }
+
+    /**********************************************************************************************
+     * Search the columns of an event log file line for occurrences of a pattern
+     *
+     * @param line
+     *            event log file line
+     *
+     * @param row
+     *            row number of the line
+     *
+     * @param searchPattern
+     *            regular expression search pattern
+     *
+     * @param matches
+     *            list to which any matches are added
+     *********************************************************************************************/
+    private void searchLine(String line, long row, Pattern searchPattern, List<Object[]> matches)
+    {
+        // Break the input line into its separate columns
+        String[] parts = splitLine(line);
+
+        // Step through each log entry column
+        for (int column = 0; column < parts.length; column++)
+        {
+            // Check if a match exists in the column text. Ignore any HTML tags in the log entry
+            // column text
+            if (searchPattern.matcher(CcddUtilities.removeHTMLTags(parts[column])).find())
+            {
+                // Add the search result to the list
+                matches.add(new Object[] {row, column, parts[column]});
+            }
+        }
+    }
+
+    /**********************************************************************************************
+     * Locate the first line start at or after the specified position in the event log file
+     *
+     * @param position
+     *            byte offset in the event log file
+     *
+     * @return Byte offset of the first line start at or after the specified position; the file
+     *         size if there is no line start after the position
+     *
+     * @throws IOException
+     *             If an error occurs reading the log file
+     *********************************************************************************************/
+    private long findLineStart(long position) throws IOException
+    {
+        long lineStart = fileSize;
+
+        // Begin searching at the byte preceding the position, since a line feed there means the
+        // position is a line start
+        long windowStart = position - 1;
+
+        // Continue to map windows of the file until the end of a line or of the file is found
+        while (windowStart < fileSize && lineStart == fileSize)
+        {
+            long windowSize = Math.min(LINE_START_WINDOW_SIZE, fileSize - windowStart);
+            MappedByteBuffer window = logChannel.map(FileChannel.MapMode.READ_ONLY,
+                                                     windowStart,
+                                                     windowSize);
+
+            // Step through each byte in the window
+            for (int index = 0; index < windowSize; index++)
+            {
+                // Check if this is the end of a line
+                if (window.get(index) == '\n')
+                {
+                    // Store the start of the next line and stop searching
+                    lineStart = Math.min(windowStart + index + 1, fileSize);
+                    break;
+                }
+            }
+
+            windowStart += windowSize;
+        }
+
+        return lineStart;
+    }
+}
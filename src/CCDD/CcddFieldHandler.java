@@ -13,7 +13,13 @@ import static CCDD.CcddConstants.TYPE_DATA_FIELD_IDENT;
 
 import java.awt.Component;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import CCDD.CcddClassesDataTable.FieldInformation;
 import CCDD.CcddClassesDataTable.InputType;
@@ -33,7 +39,60 @@ public class CcddFieldHandler
     private final CcddInputTypeHandler inputTypeHandler;
 
     // List of field information
-    private List<FieldInformation> fieldInformation;
+    private FieldInformationList fieldInformation;
+
+    // Map containing the field information for each owner, keyed by the owner name in upper case.
+    // The owner's fields are in the same order as in the field information list. The map is
+    // rebuilt when next needed after the field information list changes; the owner lists are never
+    // altered once built, so a list obtained from the map remains a consistent snapshot
+    private Map<String, List<FieldInformation>> ownerIndex;
+
+    // Field information list change count at the time the owner index was built
+    private int ownerIndexChangeCount;
+
+    /**********************************************************************************************
+     * Field information list class. The list keeps a count of the changes to its contents so that
+     * the owner index can be rebuilt once the list is altered
+     *********************************************************************************************/
+    @SuppressWarnings("serial")
+    private static class FieldInformationList extends ArrayList<FieldInformation>
+    {
+        private int replaceCount;
+
+        /******************************************************************************************
+         * Field information list class constructor
+         *
+         * @param fieldInfo
+         *            list of field information with which to initialize the list; null to create
+         *            an empty list
+         *****************************************************************************************/
+        FieldInformationList(Collection<FieldInformation> fieldInfo)
+        {
+            super(fieldInfo == null ? Collections.<FieldInformation> emptyList() : fieldInfo);
+            replaceCount = 0;
+        }
+
+        /******************************************************************************************
+         * Replace the field information at the specified index. The replacement is counted as a
+         * change since the owner of the field at the index can differ
+         *****************************************************************************************/
+        @Override
+        public FieldInformation set(int index, FieldInformation element)
+        {
+            replaceCount++;
+            return super.set(index, element);
+        }
+
+        /******************************************************************************************
+         * Get the number of changes made to the list contents
+         *
+         * @return Number of changes made to the list contents
+         *****************************************************************************************/
+        protected int getChangeCount()
+        {
+            return modCount + replaceCount;
+        }
+    }
 
     /**********************************************************************************************
      * Field handler class constructor
@@ -48,7 +107,7 @@ public class CcddFieldHandler
         inputTypeHandler = ccddMain.getInputTypeHandler();
 
         // Create storage for the field information
-        fieldInformation = new ArrayList<FieldInformation>();
+        fieldInformation = new FieldInformationList(null);
 
         // Use the field definitions to create the data field information
         buildFieldInformation(ccddMain.getMainFrame());
@@ -125,7 +184,7 @@ public class CcddFieldHandler
         if (fieldInfo != null)
         {
             // Set the data field information to a copy of that supplied
-            fieldInformation = fieldInfo;
+            fieldInformation = new FieldInformationList(fieldInfo);
         }
         // No field information is supplied
         else
@@ -167,7 +226,7 @@ public class CcddFieldHandler
         {
             // Get the list containing the field information based on the supplied field
             // definitions
-            fieldInformation = getFieldInformationFromDefinitions(fieldDefinitions);
+            fieldInformation = new FieldInformationList(getFieldInformationFromDefinitions(fieldDefinitions));
         }
     }
 
@@ -294,7 +353,7 @@ public class CcddFieldHandler
      *********************************************************************************************/
     protected FieldInformation getFieldInformationByName(String ownerName, String fieldName)
     {
-        return getFieldInformationByName(fieldInformation, ownerName, fieldName);
+        return getFieldInformationByName(getOwnerFields(ownerName), ownerName, fieldName);
     }
 
     /**********************************************************************************************
@@ -355,8 +414,8 @@ public class CcddFieldHandler
     {
         FieldInformation fieldInfo = null;
 
-        // Step through each field
-        for (FieldInformation info : fieldInformation)
+        // Step through each of the owner's fields
+        for (FieldInformation info : getOwnerFields(ownerName))
         {
             // Check if the owner and field types match the ones supplied (case insensitive)
             if (info.getOwnerName().equalsIgnoreCase(ownerName)
@@ -379,28 +438,99 @@ public class CcddFieldHandler
      *            references a structure, group name, or table type name)
      *
      * @return List of field information for the specified owner; an empty list if the owner has no
-     *         fields or the owner name is invalid
+     *         fields or the owner name is invalid. The list can't be altered, and isn't affected by
+     *         subsequent changes to the field information list
      *********************************************************************************************/
     protected List<FieldInformation> getFieldInformationByOwner(String ownerName)
     {
-        List<FieldInformation> ownerFieldInfo = new ArrayList<FieldInformation>();
+        List<FieldInformation> ownerFieldInfo = Collections.emptyList();
 
         // Check if the owner name is provided
         if (ownerName != null)
         {
+            // Get the fields for owners with this name, ignoring case
+            ownerFieldInfo = getOwnerFields(ownerName);
+
+            // Step through each of the owner's fields
+            for (FieldInformation fieldInfo : ownerFieldInfo)
+            {
+                // Check if the owner names differ in case
+                if (!fieldInfo.getOwnerName().equals(ownerName))
+                {
+                    List<FieldInformation> matchingFieldInfo = new ArrayList<FieldInformation>();
+
+                    // Step through each of the owner's fields
+                    for (FieldInformation info : ownerFieldInfo)
+                    {
+                        // Check if the owner names match
+                        if (info.getOwnerName().equals(ownerName))
+                        {
+                            // Add the field to the list belonging to the specified owner
+                            matchingFieldInfo.add(info);
+                        }
+                    }
+
+                    // Use the fields with an exact owner name match and stop searching
+                    ownerFieldInfo = matchingFieldInfo;
+                    break;
+                }
+            }
+
+            // Prevent the list from being altered, since it can be the list stored in the owner
+            // index
+            ownerFieldInfo = Collections.unmodifiableList(ownerFieldInfo);
+        }
+
+        return ownerFieldInfo;
+    }
+
+    /**********************************************************************************************
+     * Get the list of field information for the specified owner from the owner index. The index
+     * is rebuilt if the field information list has changed since the index was built
+     *
+     * @param ownerName
+     *            name of the data field owner (case insensitive)
+     *
+     * @return List of field information for the specified owner; an empty list if the owner has no
+     *         fields. The list must not be altered
+     *********************************************************************************************/
+    private synchronized List<FieldInformation> getOwnerFields(String ownerName)
+    {
+        // Check if the owner index hasn't been built or if the field information has changed
+        // since it was built
+        if (ownerIndex == null || ownerIndexChangeCount != fieldInformation.getChangeCount())
+        {
+            Map<String, List<FieldInformation>> index = new HashMap<String, List<FieldInformation>>();
+
             // Step through each data field
             for (FieldInformation fieldInfo : fieldInformation)
             {
-                // Check if the owner names match
-                if (fieldInfo.getOwnerName().equals(ownerName))
+                String key = fieldInfo.getOwnerName().toUpperCase();
+                List<FieldInformation> ownerFieldInfo = index.get(key);
+
+                // Check if this is the first field for the owner
+                if (ownerFieldInfo == null)
                 {
-                    // Add the field to the list belonging to the specified owner
-                    ownerFieldInfo.add(fieldInfo);
+                    // Create the owner's list of fields
+                    ownerFieldInfo = new ArrayList<FieldInformation>();
+                    index.put(key, ownerFieldInfo);
                 }
+
+                // Add the field to the owner's list
+                ownerFieldInfo.add(fieldInfo);
             }
+
+            // Store the index and the change count at the time the index is built
+            ownerIndex = index;
+            ownerIndexChangeCount = fieldInformation.getChangeCount();
         }
 
-        return ownerFieldInfo;
+        // Get the owner's fields
+        List<FieldInformation> ownerFieldInfo = ownerIndex.get(ownerName.toUpperCase());
+
+        return ownerFieldInfo == null
+                                      ? Collections.<FieldInformation> emptyList()
+                                      : ownerFieldInfo;
     }
 
     /**********************************************************************************************
@@ -432,11 +562,31 @@ public class CcddFieldHandler
     protected void replaceFieldInformationByOwner(String ownerName,
                                                   List<FieldInformation> newOwnerFldInfo)
     {
-        // Get the list of the owner's current fields
-        List<FieldInformation> oldOwnerFldInfo = getFieldInformationByOwner(ownerName);
+        // Get the set of the owner's current fields
+        Set<FieldInformation> oldOwnerFldInfo = new HashSet<FieldInformation>(getFieldInformationByOwner(ownerName));
 
-        // Remove the owner's current fields
-        fieldInformation.removeAll(oldOwnerFldInfo);
+        // Check if the owner has any fields
+        if (!oldOwnerFldInfo.isEmpty())
+        {
+            List<FieldInformation> otherFldInfo = new ArrayList<FieldInformation>(fieldInformation.size());
+
+            // Step through each data field
+            for (FieldInformation fieldInfo : fieldInformation)
+            {
+                // Check if the field doesn't belong to the owner
+                if (!oldOwnerFldInfo.contains(fieldInfo))
+                {
+                    // Keep the field
+                    otherFldInfo.add(fieldInfo);
+                }
+            }
+
+            // Remove the owner's current fields. The remaining fields are replaced as a group
+            // rather than removing the owner's fields individually, which would shift the
+            // remaining list entries for each removal
+            fieldInformation.clear();
+            fieldInformation.addAll(otherFldInfo);
+        }
 
         // Add the owner's new fields
         fieldInformation.addAll(getFieldInformationCopy(newOwnerFldInfo));
@@ -992,8 +1142,8 @@ public class CcddFieldHandler
     {
         int count = 0;
 
-        // Step through each field definition
-        for (FieldInformation fieldInfo : fieldInformation)
+        // Step through each of the owner's field definitions
+        for (FieldInformation fieldInfo : getOwnerFields(fieldOwner))
         {
             // Check if the field type matches the specified owner and input type
             if (fieldInfo.getOwnerName().equals(fieldOwner)
@@ -1137,12 +1137,8 @@ public class CcddFileIOHandler
                                               parent);
             }
 
-            // Release the save point. This must be done within a transaction block, so it must be
-            // done prior to the commit below
-            dbCommand.releaseSavePoint(parent);
-
-            // Commit the change(s) to the database
-            dbControl.getConnection().commit();
+            // Release the save point and commit the change(s) to the database
+            dbCommand.commitSavePoint(parent);
 
             // Store the data file path in the program preferences backing store
             storePath(ccddMain,
@@ -2760,6 +2756,10 @@ public class CcddFileIOHandler
 
         try
         {
+            // Load the tables in bulk as the export handler requests them, which reduces the
+            // number of database queries when exporting multiple tables
+            dbTable.setPrefetchTables(Arrays.asList(tablePaths));
+
             // Check if the user elected to store all tables in a single file. The path must
             // include a file name
             if (singleFile)
@@ -2964,6 +2964,11 @@ public class CcddFileIOHandler
             CcddUtilities.displayException(e, parent);
             errorFlag = true;
         }
+        finally
+        {
+            // Discard any tables loaded but not used by the export
+            dbTable.setPrefetchTables(null);
+        }
 
         return errorFlag;
     }
@@ -36,7 +36,7 @@ public class CcddHaltDialog extends CcddDialogHandler
     private JLabel textLbl;
 
     // Flag indicating if the operation is canceled by user input
-    private boolean isHalted;
+    private volatile boolean isHalted;
 
     // Number of divisions in the halt dialog's progress bar per data file
     private int numDivisionPerStep;
@@ -303,7 +303,8 @@ public class CcddHaltDialog extends CcddDialogHandler
     }
 
     /**********************************************************************************************
-     * Update the progress bar
+     * Update the progress bar. The update is synchronized so that the progress counter is
+     * maintained when the operation's items are processed by multiple threads
      *
      * @param progText
      *            text to display within the progress bar; null to not change the text
@@ -312,7 +313,7 @@ public class CcddHaltDialog extends CcddDialogHandler
      *            initial value at which to begin this sequence in the process; -1 to not change
      *            the initial value
      *********************************************************************************************/
-    protected void updateProgressBar(final String progText, int startValue)
+    protected synchronized void updateProgressBar(final String progText, int startValue)
     {
         // Check if the progress is displayed
         if (progBar != null)
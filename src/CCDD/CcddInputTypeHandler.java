@@ -51,7 +51,7 @@ public class CcddInputTypeHandler
     private final List<InputType> selectionInputTypes;
 
     // Map used to locate an input type based on its name as the key
-    private final Map<String, InputType> inputTypeMap;
+    private volatile Map<String, InputType> inputTypeMap;
 
     /**********************************************************************************************
      * Variable (command) reference class; used to contain information on structure (command)
@@ -175,7 +175,6 @@ public class CcddInputTypeHandler
      *********************************************************************************************/
     CcddInputTypeHandler(CcddMain ccddMain)
     {
-        inputTypeMap = new HashMap<String, InputType>();
         inputTypes = new ArrayList<InputType>(0);
         selectionInputTypes = new ArrayList<InputType>(0);
         this.ccddMain = ccddMain;
@@ -198,7 +197,6 @@ public class CcddInputTypeHandler
      *********************************************************************************************/
     CcddInputTypeHandler(String[][] inputTypesArray)
     {
-        inputTypeMap = new HashMap<String, InputType>();
         inputTypes = new ArrayList<InputType>(0);
         selectionInputTypes = new ArrayList<InputType>(0);
 
@@ -264,7 +262,6 @@ public class CcddInputTypeHandler
         this.customInputTypes = customInputTypes;
 
         // Clear the existing input type lists
-        inputTypeMap.clear();
         inputTypes.clear();
         selectionInputTypes.clear();
 
@@ -292,6 +289,8 @@ public class CcddInputTypeHandler
                                          true));
         }
 
+        Map<String, InputType> typeMap = new HashMap<String, InputType>();
+
         // Step through each input type (default and custom)
         for (InputType inputType : inputTypes)
         {
@@ -304,8 +303,11 @@ public class CcddInputTypeHandler
 
             // Add the input type to the map, using the name as the key (converted to lower case to
             // eliminate case sensitivity)
-            inputTypeMap.put(inputType.getInputName().toLowerCase(), inputType);
+            typeMap.put(inputType.getInputName().toLowerCase(), inputType);
         }
+
+        // Replace the input type map with the one just built
+        inputTypeMap = Collections.unmodifiableMap(typeMap);
     }
 
     /**********************************************************************************************
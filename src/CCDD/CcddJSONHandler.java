@@ -16,23 +16,23 @@ import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.io.StringWriter;
+import java.io.Reader;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
-import javax.script.ScriptEngine;
-import javax.script.ScriptEngineManager;
-import javax.script.ScriptException;
 import javax.swing.JOptionPane;
 
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
-import org.json.simple.JSONValue;
+import org.json.simple.parser.ContentHandler;
 import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
 
@@ -95,6 +95,342 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
     // List of original and new script associations
     private List<String[]> associations;
 
+    // Indentation for each nesting level of the formatted JSON output
+    private static final String JSON_INDENT = "  ";
+
+    /**********************************************************************************************
+     * JSON import file stream reader class. The file is parsed as a stream so that only the
+     * portion of the file being processed is stored in memory. The reader either builds the
+     * file's top-level JSON object minus the value for a specified key, or builds each member of
+     * the JSON array for the specified key in turn, pausing the parser after each member
+     *********************************************************************************************/
+    private class JSONStreamReader implements ContentHandler
+    {
+        private final JSONParser parser;
+        private final Reader reader;
+        private final String arrayKey;
+        private final boolean isReadMembers;
+
+        // Stacks containing the JSON objects and arrays, and the object keys, being built
+        private final Deque<Object> containers;
+        private final Deque<String> keys;
+
+        // Current nesting depth (the file's top-level object is depth 1), the key for the
+        // top-level object member being parsed, and the flag that indicates if the parser is
+        // within the array for the specified key
+        private int depth;
+        private String topKey;
+        private boolean isInArray;
+
+        // Most recently completed value, and flags indicating if a value is completed and if the
+        // end of the file is reached
+        private Object value;
+        private boolean isValue;
+        private boolean isEnd;
+
+        /******************************************************************************************
+         * JSON import file stream reader class constructor
+         *
+         * @param reader
+         *            reader for the JSON import file
+         *
+         * @param arrayKey
+         *            key for the top-level JSON array member
+         *
+         * @param isReadMembers
+         *            false to build the top-level JSON object, ignoring the array for the
+         *            specified key; true to build the members of the array for the specified key
+         *            and ignore the remainder of the file
+         *****************************************************************************************/
+        JSONStreamReader(Reader reader, String arrayKey, boolean isReadMembers)
+        {
+            this.reader = reader;
+            this.arrayKey = arrayKey;
+            this.isReadMembers = isReadMembers;
+            parser = new JSONParser();
+            containers = new ArrayDeque<Object>();
+            keys = new ArrayDeque<String>();
+            depth = 0;
+            topKey = null;
+            isInArray = false;
+            isEnd = false;
+        }
+
+        /******************************************************************************************
+         * Parse the file until the next value is completed (the top-level JSON object or a member
+         * of the array for the specified key) or the end of the file is reached
+         *
+         * @return true if a value is completed; false if the end of the file is reached
+         *
+         * @throws ParseException
+         *             If an error occurs while attempting to parse the JSON file
+         *
+         * @throws IOException
+         *             If an import file I/O error occurs
+         *****************************************************************************************/
+        protected boolean readNext() throws ParseException, IOException
+        {
+            value = null;
+            isValue = false;
+
+            // Continue to parse the file until a value is completed or the end of the file is
+            // reached. The parser pauses when a value is completed, and resumes from that point
+            // on the next call
+            while (!isValue && !isEnd)
+            {
+                parser.parse(reader, this, true);
+            }
+
+            return isValue;
+        }
+
+        /******************************************************************************************
+         * Get the most recently completed value
+         *
+         * @return Most recently completed value; the top-level JSON object if the array members
+         *         aren't read, else the array member
+         *****************************************************************************************/
+        protected Object getValue()
+        {
+            return value;
+        }
+
+        /******************************************************************************************
+         * Check if a value at the specified nesting level is to be built
+         *
+         * @param level
+         *            nesting level of the value (the file's top-level object is level 1)
+         *
+         * @return true if the value is to be built
+         *****************************************************************************************/
+        private boolean isBuilt(int level)
+        {
+            return isReadMembers
+                                 ? isInArray && level >= 3
+                                 : level == 1 || !arrayKey.equals(topKey);
+        }
+
+        /******************************************************************************************
+         * Add a completed value to the JSON object or array containing it. If the value isn't
+         * contained within another value being built then store it and pause the parser
+         *
+         * @param jsonValue
+         *            completed JSON object, array, or primitive value
+         *
+         * @return false if the value is stored and the parser is to pause; true to continue
+         *         parsing
+         *****************************************************************************************/
+        @SuppressWarnings("unchecked")
+        private boolean addValue(Object jsonValue)
+        {
+            // Check if the value isn't contained within another value being built
+            if (containers.isEmpty())
+            {
+                // Store the value and pause the parser
+                value = jsonValue;
+                isValue = true;
+            }
+            // Check if the value is a member of a JSON object
+            else if (containers.peek() instanceof JSONObject)
+            {
+                ((JSONObject) containers.peek()).put(keys.peek(), jsonValue);
+            }
+            // The value is a member of a JSON array
+            else
+            {
+                ((JSONArray) containers.peek()).add(jsonValue);
+            }
+
+            return !isValue;
+        }
+
+        /******************************************************************************************
+         * Handle the start of the JSON text
+         *****************************************************************************************/
+        @Override
+        public void startJSON()
+        {
+        }
+
+        /******************************************************************************************
+         * Handle the end of the JSON text
+         *****************************************************************************************/
+        @Override
+        public void endJSON()
+        {
+            isEnd = true;
+        }
+
+        /******************************************************************************************
+         * Handle the start of a JSON object
+         *
+         * @return true to continue parsing
+         *****************************************************************************************/
+        @Override
+        public boolean startObject()
+        {
+            depth++;
+
+            // Check if the object is to be built
+            if (isBuilt(depth))
+            {
+                containers.push(new JSONObject());
+            }
+
+            return true;
+        }
+
+        /******************************************************************************************
+         * Handle the end of a JSON object
+         *
+         * @return false if the parser is to pause; true to continue parsing
+         *****************************************************************************************/
+        @Override
+        public boolean endObject()
+        {
+            boolean isContinue = true;
+
+            // Check if the object is built
+            if (isBuilt(depth))
+            {
+                isContinue = addValue(containers.pop());
+            }
+
+            depth--;
+            return isContinue;
+        }
+
+        /******************************************************************************************
+         * Handle the start of a JSON object member
+         *
+         * @param key
+         *            member key
+         *
+         * @return true to continue parsing
+         *****************************************************************************************/
+        @Override
+        public boolean startObjectEntry(String key)
+        {
+            // Check if this is a member of the top-level object
+            if (depth == 1)
+            {
+                topKey = key;
+            }
+
+            // Check if the object containing the member is built
+            if (isBuilt(depth))
+            {
+                keys.push(key);
+            }
+
+            return true;
+        }
+
+        /******************************************************************************************
+         * Handle the end of a JSON object member
+         *
+         * @return true to continue parsing
+         *****************************************************************************************/
+        @Override
+        public boolean endObjectEntry()
+        {
+            // Check if the object containing the member is built
+            if (isBuilt(depth))
+            {
+                keys.pop();
+            }
+
+            // Check if this is a member of the top-level object
+            if (depth == 1)
+            {
+                topKey = null;
+            }
+
+            return true;
+        }
+
+        /******************************************************************************************
+         * Handle the start of a JSON array
+         *
+         * @return true to continue parsing
+         *****************************************************************************************/
+        @Override
+        public boolean startArray()
+        {
+            depth++;
+
+            // Check if this is the array for the specified key
+            if (depth == 2 && arrayKey.equals(topKey))
+            {
+                isInArray = true;
+            }
+
+            // Check if the array is to be built
+            if (isBuilt(depth))
+            {
+                containers.push(new JSONArray());
+            }
+
+            return true;
+        }
+
+        /******************************************************************************************
+         * Handle the end of a JSON array
+         *
+         * @return false if the parser is to pause; true to continue parsing
+         *****************************************************************************************/
+        @Override
+        public boolean endArray()
+        {
+            boolean isContinue = true;
+
+            // Check if the array is built
+            if (isBuilt(depth))
+            {
+                isContinue = addValue(containers.pop());
+            }
+
+            // Check if this is the end of the array for the specified key
+            if (depth == 2 && isInArray)
+            {
+                isInArray = false;
+
+                // Check if the array members are read
+                if (isReadMembers)
+                {
+                    // The remainder of the file is ignored, so stop parsing
+                    isEnd = true;
+                    isContinue = false;
+                }
+            }
+
+            depth--;
+            return isContinue;
+        }
+
+        /******************************************************************************************
+         * Handle a JSON primitive value
+         *
+         * @param primitive
+         *            string, number, boolean, or null value
+         *
+         * @return false if the parser is to pause; true to continue parsing
+         *****************************************************************************************/
+        @Override
+        public boolean primitive(Object primitive)
+        {
+            boolean isContinue = true;
+
+            // Check if the value is to be built
+            if (isBuilt(depth + 1))
+            {
+                isContinue = addValue(primitive);
+            }
+
+            return isContinue;
+        }
+    }
+
     /**********************************************************************************************
      * JSON handler class constructor
      *
@@ -353,9 +689,17 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
             boolean continueOnGroupError = ignoreErrors;
             boolean continueOnAssociationError = ignoreErrors;
 
-            // Create a JSON parser and use it to parse the import file contents
-            JSONParser jsonParser = new JSONParser();
-            JSONObject jsonObject = (JSONObject) jsonParser.parse(new FileReader(importFile));
+            // Parse the import file contents, other than the table definitions. The table
+            // definitions are parsed separately, one at a time, once the table types, data types,
+            // etc. that they reference are processed
+            br = new BufferedReader(new FileReader(importFile));
+            JSONStreamReader jsonReader = new JSONStreamReader(br,
+                                                               JSONTags.TABLE_DEFN.getTag(),
+                                                               false);
+            jsonReader.readNext();
+            JSONObject jsonObject = (JSONObject) jsonReader.getValue();
+            br.close();
+            br = null;
 
             // Get the input type definitions JSON object
             Object defn = jsonObject.get(JSONTags.INPUT_TYPE_DEFN.getTag());
@@ -917,143 +1261,147 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
                 buildProjectAndGroupDataFields(fieldHandler, projectDefn.getDataFields());
             }
 
-            // Get the table definitions JSON object
-            defn = jsonObject.get(JSONTags.TABLE_DEFN.getTag());
+            // Reopen the import file in order to parse the table definitions
+            br = new BufferedReader(new FileReader(importFile));
+            jsonReader = new JSONStreamReader(br, JSONTags.TABLE_DEFN.getTag(), true);
 
-            // Check if the table definitions exist
-            if (defn != null && defn instanceof JSONArray)
+            // Step through each table definition. Only the table definition being processed is
+            // stored in memory
+            while (jsonReader.readNext())
             {
-                // Step through each table definition
-                for (JSONObject tableJO : parseJSONArray(defn))
+                // Get the table definition. A table definition that isn't a JSON object is treated
+                // as one with no inputs
+                JSONObject tableJO = jsonReader.getValue() instanceof JSONObject
+                                                                                 ? parseJSONObject((JSONObject) jsonReader.getValue())
+                                                                                 : new JSONObject();
+
+                // Get the table definition components
+                String tableName = getString(tableJO, JSONTags.TABLE_NAME.getTag());
+                String tableType = getString(tableJO, JSONTags.TABLE_TYPE.getTag());
+                String tableDesc = getString(tableJO, JSONTags.TABLE_DESCRIPTION.getTag());
+                Object tableDataJA = getObject(tableJO, JSONTags.TABLE_DATA.getTag());
+                Object dataFieldsJA = getObject(tableJO, JSONTags.TABLE_FIELD.getTag());
+
+                // Check if the expected inputs are present
+                if (!tableName.isEmpty()
+                    && tableDataJA != null && tableDataJA instanceof JSONArray
+                    && (dataFieldsJA == null || dataFieldsJA instanceof JSONArray))
                 {
-                    // Get the table definition components
-                    String tableName = getString(tableJO, JSONTags.TABLE_NAME.getTag());
-                    String tableType = getString(tableJO, JSONTags.TABLE_TYPE.getTag());
-                    String tableDesc = getString(tableJO, JSONTags.TABLE_DESCRIPTION.getTag());
-                    Object tableDataJA = getObject(tableJO, JSONTags.TABLE_DATA.getTag());
-                    Object dataFieldsJA = getObject(tableJO, JSONTags.TABLE_FIELD.getTag());
+                    // Create a new table type definition
+                    TableDefinition tableDefn = new TableDefinition(tableName, tableDesc);
 
-                    // Check if the expected inputs are present
-                    if (!tableName.isEmpty()
-                        && tableDataJA != null && tableDataJA instanceof JSONArray
-                        && (dataFieldsJA == null || dataFieldsJA instanceof JSONArray))
-                    {
-                        // Create a new table type definition
-                        TableDefinition tableDefn = new TableDefinition(tableName, tableDesc);
+                    // Get the table's type definition. If importing into an existing table
+                    // then use its type definition
+                    TypeDefinition typeDefn = importType == ImportType.IMPORT_ALL
+                                                                                  ? tableTypeHandler.getTypeDefinition(tableType)
+                                                                                  : targetTypeDefn;
 
-                        // Get the table's type definition. If importing into an existing table
-                        // then use its type definition
-                        TypeDefinition typeDefn = importType == ImportType.IMPORT_ALL
-                                                                                      ? tableTypeHandler.getTypeDefinition(tableType)
-                                                                                      : targetTypeDefn;
+                    // Check if the table type doesn't exist
+                    if (typeDefn == null)
+                    {
+                        throw new CCDDException("Unknown table type '</b>"
+                                                + tableType
+                                                + "<b>'");
+                    }
 
-                        // Check if the table type doesn't exist
-                        if (typeDefn == null)
-                        {
-                            throw new CCDDException("Unknown table type '</b>"
-                                                    + tableType
-                                                    + "<b>'");
-                        }
+                    // Store the table's type name
+                    tableDefn.setTypeName(tableType);
 
-                        // Store the table's type name
-                        tableDefn.setTypeName(tableType);
+                    // Get the number of expected columns (the hidden columns, primary key and
+                    // row index, should not be included in the JSON file)
+                    int numColumns = typeDefn.getColumnCountVisible();
 
-                        // Get the number of expected columns (the hidden columns, primary key and
-                        // row index, should not be included in the JSON file)
-                        int numColumns = typeDefn.getColumnCountVisible();
+                    // Create storage for the row of cell data
+                    String[] rowData = new String[numColumns];
 
-                        // Create storage for the row of cell data
-                        String[] rowData = new String[numColumns];
+                    // Step through each row of data
+                    for (JSONObject rowDataJO : parseJSONArray(tableDataJA))
+                    {
+                        // Initialize the column values to blanks
+                        Arrays.fill(rowData, null);
 
-                        // Step through each row of data
-                        for (JSONObject rowDataJO : parseJSONArray(tableDataJA))
+                        // Step through each key (column name)
+                        for (Object columnName : rowDataJO.keySet())
                         {
-                            // Initialize the column values to blanks
-                            Arrays.fill(rowData, null);
+                            // Get the column index based on the column name
+                            int column = typeDefn.getVisibleColumnIndexByUserName(columnName.toString());
 
-                            // Step through each key (column name)
-                            for (Object columnName : rowDataJO.keySet())
+                            // Check if a column by this name exists
+                            if (column != -1)
                             {
-                                // Get the column index based on the column name
-                                int column = typeDefn.getVisibleColumnIndexByUserName(columnName.toString());
-
-                                // Check if a column by this name exists
-                                if (column != -1)
-                                {
-                                    // Get the value from the JSON input, if present; use a blank
-                                    // if a value for this column doesn't exist
-                                    rowData[column] = getString(rowDataJO,
-                                                                typeDefn.getColumnNamesVisible()[column]);
-                                }
-                                // The number of inputs is incorrect
-                                else
-                                {
-                                    // Check if the error should be ignored or the import canceled
-                                    continueOnColumnError = getErrorResponse(continueOnColumnError,
-                                                                             "<html><b>Table '</b>"
-                                                                                                    + tableName
-                                                                                                    + "<b>' column name '</b>"
-                                                                                                    + columnName
-                                                                                                    + "<b>' unrecognized in import file '</b>"
-                                                                                                    + importFile.getAbsolutePath()
-                                                                                                    + "<b>'; continue?",
-                                                                             "Column Error",
-                                                                             "Ignore this invalid column name",
-                                                                             "Ignore this and any remaining invalid column names",
-                                                                             "Stop importing",
-                                                                             parent);
-                                }
+                                // Get the value from the JSON input, if present; use a blank
+                                // if a value for this column doesn't exist
+                                rowData[column] = getString(rowDataJO,
+                                                            typeDefn.getColumnNamesVisible()[column]);
                             }
-
-                            // Add the row of data read in from the file to the cell data list
-                            tableDefn.addData(rowData);
-                        }
-
-                        // Check if all definitions are to be loaded and if any data fields are
-                        // defined
-                        if (dataFieldsJA != null)
-                        {
-                            // Step through each data field definition
-                            for (JSONObject dataFieldJO : parseJSONArray(dataFieldsJA))
+                            // The number of inputs is incorrect
+                            else
                             {
-                                // Add the data field definition, checking for (and if possible,
-                                // correcting) errors
-                                continueOnDataFieldError = addImportedDataFieldDefinition(continueOnDataFieldError,
-                                                                                          tableDefn,
-                                                                                          new String[] {tableName,
-                                                                                                        getString(dataFieldJO,
-                                                                                                                  FieldEditorColumnInfo.NAME.getColumnName()),
-                                                                                                        getString(dataFieldJO,
-                                                                                                                  FieldEditorColumnInfo.DESCRIPTION.getColumnName()),
-                                                                                                        getString(dataFieldJO,
-                                                                                                                  FieldEditorColumnInfo.CHAR_SIZE.getColumnName()),
-                                                                                                        getString(dataFieldJO,
-                                                                                                                  FieldEditorColumnInfo.INPUT_TYPE.getColumnName()),
-                                                                                                        getString(dataFieldJO,
-                                                                                                                  FieldEditorColumnInfo.REQUIRED.getColumnName()),
-                                                                                                        getString(dataFieldJO,
-                                                                                                                  FieldEditorColumnInfo.APPLICABILITY.getColumnName()),
-                                                                                                        getString(dataFieldJO,
-                                                                                                                  FieldEditorColumnInfo.VALUE.getColumnName()),
-                                                                                                        getString(dataFieldJO,
-                                                                                                                  FieldEditorColumnInfo.INHERITED.getColumnName())},
-                                                                                          importFile.getAbsolutePath(),
-                                                                                          inputTypeHandler,
-                                                                                          fieldHandler,
-                                                                                          parent);
+                                // Check if the error should be ignored or the import canceled
+                                continueOnColumnError = getErrorResponse(continueOnColumnError,
+                                                                         "<html><b>Table '</b>"
+                                                                                                + tableName
+                                                                                                + "<b>' column name '</b>"
+                                                                                                + columnName
+                                                                                                + "<b>' unrecognized in import file '</b>"
+                                                                                                + importFile.getAbsolutePath()
+                                                                                                + "<b>'; continue?",
+                                                                         "Column Error",
+                                                                         "Ignore this invalid column name",
+                                                                         "Ignore this and any remaining invalid column names",
+                                                                         "Stop importing",
+                                                                         parent);
                             }
                         }
 
-                        // Add the table's definition to the list
-                        tableDefinitions.add(tableDefn);
+                        // Add the row of data read in from the file to the cell data list
+                        tableDefn.addData(rowData);
                     }
 
-                    // Check if only the data from the first table is to be read
-                    if (importType == ImportType.FIRST_DATA_ONLY)
+                    // Check if all definitions are to be loaded and if any data fields are
+                    // defined
+                    if (dataFieldsJA != null)
                     {
-                        // Stop reading table definitions
-                        break;
+                        // Step through each data field definition
+                        for (JSONObject dataFieldJO : parseJSONArray(dataFieldsJA))
+                        {
+                            // Add the data field definition, checking for (and if possible,
+                            // correcting) errors
+                            continueOnDataFieldError = addImportedDataFieldDefinition(continueOnDataFieldError,
+                                                                                      tableDefn,
+                                                                                      new String[] {tableName,
+                                                                                                    getString(dataFieldJO,
+                                                                                                              FieldEditorColumnInfo.NAME.getColumnName()),
+                                                                                                    getString(dataFieldJO,
+                                                                                                              FieldEditorColumnInfo.DESCRIPTION.getColumnName()),
+                                                                                                    getString(dataFieldJO,
+                                                                                                              FieldEditorColumnInfo.CHAR_SIZE.getColumnName()),
+                                                                                                    getString(dataFieldJO,
+                                                                                                              FieldEditorColumnInfo.INPUT_TYPE.getColumnName()),
+                                                                                                    getString(dataFieldJO,
+                                                                                                              FieldEditorColumnInfo.REQUIRED.getColumnName()),
+                                                                                                    getString(dataFieldJO,
+                                                                                                              FieldEditorColumnInfo.APPLICABILITY.getColumnName()),
+                                                                                                    getString(dataFieldJO,
+                                                                                                              FieldEditorColumnInfo.VALUE.getColumnName()),
+                                                                                                    getString(dataFieldJO,
+                                                                                                              FieldEditorColumnInfo.INHERITED.getColumnName())},
+                                                                                      importFile.getAbsolutePath(),
+                                                                                      inputTypeHandler,
+                                                                                      fieldHandler,
+                                                                                      parent);
+                        }
                     }
+
+                    // Add the table's definition to the list
+                    tableDefinitions.add(tableDefn);
+                }
+
+                // Check if only the data from the first table is to be read
+                if (importType == ImportType.FIRST_DATA_ONLY)
+                {
+                    // Stop reading table definitions
+                    break;
                 }
             }
         }
@@ -1229,31 +1577,40 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
             bw = new BufferedWriter(fw);
             pw = new PrintWriter(bw);
 
-            // Use of the JSONObject does not retain the order that the key:value pairs are stored.
-            // This custom JSON object is used so that the stored order is reflected in the output
-            OrderedJSONObject outputJO = new OrderedJSONObject();
+            // Begin the JSON output. Each table definition is formatted and written to the file
+            // as it's created so that only the table being exported is stored in memory
+            pw.print("{");
+            boolean isFirst = true;
 
             // Check if the build information is to be output
             if (includeBuildInformation)
             {
-                // Create the file creation comment
-                outputJO.put(JSONTags.FILE_DESCRIPTION.getTag(),
-                             "Created "
-                                                                 + new Date().toString()
-                                                                 + " : CCDD version = "
-                                                                 + ccddMain.getCCDDVersionInformation()
-                                                                 + " : project = "
-                                                                 + dbControl.getProjectName()
-                                                                 + " : host = "
-                                                                 + dbControl.getServer()
-                                                                 + " : user = "
-                                                                 + dbControl.getUser());
+                // Output the file creation comment
+                writeJSONKey(pw, JSONTags.FILE_DESCRIPTION.getTag(), isFirst);
+                writeJSONValue(pw,
+                               "Created "
+                                   + new Date().toString()
+                                   + " : CCDD version = "
+                                   + ccddMain.getCCDDVersionInformation()
+                                   + " : project = "
+                                   + dbControl.getProjectName()
+                                   + " : host = "
+                                   + dbControl.getServer()
+                                   + " : user = "
+                                   + dbControl.getUser(),
+                               JSON_INDENT);
+                isFirst = false;
             }
 
             // Check if any tables are provided
             if (tableNames.length != 0)
             {
-                JSONArray tableJA = new JSONArray();
+                boolean isFirstTable = true;
+
+                // Begin the table definitions array
+                writeJSONKey(pw, JSONTags.TABLE_DEFN.getTag(), isFirst);
+                pw.print("[");
+                isFirst = false;
 
                 // Sort the array of table names alphabetically, accounting for array dimension
                 // values within the table names. This causes the tables to be placed in the JSON
@@ -1303,8 +1660,12 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
                     // Check if the table's data successfully loaded
                     if (tableInfoJO != null && !tableInfoJO.isEmpty())
                     {
-                        // Add the wrapper for the table
-                        tableJA.add(tableInfoJO);
+                        // Output the table's information
+                        pw.print(isFirstTable
+                                              ? "\n" + JSON_INDENT + JSON_INDENT
+                                              : ",\n" + JSON_INDENT + JSON_INDENT);
+                        writeJSONValue(pw, tableInfoJO, JSON_INDENT + JSON_INDENT);
+                        isFirstTable = false;
 
                         // Get the table type definition based on the type name
                         TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(tableInfo.getType());
@@ -1394,14 +1755,16 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
                     }
                 }
 
-                // Check if any tables were processed successfully
-                if (tableJA != null)
-                {
-                    // Add the table information to the JSON output
-                    outputJO.put(JSONTags.TABLE_DEFN.getTag(), tableJA);
-                }
+                // End the table definitions array
+                pw.print(isFirstTable
+                                      ? "]"
+                                      : "\n" + JSON_INDENT + "]");
             }
 
+            // Use of the JSONObject does not retain the order that the key:value pairs are stored.
+            // This custom JSON object is used so that the stored order is reflected in the output
+            OrderedJSONObject outputJO = new OrderedJSONObject();
+
             // Add the referenced table type definition(s), if any, to the output
             outputJO = getTableTypeDefinitions(referencedTableTypes,
                                                referencedInputTypes,
@@ -1462,18 +1825,21 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
                 outputJO = getVariablePaths(variablePaths, outputJO);
             }
 
-            // Create a JavaScript engine for use in formatting the JSON output
-            ScriptEngineManager manager = new ScriptEngineManager();
-            ScriptEngine scriptEngine = manager.getEngineByName("JavaScript");
+            // Step through each of the remaining definitions
+            for (Map.Entry<Object, Object> definition : outputJO.entrySet())
+            {
+                // Output the definition
+                writeJSONKey(pw, definition.getKey().toString(), isFirst);
+                writeJSONValue(pw, definition.getValue(), JSON_INDENT);
+                isFirst = false;
+            }
 
-            // Output the ordered and formatted JSON object to the file
-            StringWriter orderedOutput = new StringWriter();
-            JSONValue.writeJSONString(outputJO, orderedOutput);
-            scriptEngine.put("jsonString", orderedOutput.toString());
-            scriptEngine.eval("result = JSON.stringify(JSON.parse(jsonString), null, 2)");
-            pw.println((String) scriptEngine.get("result"));
+            // End the JSON output
+            pw.println(isFirst
+                               ? "}"
+                               : "\n}");
         }
-        catch (IOException | ScriptException iose)
+        catch (IOException iose)
         {
             throw new CCDDException(iose.getMessage());
         }
@@ -1516,6 +1882,191 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
         }
     }
 
+    /**********************************************************************************************
+     * Output the key for a top-level JSON object member to the export file, preceded by the
+     * separator from the previous member (if any) and the indentation
+     *
+     * @param pw
+     *            print writer for the export file
+     *
+     * @param key
+     *            member key
+     *
+     * @param isFirst
+     *            true if this is the first member of the top-level object
+     *********************************************************************************************/
+    private void writeJSONKey(PrintWriter pw, String key, boolean isFirst)
+    {
+        pw.print(isFirst
+                         ? "\n" + JSON_INDENT
+                         : ",\n" + JSON_INDENT);
+        writeJSONString(pw, key);
+        pw.print(": ");
+    }
+
+    /**********************************************************************************************
+     * Output the supplied JSON value to the export file. JSON objects and arrays are output one
+     * member per line, indented two spaces per nesting level; this is the same format produced by
+     * the JavaScript method JSON.stringify(value, null, 2)
+     *
+     * @param pw
+     *            print writer for the export file
+     *
+     * @param value
+     *            JSON object (map), JSON array (list), or primitive value
+     *
+     * @param indent
+     *            indentation of the line on which the value begins
+     *********************************************************************************************/
+    private void writeJSONValue(PrintWriter pw, Object value, String indent)
+    {
+        // Check if the value is a JSON object
+        if (value instanceof Map)
+        {
+            String separator = "\n" + indent + JSON_INDENT;
+
+            pw.print("{");
+
+            // Step through each of the object's members
+            for (Map.Entry<?, ?> member : ((Map<?, ?>) value).entrySet())
+            {
+                // Output the member's key and value
+                pw.print(separator);
+                writeJSONString(pw, String.valueOf(member.getKey()));
+                pw.print(": ");
+                writeJSONValue(pw, member.getValue(), indent + JSON_INDENT);
+                separator = ",\n" + indent + JSON_INDENT;
+            }
+
+            pw.print(((Map<?, ?>) value).isEmpty()
+                                                   ? "}"
+                                                   : "\n" + indent + "}");
+        }
+        // Check if the value is a JSON array
+        else if (value instanceof List)
+        {
+            String separator = "\n" + indent + JSON_INDENT;
+
+            pw.print("[");
+
+            // Step through each of the array's members
+            for (Object member : (List<?>) value)
+            {
+                // Output the member
+                pw.print(separator);
+                writeJSONValue(pw, member, indent + JSON_INDENT);
+                separator = ",\n" + indent + JSON_INDENT;
+            }
+
+            pw.print(((List<?>) value).isEmpty()
+                                                 ? "]"
+                                                 : "\n" + indent + "]");
+        }
+        // Check if the value is a boolean or null
+        else if (value == null || value instanceof Boolean)
+        {
+            pw.print(String.valueOf(value));
+        }
+        // Check if the value is a number
+        else if (value instanceof Number)
+        {
+            double number = ((Number) value).doubleValue();
+
+            // Check if the number can't be represented in JSON
+            if (Double.isNaN(number) || Double.isInfinite(number))
+            {
+                pw.print("null");
+            }
+            // Check if the number is a floating point value with no fractional part
+            else if ((value instanceof Double || value instanceof Float)
+                     && number == Math.rint(number)
+                     && Math.abs(number) < 1e15)
+            {
+                // Output the number without the fractional part
+                pw.print((long) number);
+            }
+            // The number is an integer or has a fractional part
+            else
+            {
+                pw.print(value.toString());
+            }
+        }
+        // The value is a string (or is treated as a string)
+        else
+        {
+            writeJSONString(pw, value.toString());
+        }
+    }
+
+    /**********************************************************************************************
+     * Output the supplied text to the export file as a JSON string, bounded by double quotes and
+     * with the double quote, backslash, and control characters escaped
+     *
+     * @param pw
+     *            print writer for the export file
+     *
+     * @param text
+     *            text to output
+     *********************************************************************************************/
+    private void writeJSONString(PrintWriter pw, String text)
+    {
+        pw.print('"');
+
+        // Step through each character in the text
+        for (int index = 0; index < text.length(); index++)
+        {
+            char ch = text.charAt(index);
+
+            switch (ch)
+            {
+                case '"':
+                    pw.print("\\\"");
+                    break;
+
+                case '\\':
+                    pw.print("\\\\");
+                    break;
+
+                case '\b':
+                    pw.print("\\b");
+                    break;
+
+                case '\f':
+                    pw.print("\\f");
+                    break;
+
+                case '\n':
+                    pw.print("\\n");
+                    break;
+
+                case '\r':
+                    pw.print("\\r");
+                    break;
+
+                case '\t':
+                    pw.print("\\t");
+                    break;
+
+                default:
+                    // Check if the character is a control character
+                    if (ch < ' ')
+                    {
+                        // Output the character as a Unicode escape sequence
+                        pw.print(String.format("\\u%04x", (int) ch));
+                    }
+                    // Not a control character
+                    else
+                    {
+                        pw.print(ch);
+                    }
+
+                    break;
+            }
+        }
+
+        pw.print('"');
+    }
+
     /**********************************************************************************************
      * Get the data for the specified data table
      *
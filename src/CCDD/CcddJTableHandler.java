@@ -44,7 +44,9 @@ import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Pattern;
 
@@ -192,6 +194,28 @@ public abstract class CcddJTableHandler extends JTable
     // Pattern to use when searching cells for matching text
     private Pattern pattern;
 
+    // Measured cell heights, in pixels, keyed by the row's data in the table model. Each row's
+    // array is indexed by column, model coordinates; a value of -1 indicates the cell's height
+    // hasn't been measured
+    private Map<Object, int[]> cellHeights;
+
+    // Change tracking used when determining if the table has changed. The previous data and
+    // ignored columns from the most recent comparison and its result are stored, along with the
+    // position of each model row in the data with empty rows excluded (-1 if the row is empty)
+    // and the number of non-empty rows at the time of the comparison, the positions of the rows
+    // that differ from the previous data, and the model rows that have changed since
+    private Object[][] trackedData;
+    private boolean[] trackedIgnoredColumns;
+    private boolean trackedResult;
+    private int[] trackedPositions;
+    private int trackedNumPopulated;
+    private Set<Integer> changedPositions;
+    private Set<Integer> editedRows;
+
+    // Flag that indicates that the table's rows have been added, removed, or replaced since the
+    // most recent comparison, so the table data must be compared in full
+    private boolean isFullCompareNeeded;
+
     // Place holder text used when pasting data from the clipboard
     private static String EMBEDDED_QUOTE = "@~quote~@";
     private static String EMBEDDED_NEW_LINE = "@~newline~@";
@@ -209,6 +233,15 @@ public abstract class CcddJTableHandler extends JTable
         // Store a reference to the table
         table = this;
 
+        // Create storage for the measured cell heights. The row data is compared by identity
+        // since its contents can change
+        cellHeights = new IdentityHashMap<Object, int[]>();
+
+        // Create storage for the change tracking information
+        changedPositions = new HashSet<Integer>();
+        editedRows = new HashSet<Integer>();
+        isFullCompareNeeded = true;
+
         // Add an undo edit manager and add it as a listener for undo/redo changes
         undoManager = new CcddUndoManager()
         {
@@ -674,20 +707,8 @@ public abstract class CcddJTableHandler extends JTable
         // Check if the row's cells are empty, and that the end of the table hasn't been reached
         while (!hasData && tableRow < tableModel.getRowCount())
         {
-            // Step through each column in the row
-            for (int column = 0; column < tableModel.getColumnCount(); column++)
-            {
-                // Check if the column is visible and if the cell contents doesn't match the
-                // default value (usually empty, though other default values, (e.g., for check
-                // boxes) are possible)
-                if (convertColumnIndexToView(column) != -1
-                    && !emptyRow[column].equals(tableModel.getValueAt(tableRow, column)))
-                {
-                    // Set the flag indicating data exists
-                    hasData = true;
-                    break;
-                }
-            }
+            // Set the flag if the row contains data
+            hasData = isRowPopulated(tableRow, emptyRow);
 
             // Empty row; increment the index to ignore this row
             if (!hasData)
@@ -699,6 +720,40 @@ public abstract class CcddJTableHandler extends JTable
         return tableRow;
     }
 
+    /**********************************************************************************************
+     * Determine if a table row contains data. Rows are empty if the cell values match those in
+     * the supplied empty row. Hidden columns are ignored
+     *
+     * @param tableRow
+     *            table row to check for data, model coordinates
+     *
+     * @param emptyRow
+     *            empty row for the table, as returned by the getEmptyRow() method
+     *
+     * @return true if the row contains data
+     *********************************************************************************************/
+    private boolean isRowPopulated(int tableRow, Object[] emptyRow)
+    {
+        boolean hasData = false;
+
+        // Step through each column in the row
+        for (int column = 0; column < tableModel.getColumnCount(); column++)
+        {
+            // Check if the column is visible and if the cell contents doesn't match the default
+            // value (usually empty, though other default values, (e.g., for check boxes) are
+            // possible)
+            if (convertColumnIndexToView(column) != -1
+                && !emptyRow[column].equals(tableModel.getValueAt(tableRow, column)))
+            {
+                // Set the flag indicating data exists
+                hasData = true;
+                break;
+            }
+        }
+
+        return hasData;
+    }
+
     /**********************************************************************************************
      * Assign OIDs to newly added table rows. Some tables use OIDs, when building the table updates
      * used to generate the SQL commands to adjust the database, to match up a row that has had one
@@ -767,34 +822,224 @@ public abstract class CcddJTableHandler extends JTable
      *********************************************************************************************/
     protected boolean isTableChanged(Object[][] previousData, List<Integer> ignoreColumns)
     {
-        // Get the data for the type as it exists in the database and the table editor
-        Object[][] currentData = getTableData(true);
+        // Create a flag array indicating which columns are ignored
+        boolean[] ignoredColumns = new boolean[tableModel.getColumnCount()];
+
+        // Check if any columns are ignored
+        if (ignoreColumns != null)
+        {
+            // Step through each ignored column
+            for (int column : ignoreColumns)
+            {
+                // Check if the column exists
+                if (column >= 0 && column < ignoredColumns.length)
+                {
+                    // Flag the column as ignored
+                    ignoredColumns[column] = true;
+                }
+            }
+        }
+
+        // Check if the data and ignored columns differ from the most recent comparison, or if the
+        // table rows have been added, removed, or replaced since
+        if (previousData != trackedData
+            || !Arrays.equals(ignoredColumns, trackedIgnoredColumns)
+            || isFullCompareNeeded)
+        {
+            // Compare every row of the table to the previous data
+            compareTableData(previousData, ignoredColumns);
+        }
+        // Check if any rows have changed since the most recent comparison
+        else if (!editedRows.isEmpty())
+        {
+            // Compare the changed rows to the previous data
+            compareEditedRows();
+        }
+
+        return trackedResult;
+    }
+
+    /**********************************************************************************************
+     * Compare every non-empty row of the table to the previous data and store the change tracking
+     * information
+     *
+     * @param previousData
+     *            current database values for the table
+     *
+     * @param ignoredColumns
+     *            array of flags, one per column, indicating if the column is ignored when checking
+     *            for changes
+     *********************************************************************************************/
+    private void compareTableData(Object[][] previousData, boolean[] ignoredColumns)
+    {
+        // Get an empty row for the table for comparison purposes
+        Object[] emptyRow = getEmptyRow();
 
-        // Set the change flag if the number of rows has changed
-        boolean hasChanges = previousData.length != currentData.length;
+        // Reset the change tracking information
+        trackedData = previousData;
+        trackedIgnoredColumns = ignoredColumns;
+        trackedPositions = new int[tableModel.getRowCount()];
+        trackedNumPopulated = 0;
+        changedPositions.clear();
+        editedRows.clear();
+        isFullCompareNeeded = false;
 
-        // Check if the previous and current data size is the same
-        if (!hasChanges)
+        // Step through each row in the table
+        for (int row = 0; row < tableModel.getRowCount(); row++)
         {
-            // Step through each row in the table
-            for (int row = 0; row < currentData.length && !hasChanges; row++)
+            // Check if the row contains data
+            if (isRowPopulated(row, emptyRow))
             {
-                // Step through each column in the table
-                for (int column = 0; column < currentData[row].length && !hasChanges; column++)
+                // Store the row's position in the data with empty rows excluded
+                trackedPositions[row] = trackedNumPopulated;
+
+                // Check if the row differs from the previous data
+                if (isRowChanged(row, trackedNumPopulated))
                 {
-                    // Check if the table value doesn't match the database value and the column
-                    // isn't in the list of those to ignore (if present)
-                    if (!currentData[row][column].equals(previousData[row][column])
-                        && (ignoreColumns == null || !ignoreColumns.contains(column)))
-                    {
-                        // Set the flag indicating a change exists
-                        hasChanges = true;
-                    }
+                    // Store the position of the changed row
+                    changedPositions.add(trackedNumPopulated);
                 }
+
+                trackedNumPopulated++;
+            }
+            // The row is empty
+            else
+            {
+                // Flag the row as not included in the data
+                trackedPositions[row] = -1;
             }
         }
 
-        return hasChanges;
+        // Set the change flag if the number of rows has changed or if any row differs
+        trackedResult = trackedNumPopulated != previousData.length || !changedPositions.isEmpty();
+    }
+
+    /**********************************************************************************************
+     * Compare the rows changed since the most recent comparison to the previous data and update
+     * the change tracking information. If a changed row has become empty, or an empty row has
+     * become populated, then the row positions shift and the table is compared in full
+     *********************************************************************************************/
+    private void compareEditedRows()
+    {
+        // Get an empty row for the table for comparison purposes
+        Object[] emptyRow = getEmptyRow();
+
+        // Step through each row changed since the most recent comparison
+        for (int row : editedRows)
+        {
+            boolean isPopulated = isRowPopulated(row, emptyRow);
+
+            // Check if the row's empty status has changed
+            if (isPopulated != (trackedPositions[row] != -1))
+            {
+                // Set the flag to compare the table in full and stop checking the changed rows
+                isFullCompareNeeded = true;
+                break;
+            }
+
+            // Check if the row contains data
+            if (isPopulated)
+            {
+                // Check if the row differs from the previous data
+                if (isRowChanged(row, trackedPositions[row]))
+                {
+                    // Store the position of the changed row
+                    changedPositions.add(trackedPositions[row]);
+                }
+                // The row matches the previous data
+                else
+                {
+                    // Remove the position from the changed rows
+                    changedPositions.remove(trackedPositions[row]);
+                }
+            }
+        }
+
+        // Check if the row positions are unchanged
+        if (!isFullCompareNeeded)
+        {
+            // Clear the changed rows and set the change flag if the number of rows has changed or
+            // if any row differs
+            editedRows.clear();
+            trackedResult = trackedNumPopulated != trackedData.length
+                            || !changedPositions.isEmpty();
+        }
+        // The row positions have shifted
+        else
+        {
+            // Compare every row of the table to the previous data
+            compareTableData(trackedData, trackedIgnoredColumns);
+        }
+    }
+
+    /**********************************************************************************************
+     * Determine if a table row differs from the corresponding row in the previous data. Ignored
+     * columns aren't compared
+     *
+     * @param row
+     *            table row index, model coordinates
+     *
+     * @param position
+     *            index of the corresponding row in the previous data
+     *
+     * @return true if the previous data has a corresponding row and any compared cell value
+     *         differs from it
+     *********************************************************************************************/
+    private boolean isRowChanged(int row, int position)
+    {
+        boolean isChanged = false;
+
+        // Check if the previous data has a corresponding row
+        if (position < trackedData.length)
+        {
+            // Step through each column in the table
+            for (int column = 0; column < tableModel.getColumnCount(); column++)
+            {
+                // Check if the column isn't ignored and the table value doesn't match the
+                // database value
+                if (!trackedIgnoredColumns[column]
+                    && !tableModel.getValueAt(row, column).equals(trackedData[position][column]))
+                {
+                    // Set the flag indicating a change exists and stop searching
+                    isChanged = true;
+                    break;
+                }
+            }
+        }
+
+        return isChanged;
+    }
+
+    /**********************************************************************************************
+     * Record the table model rows affected by a table model change for use when determining if
+     * the table has changed. If the change adds, removes, or replaces rows then the row positions
+     * are no longer valid and the table must be compared in full
+     *
+     * @param tme
+     *            table model event
+     *********************************************************************************************/
+    private void recordTableChange(TableModelEvent tme)
+    {
+        // Check if the table structure or all of its data changed, or if rows are added or
+        // deleted
+        if (tme.getFirstRow() == TableModelEvent.HEADER_ROW
+            || tme.getLastRow() == Integer.MAX_VALUE
+            || tme.getType() != TableModelEvent.UPDATE
+            || tme.getLastRow() >= tableModel.getRowCount())
+        {
+            // Set the flag to compare the table in full
+            isFullCompareNeeded = true;
+        }
+        // Check if a full comparison isn't already needed
+        else if (!isFullCompareNeeded)
+        {
+            // Step through each changed row
+            for (int row = tme.getFirstRow(); row <= tme.getLastRow(); row++)
+            {
+                // Store the changed row
+                editedRows.add(row);
+            }
+        }
     }
 
     /**********************************************************************************************
@@ -1433,6 +1678,10 @@ public abstract class CcddJTableHandler extends JTable
     {
         List<TableColumn> wasHidden = new ArrayList<TableColumn>();
 
+        // Set the flag to compare the table in full when next checking for changes, since hidden
+        // columns aren't considered when determining if a row is empty
+        isFullCompareNeeded = true;
+
         // Step through each column in the table
         for (int column = 0; column < tableModel.getColumnCount(); column++)
         {
@@ -2263,12 +2512,17 @@ public abstract class CcddJTableHandler extends JTable
                                  + ModifiableSpacingInfo.HEADER_HORIZONTAL_PADDING.getSpacing();
         minDataWidth[column] = minHeaderWidth[column];
 
-        // Step through each row in the table
-        for (int row = 0; row < getRowCount(); row++)
+        // Get the number of rows to measure. If the table has more rows than the lazy rendering
+        // threshold then only a sample of the rows, evenly spaced through the table, is measured
+        int numRows = getRowCount();
+        int numSamples = Math.min(numRows, ModifiableSizeInfo.LAZY_RENDERING_ROWS.getSize());
+
+        // Step through each row to measure
+        for (int sample = 0; sample < numSamples; sample++)
         {
             // Get the component used to draw the table cell from the cell's renderer
             comp = super.prepareRenderer(getDefaultRenderer(String.class),
-                                         row,
+                                         (int) ((long) sample * numRows / numSamples),
                                          column);
 
             // Compare the width of the cell to the largest width found so far and store it if it's
@@ -3880,6 +4134,18 @@ public abstract class CcddJTableHandler extends JTable
     @Override
     public void tableChanged(final TableModelEvent tme)
     {
+        // Check if the cell height storage and table model exist (this method is called during
+        // construction of the table, prior to these being created) and that the event references
+        // the model data
+        if (cellHeights != null && tableModel != null && tme != null)
+        {
+            // Discard the measured heights for the cells that changed
+            invalidateCellHeights(tme);
+
+            // Record the rows that changed for use when determining if the table has changed
+            recordTableChange(tme);
+        }
+
         // Check if a model data reload is not in progress, the table model is valid, and the table
         // has rows to display. The columns are not correct until the model data reload is complete
         if (!isReloadData && tableModel != null && getRowCount() != 0)
@@ -3962,6 +4228,26 @@ public abstract class CcddJTableHandler extends JTable
 
                         // Set the row index to the last changed row plus one
                         lastRow = convertRowIndexToView(tme.getLastRow()) + 1;
+
+                        // Check if the table has more rows than the lazy rendering threshold
+                        if (getRowCount() > ModifiableSizeInfo.LAZY_RENDERING_ROWS.getSize())
+                        {
+                            // Get the coordinates of the table's visible rectangle
+                            Rectangle visRect = getVisibleRect();
+
+                            // Limit the rows to those that are visible. The heights of the other
+                            // changed rows are calculated when the rows are scrolled into view
+                            firstRow = Math.max(firstRow,
+                                                Math.max(rowAtPoint(visRect.getLocation()), 0));
+                            visRect.translate(0, visRect.height - 1);
+                            int lastVisibleRow = rowAtPoint(visRect.getLocation());
+
+                            // Check if the last visible row is in the table
+                            if (lastVisibleRow != -1)
+                            {
+                                lastRow = Math.min(lastRow, lastVisibleRow + 1);
+                            }
+                        }
                     }
                 }
             }
@@ -3975,6 +4261,55 @@ public abstract class CcddJTableHandler extends JTable
         }
     }
 
+    /**********************************************************************************************
+     * Discard the measured heights for the cells affected by a table model change. The heights
+     * for all cells are discarded if the entire table or its structure changes, or if rows are
+     * deleted
+     *
+     * @param tme
+     *            table model event
+     *********************************************************************************************/
+    private void invalidateCellHeights(TableModelEvent tme)
+    {
+        // Check if the table structure or all of its data changed, or if rows are deleted
+        if (tme.getFirstRow() == TableModelEvent.HEADER_ROW
+            || tme.getLastRow() == Integer.MAX_VALUE
+            || tme.getType() == TableModelEvent.DELETE)
+        {
+            // Discard all of the measured heights
+            cellHeights.clear();
+        }
+        // Check if the contents of specific rows changed
+        else if (tme.getType() == TableModelEvent.UPDATE)
+        {
+            // Step through each changed row that exists in the table model
+            for (int row = tme.getFirstRow(); row <= tme.getLastRow()
+                                              && row < tableModel.getRowCount(); row++)
+            {
+                // Get the row's measured cell heights
+                int[] rowHeights = cellHeights.get(tableModel.getDataVector().get(row));
+
+                // Check if any of the row's cell heights have been measured
+                if (rowHeights != null)
+                {
+                    // Check if all of the row's columns changed or the column is invalid
+                    if (tme.getColumn() == TableModelEvent.ALL_COLUMNS
+                        || tme.getColumn() >= rowHeights.length)
+                    {
+                        // Discard the row's measured heights
+                        cellHeights.remove(tableModel.getDataVector().get(row));
+                    }
+                    // A single cell changed
+                    else
+                    {
+                        // Flag the cell's height as not measured
+                        rowHeights[tme.getColumn()] = -1;
+                    }
+                }
+            }
+        }
+    }
+
     /**********************************************************************************************
      * Update the table's row heights. Each row's height is based on the contents of the cells in
      * that row; the cell with the greatest height determines the height for the entire row
@@ -3993,17 +4328,37 @@ public abstract class CcddJTableHandler extends JTable
             // Initialize a minimum row height
             int minRowHeight = 5;
 
+            // Get the row's data from the table model and the row's measured cell heights
+            Object rowData = tableModel.getDataVector().get(convertRowIndexToModel(row));
+            int[] rowHeights = cellHeights.get(rowData);
+
+            // Check if no cell in the row has been measured, or the number of columns changed
+            if (rowHeights == null || rowHeights.length != tableModel.getColumnCount())
+            {
+                // Create storage for the row's cell heights, flagged as not measured
+                rowHeights = new int[tableModel.getColumnCount()];
+                Arrays.fill(rowHeights, -1);
+                cellHeights.put(rowData, rowHeights);
+            }
+
             // Step through each visible column in the row
             for (int column = 0; column < getColumnCount(); column++)
             {
-                // Use the prepareRenderer() to calculate the height required to display the cell's
-                // contents
-                Component comp = super.prepareRenderer(getCellRenderer(row, column),
-                                                       row,
-                                                       column);
+                int modelColumn = convertColumnIndexToModel(column);
+
+                // Check if the cell's height hasn't been measured
+                if (rowHeights[modelColumn] == -1)
+                {
+                    // Use the prepareRenderer() to calculate the height required to display the
+                    // cell's contents
+                    rowHeights[modelColumn] = super.prepareRenderer(getCellRenderer(row, column),
+                                                                    row,
+                                                                    column)
+                                                   .getPreferredSize().height;
+                }
 
                 // Store the largest minimum height found
-                minRowHeight = Math.max(minRowHeight, comp.getPreferredSize().height);
+                minRowHeight = Math.max(minRowHeight, rowHeights[modelColumn]);
             }
 
             // Check if the new row height differs from the current height
@@ -4074,6 +4429,15 @@ public abstract class CcddJTableHandler extends JTable
     @Override
     public void columnMarginChanged(ChangeEvent ce)
     {
+        // Check if the cell height storage exists (this method is called during construction of
+        // the table, prior to the storage being created)
+        if (cellHeights != null)
+        {
+            // Discard the measured cell heights since a change in column width can alter the
+            // height of multiple line cells
+            cellHeights.clear();
+        }
+
         // Get the column being resized
         TableColumn resizingColumn = getTableHeader().getResizingColumn();
 
@@ -4576,6 +4940,11 @@ public abstract class CcddJTableHandler extends JTable
                 // Create a book object for the table and data fields (if applicable)
                 Book book = new Book();
 
+                // Update the heights of all of the rows. The heights of rows that haven't been
+                // displayed aren't calculated if the table has more rows than the lazy rendering
+                // threshold
+                updateRowHeights(0, getRowCount());
+
                 // Determine the number of pages to print the table. The printable object is
                 // altered during the page counting process, so it cannot be reused when creating
                 // the page wrapper below
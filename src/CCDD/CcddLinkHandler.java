@@ -282,8 +282,8 @@ public class CcddLinkHandler
             {
                 // Get the offset of this variable relative to its root structure. A variable's bit
                 // length is ignored if provided
-                int index = variableHandler.getStructureAndVariablePaths().indexOf(macroHandler.getMacroExpansion(linkMember).replaceFirst(":.+$", ""));
-                int offset = variableHandler.getStructureAndVariableOffsets().get(index);
+                int index = variableHandler.getStructureAndVariableIndex(macroHandler.getMacroExpansion(linkMember).replaceFirst(":.+$", ""));
+                int offset = variableHandler.getStructureAndVariableOffset(index);
 
                 // Check if this variable is not bit-packed with the previous one. The variables
                 // are packed together if this variable immediately follows the previous one in the
@@ -470,7 +470,7 @@ public class CcddLinkHandler
             // variable isn't in the link tree
             if (linkMember.contains(".")
                 && !linkMember.matches("\\d.*")
-                && variableHandler.getStructureAndVariablePaths().indexOf(linkMember.replaceFirst(":.+$", "")) == -1)
+                && !variableHandler.isStructureOrVariablePath(linkMember.replaceFirst(":.+$", "")))
             {
                 // Store the invalid link
                 invalidLinks.add(linkDefn);
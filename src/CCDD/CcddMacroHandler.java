@@ -16,7 +16,13 @@ import java.awt.Component;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -52,10 +58,19 @@ public class CcddMacroHandler
     // List containing the macro names and associated unexpanded values
     private List<String[]> macros;
 
-    // Array containing the expanded macro values. Unless the macro's value definition changes the
-    // expanded value remains the same. Using the stored data saves the time needed to reevaluate
-    // the macro value
-    private List<String> expandedMacroValues;
+    // Map containing the index in the macro list for each macro, keyed by the macro name in upper
+    // case. A new map is built and assigned whenever the macro list is replaced
+    private volatile Map<String, Integer> macroIndices;
+
+    // Map containing the expanded macro values, keyed by the macro name in upper case. Unless the
+    // macro's value definition changes the expanded value remains the same. Using the stored data
+    // saves the time needed to reevaluate the macro value
+    private Map<String, String> expandedMacroValues;
+
+    // Map containing the expanded text for each text string already expanded (without data type
+    // constraints), keyed by the unexpanded text. As with the expanded macro values, the expanded
+    // text remains the same until a macro value or data type size changes
+    private Map<String, String> expandedTexts;
 
     // Macro name pattern
     private final Pattern macroPattern;
@@ -75,9 +90,33 @@ public class CcddMacroHandler
     // List containing the macro definitions following an import operation
     private List<String[]> updatedMacros;
 
-    // List of macro references already loaded from the database. This is used to avoid repeated
-    // searches for a the same macro
-    private List<MacroReference> loadedReferences;
+    // Map of macro references already loaded from the database, keyed by the macro name. This is
+    // used to avoid repeated searches for a the same macro
+    private Map<String, MacroReference> loadedReferences;
+
+    // Macro dependency graph. For each macro, keyed by the macro name in upper case, the map
+    // contains the names of the macros referenced in the macro's value. An entry is created when
+    // first needed and is removed when the macro's value, or the set of defined macros, changes
+    private final Map<String, List<String>> macroReferences;
+
+    // Reverse index of the macro dependency graph. For each macro, keyed by the macro name in
+    // upper case, the map contains the names of the macros with a value that references the
+    // macro. The index is built when first needed; null if it hasn't been built
+    private Map<String, List<String>> macroDependents;
+
+    // For each macro, keyed by the macro name in upper case, the map contains the data types
+    // referenced in sizeof() calls in the macro's value. An entry is created when first needed and
+    // is removed when the macro's value changes
+    private final Map<String, List<String>> macroDataTypes;
+
+    // Reverse index of the sizeof() data type references. For each data type, keyed by the data
+    // type name, the map contains the names of the macros with a value that has a sizeof() call
+    // for the data type. These edges connect a structure's size to the macros that depend on it.
+    // The index is built when first needed; null if it hasn't been built or a macro value changed
+    private Map<String, List<String>> sizeofDependents;
+
+    // Pattern for locating sizeof() calls
+    private final Pattern sizeofPattern;
 
     /**********************************************************************************************
      * Macro data table references class
@@ -85,6 +124,7 @@ public class CcddMacroHandler
     protected class MacroReference
     {
         private final String macroName;
+        private final List<String> dependentMacros;
         private final String[] references;
 
         /******************************************************************************************
@@ -99,7 +139,7 @@ public class CcddMacroHandler
         MacroReference(String macroName, Component parent)
         {
             this.macroName = macroName;
-            List<String> dependentMacros = new ArrayList<String>();
+            dependentMacros = new ArrayList<String>();
             String searchMacros = "";
 
             // Get the list of macros that have a value that depends on the supplied macro. The
@@ -130,6 +170,20 @@ public class CcddMacroHandler
             return macroName;
         }
 
+        /******************************************************************************************
+         * Check if the macro, or one of the macros that depend on its value, has the specified
+         * name
+         *
+         * @param name
+         *            macro name (case insensitive)
+         *
+         * @return true if the macro or one of its dependent macros has the specified name
+         *****************************************************************************************/
+        protected boolean isDependentMacro(String name)
+        {
+            return CcddUtilities.contains(name, dependentMacros);
+        }
+
         /******************************************************************************************
          * Get the references in the data tables for this macro
          *
@@ -201,7 +255,13 @@ public class CcddMacroHandler
         this.macros = macros;
         tableTypeHandler = ccddMain.getTableTypeHandler();
 
+        // Index the macros by name
+        buildMacroIndices();
+
         popUpToolTips = new ArrayList<String>();
+        macroReferences = new HashMap<String, List<String>>();
+        macroDataTypes = new HashMap<String, List<String>>();
+        sizeofPattern = Pattern.compile(SIZEOF_DATATYPE);
 
         // Create the macro name search pattern
         macroPattern = Pattern.compile("^.*?("
@@ -269,10 +329,12 @@ public class CcddMacroHandler
      *********************************************************************************************/
     protected void setMacroData(List<String[]> macros)
     {
+        List<String[]> oldMacros = this.macros;
         this.macros = CcddUtilities.copyListOfStringArrays(macros);
+        buildMacroIndices();
 
-        // Reinitialize the expanded macro value array
-        clearStoredValues();
+        // Update the dependency graph and discard the expanded values affected by the changes
+        updateDependencies(oldMacros);
     }
 
     /**********************************************************************************************
@@ -313,17 +375,506 @@ public class CcddMacroHandler
     }
 
     /**********************************************************************************************
-     * Clear the list of expanded macro values. This should be done following any change to a
-     * macro's unexpanded value so that the unexpanded value is reevaluated when next requested
+     * Clear the list of expanded macro values and the stored text expansions. This should be done
+     * following any change to a macro's unexpanded value or to a data type's size so that the
+     * unexpanded value is reevaluated when next requested
      *********************************************************************************************/
-    protected void clearStoredValues()
+    protected synchronized void clearStoredValues()
     {
-        expandedMacroValues = new ArrayList<String>(macros.size());
+        expandedMacroValues = new HashMap<String, String>();
+        expandedTexts = new HashMap<String, String>();
+    }
 
-        // Initialize the expanded macro values to null
-        for (int index = 0; index < macros.size(); index++)
+    /**********************************************************************************************
+     * Update the macro dependency graph following a change to the macro definitions, and discard
+     * the stored expanded values for the macros and text strings affected by the change. Only the
+     * changed macros, and the macros and text strings that depend on these (directly or via other
+     * macros), are reevaluated when next requested. If the dependency graph's reverse index
+     * hasn't been built then every stored value is discarded
+     *
+     * @param oldMacros
+     *            list of string arrays containing the macro definitions prior to the change
+     *********************************************************************************************/
+    private synchronized void updateDependencies(List<String[]> oldMacros)
+    {
+        Set<String> changedMacros = new HashSet<String>();
+        Set<String> addedMacros = new HashSet<String>();
+        Map<String, String[]> oldDefinitions = new HashMap<String, String[]>();
+
+        // Step through each original macro definition
+        for (String[] macro : oldMacros)
+        {
+            // Store the definition using the macro name in upper case as the key
+            oldDefinitions.put(macro[MacrosColumn.MACRO_NAME.ordinal()].toUpperCase(), macro);
+        }
+
+        // Step through each updated macro definition
+        for (String[] macro : macros)
+        {
+            String key = macro[MacrosColumn.MACRO_NAME.ordinal()].toUpperCase();
+            String[] oldMacro = oldDefinitions.remove(key);
+
+            // Check if the macro is new
+            if (oldMacro == null)
+            {
+                // Add the macro to the lists of new and changed macros
+                addedMacros.add(macro[MacrosColumn.MACRO_NAME.ordinal()]);
+                changedMacros.add(key);
+            }
+            // Check if the macro's name or value changed
+            else if (!macro[MacrosColumn.MACRO_NAME.ordinal()].equals(oldMacro[MacrosColumn.MACRO_NAME.ordinal()])
+                     || !macro[MacrosColumn.VALUE.ordinal()].equals(oldMacro[MacrosColumn.VALUE.ordinal()]))
+            {
+                // Add the macro to the list of changed macros
+                changedMacros.add(key);
+            }
+        }
+
+        // Any original macro remaining in the map has been deleted
+        changedMacros.addAll(oldDefinitions.keySet());
+
+        // Check if the reverse index of the dependency graph hasn't been built
+        if (macroDependents == null)
+        {
+            // Without the reverse index the macros dependent on the changed ones can't be
+            // determined, so remove the entire graph and every stored value
+            macroReferences.clear();
+            macroDataTypes.clear();
+            sizeofDependents = null;
+            clearStoredValues();
+        }
+        // Check if any macro changed
+        else if (!changedMacros.isEmpty())
+        {
+            Set<String> updateMacros = new HashSet<String>(changedMacros);
+
+            // Step through each deleted macro
+            for (String key : oldDefinitions.keySet())
+            {
+                // Check if any macro references the deleted macro
+                if (macroDependents.containsKey(key))
+                {
+                    // The references in the macros that referenced the deleted macro must be
+                    // updated since it's no longer recognized as a macro
+                    for (String dependent : macroDependents.get(key))
+                    {
+                        updateMacros.add(dependent.toUpperCase());
+                    }
+                }
+            }
+
+            // Step through each new macro
+            for (String newMacro : addedMacros)
+            {
+                // Step through each macro definition
+                for (String[] macro : macros)
+                {
+                    // Check if the macro's value contains the name of the new macro. The
+                    // references in this macro must be updated since what appeared to be text now
+                    // is recognized as a macro
+                    if (macro[MacrosColumn.VALUE.ordinal()].toUpperCase().contains(getFullMacroName(newMacro.toUpperCase())))
+                    {
+                        updateMacros.add(macro[MacrosColumn.MACRO_NAME.ordinal()].toUpperCase());
+                    }
+                }
+            }
+
+            // Step through each macro with references that must be updated
+            for (String key : updateMacros)
+            {
+                // Check if the macro's references have been determined
+                if (macroReferences.containsKey(key))
+                {
+                    // Step through each macro referenced by the original value
+                    for (String reference : macroReferences.get(key))
+                    {
+                        // Remove the macro from the referenced macro's list of dependents
+                        removeDependent(reference.toUpperCase(), key);
+                    }
+                }
+
+                // Remove the macro's references so that these are determined from the updated
+                // value when next needed
+                macroReferences.remove(key);
+                macroDataTypes.remove(key);
+            }
+
+            // Discard the reverse index of the sizeof() data type references so that it's rebuilt
+            // from the updated values when next needed
+            sizeofDependents = null;
+
+            // Step through each deleted macro
+            for (String key : oldDefinitions.keySet())
+            {
+                // Remove the macro from the reverse index
+                macroDependents.remove(key);
+            }
+
+            // Step through each macro definition
+            for (String[] macro : macros)
+            {
+                String key = macro[MacrosColumn.MACRO_NAME.ordinal()].toUpperCase();
+
+                // Check if the macro's references were removed above
+                if (updateMacros.contains(key))
+                {
+                    // Step through each macro referenced by the updated value
+                    for (String reference : getMacroGraphReferences(key))
+                    {
+                        // Add the macro to the referenced macro's list of dependents
+                        addDependent(reference.toUpperCase(), macro[MacrosColumn.MACRO_NAME.ordinal()]);
+                    }
+                }
+            }
+
+            // Get the macros with values that depend, directly or indirectly, on a changed macro
+            Set<String> affectedMacros = new HashSet<String>();
+
+            for (String key : updateMacros)
+            {
+                getAffectedMacros(key, affectedMacros);
+            }
+
+            // Step through each affected macro
+            for (String key : affectedMacros)
+            {
+                // Discard the macro's expanded value
+                expandedMacroValues.remove(key);
+            }
+
+            // Step through each stored text expansion
+            for (Iterator<String> iter = expandedTexts.keySet().iterator(); iter.hasNext();)
+            {
+                String text = iter.next().toUpperCase();
+
+                // Step through each affected macro
+                for (String key : affectedMacros)
+                {
+                    // Check if the text references the affected macro
+                    if (text.contains(getFullMacroName(key)))
+                    {
+                        // Discard the text's expanded value and stop searching
+                        iter.remove();
+                        break;
+                    }
+                }
+            }
+
+            // Check if any macro table references have been loaded
+            if (loadedReferences != null)
+            {
+                Set<String> referencedMacros = new HashSet<String>();
+
+                // Get the macros referenced, directly or indirectly, by the updated macros. The
+                // list of dependent macros for these may have changed
+                for (String key : updateMacros)
+                {
+                    getAllReferencedMacros(key, referencedMacros);
+                }
+
+                // Step through each loaded macro table reference
+                for (Iterator<MacroReference> iter = loadedReferences.values().iterator(); iter.hasNext();)
+                {
+                    MacroReference loadedRef = iter.next();
+
+                    // Check if the macro's dependent macros include an updated macro, or if the
+                    // macro is referenced by an updated macro
+                    if (referencedMacros.contains(loadedRef.getMacroName().toUpperCase()))
+                    {
+                        // Discard the loaded references so that these are searched for again
+                        iter.remove();
+                    }
+                    else
+                    {
+                        // Step through each updated macro
+                        for (String key : updateMacros)
+                        {
+                            // Check if the updated macro is a dependent of the loaded macro
+                            if (loadedRef.isDependentMacro(key))
+                            {
+                                // Discard the loaded references and stop searching
+                                iter.remove();
+                                break;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**********************************************************************************************
+     * Discard the stored expanded values for the macros and text strings affected by a change in
+     * the size of the specified structures. The macros with a sizeof() call for one of the
+     * structures, and the macros that depend on these (directly or via other macros), are
+     * reevaluated when next requested, as are text strings that reference an affected macro or
+     * contain a sizeof() call. A sizeof() call with a data type containing a macro can't be
+     * matched to a structure, so the macro is treated as affected. The stored values for all
+     * other macros are retained
+     *
+     * @param structureNames
+     *            names of the structures with a size that changed (including structures that were
+     *            added or removed)
+     *********************************************************************************************/
+    protected synchronized void discardStructureSizeValues(Set<String> structureNames)
+    {
+        // Build the reverse indices of the dependency graph if not already built
+        buildDependentsIndex();
+        buildSizeofDependentsIndex();
+
+        Set<String> affectedMacros = new HashSet<String>();
+
+        // Step through each data type referenced in a sizeof() call
+        for (Entry<String, List<String>> entry : sizeofDependents.entrySet())
+        {
+            // Check if the data type is one of the structures with a changed size, or if the data
+            // type is determined by a macro
+            if (structureNames.contains(entry.getKey()) || hasMacro(entry.getKey()))
+            {
+                // Step through each macro with a sizeof() call for the data type
+                for (String dependent : entry.getValue())
+                {
+                    // Add the macro and the macros that depend on it to the affected macros
+                    getAffectedMacros(dependent.toUpperCase(), affectedMacros);
+                }
+            }
+        }
+
+        // Step through each affected macro
+        for (String key : affectedMacros)
+        {
+            // Discard the macro's expanded value
+            expandedMacroValues.remove(key);
+        }
+
+        // Step through each stored text expansion
+        for (Iterator<String> iter = expandedTexts.keySet().iterator(); iter.hasNext();)
         {
-            expandedMacroValues.add(null);
+            String text = iter.next();
+
+            // Check if the text contains a sizeof() call. The data type sizes are evaluated when
+            // the text is expanded, so the text is reevaluated
+            if (CcddVariableHandler.hasSizeof(text))
+            {
+                iter.remove();
+            }
+            // The text doesn't contain a sizeof() call
+            else
+            {
+                String upperText = text.toUpperCase();
+
+                // Step through each affected macro
+                for (String key : affectedMacros)
+                {
+                    // Check if the text references the affected macro
+                    if (upperText.contains(getFullMacroName(key)))
+                    {
+                        // Discard the text's expanded value and stop searching
+                        iter.remove();
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**********************************************************************************************
+     * Build the reverse index of the sizeof() data type references if it hasn't already been
+     * built
+     *********************************************************************************************/
+    private void buildSizeofDependentsIndex()
+    {
+        // Check if the reverse index hasn't been built
+        if (sizeofDependents == null)
+        {
+            sizeofDependents = new HashMap<String, List<String>>();
+
+            // Step through each macro definition
+            for (String[] macro : macros)
+            {
+                // Step through each data type referenced in a sizeof() call in the macro's value
+                for (String dataType : getMacroDataTypes(macro[MacrosColumn.MACRO_NAME.ordinal()].toUpperCase()))
+                {
+                    List<String> dependents = sizeofDependents.get(dataType);
+
+                    // Check if this is the first macro referencing the data type
+                    if (dependents == null)
+                    {
+                        // Create the list of macros referencing the data type
+                        dependents = new ArrayList<String>();
+                        sizeofDependents.put(dataType, dependents);
+                    }
+
+                    // Add the macro to the data type's list of dependents
+                    dependents.add(macro[MacrosColumn.MACRO_NAME.ordinal()]);
+                }
+            }
+        }
+    }
+
+    /**********************************************************************************************
+     * Get the names of the macros referenced in the specified macro's value. The references are
+     * determined from the macro's value when first requested and stored in the dependency graph
+     *
+     * @param key
+     *            macro name in upper case
+     *
+     * @return List containing the names of the macros referenced in the specified macro's value;
+     *         an empty list if the macro doesn't exist or doesn't reference any macros
+     *********************************************************************************************/
+    private List<String> getMacroGraphReferences(String key)
+    {
+        List<String> references = macroReferences.get(key);
+
+        // Check if the macro's references haven't been determined
+        if (references == null)
+        {
+            int index = getMacroIndex(key);
+
+            // Get the macros referenced in the macro's value; if the macro doesn't exist then
+            // there are no references
+            references = index == -1
+                                     ? new ArrayList<String>()
+                                     : getReferencedMacros(macros.get(index)[MacrosColumn.VALUE.ordinal()]);
+
+            // Store the references in the dependency graph
+            macroReferences.put(key, references);
+        }
+
+        return references;
+    }
+
+    /**********************************************************************************************
+     * Build the reverse index of the macro dependency graph if it hasn't already been built
+     *********************************************************************************************/
+    private void buildDependentsIndex()
+    {
+        // Check if the reverse index hasn't been built
+        if (macroDependents == null)
+        {
+            macroDependents = new HashMap<String, List<String>>();
+
+            // Step through each macro definition
+            for (String[] macro : macros)
+            {
+                // Step through each macro referenced by this macro's value
+                for (String reference : getMacroGraphReferences(macro[MacrosColumn.MACRO_NAME.ordinal()].toUpperCase()))
+                {
+                    // Add the macro to the referenced macro's list of dependents
+                    addDependent(reference.toUpperCase(), macro[MacrosColumn.MACRO_NAME.ordinal()]);
+                }
+            }
+        }
+    }
+
+    /**********************************************************************************************
+     * Add a macro to the list of macros that depend on the specified macro
+     *
+     * @param key
+     *            name, in upper case, of the macro referenced by the dependent macro
+     *
+     * @param dependent
+     *            name of the macro with a value that references the specified macro
+     *********************************************************************************************/
+    private void addDependent(String key, String dependent)
+    {
+        List<String> dependents = macroDependents.get(key);
+
+        // Check if this is the first dependent for the macro
+        if (dependents == null)
+        {
+            // Create the list of dependents for the macro
+            dependents = new ArrayList<String>();
+            macroDependents.put(key, dependents);
+        }
+
+        // Check if the macro isn't already in the list
+        if (!CcddUtilities.contains(dependent, dependents))
+        {
+            // Add the macro to the list of dependents
+            dependents.add(dependent);
+        }
+    }
+
+    /**********************************************************************************************
+     * Remove a macro from the list of macros that depend on the specified macro
+     *
+     * @param key
+     *            name, in upper case, of the macro referenced by the dependent macro
+     *
+     * @param dependentKey
+     *            name, in upper case, of the macro to remove from the list of dependents
+     *********************************************************************************************/
+    private void removeDependent(String key, String dependentKey)
+    {
+        List<String> dependents = macroDependents.get(key);
+
+        // Check if the macro has any dependents
+        if (dependents != null)
+        {
+            // Step through each dependent macro
+            for (Iterator<String> iter = dependents.iterator(); iter.hasNext();)
+            {
+                // Check if this is the macro to remove
+                if (iter.next().equalsIgnoreCase(dependentKey))
+                {
+                    // Remove the macro from the list and stop searching
+                    iter.remove();
+                    break;
+                }
+            }
+        }
+    }
+
+    /**********************************************************************************************
+     * Add the specified macro and the macros with values that depend, directly or indirectly, on
+     * the specified macro to the supplied set. This is a recursive method
+     *
+     * @param key
+     *            macro name in upper case
+     *
+     * @param affectedMacros
+     *            set containing the names, in upper case, of the affected macros
+     *********************************************************************************************/
+    private void getAffectedMacros(String key, Set<String> affectedMacros)
+    {
+        // Check if the macro hasn't already been processed
+        if (affectedMacros.add(key))
+        {
+            // Check if any macros reference this macro
+            if (macroDependents.containsKey(key))
+            {
+                // Step through each macro that references this macro
+                for (String dependent : macroDependents.get(key))
+                {
+                    // Add the dependent macro and its dependents to the set
+                    getAffectedMacros(dependent.toUpperCase(), affectedMacros);
+                }
+            }
+        }
+    }
+
+    /**********************************************************************************************
+     * Add the specified macro and the macros referenced, directly or indirectly, by the specified
+     * macro's value to the supplied set. This is a recursive method
+     *
+     * @param key
+     *            macro name in upper case
+     *
+     * @param referencedMacros
+     *            set containing the names, in upper case, of the referenced macros
+     *********************************************************************************************/
+    private void getAllReferencedMacros(String key, Set<String> referencedMacros)
+    {
+        // Check if the macro hasn't already been processed
+        if (referencedMacros.add(key))
+        {
+            // Step through each macro referenced by this macro
+            for (String reference : getMacroGraphReferences(key))
+            {
+                // Add the referenced macro and its references to the set
+                getAllReferencedMacros(reference.toUpperCase(), referencedMacros);
+            }
         }
     }
 
@@ -340,16 +891,14 @@ public class CcddMacroHandler
     {
         String storedName = null;
 
-        // Step through each macro
-        for (String[] macro : macros)
+        // Get the index of the macro with the supplied name
+        int index = getMacroIndex(inputName);
+
+        // Check if the macro exists
+        if (index != -1)
         {
-            // Check if the supplied name matches the macro name, ignoring case
-            if (macro[MacrosColumn.MACRO_NAME.ordinal()].equalsIgnoreCase(inputName))
-            {
-                // Set the name to the stored macro name and stop searching
-                storedName = macro[MacrosColumn.MACRO_NAME.ordinal()];
-                break;
-            }
+            // Set the name to the stored macro name
+            storedName = macros.get(index)[MacrosColumn.MACRO_NAME.ordinal()];
         }
 
         return storedName;
@@ -478,6 +1027,8 @@ public class CcddMacroHandler
      *********************************************************************************************/
     protected void replaceDataTypeReferences(String oldDataTypeName, String newDataTypeName)
     {
+        List<String[]> oldMacros = new ArrayList<String[]>(macros);
+
         // Step through each macro definition
         for (int index = 0; index < macros.size(); index++)
         {
@@ -496,6 +1047,10 @@ public class CcddMacroHandler
                                                                                                     "$1" + newDataTypeName + "$2")});
             }
         }
+
+        // Update the dependency graph and discard the expanded values for any macros with a
+        // changed value
+        updateDependencies(oldMacros);
     }
 
     /**********************************************************************************************
@@ -506,12 +1061,65 @@ public class CcddMacroHandler
      *
      * @return true if a recursive reference is detected in the macro's value
      *********************************************************************************************/
-    protected boolean isMacroRecursive(String macroName)
+    protected synchronized boolean isMacroRecursive(String macroName)
     {
-        // Get the macro's value, checking for recursion
-        getMacroValue(macroName);
+        // Check the macro's references in the dependency graph for a path that leads back to a
+        // macro already in the path
+        return hasRecursiveReference(macroName.toUpperCase(),
+                                     new ArrayList<String>(),
+                                     new HashSet<String>());
+    }
 
-        return isMacroRecursive;
+    /**********************************************************************************************
+     * Check if the specified macro's value, or the value of any macro it references directly or
+     * indirectly, contains a reference to a macro in its value path. This is a recursive method
+     *
+     * @param key
+     *            macro name in upper case
+     *
+     * @param path
+     *            list containing the names, in upper case, of the macros in the value path above
+     *            the specified macro
+     *
+     * @param checkedMacros
+     *            set containing the names, in upper case, of the macros already determined to
+     *            have no recursive reference
+     *
+     * @return true if a recursive reference is detected
+     *********************************************************************************************/
+    private boolean hasRecursiveReference(String key, List<String> path, Set<String> checkedMacros)
+    {
+        boolean isRecursive = false;
+
+        // Check if the macro is referenced in the value path above it
+        if (path.contains(key))
+        {
+            isRecursive = true;
+        }
+        // Check if the macro hasn't already been checked
+        else if (!checkedMacros.contains(key))
+        {
+            // Add the macro to the value path
+            path.add(key);
+
+            // Step through each macro referenced by this macro
+            for (String reference : getMacroGraphReferences(key))
+            {
+                // Check if the referenced macro leads to a recursive reference
+                if (hasRecursiveReference(reference.toUpperCase(), path, checkedMacros))
+                {
+                    // Set the flag to indicate a recursive reference exists and stop searching
+                    isRecursive = true;
+                    break;
+                }
+            }
+
+            // Remove the macro from the value path and mark it as checked
+            path.remove(path.size() - 1);
+            checkedMacros.add(key);
+        }
+
+        return isRecursive;
     }
 
     /**********************************************************************************************
@@ -526,50 +1134,43 @@ public class CcddMacroHandler
      *         doesn't exist. The isMacroRecursive flag will be set to true if the macro contains a
      *         recursive reference
      *********************************************************************************************/
-    protected String getMacroValue(String macroName)
+    protected synchronized String getMacroValue(String macroName)
     {
         // TODO NEED TO HANDLE MACROS IN THE FORMAT name(a[,b[,...]])
 
         String macroValue = null;
         isMacroRecursive = false;
 
-        // Step through each defined macro
-        for (int index = 0; index < macros.size(); index++)
+        // Check if the macro exists
+        if (isMacroExists(macroName))
         {
-            // Check if the supplied name matches this macro's name and this is not a new macro.
-            // When a macro is added the expanded macro value array size isn't updated immediately
-            // so as not to erase the existing expanded macro values. Therefore the macro name may
-            // be in the list but not in the array
-            if (macroName.equalsIgnoreCase(macros.get(index)[MacrosColumn.MACRO_NAME.ordinal()]))
-            {
-                // Check if the macro's expanded value hasn't already been determined
-                if (expandedMacroValues.get(index) == null)
-                {
-                    // Get the macro's value, replacing any embedded macros with their respective
-                    // values and evaluating any sizeof() calls
-                    macroValue = getMacroValue(macroName, new ArrayList<String>());
+            String key = macroName.toUpperCase();
 
-                    // Evaluate the text as a mathematical expression
-                    Double exprResult = CcddMathExpressionHandler.evaluateExpression(macroValue);
+            // Check if the macro's expanded value hasn't already been determined
+            if (expandedMacroValues.get(key) == null)
+            {
+                // Get the macro's value, replacing any embedded macros with their respective
+                // values and evaluating any sizeof() calls
+                macroValue = getMacroValue(macroName, new ArrayList<String>());
 
-                    // Check if the text is a valid mathematical expression
-                    if (exprResult != null)
-                    {
-                        // Set the value to expression result
-                        macroValue = String.valueOf((int) ((double) exprResult));
-                    }
+                // Evaluate the text as a mathematical expression
+                Double exprResult = CcddMathExpressionHandler.evaluateExpression(macroValue);
 
-                    // Store the expanded macro value
-                    expandedMacroValues.set(index, macroValue);
-                }
-                // The macro's expanded value is already determined
-                else
+                // Check if the text is a valid mathematical expression
+                if (exprResult != null)
                 {
-                    // Get the expanded macro value
-                    macroValue = expandedMacroValues.get(index);
+                    // Set the value to expression result
+                    macroValue = String.valueOf((int) ((double) exprResult));
                 }
 
-                break;
+                // Store the expanded macro value
+                expandedMacroValues.put(key, macroValue);
+            }
+            // The macro's expanded value is already determined
+            else
+            {
+                // Get the expanded macro value
+                macroValue = expandedMacroValues.get(key);
             }
         }
 
@@ -713,21 +1314,46 @@ public class CcddMacroHandler
     {
         int macroIndex = -1;
 
-        // Step through each defined macro
-        for (int index = 0; index < macros.size(); index++)
+        // Check if a macro name is supplied
+        if (macroName != null)
         {
-            // Check if the macro name matches the supplied name
-            if (macroName.equalsIgnoreCase(macros.get(index)[MacrosColumn.MACRO_NAME.ordinal()]))
+            // Get the macro's index from the map
+            Integer index = macroIndices.get(macroName.toUpperCase());
+
+            // Check if the macro exists
+            if (index != null)
             {
-                // Store the macro's index and stop searching
                 macroIndex = index;
-                break;
             }
         }
 
         return macroIndex;
     }
 
+    /**********************************************************************************************
+     * Build the map of macro names, in upper case, to the macro's index in the macro list. If
+     * the list contains the same name more than once then the first occurrence is used
+     *********************************************************************************************/
+    private void buildMacroIndices()
+    {
+        Map<String, Integer> indices = new HashMap<String, Integer>();
+
+        // Step through each defined macro
+        for (int index = 0; index < macros.size(); index++)
+        {
+            String key = macros.get(index)[MacrosColumn.MACRO_NAME.ordinal()].toUpperCase();
+
+            // Check if the macro name isn't already in the map
+            if (!indices.containsKey(key))
+            {
+                // Store the macro's index
+                indices.put(key, index);
+            }
+        }
+
+        macroIndices = Collections.unmodifiableMap(indices);
+    }
+
     /**********************************************************************************************
      * Replace any macro names and sizeof() calls embedded in the supplied text with the associated
      * macro values and data type sizes
@@ -759,21 +1385,27 @@ public class CcddMacroHandler
      *         associated macro values and data type sizes; if no macro or sizeof() call is present
      *         the text is returned unchanged
      *********************************************************************************************/
-    protected String getMacroExpansion(String text, List<String> invalidDataTypes)
+    protected synchronized String getMacroExpansion(String text, List<String> invalidDataTypes)
     {
         isMacroRecursive = false;
 
         String expandedText;
-        int lastEnd = 0;
 
+        // Check if the text has already been expanded without data type constraints
+        if (invalidDataTypes == null && expandedTexts.containsKey(text))
+        {
+            // Get the stored expanded text
+            expandedText = expandedTexts.get(text);
+        }
         // Check if the text string contains a macro or sizeof() call
-        if (hasMacro(text) || CcddVariableHandler.hasSizeof(text))
+        else if (hasMacro(text) || CcddVariableHandler.hasSizeof(text))
         {
-            expandedText = "";
+            StringBuilder expanded = new StringBuilder();
+            int lastEnd = 0;
             this.invalidDataTypes = invalidDataTypes;
 
             // Convert any sizeof() calls to the equivalent data type size
-            text = variableHandler.replaceSizeofWithValue(text, invalidDataTypes);
+            String sizeofText = variableHandler.replaceSizeofWithValue(text, invalidDataTypes);
 
             // Check if the sizeof() call references an invalid data type
             if (variableHandler.isInvalidReference())
@@ -783,19 +1415,20 @@ public class CcddMacroHandler
             }
 
             // Step through each macro in the text string
-            for (MacroLocation location : getMacroLocation(text))
+            for (MacroLocation location : getMacroLocation(sizeofText))
             {
                 // Append the text leading to the macro name, then add the macro value in place of
                 // the name
-                expandedText += text.substring(lastEnd, location.getStart())
-                                + getMacroValue(location.getMacroName().replaceAll(MACRO_IDENTIFIER, ""));
+                expanded.append(sizeofText.substring(lastEnd, location.getStart()))
+                        .append(getMacroValue(location.getMacroName().replaceAll(MACRO_IDENTIFIER, "")));
 
                 // Store the end position of the macro name for the next pass
                 lastEnd = location.getStart() + location.getMacroName().length();
             }
 
             // Append any remaining text
-            expandedText += text.substring(lastEnd);
+            expanded.append(sizeofText.substring(lastEnd));
+            expandedText = expanded.toString();
 
             // Separate the text at any comma. This is to evaluate each substring to see if it's an
             // expression. This allows macros to represent array sizes for multi-dimensional arrays
@@ -819,7 +1452,7 @@ public class CcddMacroHandler
             else
             {
                 boolean isExpr = true;
-                String multiText = "";
+                StringBuilder multiText = new StringBuilder();
 
                 // Step through each substring
                 for (String part : parts)
@@ -830,8 +1463,15 @@ public class CcddMacroHandler
                     // Check if the text is a valid mathematical expression
                     if (exprResult != null)
                     {
-                        // Set the value to expression result
-                        multiText += String.valueOf((int) ((double) exprResult)) + ",";
+                        // Check if this isn't the first substring
+                        if (multiText.length() != 0)
+                        {
+                            // Add the separator between the integers
+                            multiText.append(", ");
+                        }
+
+                        // Add the expression result
+                        multiText.append((int) ((double) exprResult));
                     }
                     // The substring isn't an expression
                     else
@@ -846,15 +1486,23 @@ public class CcddMacroHandler
                 // Check if the every substring is an expression
                 if (isExpr)
                 {
-                    // Set the expanded text to the comma-separated integers, removing the trailing
-                    // comma added above
-                    expandedText = CcddUtilities.removeTrailer(multiText, ",").replaceAll(",", ", ");
+                    // Set the expanded text to the comma-separated integers
+                    expandedText = multiText.toString();
                 }
             }
 
             // Reset the invalid data types so this list doesn't inadvertently affect macro checks
             // where there is no data type constraint
             this.invalidDataTypes = null;
+
+            // Check if there are no data type constraints and no recursive or invalid reference
+            // was detected
+            if (invalidDataTypes == null && !isMacroRecursive)
+            {
+                // Store the expanded text so that subsequent requests for the same text don't
+                // require it to be expanded again
+                expandedTexts.put(text, expandedText);
+            }
         }
         // The text doesn't contain a macro or sizeof() call
         else
@@ -936,33 +1584,65 @@ public class CcddMacroHandler
     {
         List<String> structureReferences = new ArrayList<String>();
 
-        // Step through each macro
-        for (String[] macroDefn : macros)
+        // Step through each data type referenced in a sizeof() call in the macro
+        for (String dataType : getMacroDataTypes(macroName.toUpperCase()))
+        {
+            // Check if the data type is a structure and the structure name isn't already in the
+            // list
+            if (!dataTypeHandler.isPrimitive(dataType) && !structureReferences.contains(dataType))
+            {
+                // Add the structure name to the list
+                structureReferences.add(dataType);
+            }
+        }
+
+        return structureReferences;
+    }
+
+    /**********************************************************************************************
+     * Get the data types referenced in sizeof() calls in the specified macro's value. The data
+     * types are determined from the macro's value when first requested and stored in the
+     * dependency graph
+     *
+     * @param key
+     *            macro name in upper case
+     *
+     * @return List containing the data types referenced in sizeof() calls in the specified macro's
+     *         value; an empty list if the macro doesn't exist or has no sizeof() calls
+     *********************************************************************************************/
+    private List<String> getMacroDataTypes(String key)
+    {
+        List<String> dataTypes = macroDataTypes.get(key);
+
+        // Check if the macro's data type references haven't been determined
+        if (dataTypes == null)
         {
-            // Check if the macro name matches the target macro
-            if (macroName.equalsIgnoreCase(macroDefn[MacrosColumn.MACRO_NAME.ordinal()]))
+            dataTypes = new ArrayList<String>();
+            int index = getMacroIndex(key);
+
+            // Check if the macro exists
+            if (index != -1)
             {
-                // Parse each data type referenced in a sizeof() call in the macro
-                for (String dataType : macroDefn[MacrosColumn.VALUE.ordinal()].replaceAll(".*?"
-                                                                                          + SIZEOF_DATATYPE
-                                                                                          + ".*?",
-                                                                                          "$1 ")
-                                                                              .split(" "))
+                // Locate the sizeof() calls in the macro's value
+                Matcher matcher = sizeofPattern.matcher(macros.get(index)[MacrosColumn.VALUE.ordinal()]);
+
+                // Step through each sizeof() call
+                while (matcher.find())
                 {
-                    // Check if the data type is a structure and the structure name isn't already
-                    // in the list
-                    if (!dataTypeHandler.isPrimitive(dataType)
-                        && !structureReferences.contains(dataType))
+                    // Check if the data type isn't already in the list
+                    if (!dataTypes.contains(matcher.group(1)))
                     {
-
-                        // Add the structure name to the list
-                        structureReferences.add(dataType);
+                        // Add the data type to the list
+                        dataTypes.add(matcher.group(1));
                     }
                 }
             }
+
+            // Store the data types in the dependency graph
+            macroDataTypes.put(key, dataTypes);
         }
 
-        return structureReferences;
+        return dataTypes;
     }
 
     /**********************************************************************************************
@@ -1012,25 +1692,17 @@ public class CcddMacroHandler
             // Add the macro name to the list
             dependentMacros.add(macroName);
 
-            // Step through each macro definition
-            for (String[] macro : macros)
+            // Build the reverse index of the dependency graph, if not already built
+            buildDependentsIndex();
+
+            // Check if any macro's value references the specified macro
+            if (macroDependents.containsKey(macroName.toUpperCase()))
             {
-                // Check that this isn't the definition for the specified macro. Since a macro is
-                // programatically prevented from referencing itself (since that would constitute a
-                // recursion error) this check simply prevents making unneeded calls below
-                if (!macro[MacrosColumn.MACRO_NAME.ordinal()].equalsIgnoreCase(macroName))
+                // Step through each macro with a value that references the specified macro
+                for (String dependent : macroDependents.get(macroName.toUpperCase()))
                 {
-                    // Get a list of every macro name referenced in this macro's value
-                    List<String> refMac = getReferencedMacros(macro[MacrosColumn.VALUE.ordinal()]);
-
-                    // Check if this macro's value references the specified macro (making its value
-                    // dependent on the specified macro)
-                    if (refMac.contains(macroName))
-                    {
-                        // Add this macro and its dependents to the list
-                        getDependentMacros(macro[MacrosColumn.MACRO_NAME.ordinal()],
-                                           dependentMacros);
-                    }
+                    // Add this macro and its dependents to the list
+                    getDependentMacros(dependent, dependentMacros);
                 }
             }
         }
@@ -1143,7 +1815,7 @@ public class CcddMacroHandler
      *********************************************************************************************/
     protected void initializeReferences()
     {
-        loadedReferences = new ArrayList<MacroReference>();
+        loadedReferences = new HashMap<String, MacroReference>();
     }
 
     /**********************************************************************************************
@@ -1161,19 +1833,8 @@ public class CcddMacroHandler
      *********************************************************************************************/
     protected MacroReference getMacroReferences(String macroName, Component parent)
     {
-        MacroReference macroRefs = null;
-
-        // Step through the list of the macro search references already loaded
-        for (MacroReference loadedRef : loadedReferences)
-        {
-            // Check if the macro name matches that for an already searched macro
-            if (macroName.equals(loadedRef.getMacroName()))
-            {
-                // Store the macro search reference and stop searching
-                macroRefs = loadedRef;
-                break;
-            }
-        }
+        // Get the macro search references if already loaded
+        MacroReference macroRefs = loadedReferences.get(macroName);
 
         // Check if the macro references haven't already been loaded
         if (macroRefs == null)
@@ -1181,8 +1842,8 @@ public class CcddMacroHandler
             // Search for references to this macro
             macroRefs = new MacroReference(macroName, parent);
 
-            // Add the search results to the list so that this search doesn't get performed again
-            loadedReferences.add(macroRefs);
+            // Add the search results to the map so that this search doesn't get performed again
+            loadedReferences.put(macroName, macroRefs);
         }
 
         return macroRefs;
@@ -1266,11 +1927,14 @@ public class CcddMacroHandler
         CcddMacroHandler newMacroHandler = new CcddMacroHandler(ccddMain, updatedMacros);
         newMacroHandler.setHandlers(variableHandler, dataTypeHandler);
 
-        // Step through each updated macro definition
-        for (String[] macro : updatedMacros)
+        // Step through each macro with a changed value. A new macro has no existing usage and an
+        // unchanged macro's usage is only affected if it depends on a changed macro; the
+        // references for a changed macro include those for the macros that depend on it, so the
+        // usage of every affected macro is verified
+        for (TableModification mod : modifications)
         {
             // Verify the macro's usage
-            validateMacroUsage(CcddMacroHandler.getFullMacroName(macro[MacrosColumn.MACRO_NAME.ordinal()]),
+            validateMacroUsage(mod.getOriginalRowData()[MacrosColumn.MACRO_NAME.ordinal()].toString(),
                                newMacroHandler,
                                parent);
         }
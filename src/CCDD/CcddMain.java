@@ -112,6 +112,7 @@ public class CcddMain
     private final CcddFileIOHandler fileIOHandler;
     private CcddFieldTableEditorDialog fieldTblEditorDialog;
     private final CcddScriptHandler scriptHandler;
+    private final CcddSearchIndexHandler searchIndexHandler;
     private CcddScriptExecutiveDialog scriptExecutiveDialog;
     private CcddScriptManagerDialog scriptManagerDialog;
     private CcddRateParameterHandler rateHandler;
@@ -157,6 +158,7 @@ public class CcddMain
     private JMenuItem mntmRestoreDb;
     private JMenuItem mntmUnlock;
     private JMenuItem mntmVerifyDatabase;
+    private JMenuItem mntmVerifyChanged;
     private JMenuItem mntmManageUsers;
     private JMenuItem mntmChangeDbOwner;
     private JMenuItem[] mntmRecentProjects;
@@ -280,11 +282,12 @@ public class CcddMain
         dbCommand.setEventLog();
         dbControl.setEventLog();
 
-        // Create the handler classes for database table commands, file I/O, scripts, and
-        // application parameters
+        // Create the handler classes for database table commands, file I/O, scripts, and the
+        // search index
         dbTable = new CcddDbTableCommandHandler(CcddMain.this);
         fileIOHandler = new CcddFileIOHandler(CcddMain.this);
         scriptHandler = new CcddScriptHandler(CcddMain.this);
+        searchIndexHandler = new CcddSearchIndexHandler(CcddMain.this);
 
         // Initialize the lists for storing the names of the recently opened projects and tables
         recentProjectNames = new ArrayList<String>(0);
@@ -661,6 +664,16 @@ public class CcddMain
         return scriptHandler;
     }
 
+    /**********************************************************************************************
+     * Get the search index handler
+     *
+     * @return Search index handler
+     *********************************************************************************************/
+    protected CcddSearchIndexHandler getSearchIndexHandler()
+    {
+        return searchIndexHandler;
+    }
+
     /**********************************************************************************************
      * Get the rate parameter handler
      *
@@ -1084,6 +1097,7 @@ public class CcddMain
         mntmRestoreDb.setEnabled(activateIfServer);
         mntmUnlock.setEnabled(activateIfServer);
         mntmVerifyDatabase.setEnabled(activateIfDatabase);
+        mntmVerifyChanged.setEnabled(activateIfDatabase);
         mntmManageUsers.setEnabled(activateIfDatabase && activateIfAdmin);
         mntmChangeDbOwner.setEnabled(activateIfServer);
         mntmNewTable.setEnabled(activateIfDatabase
@@ -1871,6 +1885,7 @@ public class CcddMain
         mntmUnlock = createMenuItem(mnProject, "Unlock", KeyEvent.VK_U, 1, "Unlock project database(s)");
         mnProject.addSeparator();
         mntmVerifyDatabase = createMenuItem(mnProject, "Verify", KeyEvent.VK_V, 1, "Perform a project database consistency check");
+        mntmVerifyChanged = createMenuItem(mnProject, "Verify changed", KeyEvent.VK_H, 1, "Perform a project database consistency check of the tables changed since the last clean check");
         mntmChangeDbOwner = createMenuItem(mnProject, "Change owner", KeyEvent.VK_W, 1, "Change owner of an existing project databaser");
         mntmManageUsers = createMenuItem(mnProject, "Manage users", KeyEvent.VK_M, 1, "Open the user access level manager");
 
@@ -2258,6 +2273,20 @@ public class CcddMain
             }
         });
 
+        // Add a listener for the Verify Changed menu item
+        mntmVerifyChanged.addActionListener(new ActionListener()
+        {
+            /**************************************************************************************
+             * Perform a database consistency check of the tables changed since the last clean
+             * check
+             *************************************************************************************/
+            @Override
+            public void actionPerformed(ActionEvent ae)
+            {
+                new CcddDbVerificationHandler(CcddMain.this, true);
+            }
+        });
+
         // Add a listener for the New Data menu item
         mntmNewTable.addActionListener(new ActionListener()
         {
@@ -8,13 +8,48 @@
 package CCDD;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**************************************************************************************************
  * CFS Command and Data Dictionary mathematical expression handler class
  *************************************************************************************************/
 public class CcddMathExpressionHandler
 {
+    // Maximum number of evaluated expressions to retain
+    private static final int MAX_STORED_EXPRESSIONS = 10000;
+
+    // Map containing the result for each expression already evaluated, keyed by the expression
+    // text. The expressions contain only numeric constants and operators, so an expression's
+    // result never changes and the text needs to be parsed only once
+    private static final Map<String, Double> evaluatedExpressions = new EvaluatedExpressionMap();
+
+    /**********************************************************************************************
+     * Evaluated expression map class. The map is kept in access order so that the least recently
+     * used expression can be discarded once the maximum number is reached
+     *********************************************************************************************/
+    @SuppressWarnings("serial")
+    private static class EvaluatedExpressionMap extends LinkedHashMap<String, Double>
+    {
+        /******************************************************************************************
+         * Evaluated expression map class constructor
+         *****************************************************************************************/
+        EvaluatedExpressionMap()
+        {
+            super(16, 0.75f, true);
+        }
+
+        /******************************************************************************************
+         * Discard the least recently used expression once the maximum number is exceeded
+         *****************************************************************************************/
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Double> eldest)
+        {
+            return size() > MAX_STORED_EXPRESSIONS;
+        }
+    }
+
     /**********************************************************************************************
      * Mathematical expression nest level class
      *********************************************************************************************/
@@ -99,7 +134,8 @@ public class CcddMathExpressionHandler
     }
 
     /**********************************************************************************************
-     * Evaluate the supplied text as a mathematical expression
+     * Evaluate the supplied text as a mathematical expression. The text is parsed only on the
+     * first request; the stored result is used for subsequent requests for the same text
      *
      * @param expression
      *            text to evaluate as a mathematical expression
@@ -108,6 +144,41 @@ public class CcddMathExpressionHandler
      *         to a numeric value (not a mathematical expression or the syntax is in error)
      *********************************************************************************************/
     protected static Double evaluateExpression(String expression)
+    {
+        Double result;
+
+        synchronized (evaluatedExpressions)
+        {
+            // Check if the expression has already been evaluated
+            if (evaluatedExpressions.containsKey(expression))
+            {
+                // Get the stored result (null if the text isn't a valid expression)
+                result = evaluatedExpressions.get(expression);
+            }
+            // The expression hasn't been evaluated
+            else
+            {
+                // Parse and evaluate the expression, and store the result so that subsequent
+                // requests for the same expression don't parse the text again
+                result = parseExpression(expression);
+                evaluatedExpressions.put(expression, result);
+            }
+        }
+
+        return result;
+    }
+
+    /**********************************************************************************************
+     * Parse and evaluate the supplied text as a mathematical expression. The expression is
+     * evaluated from left to right as it's parsed, with parentheses used to group operations
+     *
+     * @param expression
+     *            text to evaluate as a mathematical expression
+     *
+     * @return The result of the evaluated expression; null if the supplied text doesn't evaluate
+     *         to a numeric value (not a mathematical expression or the syntax is in error)
+     *********************************************************************************************/
+    private static Double parseExpression(String expression)
     {
         int levelIndex = 0;
         boolean isExpression = true;
@@ -95,6 +95,10 @@ public class CcddPatchHandler
         // implemented
         if (isBeforeHandlerInit)
         {
+            // Patch #10162026: Add an index to the custom values table on the parent table path so
+            // that a child table's custom values can be retrieved without scanning the table
+            updateValuesIndex();
+
             // Patch #11052018: PartA - Add a column, field_inherited, to the fields table that
             // indicates if the field is owned by a table and is inherited from the table's type
             updateFieldsPart1();
@@ -198,6 +202,55 @@ public class CcddPatchHandler
         }
     }
 
+    /**********************************************************************************************
+     * Add the index on the parent table path to the custom values table. The index is built on an
+     * expression so it's maintained automatically by the database. Older versions of CCDD are
+     * compatible with the project database after applying this patch
+     *
+     * @throws CCDDException
+     *             If an error occurs while applying the patch
+     *********************************************************************************************/
+    private void updateValuesIndex() throws CCDDException
+    {
+        CcddEventLogDialog eventLog = ccddMain.getSessionEventLog();
+        CcddDbControlHandler dbControl = ccddMain.getDbControlHandler();
+
+        try
+        {
+            CcddDbCommandHandler dbCommand = ccddMain.getDbCommandHandler();
+
+            // Check if the patch hasn't already been applied
+            if (!dbControl.isValuesIndexExists(ccddMain.getMainFrame()))
+            {
+                // Create the index on the parent table path
+                dbCommand.executeDbCommand(dbControl.buildValuesIndexCommand(),
+                                           ccddMain.getMainFrame());
+
+                // Inform the user that adding the custom values table index completed
+                eventLog.logEvent(EventLogMessageType.SUCCESS_MSG,
+                                  "Project '"
+                                                                   + dbControl.getProjectName()
+                                                                   + "' custom values table index added");
+            }
+        }
+        catch (Exception e)
+        {
+            // Inform the user that adding the custom values table index failed
+            eventLog.logFailEvent(ccddMain.getMainFrame(),
+                                  "Cannot update project '"
+                                                           + dbControl.getProjectName()
+                                                           + "' custom values table index; cause '"
+                                                           + e.getMessage()
+                                                           + "'",
+                                  "<html><b>Cannot update project '</b>"
+                                                                  + dbControl.getProjectName()
+                                                                  + "<b>' custom values table index "
+                                                                  + "(project database will be closed)");
+
+            throw new CCDDException();
+        }
+    }
+
     /**********************************************************************************************
      * Update the fields table to include a field_inherited column and set each field's default
      * status. Older versions of CCDD are not compatible with the project database after applying
@@ -15,7 +15,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import CCDD.CcddClassesComponent.ArrayListMultiple;
 import CCDD.CcddClassesDataTable.RateInformation;
@@ -43,6 +45,9 @@ public class CcddRateParameterHandler
     // List containing the rate information for a stream
     private List<RateInformation> rateInformation;
 
+    // Map containing the index in the rate information list for each rate column name
+    private volatile Map<String, Integer> rateIndices;
+
     /**********************************************************************************************
      * Rate parameter handler class constructor
      *
@@ -56,8 +61,9 @@ public class CcddRateParameterHandler
         tableTypeHandler = ccddMain.getTableTypeHandler();
         inputTypeHandler = ccddMain.getInputTypeHandler();
 
-        // Initialize the rate information list
+        // Initialize the rate information list and its index
         rateInformation = new ArrayList<RateInformation>();
+        buildRateIndices();
 
         // Get the rate parameters from the project database
         getRateParameters();
@@ -74,6 +80,33 @@ public class CcddRateParameterHandler
                 return rate1.getStreamName().compareToIgnoreCase(rate2.getStreamName());
             }
         });
+
+        // Index the sorted rate information by rate column name
+        buildRateIndices();
+    }
+
+    /**********************************************************************************************
+     * Build the map of rate column names to their index in the rate information list. Where
+     * more than one entry has the same rate column name the first is used
+     *********************************************************************************************/
+    private void buildRateIndices()
+    {
+        Map<String, Integer> indices = new HashMap<String, Integer>();
+
+        // Step through the rate information
+        for (int index = 0; index < rateInformation.size(); index++)
+        {
+            String rateName = rateInformation.get(index).getRateName();
+
+            // Check if the rate column name isn't already in the map
+            if (!indices.containsKey(rateName))
+            {
+                // Store the index for this rate column name
+                indices.put(rateName, index);
+            }
+        }
+
+        rateIndices = Collections.unmodifiableMap(indices);
     }
 
     /**********************************************************************************************
@@ -127,6 +160,9 @@ public class CcddRateParameterHandler
     protected void setRateInformation(List<RateInformation> rateInformation)
     {
         this.rateInformation = rateInformation;
+
+        // Index the new rate information list
+        buildRateIndices();
     }
 
     /**********************************************************************************************
@@ -146,6 +182,7 @@ public class CcddRateParameterHandler
             // Create the specified rate, adjust the rate counter, and set the flag to indicate a
             // rate is added
             rateInformation.add(new RateInformation(rateName));
+            buildRateIndices();
         }
         // The rate information already exists for this rate column name
         else
@@ -187,6 +224,7 @@ public class CcddRateParameterHandler
                     // Rename the specified rate column and set the flag to indicate a rate is
                     // renamed
                     rateInfo.setRateName(newRateName);
+                    buildRateIndices();
 
                     // Check if the original rate column name is the same as the stream name; this
                     // implies the user hasn't chosen a name for the stream
@@ -236,6 +274,7 @@ public class CcddRateParameterHandler
                 // Remove the specified rate's information, adjust the rate counter, and set the
                 // flag to indicate a rate is removed
                 rateInformation.remove(rateInfo);
+                buildRateIndices();
             }
             // The rate column name is shared between multiple table types
             else
@@ -313,20 +352,13 @@ public class CcddRateParameterHandler
         // Check that a valid rate column name is supplied
         if (rateColumnName != null && !rateColumnName.isEmpty())
         {
-            int index = 0;
+            // Get the index of the rate information with this rate column name
+            Integer index = rateIndices.get(rateColumnName);
 
-            // Step through the rate information
-            for (RateInformation info : rateInformation)
+            // Check if the rate column name exists
+            if (index != null)
             {
-                // Check if the rate name matches the name for this rate information
-                if (rateColumnName.equals(info.getRateName()))
-                {
-                    // Save the index and stop searching
-                    rateIndex = index;
-                    break;
-                }
-
-                index++;
+                rateIndex = index;
             }
         }
 
@@ -415,6 +447,7 @@ public class CcddRateParameterHandler
                         {
                             // Add the rate column name to the list
                             rateInformation.add(new RateInformation(colName));
+                            buildRateIndices();
                         }
                         // The rate column already exists
                         else
@@ -443,6 +476,7 @@ public class CcddRateParameterHandler
 
         // Remove any rate information that's no longer valid
         rateInformation.removeAll(removedRates);
+        buildRateIndices();
 
         return rateInformation.size() != oldNumRateColumns;
     }
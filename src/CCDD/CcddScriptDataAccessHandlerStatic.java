@@ -25,7 +25,11 @@ import CCDD.CcddImportSupportHandler.BasePrimitiveDataType;
  *************************************************************************************************/
 public class CcddScriptDataAccessHandlerStatic
 {
-    private static CcddScriptDataAccessHandler accessHandler;
+    // Reference to the script data access handler (non-static) for the most recently created
+    // handler, and for the handler created by each thread. Script associations executed in
+    // parallel each use the handler created by the thread executing the script
+    private static volatile CcddScriptDataAccessHandler accessHandler;
+    private static final ThreadLocal<CcddScriptDataAccessHandler> threadAccessHandler = new ThreadLocal<CcddScriptDataAccessHandler>();
 
     /**********************************************************************************************
      * Static script data access class constructor
@@ -36,6 +40,33 @@ public class CcddScriptDataAccessHandlerStatic
     CcddScriptDataAccessHandlerStatic(CcddScriptDataAccessHandler accessHandler)
     {
         CcddScriptDataAccessHandlerStatic.accessHandler = accessHandler;
+        threadAccessHandler.set(accessHandler);
+    }
+
+    /**********************************************************************************************
+     * Remove the calling thread's reference to the script data access handler it created. This is
+     * called once a script association completes so that a pooled or long-lived thread doesn't
+     * retain the handler (and the table information it references)
+     *********************************************************************************************/
+    protected static void releaseThreadAccessHandler()
+    {
+        threadAccessHandler.remove();
+    }
+
+    /**********************************************************************************************
+     * Get the script data access handler for the calling thread
+     *
+     * @return Script data access handler created by the calling thread; if the thread hasn't
+     *         created a handler (e.g., a call from the event dispatch thread) then the most
+     *         recently created handler is returned
+     *********************************************************************************************/
+    private static CcddScriptDataAccessHandler getAccessHandler()
+    {
+        CcddScriptDataAccessHandler handler = threadAccessHandler.get();
+
+        return handler != null
+                               ? handler
+                               : accessHandler;
     }
 
     ///////////////////////////////////////////////////////////////////////////////////////////////
@@ -44,429 +75,429 @@ public class CcddScriptDataAccessHandlerStatic
 
     public static String getScriptName()
     {
-        return accessHandler.getScriptName();
+        return getAccessHandler().getScriptName();
     }
 
     public static String getUser()
     {
-        return accessHandler.getUser();
+        return getAccessHandler().getUser();
     }
 
     public static String getDatabase()
     {
-        return accessHandler.getDatabase();
+        return getAccessHandler().getDatabase();
     }
 
     public static String getProject()
     {
-        return accessHandler.getProject();
+        return getAccessHandler().getProject();
     }
 
     public static String getProjectDescription()
     {
-        return accessHandler.getProjectDescription();
+        return getAccessHandler().getProjectDescription();
     }
 
     public static String getOutputPath()
     {
-        return accessHandler.getOutputPath();
+        return getAccessHandler().getOutputPath();
     }
 
     public static Integer getLongestString(String[] strgArray, Integer minWidth)
     {
-        return accessHandler.getLongestString(strgArray, minWidth);
+        return getAccessHandler().getLongestString(strgArray, minWidth);
     }
 
     public static Integer[] getLongestStrings(String[][] strgArray, Integer[] minWidths)
     {
-        return accessHandler.getLongestStrings(strgArray, minWidths);
+        return getAccessHandler().getLongestStrings(strgArray, minWidths);
     }
 
     public static String getDateAndTime()
     {
-        return accessHandler.getDateAndTime();
+        return getAccessHandler().getDateAndTime();
     }
 
     public static String[][] getDataTypeDefinitions()
     {
-        return accessHandler.getDataTypeDefinitions();
+        return getAccessHandler().getDataTypeDefinitions();
     }
 
     public static boolean isDataTypePrimitive(String dataType)
     {
-        return accessHandler.isDataTypePrimitive(dataType);
+        return getAccessHandler().isDataTypePrimitive(dataType);
     }
 
     public static boolean isDataTypeInteger(String dataType)
     {
-        return accessHandler.isDataTypeInteger(dataType);
+        return getAccessHandler().isDataTypeInteger(dataType);
     }
 
     public static boolean isDataTypeUnsignedInt(String dataType)
     {
-        return accessHandler.isDataTypeUnsignedInt(dataType);
+        return getAccessHandler().isDataTypeUnsignedInt(dataType);
     }
 
     public static boolean isDataTypeFloat(String dataType)
     {
-        return accessHandler.isDataTypeFloat(dataType);
+        return getAccessHandler().isDataTypeFloat(dataType);
     }
 
     public static boolean isDataTypeCharacter(String dataType)
     {
-        return accessHandler.isDataTypeCharacter(dataType);
+        return getAccessHandler().isDataTypeCharacter(dataType);
     }
 
     public static boolean isDataTypeString(String dataType)
     {
-        return accessHandler.isDataTypeString(dataType);
+        return getAccessHandler().isDataTypeString(dataType);
     }
 
     public static String getCDataType(String dataType)
     {
-        return accessHandler.getCDataType(dataType);
+        return getAccessHandler().getCDataType(dataType);
     }
 
     public static String getBaseDataType(String dataType)
     {
-        return accessHandler.getBaseDataType(dataType);
+        return getAccessHandler().getBaseDataType(dataType);
     }
 
     public static int getDataTypeSizeInBytes(String dataType)
     {
-        return accessHandler.getDataTypeSizeInBytes(dataType);
+        return getAccessHandler().getDataTypeSizeInBytes(dataType);
     }
 
     public static int getDataTypeSizeInBits(String dataType)
     {
-        return accessHandler.getDataTypeSizeInBits(dataType);
+        return getAccessHandler().getDataTypeSizeInBits(dataType);
     }
 
     public static String getITOSEncodedDataType(String dataType, String encoding)
     {
-        return accessHandler.getITOSEncodedDataType(dataType, encoding);
+        return getAccessHandler().getITOSEncodedDataType(dataType, encoding);
     }
 
     public static String getITOSLimitName(int index)
     {
-        return accessHandler.getITOSLimitName(index);
+        return getAccessHandler().getITOSLimitName(index);
     }
 
     public static String[] getRootStructureTableNames()
     {
-        return accessHandler.getRootStructureTableNames();
+        return getAccessHandler().getRootStructureTableNames();
     }
 
     public static String[] getRootTableNames(String tableType)
     {
-        return accessHandler.getRootTableNames(tableType);
+        return getAccessHandler().getRootTableNames(tableType);
     }
 
     public static int getStructureTableNumRows()
     {
-        return accessHandler.getStructureTableNumRows();
+        return getAccessHandler().getStructureTableNumRows();
     }
 
     public static int getCommandTableNumRows()
     {
-        return accessHandler.getCommandTableNumRows();
+        return getAccessHandler().getCommandTableNumRows();
     }
 
     public static int getTableNumRows(String tableType)
     {
-        return accessHandler.getTableNumRows(tableType);
+        return getAccessHandler().getTableNumRows(tableType);
     }
 
     public static int getTableNumRows()
     {
-        return accessHandler.getTableNumRows();
+        return getAccessHandler().getTableNumRows();
     }
 
     public static String getStructureTableNameByRow(int row)
     {
-        return accessHandler.getStructureTableNameByRow(row);
+        return getAccessHandler().getStructureTableNameByRow(row);
     }
 
     public static String getCommandTableNameByRow(int row)
     {
-        return accessHandler.getCommandTableNameByRow(row);
+        return getAccessHandler().getCommandTableNameByRow(row);
     }
 
     public static String getTableNameByRow(String tableType, int row)
     {
-        return accessHandler.getTableNameByRow(tableType, row);
+        return getAccessHandler().getTableNameByRow(tableType, row);
     }
 
     public static String[] getStructureTablePaths()
     {
-        return accessHandler.getStructureTablePaths();
+        return getAccessHandler().getStructureTablePaths();
     }
 
     public static String[] getStructureTableNames()
     {
-        return accessHandler.getStructureTableNames();
+        return getAccessHandler().getStructureTableNames();
     }
 
     public static String[] getCommandTableNames()
     {
-        return accessHandler.getCommandTableNames();
+        return getAccessHandler().getCommandTableNames();
     }
 
     public static String[] getTableNames(String tableType)
     {
-        return accessHandler.getTableNames(tableType);
+        return getAccessHandler().getTableNames(tableType);
     }
 
     public static String[] getTableNames(String tableType, boolean prototypeOnly)
     {
-        return accessHandler.getTableNames(tableType, prototypeOnly);
+        return getAccessHandler().getTableNames(tableType, prototypeOnly);
     }
 
     public static String[] getTableNames()
     {
-        return accessHandler.getTableNames();
+        return getAccessHandler().getTableNames();
     }
 
     public static String getStructureVariableName(int row)
     {
-        return accessHandler.getStructureVariableName(row);
+        return getAccessHandler().getStructureVariableName(row);
     }
 
     public static String getStructureVariableNameWithMacros(int row)
     {
-        return accessHandler.getStructureVariableNameWithMacros(row);
+        return getAccessHandler().getStructureVariableNameWithMacros(row);
     }
 
     public static String getStructureDataType(int row)
     {
-        return accessHandler.getStructureDataType(row);
+        return getAccessHandler().getStructureDataType(row);
     }
 
     public static String getStructureArraySize(int row)
     {
-        return accessHandler.getStructureArraySize(row);
+        return getAccessHandler().getStructureArraySize(row);
     }
 
     public static String getStructureArraySizeWithMacros(int row)
     {
-        return accessHandler.getStructureArraySizeWithMacros(row);
+        return getAccessHandler().getStructureArraySizeWithMacros(row);
     }
 
     public static String getStructureBitLength(int row)
     {
-        return accessHandler.getStructureBitLength(row);
+        return getAccessHandler().getStructureBitLength(row);
     }
 
     public static String getStructureBitLengthWithMacros(int row)
     {
-        return accessHandler.getStructureBitLengthWithMacros(row);
+        return getAccessHandler().getStructureBitLengthWithMacros(row);
     }
 
     public static String getStructureDescription(int row)
     {
-        return accessHandler.getStructureDescription(row);
+        return getAccessHandler().getStructureDescription(row);
     }
 
     public static String getStructureDescriptionWithMacros(int row)
     {
-        return accessHandler.getStructureDescriptionWithMacros(row);
+        return getAccessHandler().getStructureDescriptionWithMacros(row);
     }
 
     public static String getStructureUnits(int row)
     {
-        return accessHandler.getStructureUnits(row);
+        return getAccessHandler().getStructureUnits(row);
     }
 
     public static String getStructureUnitsWithMacros(int row)
     {
-        return accessHandler.getStructureUnitsWithMacros(row);
+        return getAccessHandler().getStructureUnitsWithMacros(row);
     }
 
     public static String[] getStructureEnumerations(int row)
     {
-        return accessHandler.getStructureEnumerations(row);
+        return getAccessHandler().getStructureEnumerations(row);
     }
 
     public static String[] getStructureEnumerationsWithMacros(int row)
     {
-        return accessHandler.getStructureEnumerationsWithMacros(row);
+        return getAccessHandler().getStructureEnumerationsWithMacros(row);
     }
 
     public static String[] getStructureRates(int row)
     {
-        return accessHandler.getStructureRates(row);
+        return getAccessHandler().getStructureRates(row);
     }
 
     public static String getCommandName(int row)
     {
-        return accessHandler.getCommandName(row);
+        return getAccessHandler().getCommandName(row);
     }
 
     public static String getCommandNameWithMacros(int row)
     {
-        return accessHandler.getCommandNameWithMacros(row);
+        return getAccessHandler().getCommandNameWithMacros(row);
     }
 
     public static String getCommandCode(int row)
     {
-        return accessHandler.getCommandCode(row);
+        return getAccessHandler().getCommandCode(row);
     }
 
     public static String getCommandCodeWithMacros(int row)
     {
-        return accessHandler.getCommandCodeWithMacros(row);
+        return getAccessHandler().getCommandCodeWithMacros(row);
     }
 
     public static int getNumCommandArguments(int row)
     {
-        return accessHandler.getNumCommandArguments(row);
+        return getAccessHandler().getNumCommandArguments(row);
     }
 
     public static int getNumCommandArguments(String tableType)
     {
-        return accessHandler.getNumCommandArguments(tableType);
+        return getAccessHandler().getNumCommandArguments(tableType);
     }
 
     public static String getCommandArgName(int argumentNumber, int row)
     {
-        return accessHandler.getCommandArgName(argumentNumber, row);
+        return getAccessHandler().getCommandArgName(argumentNumber, row);
     }
 
     public static String getCommandArgNameWithMacros(int argumentNumber, int row)
     {
-        return accessHandler.getCommandArgNameWithMacros(argumentNumber, row);
+        return getAccessHandler().getCommandArgNameWithMacros(argumentNumber, row);
     }
 
     public static String getCommandArgDataType(int argumentNumber, int row)
     {
-        return accessHandler.getCommandArgDataType(argumentNumber, row);
+        return getAccessHandler().getCommandArgDataType(argumentNumber, row);
     }
 
     public static String getCommandArgArraySize(int argumentNumber, int row)
     {
-        return accessHandler.getCommandArgArraySize(argumentNumber, row);
+        return getAccessHandler().getCommandArgArraySize(argumentNumber, row);
     }
 
     public static String getCommandArgArraySizeWithMacros(int argumentNumber, int row)
     {
-        return accessHandler.getCommandArgArraySizeWithMacros(argumentNumber, row);
+        return getAccessHandler().getCommandArgArraySizeWithMacros(argumentNumber, row);
     }
 
     public static String getCommandArgBitLength(int argumentNumber, int row)
     {
-        return accessHandler.getCommandArgBitLength(argumentNumber, row);
+        return getAccessHandler().getCommandArgBitLength(argumentNumber, row);
     }
 
     public static String getCommandArgBitLengthWithMacros(int argumentNumber, int row)
     {
-        return accessHandler.getCommandArgBitLengthWithMacros(argumentNumber, row);
+        return getAccessHandler().getCommandArgBitLengthWithMacros(argumentNumber, row);
     }
 
     public static String getCommandArgEnumeration(int argumentNumber, int row)
     {
-        return accessHandler.getCommandArgEnumeration(argumentNumber, row);
+        return getAccessHandler().getCommandArgEnumeration(argumentNumber, row);
     }
 
     public static String getCommandArgEnumerationWithMacros(int argumentNumber, int row)
     {
-        return accessHandler.getCommandArgEnumerationWithMacros(argumentNumber, row);
+        return getAccessHandler().getCommandArgEnumerationWithMacros(argumentNumber, row);
     }
 
     public static String getCommandArgMinimum(int argumentNumber, int row)
     {
-        return accessHandler.getCommandArgMinimum(argumentNumber, row);
+        return getAccessHandler().getCommandArgMinimum(argumentNumber, row);
     }
 
     public static String getCommandArgMinimumWithMacros(int argumentNumber, int row)
     {
-        return accessHandler.getCommandArgMinimumWithMacros(argumentNumber, row);
+        return getAccessHandler().getCommandArgMinimumWithMacros(argumentNumber, row);
     }
 
     public static String getCommandArgMaximum(int argumentNumber, int row)
     {
-        return accessHandler.getCommandArgMaximum(argumentNumber, row);
+        return getAccessHandler().getCommandArgMaximum(argumentNumber, row);
     }
 
     public static String getCommandArgMaximumWithMacros(int argumentNumber, int row)
     {
-        return accessHandler.getCommandArgMaximumWithMacros(argumentNumber, row);
+        return getAccessHandler().getCommandArgMaximumWithMacros(argumentNumber, row);
     }
 
     public static String getCommandArgByColumnName(int argumentNumber, int row, String columnName)
     {
-        return accessHandler.getCommandArgByColumnName(argumentNumber, row, columnName);
+        return getAccessHandler().getCommandArgByColumnName(argumentNumber, row, columnName);
     }
 
     public static String getCommandArgByColumnNameWithMacros(int argumentNumber,
                                                              int row,
                                                              String columnName)
     {
-        return accessHandler.getCommandArgByColumnNameWithMacros(argumentNumber, row, columnName);
+        return getAccessHandler().getCommandArgByColumnNameWithMacros(argumentNumber, row, columnName);
     }
 
     public static String[] getCommandArgColumnNames(int argumentNumber, int row)
     {
-        return accessHandler.getCommandArgColumnNames(argumentNumber, row);
+        return getAccessHandler().getCommandArgColumnNames(argumentNumber, row);
     }
 
     public static String getStructureTypeNameByRow(int row)
     {
-        return accessHandler.getStructureTypeNameByRow(row);
+        return getAccessHandler().getStructureTypeNameByRow(row);
     }
 
     public static String getCommandTypeNameByRow(int row)
     {
-        return accessHandler.getCommandTypeNameByRow(row);
+        return getAccessHandler().getCommandTypeNameByRow(row);
     }
 
     public static String getTypeNameByRow(String tableType, int row)
     {
-        return accessHandler.getTypeNameByRow(tableType, row);
+        return getAccessHandler().getTypeNameByRow(tableType, row);
     }
 
     public static String getTypeNameByTable(String tableName)
     {
-        return accessHandler.getTypeNameByTable(tableName);
+        return getAccessHandler().getTypeNameByTable(tableName);
     }
 
     public static String[] getStructureTableColumnNames(int row)
     {
-        return accessHandler.getStructureTableColumnNames(row);
+        return getAccessHandler().getStructureTableColumnNames(row);
     }
 
     public static String[] getCommandTableColumnNames(int row)
     {
-        return accessHandler.getCommandTableColumnNames(row);
+        return getAccessHandler().getCommandTableColumnNames(row);
     }
 
     public static String[] getTableColumnNames(String tableType, int row)
     {
-        return accessHandler.getTableColumnNames(tableType, row);
+        return getAccessHandler().getTableColumnNames(tableType, row);
     }
 
     public static String[] getTableColumnNamesByType(String typeName)
     {
-        return accessHandler.getTableColumnNamesByType(typeName);
+        return getAccessHandler().getTableColumnNamesByType(typeName);
     }
 
     public static String[] getStructureTablesByReferenceOrder()
     {
-        return accessHandler.getStructureTablesByReferenceOrder();
+        return getAccessHandler().getStructureTablesByReferenceOrder();
     }
 
     public static String getFullVariableNameRaw(int row)
     {
-        return accessHandler.getFullVariableNameRaw(row);
+        return getAccessHandler().getFullVariableNameRaw(row);
     }
 
     public static String getFullVariableName(int row)
     {
-        return accessHandler.getFullVariableName(row);
+        return getAccessHandler().getFullVariableName(row);
     }
 
     public static String getFullVariableName(int row, String varPathSeparator)
     {
-        return accessHandler.getFullVariableName(row, varPathSeparator);
+        return getAccessHandler().getFullVariableName(row, varPathSeparator);
     }
 
     public static String getFullVariableName(int row,
@@ -474,7 +505,7 @@ public class CcddScriptDataAccessHandlerStatic
                                              boolean excludeDataTypes,
                                              String typeNameSeparator)
     {
-        return accessHandler.getFullVariableName(row,
+        return getAccessHandler().getFullVariableName(row,
                                                  varPathSeparator,
                                                  excludeDataTypes,
                                                  typeNameSeparator);
@@ -484,12 +515,12 @@ public class CcddScriptDataAccessHandlerStatic
                                              String variableName,
                                              String varPathSeparator)
     {
-        return accessHandler.getFullVariableName(variablePath, variableName, varPathSeparator);
+        return getAccessHandler().getFullVariableName(variablePath, variableName, varPathSeparator);
     }
 
     public static String getFullVariableName(String fullName, String varPathSeparator)
     {
-        return accessHandler.getFullVariableName(fullName, varPathSeparator);
+        return getAccessHandler().getFullVariableName(fullName, varPathSeparator);
     }
 
     public static String getFullVariableName(String variablePath,
@@ -498,7 +529,7 @@ public class CcddScriptDataAccessHandlerStatic
                                              boolean excludeDataTypes,
                                              String typeNameSeparator)
     {
-        return accessHandler.getFullVariableName(variablePath,
+        return getAccessHandler().getFullVariableName(variablePath,
                                                  variableName,
                                                  varPathSeparator,
                                                  excludeDataTypes,
@@ -510,7 +541,7 @@ public class CcddScriptDataAccessHandlerStatic
                                              boolean excludeDataTypes,
                                              String typeNameSeparator)
     {
-        return accessHandler.getFullVariableName(fullName,
+        return getAccessHandler().getFullVariableName(fullName,
                                                  varPathSeparator,
                                                  excludeDataTypes,
                                                  typeNameSeparator);
@@ -518,199 +549,199 @@ public class CcddScriptDataAccessHandlerStatic
 
     public static String getStructurePathByRow(int row)
     {
-        return accessHandler.getStructurePathByRow(row);
+        return getAccessHandler().getStructurePathByRow(row);
     }
 
     public static String getStructurePathByRowWithMacros(int row)
     {
-        return accessHandler.getStructurePathByRowWithMacros(row);
+        return getAccessHandler().getStructurePathByRowWithMacros(row);
     }
 
     public static String getPathByRow(String tableType, int row)
     {
-        return accessHandler.getPathByRow(tableType, row);
+        return getAccessHandler().getPathByRow(tableType, row);
     }
 
     public static String getPathByRowWithMacros(String tableType, int row)
     {
-        return accessHandler.getPathByRowWithMacros(tableType, row);
+        return getAccessHandler().getPathByRowWithMacros(tableType, row);
     }
 
     public static String getStructureTableVariablePathByRow(int row)
     {
-        return accessHandler.getStructureTableVariablePathByRow(row);
+        return getAccessHandler().getStructureTableVariablePathByRow(row);
     }
 
     public static String getStructureTableVariablePathByRowWithMacros(int row)
     {
-        return accessHandler.getStructureTableVariablePathByRowWithMacros(row);
+        return getAccessHandler().getStructureTableVariablePathByRowWithMacros(row);
     }
 
     public static String getStructureTableITOSPathByRow(int row)
     {
-        return accessHandler.getStructureTableITOSPathByRow(row);
+        return getAccessHandler().getStructureTableITOSPathByRow(row);
     }
 
     public static String getStructureTableITOSPathByRowWithMacros(int row)
     {
-        return accessHandler.getStructureTableITOSPathByRowWithMacros(row);
+        return getAccessHandler().getStructureTableITOSPathByRowWithMacros(row);
     }
 
     public static int getStructureParentRowByChildRow(int row)
     {
-        return accessHandler.getStructureParentRowByChildRow(row);
+        return getAccessHandler().getStructureParentRowByChildRow(row);
     }
 
     public static boolean isStructureShared(String structureName)
     {
-        return accessHandler.isStructureShared(structureName);
+        return getAccessHandler().isStructureShared(structureName);
     }
 
     public boolean isStructureSharedExternally(String structureName)
     {
-        return accessHandler.isStructureSharedExternally(structureName);
+        return getAccessHandler().isStructureSharedExternally(structureName);
     }
 
     public static String[] getVariablePaths()
     {
-        return accessHandler.getVariablePaths();
+        return getAccessHandler().getVariablePaths();
     }
 
     public static String[] getCommandInformation()
     {
-        return accessHandler.getCommandInformation();
+        return getAccessHandler().getCommandInformation();
     }
 
     public static String[] getTableDataFieldNames(String tableName)
     {
-        return accessHandler.getTableDataFieldNames(tableName);
+        return getAccessHandler().getTableDataFieldNames(tableName);
     }
 
     public static String[] getGroupDataFieldNames(String groupName)
     {
-        return accessHandler.getGroupDataFieldNames(groupName);
+        return getAccessHandler().getGroupDataFieldNames(groupName);
     }
 
     public static String[] getTypeDataFieldNames(String typeName)
     {
-        return accessHandler.getTypeDataFieldNames(typeName);
+        return getAccessHandler().getTypeDataFieldNames(typeName);
     }
 
     public static String[] getProjectFieldNames()
     {
-        return accessHandler.getProjectFieldNames();
+        return getAccessHandler().getProjectFieldNames();
     }
 
     public static String[][] getTableDataFieldValues(String fieldName)
     {
-        return accessHandler.getTableDataFieldValues(fieldName);
+        return getAccessHandler().getTableDataFieldValues(fieldName);
     }
 
     public static String[][] getStructureTableDataFieldValues(String fieldName)
     {
-        return accessHandler.getStructureTableDataFieldValues(fieldName);
+        return getAccessHandler().getStructureTableDataFieldValues(fieldName);
     }
 
     public static String[][] getCommandTableDataFieldValues(String fieldName)
     {
-        return accessHandler.getCommandTableDataFieldValues(fieldName);
+        return getAccessHandler().getCommandTableDataFieldValues(fieldName);
     }
 
     public static String[][] getTableDataFieldValues(String tableType, String fieldName)
     {
-        return accessHandler.getTableDataFieldValues(tableType, fieldName);
+        return getAccessHandler().getTableDataFieldValues(tableType, fieldName);
     }
 
     public static String getTableDataFieldValue(String tableName, String fieldName)
     {
-        return accessHandler.getTableDataFieldValue(tableName, fieldName);
+        return getAccessHandler().getTableDataFieldValue(tableName, fieldName);
     }
 
     public static String getGroupDataFieldValue(String groupName, String fieldName)
     {
-        return accessHandler.getGroupDataFieldValue(groupName, fieldName);
+        return getAccessHandler().getGroupDataFieldValue(groupName, fieldName);
     }
 
     public static String getTypeDataFieldValue(String typeName, String fieldName)
     {
-        return accessHandler.getTypeDataFieldValue(typeName, fieldName);
+        return getAccessHandler().getTypeDataFieldValue(typeName, fieldName);
     }
 
     public static String getProjectDataFieldValue(String fieldName)
     {
-        return accessHandler.getProjectDataFieldValue(fieldName);
+        return getAccessHandler().getProjectDataFieldValue(fieldName);
     }
 
     public static String getTableDataFieldDescription(String tableName, String fieldName)
     {
-        return accessHandler.getTableDataFieldDescription(tableName, fieldName);
+        return getAccessHandler().getTableDataFieldDescription(tableName, fieldName);
     }
 
     public static String getGroupDataFieldDescription(String groupName, String fieldName)
     {
-        return accessHandler.getGroupDataFieldDescription(groupName, fieldName);
+        return getAccessHandler().getGroupDataFieldDescription(groupName, fieldName);
     }
 
     public static String getTypeDataFieldDescription(String typeName, String fieldName)
     {
-        return accessHandler.getTypeDataFieldDescription(typeName, fieldName);
+        return getAccessHandler().getTypeDataFieldDescription(typeName, fieldName);
     }
 
     public static String getProjectDataFieldDescription(String fieldName)
     {
-        return accessHandler.getProjectDataFieldDescription(fieldName);
+        return getAccessHandler().getProjectDataFieldDescription(fieldName);
     }
 
     public static String getStructureTableData(String columnName, int row)
     {
-        return accessHandler.getStructureTableData(columnName, row);
+        return getAccessHandler().getStructureTableData(columnName, row);
     }
 
     public static String getCommandTableData(String columnName, int row)
     {
-        return accessHandler.getCommandTableData(columnName, row);
+        return getAccessHandler().getCommandTableData(columnName, row);
     }
 
     public static String getTableData(String tableType, String columnName, int row)
     {
-        return accessHandler.getTableData(tableType, columnName, row);
+        return getAccessHandler().getTableData(tableType, columnName, row);
     }
 
     public static String getStructureTableDataWithMacros(String columnName, int row)
     {
-        return accessHandler.getStructureTableDataWithMacros(columnName, row);
+        return getAccessHandler().getStructureTableDataWithMacros(columnName, row);
     }
 
     public static String getCommandTableDataWithMacros(String columnName, int row)
     {
-        return accessHandler.getCommandTableDataWithMacros(columnName, row);
+        return getAccessHandler().getCommandTableDataWithMacros(columnName, row);
     }
 
     public static String getTableDataWithMacros(String tableType, String columnName, int row)
     {
-        return accessHandler.getTableDataWithMacros(tableType, columnName, row);
+        return getAccessHandler().getTableDataWithMacros(tableType, columnName, row);
     }
 
     public static Integer[] getStructureTableRowIndices(String tablePath)
     {
-        return accessHandler.getStructureTableRowIndices(tablePath);
+        return getAccessHandler().getStructureTableRowIndices(tablePath);
     }
 
     public static Integer[] getCommandTableRowIndices(String tableName)
     {
-        return accessHandler.getCommandTableRowIndices(tableName);
+        return getAccessHandler().getCommandTableRowIndices(tableName);
     }
 
     public static Integer[] getTableRowIndices(String tableType, String tablePath)
     {
-        return accessHandler.getTableRowIndices(tableType, tablePath);
+        return getAccessHandler().getTableRowIndices(tableType, tablePath);
     }
 
     public static String getStructureDataByVariableName(String tablePath,
                                                         String variableName,
                                                         String columnName)
     {
-        return accessHandler.getStructureDataByVariableName(tablePath, variableName, columnName);
+        return getAccessHandler().getStructureDataByVariableName(tablePath, variableName, columnName);
     }
 
     public static String getTableDataByColumnName(String tableType,
@@ -719,7 +750,7 @@ public class CcddScriptDataAccessHandlerStatic
                                                   String matchName,
                                                   String dataColumnName)
     {
-        return accessHandler.getTableDataByColumnName(tableType,
+        return getAccessHandler().getTableDataByColumnName(tableType,
                                                       tablePath,
                                                       matchColumnName,
                                                       matchName,
@@ -730,7 +761,7 @@ public class CcddScriptDataAccessHandlerStatic
                                                                   String variableName,
                                                                   String columnName)
     {
-        return accessHandler.getStructureDataByVariableNameWithMacros(tablePath,
+        return getAccessHandler().getStructureDataByVariableNameWithMacros(tablePath,
                                                                       variableName,
                                                                       columnName);
     }
@@ -741,7 +772,7 @@ public class CcddScriptDataAccessHandlerStatic
                                                             String matchName,
                                                             String dataColumnName)
     {
-        return accessHandler.getTableDataByColumnNameWithMacros(tableType,
+        return getAccessHandler().getTableDataByColumnNameWithMacros(tableType,
                                                                 tablePath,
                                                                 matchColumnName,
                                                                 matchName,
@@ -750,169 +781,169 @@ public class CcddScriptDataAccessHandlerStatic
 
     public static String getTableDescription(String tableName)
     {
-        return accessHandler.getTableDescription(tableName);
+        return getAccessHandler().getTableDescription(tableName);
     }
 
     public static String getTableDescriptionByRow(String tableType, int row)
     {
-        return accessHandler.getTableDescriptionByRow(tableType, row);
+        return getAccessHandler().getTableDescriptionByRow(tableType, row);
     }
 
     public static String[][] getMacroDefinitions()
     {
-        return accessHandler.getMacroDefinitions();
+        return getAccessHandler().getMacroDefinitions();
     }
 
     public static void showInformationDialog(String text)
     {
-        accessHandler.showInformationDialog(text);
+        getAccessHandler().showInformationDialog(text);
     }
 
     public static void showWarningDialog(String text)
     {
-        accessHandler.showWarningDialog(text);
+        getAccessHandler().showWarningDialog(text);
     }
 
     public static void showErrorDialog(String text)
     {
-        accessHandler.showErrorDialog(text);
+        getAccessHandler().showErrorDialog(text);
     }
 
     public static String getInputDialog(String labelText)
     {
-        return accessHandler.getInputDialog(labelText);
+        return getAccessHandler().getInputDialog(labelText);
     }
 
     public static String getRadioButtonDialog(String label, String[][] buttonInfo)
     {
-        return accessHandler.getRadioButtonDialog(label, buttonInfo);
+        return getAccessHandler().getRadioButtonDialog(label, buttonInfo);
     }
 
     public static boolean[] getCheckBoxDialog(String label, String[][] boxInfo)
     {
-        return accessHandler.getCheckBoxDialog(label, boxInfo);
+        return getAccessHandler().getCheckBoxDialog(label, boxInfo);
     }
 
     public static String[][] getDatabaseQuery(String sqlCommand)
     {
-        return accessHandler.getDatabaseQuery(sqlCommand);
+        return getAccessHandler().getDatabaseQuery(sqlCommand);
     }
 
     public static void writeSuccessLogEntry(String logMessage)
     {
-        accessHandler.writeSuccessLogEntry(logMessage);
+        getAccessHandler().writeSuccessLogEntry(logMessage);
     }
 
     public static void writeFailLogEntry(String logMessage)
     {
-        accessHandler.writeFailLogEntry(logMessage);
+        getAccessHandler().writeFailLogEntry(logMessage);
     }
 
     public static void writeStatusLogEntry(String logMessage)
     {
-        accessHandler.writeStatusLogEntry(logMessage);
+        getAccessHandler().writeStatusLogEntry(logMessage);
     }
 
     public static String[][] parseEnumerationParameters(String enumeration)
     {
-        return accessHandler.parseEnumerationParameters(enumeration);
+        return getAccessHandler().parseEnumerationParameters(enumeration);
     }
 
     public static String[] getArrayFromString(String text, String columnSeparator)
     {
-        return accessHandler.getArrayFromString(text, columnSeparator);
+        return getAccessHandler().getArrayFromString(text, columnSeparator);
     }
 
     public static String[][] getArrayFromString(String text,
                                                 String columnSeparator,
                                                 String rowSeparator)
     {
-        return accessHandler.getArrayFromString(text, columnSeparator, rowSeparator);
+        return getAccessHandler().getArrayFromString(text, columnSeparator, rowSeparator);
     }
 
     public static PrintWriter openOutputFile(String outputFileName)
     {
-        return accessHandler.openOutputFile(outputFileName);
+        return getAccessHandler().openOutputFile(outputFileName);
     }
 
     public static void writeToFile(PrintWriter printWriter, String text)
     {
-        accessHandler.writeToFile(printWriter, text);
+        getAccessHandler().writeToFile(printWriter, text);
     }
 
     public static void writeToFileLn(PrintWriter printWriter, String text)
     {
-        accessHandler.writeToFileLn(printWriter, text);
+        getAccessHandler().writeToFileLn(printWriter, text);
     }
 
     public static void writeToFileFormat(PrintWriter printWriter, String format, Object... args)
     {
-        accessHandler.writeToFileFormat(printWriter, format, args);
+        getAccessHandler().writeToFileFormat(printWriter, format, args);
     }
 
     public static void closeFile(PrintWriter printWriter)
     {
-        accessHandler.closeFile(printWriter);
+        getAccessHandler().closeFile(printWriter);
     }
 
     public static String[][] getProjectFields()
     {
-        return accessHandler.getProjectFields();
+        return getAccessHandler().getProjectFields();
     }
 
     public static String getLinkDescription(String streamName, String linkName)
     {
-        return accessHandler.getLinkDescription(streamName, linkName);
+        return getAccessHandler().getLinkDescription(streamName, linkName);
     }
 
     public static String getLinkRate(String streamName, String linkName)
     {
-        return accessHandler.getLinkRate(streamName, linkName);
+        return getAccessHandler().getLinkRate(streamName, linkName);
     }
 
     public static String[][] getVariableLinks(String variableName)
     {
-        return accessHandler.getVariableLinks(variableName);
+        return getAccessHandler().getVariableLinks(variableName);
     }
 
     public static int getVariableOffset(String path)
     {
-        return accessHandler.getVariableOffset(path);
+        return getAccessHandler().getVariableOffset(path);
     }
 
     public static String[] getLinkApplicationNames(String dataFieldName)
     {
-        return accessHandler.getLinkApplicationNames(dataFieldName);
+        return getAccessHandler().getLinkApplicationNames(dataFieldName);
     }
 
     public static String[] getAssociatedGroupNames()
     {
-        return accessHandler.getAssociatedGroupNames();
+        return getAccessHandler().getAssociatedGroupNames();
     }
 
     public static String[] getGroupNames(boolean applicationOnly)
     {
-        return accessHandler.getGroupNames(applicationOnly);
+        return getAccessHandler().getGroupNames(applicationOnly);
     }
 
     public static String getGroupDescription(String groupName)
     {
-        return accessHandler.getGroupDescription(groupName);
+        return getAccessHandler().getGroupDescription(groupName);
     }
 
     public static String[] getGroupTables(String groupName)
     {
-        return accessHandler.getGroupTables(groupName);
+        return getAccessHandler().getGroupTables(groupName);
     }
 
     public static String[][] getGroupFields(String groupName)
     {
-        return accessHandler.getGroupFields(groupName);
+        return getAccessHandler().getGroupFields(groupName);
     }
 
     public static String[] getCopyTableColumnNames()
     {
-        return accessHandler.getCopyTableColumnNames();
+        return getAccessHandler().getCopyTableColumnNames();
     }
 
     public static String[][] getCopyTableEntries(String streamName,
@@ -920,7 +951,7 @@ public class CcddScriptDataAccessHandlerStatic
                                                  String messageIDNameField,
                                                  boolean optimize)
     {
-        return accessHandler.getCopyTableEntries(streamName,
+        return getAccessHandler().getCopyTableEntries(streamName,
                                                  headerSize,
                                                  messageIDNameField,
                                                  optimize);
@@ -931,7 +962,7 @@ public class CcddScriptDataAccessHandlerStatic
                                                            String messageIDNameField,
                                                            boolean optimize)
     {
-        return accessHandler.getCopyTableEntriesWithMacros(streamName,
+        return getAccessHandler().getCopyTableEntriesWithMacros(streamName,
                                                            headerSize,
                                                            messageIDNameField,
                                                            optimize);
@@ -942,7 +973,7 @@ public class CcddScriptDataAccessHandlerStatic
                                                  String[][] tlmMessageIDs,
                                                  boolean optimize)
     {
-        return accessHandler.getCopyTableEntries(streamName,
+        return getAccessHandler().getCopyTableEntries(streamName,
                                                  headerSize,
                                                  tlmMessageIDs,
                                                  optimize);
@@ -953,7 +984,7 @@ public class CcddScriptDataAccessHandlerStatic
                                                            String[][] tlmMessageIDs,
                                                            boolean optimize)
     {
-        return accessHandler.getCopyTableEntriesWithMacros(streamName,
+        return getAccessHandler().getCopyTableEntriesWithMacros(streamName,
                                                            headerSize,
                                                            tlmMessageIDs,
                                                            optimize);
@@ -961,42 +992,42 @@ public class CcddScriptDataAccessHandlerStatic
 
     public static String[][] getTelemetryMessageIDs(String streamName)
     {
-        return accessHandler.getTelemetryMessageIDs(streamName);
+        return getAccessHandler().getTelemetryMessageIDs(streamName);
     }
 
     public static String[][] getMessageOwnersNamesAndIDs()
     {
-        return accessHandler.getMessageOwnersNamesAndIDs();
+        return getAccessHandler().getMessageOwnersNamesAndIDs();
     }
 
     public static String[] getDataStreamNames()
     {
-        return accessHandler.getDataStreamNames();
+        return getAccessHandler().getDataStreamNames();
     }
 
     public static String[] getApplicationNames()
     {
-        return accessHandler.getApplicationNames();
+        return getAccessHandler().getApplicationNames();
     }
 
     public static String[][] getApplicationScheduleDefinitionTableDefines()
     {
-        return accessHandler.getApplicationScheduleDefinitionTableDefines();
+        return getAccessHandler().getApplicationScheduleDefinitionTableDefines();
     }
 
     public static String[][] getApplicationScheduleDefinitionTable(int row)
     {
-        return accessHandler.getApplicationScheduleDefinitionTable(row);
+        return getAccessHandler().getApplicationScheduleDefinitionTable(row);
     }
 
     public static String[] getApplicationMessageDefinitionTable()
     {
-        return accessHandler.getApplicationMessageDefinitionTable();
+        return getAccessHandler().getApplicationMessageDefinitionTable();
     }
 
     public static int getNumberOfTimeSlots()
     {
-        return accessHandler.getNumberOfTimeSlots();
+        return getAccessHandler().getNumberOfTimeSlots();
     }
 
     public static String getPrototypeName(String tableName)
@@ -1006,17 +1037,17 @@ public class CcddScriptDataAccessHandlerStatic
 
     public static boolean isArrayMember(Object variableName)
     {
-        return accessHandler.isArrayMember(variableName);
+        return getAccessHandler().isArrayMember(variableName);
     }
 
     public static int[] getArrayIndexFromSize(String arrayString)
     {
-        return accessHandler.getArrayIndexFromSize(arrayString);
+        return getAccessHandler().getArrayIndexFromSize(arrayString);
     }
 
     public static String formatArrayIndex(int[] arrayIndex)
     {
-        return accessHandler.formatArrayIndex(arrayIndex);
+        return getAccessHandler().formatArrayIndex(arrayIndex);
     }
 
     public static void xtceExport(String outputFileName,
@@ -1044,7 +1075,7 @@ public class CcddScriptDataAccessHandlerStatic
                                                 String version,
                                                 String date) throws CCDDException
     {
-        accessHandler.xtceAddSpaceSystemHeader(spaceSystem,
+        getAccessHandler().xtceAddSpaceSystemHeader(spaceSystem,
                                                classification,
                                                validationStatus,
                                                version,
@@ -1053,7 +1084,7 @@ public class CcddScriptDataAccessHandlerStatic
 
     public static void xtceCreateTelemetryMetadata(SpaceSystemType spaceSystem)
     {
-        accessHandler.xtceCreateTelemetryMetadata(spaceSystem);
+        getAccessHandler().xtceCreateTelemetryMetadata(spaceSystem);
     }
 
     public static void xtceAddSpaceSystemParameters(SpaceSystemType spaceSystem,
@@ -1073,7 +1104,7 @@ public class CcddScriptDataAccessHandlerStatic
                                                     boolean isRootStructure,
                                                     String applicationID) throws CCDDException
     {
-        accessHandler.xtceAddSpaceSystemParameters(spaceSystem,
+        getAccessHandler().xtceAddSpaceSystemParameters(spaceSystem,
                                                    tableName,
                                                    tableData,
                                                    varColumn,
@@ -1103,7 +1134,7 @@ public class CcddScriptDataAccessHandlerStatic
                                                String description,
                                                int stringSize) throws CCDDException
     {
-        accessHandler.xtceAddParameterAndType(spaceSystem,
+        getAccessHandler().xtceAddParameterAndType(spaceSystem,
                                               parameterName,
                                               dataType,
                                               arraySize,
@@ -1123,7 +1154,7 @@ public class CcddScriptDataAccessHandlerStatic
                                                         EntryListType entryList,
                                                         boolean isTlmHdrRef) throws CCDDException
     {
-        return accessHandler.xtceAddParameterSequenceEntry(spaceSystem,
+        return getAccessHandler().xtceAddParameterSequenceEntry(spaceSystem,
                                                            parameterName,
                                                            dataType,
                                                            arraySize,
@@ -1143,7 +1174,7 @@ public class CcddScriptDataAccessHandlerStatic
                                                 String description,
                                                 int stringSize) throws CCDDException
     {
-        accessHandler.xtceSetParameterDataType(spaceSystem,
+        getAccessHandler().xtceSetParameterDataType(spaceSystem,
                                                parameterName,
                                                dataType,
                                                arraySize,
@@ -1158,7 +1189,7 @@ public class CcddScriptDataAccessHandlerStatic
 
     public static void xtceCreateCommandMetadata(SpaceSystemType spaceSystem) throws CCDDException
     {
-        accessHandler.xtceCreateCommandMetadata(spaceSystem);
+        getAccessHandler().xtceCreateCommandMetadata(spaceSystem);
     }
 
     protected static void xtceAddSpaceSystemCommands(SpaceSystemType spaceSystem,
@@ -1170,7 +1201,7 @@ public class CcddScriptDataAccessHandlerStatic
                                                      String cmdHdrSysPath,
                                                      String applicationID) throws CCDDException
     {
-        accessHandler.xtceAddSpaceSystemCommands(spaceSystem,
+        getAccessHandler().xtceAddSpaceSystemCommands(spaceSystem,
                                                  tableData,
                                                  cmdNameColumn,
                                                  cmdCodeColumn,
@@ -1191,7 +1222,7 @@ public class CcddScriptDataAccessHandlerStatic
                                       String[] argArraySizes,
                                       String description) throws CCDDException
     {
-        accessHandler.xtceAddCommand(spaceSystem,
+        getAccessHandler().xtceAddCommand(spaceSystem,
                                      commandName,
                                      cmdFuncCode,
                                      applicationID,
@@ -1216,7 +1247,7 @@ public class CcddScriptDataAccessHandlerStatic
                                                               int stringSize,
                                                               String uniqueID) throws CCDDException
     {
-        return accessHandler.xtceSetArgumentDataType(spaceSystem,
+        return getAccessHandler().xtceSetArgumentDataType(spaceSystem,
                                                      argumentName,
                                                      dataType,
                                                      arraySize,
@@ -1235,32 +1266,32 @@ public class CcddScriptDataAccessHandlerStatic
                                                  String arraySize,
                                                  Object entryList) throws CCDDException
     {
-        accessHandler.xtceAddContainerReference(parameterName, dataType, arraySize, entryList);
+        getAccessHandler().xtceAddContainerReference(parameterName, dataType, arraySize, entryList);
     }
 
     public static UnitSet xtceCreateUnitSet(String units)
     {
-        return accessHandler.xtceCreateUnitSet(units);
+        return getAccessHandler().xtceCreateUnitSet(units);
     }
 
     public static EnumerationList xtceCreateEnumerationList(SpaceSystemType spaceSystem,
                                                             String enumeration)
     {
-        return accessHandler.xtceCreateEnumerationList(spaceSystem, enumeration);
+        return getAccessHandler().xtceCreateEnumerationList(spaceSystem, enumeration);
     }
 
     public static BasePrimitiveDataType xmlGetBaseDataType(String dataType)
     {
-        return accessHandler.xmlGetBaseDataType(dataType);
+        return getAccessHandler().xmlGetBaseDataType(dataType);
     }
 
     public static String xmlCleanSystemPath(String path)
     {
-        return accessHandler.xmlCleanSystemPath(path);
+        return getAccessHandler().xmlCleanSystemPath(path);
     }
 
     public static void showData()
     {
-        accessHandler.showData();
+        getAccessHandler().showData();
     }
 }
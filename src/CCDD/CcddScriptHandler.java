@@ -39,16 +39,24 @@ import java.awt.event.FocusAdapter;
 import java.awt.event.FocusEvent;
 import java.io.File;
 import java.io.FileReader;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineFactory;
@@ -142,6 +150,175 @@ public class CcddScriptHandler
     // Row filter, used to show/hide unavailable associations
     private RowFilter<TableModel, Object> rowFilter;
 
+    // Number of script associations for which execution has begun; used to update the progress
+    // bar
+    private int progressStep;
+
+    // List of the threads executing script associations in parallel
+    private final List<Thread> scriptWorkers;
+
+    /**********************************************************************************************
+     * Script association execution class. Contains the information needed to execute a script
+     * association
+     *********************************************************************************************/
+    private class ScriptExecution
+    {
+        private final int assnIndex;
+        private final Object[] assn;
+        private final String scriptFileName;
+        private final TableInformation[] tableInformation;
+        private final List<String> groupNames;
+
+        /******************************************************************************************
+         * Script association execution class constructor
+         *
+         * @param assnIndex
+         *            index of the association in the list of associations to execute
+         *
+         * @param assn
+         *            script association
+         *
+         * @param scriptFileName
+         *            script file name, with any environment variables expanded
+         *
+         * @param tableInformation
+         *            array of table information
+         *
+         * @param groupNames
+         *            list containing the names of any groups referenced in the script
+         *            association
+         *****************************************************************************************/
+        ScriptExecution(int assnIndex,
+                        Object[] assn,
+                        String scriptFileName,
+                        TableInformation[] tableInformation,
+                        List<String> groupNames)
+        {
+            this.assnIndex = assnIndex;
+            this.assn = assn;
+            this.scriptFileName = scriptFileName;
+            this.tableInformation = tableInformation;
+            this.groupNames = groupNames;
+        }
+
+        /******************************************************************************************
+         * Get the index of the association in the list of associations to execute
+         *
+         * @return Index of the association in the list of associations to execute
+         *****************************************************************************************/
+        protected int getAssociationIndex()
+        {
+            return assnIndex;
+        }
+
+        /******************************************************************************************
+         * Get the script association
+         *
+         * @return Script association
+         *****************************************************************************************/
+        protected Object[] getAssociation()
+        {
+            return assn;
+        }
+
+        /******************************************************************************************
+         * Get the script file name
+         *
+         * @return Script file name, with any environment variables expanded
+         *****************************************************************************************/
+        protected String getScriptFileName()
+        {
+            return scriptFileName;
+        }
+
+        /******************************************************************************************
+         * Get the table information
+         *
+         * @return Array of table information
+         *****************************************************************************************/
+        protected TableInformation[] getTableInformation()
+        {
+            return tableInformation;
+        }
+
+        /******************************************************************************************
+         * Get the names of the groups referenced in the script association
+         *
+         * @return List containing the names of any groups referenced in the script association
+         *****************************************************************************************/
+        protected List<String> getGroupNames()
+        {
+            return groupNames;
+        }
+    }
+
+    /**********************************************************************************************
+     * Cached script class. Contains a script engine and the script compiled by the engine, along
+     * with the script file's modification time and size when compiled
+     *********************************************************************************************/
+    private class CachedScript
+    {
+        private final ScriptEngine scriptEngine;
+        private final CompiledScript compiledScript;
+        private final long lastModified;
+        private final long length;
+
+        /******************************************************************************************
+         * Cached script class constructor
+         *
+         * @param scriptEngine
+         *            script engine that compiled the script
+         *
+         * @param compiledScript
+         *            compiled script
+         *
+         * @param scriptFile
+         *            script file
+         *****************************************************************************************/
+        CachedScript(ScriptEngine scriptEngine, CompiledScript compiledScript, File scriptFile)
+        {
+            this.scriptEngine = scriptEngine;
+            this.compiledScript = compiledScript;
+            lastModified = scriptFile.lastModified();
+            length = scriptFile.length();
+        }
+
+        /******************************************************************************************
+         * Get the script engine
+         *
+         * @return Script engine that compiled the script
+         *****************************************************************************************/
+        protected ScriptEngine getScriptEngine()
+        {
+            return scriptEngine;
+        }
+
+        /******************************************************************************************
+         * Get the compiled script
+         *
+         * @return Compiled script
+         *****************************************************************************************/
+        protected CompiledScript getCompiledScript()
+        {
+            return compiledScript;
+        }
+
+        /******************************************************************************************
+         * Check if the script file is unchanged since the script was compiled
+         *
+         * @param scriptFile
+         *            script file
+         *
+         * @return true if the script file's modification time and size are unchanged
+         *****************************************************************************************/
+        protected boolean isCurrent(File scriptFile)
+        {
+            return scriptFile.isFile()
+                   && scriptFile.lastModified() == lastModified
+                   && scriptFile.length() == length;
+        }
+    }
+
     /**********************************************************************************************
      * Script handler class constructor
      *
@@ -160,6 +337,7 @@ public class CcddScriptHandler
         scriptFactories = new ScriptEngineManager().getEngineFactories();
 
         scriptDialog = null;
+        scriptWorkers = new ArrayList<Thread>();
     }
 
     /**********************************************************************************************
@@ -280,7 +458,7 @@ public class CcddScriptHandler
                     // Check if the table hasn't already been verified to exist. Structure tables
                     // and their children are found in the structure and variable paths list.
                     // Command and other table types must be checked individually
-                    if (!variableHandler.getStructureAndVariablePaths().contains(tablePath)
+                    if (!variableHandler.isStructureOrVariablePath(tablePath)
                         && !verifiedVars.contains(tablePath))
                     {
                         // Check if the table is a child table (which would have been found in the
@@ -1359,6 +1537,9 @@ public class CcddScriptHandler
                     // created by a script
                     scriptThread.stop();
 
+                    // Stop any threads executing script associations in parallel
+                    stopScriptWorkers();
+
                     // Set the execution status(es) to indicate the scripts didn't complete
                     isBad = new boolean[associations.size()];
                     Arrays.fill(isBad, true);
@@ -1417,7 +1598,6 @@ public class CcddScriptHandler
                                                 Component parent)
     {
         int assnIndex = 0;
-        int step = 0;
         CcddTableTreeHandler tableTree = tree;
 
         // Create an array to indicate if an association has a problem that prevents its execution
@@ -1461,157 +1641,228 @@ public class CcddScriptHandler
         // is used to sort the association table paths
         final List<String> allTablePaths = tableTree.getTableTreePathList(null);
 
-        // To reduce database access and speed script execution when executing multiple
-        // associations, first load all of the associated tables, making sure each is loaded only
-        // once. Step through each script association definition
+        // Create a set to contain the paths of the tables referenced by the associations
+        Set<String> assnTablePaths = new HashSet<String>();
+
+        // Step through each script association definition
         for (Object[] assn : associations)
         {
-            // Check if script execution is canceled
-            if (haltDlg != null && haltDlg.isHalted())
+            // Add the association's table paths to the set
+            assnTablePaths.addAll(getAssociationTablePaths(assn[AssociationsColumn.MEMBERS.ordinal()].toString(),
+                                                           groupHandler,
+                                                           false,
+                                                           parent));
+        }
+
+        // Create a list to contain the paths of the associated tables and their child tables, in
+        // the order of appearance in the table tree (which is the order in which they're read)
+        List<String> loadTablePaths = new ArrayList<String>();
+
+        // Step through each table path in the table tree
+        for (String tablePath : allTablePaths)
+        {
+            String path = tablePath;
+
+            // Step through the table and its ancestors until a table referenced by an association
+            // is found or the root table is reached
+            while (!assnTablePaths.contains(path) && path.contains(","))
             {
-                break;
+                // Remove the last child from the path
+                path = path.substring(0, path.lastIndexOf(","));
             }
 
-            try
+            // Check if the table or one of its ancestors is referenced by an association
+            if (assnTablePaths.contains(path))
             {
-                // Get the list of association table paths
-                List<String> tablePaths = getAssociationTablePaths(assn[AssociationsColumn.MEMBERS.ordinal()].toString(),
-                                                                   groupHandler,
-                                                                   false,
-                                                                   parent);
-                // Check if at least one table is assigned to this script association
-                if (!tablePaths.isEmpty())
+                // Add the table to the list of those to load
+                loadTablePaths.add(tablePath);
+            }
+        }
+
+        // Load the tables in bulk as they're read, which reduces the number of database queries.
+        // The tables are read using the read-only connections so that the loading doesn't wait
+        // on, or become part of, a transaction in progress on the primary connection
+        dbTable.setPrefetchTables(loadTablePaths);
+        ccddMain.getDbCommandHandler().setReaderMode(true);
+
+        try
+        {
+            // To reduce database access and speed script execution when executing multiple
+            // associations, first load all of the associated tables, making sure each is loaded
+            // only once. Step through each script association definition
+            for (Object[] assn : associations)
+            {
+                // Check if script execution is canceled
+                if (haltDlg != null && haltDlg.isHalted())
+                {
+                    break;
+                }
+
+                try
                 {
-                    // Sort the table paths. Sorting the tables based on their position in the
-                    // table tree ensures that a child table's data is read as part of a parent (if
-                    // the parent is in the association), and not separately from the parent
-                    Collections.sort(tablePaths, new Comparator<String>()
+                    // Get the list of association table paths
+                    List<String> tablePaths = getAssociationTablePaths(assn[AssociationsColumn.MEMBERS.ordinal()].toString(),
+                                                                       groupHandler,
+                                                                       false,
+                                                                       parent);
+                    // Check if at least one table is assigned to this script association
+                    if (!tablePaths.isEmpty())
                     {
-                        /**************************************************************************
-                         * Sort the table paths so that the root tables are in alphabetical order
-                         * and the child tables appear in the order defined by their table type
-                         * definition
-                         *************************************************************************/
-                        @Override
-                        public int compare(String path1, String path2)
+                        // Sort the table paths. Sorting the tables based on their position in the
+                        // table tree ensures that a child table's data is read as part of a parent
+                        // (if the parent is in the association), and not separately from the
+                        // parent
+                        Collections.sort(tablePaths, new Comparator<String>()
                         {
-                            int result = 0;
-
-                            // Get the indices of the two paths within the table tree
-                            int index1 = allTablePaths.indexOf(path1);
-                            int index2 = allTablePaths.indexOf(path2);
-
-                            // Compare the indices and set the result so that they are sorted with
-                            // the lowest index first
-                            if (index1 > index2)
-                            {
-                                result = 1;
-                            }
-                            else if (index2 > index1)
+                            /**********************************************************************
+                             * Sort the table paths so that the root tables are in alphabetical
+                             * order and the child tables appear in the order defined by their
+                             * table type definition
+                             *********************************************************************/
+                            @Override
+                            public int compare(String path1, String path2)
                             {
-                                result = -1;
-                            }
+                                int result = 0;
 
-                            return result;
-                        }
-                    });
+                                // Get the indices of the two paths within the table tree
+                                int index1 = allTablePaths.indexOf(path1);
+                                int index2 = allTablePaths.indexOf(path2);
 
-                    // Step through each table path+name
-                    for (String tablePath : tablePaths)
-                    {
-                        // Initialize the array for each of the tables to load from the database
-                        combinedData = new Object[0][0];
+                                // Compare the indices and set the result so that they are sorted
+                                // with the lowest index first
+                                if (index1 > index2)
+                                {
+                                    result = 1;
+                                }
+                                else if (index2 > index1)
+                                {
+                                    result = -1;
+                                }
 
-                        // Read the table and child table data from the database and store the
-                        // results from the last table loaded. This builds the combined data with
-                        // the data from the table and all of its child tables
-                        TableInformation tableInfo = readTable(tablePath, parent);
+                                return result;
+                            }
+                        });
 
-                        // Check if the table hasn't already been loaded
-                        if (tableInfo != null)
+                        // Step through each table path+name
+                        for (String tablePath : tablePaths)
                         {
-                            // Store the table and child table information
-                            tableInformation.add(tableInfo);
+                            // Initialize the array for each of the tables to load from the
+                            // database
+                            combinedData = new Object[0][0];
 
-                            // Check if an error occurred loading the table data
-                            if (tableInfo.isErrorFlag())
-                            {
-                                throw new CCDDException("Table '"
-                                                        + tableInfo.getProtoVariableName()
-                                                        + "' (or one of its children) failed to load");
-                            }
-                            // The table loaded successfully
-                            else
-                            {
-                                // Store the data for the table and its child table(s)
-                                tableInfo.setData(combinedData);
+                            // Read the table and child table data from the database and store the
+                            // results from the last table loaded. This builds the combined data
+                            // with the data from the table and all of its child tables
+                            TableInformation tableInfo = readTable(tablePath, parent);
 
-                                // Get the type definition based on the table type name
-                                TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(tableInfo.getType());
+                            // Check if the table hasn't already been loaded
+                            if (tableInfo != null)
+                            {
+                                // Store the table and child table information
+                                tableInformation.add(tableInfo);
 
-                                // Check if the type exists
-                                if (typeDefn != null)
+                                // Check if an error occurred loading the table data
+                                if (tableInfo.isErrorFlag())
+                                {
+                                    throw new CCDDException("Table '"
+                                                            + tableInfo.getProtoVariableName()
+                                                            + "' (or one of its children) failed to load");
+                                }
+                                // The table loaded successfully
+                                else
                                 {
-                                    // All structure table types are combined and are referenced by
-                                    // the type name "Structure", and all command table types are
-                                    // combined and are referenced by the type name "Command". The
-                                    // table type is converted to the generic type ("Structure" or
-                                    // "Command") if the specified type is a representative of the
-                                    // generic type. The original type name is preserved in each
-                                    // row of the table's data in an appended column
-
-                                    // Check if this table represents a structure
-                                    if (typeDefn.isStructure())
+                                    // Store the data for the table and its child table(s)
+                                    tableInfo.setData(combinedData);
+
+                                    // Get the type definition based on the table type name
+                                    TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(tableInfo.getType());
+
+                                    // Check if the type exists
+                                    if (typeDefn != null)
                                     {
-                                        // Set the table type to indicate a structure
-                                        tableInfo.setType(TYPE_STRUCTURE);
+                                        // All structure table types are combined and are
+                                        // referenced by the type name "Structure", and all command
+                                        // table types are combined and are referenced by the type
+                                        // name "Command". The table type is converted to the
+                                        // generic type ("Structure" or "Command") if the specified
+                                        // type is a representative of the generic type. The
+                                        // original type name is preserved in each row of the
+                                        // table's data in an appended column
+
+                                        // Check if this table represents a structure
+                                        if (typeDefn.isStructure())
+                                        {
+                                            // Set the table type to indicate a structure
+                                            tableInfo.setType(TYPE_STRUCTURE);
+                                        }
+                                        // Check if this table represents a command table
+                                        else if (typeDefn.isCommand())
+                                        {
+                                            // Set the table type to indicate a command table
+                                            tableInfo.setType(TYPE_COMMAND);
+                                        }
                                     }
-                                    // Check if this table represents a command table
-                                    else if (typeDefn.isCommand())
+                                    // The table's type is invalid
+                                    else
                                     {
-                                        // Set the table type to indicate a command table
-                                        tableInfo.setType(TYPE_COMMAND);
+                                        throw new CCDDException("Table '"
+                                                                + tableInfo.getProtoVariableName()
+                                                                + "' has unknown type '"
+                                                                + tableInfo.getType()
+                                                                + "'");
                                     }
                                 }
-                                // The table's type is invalid
-                                else
-                                {
-                                    throw new CCDDException("Table '"
-                                                            + tableInfo.getProtoVariableName()
-                                                            + "' has unknown type '"
-                                                            + tableInfo.getType()
-                                                            + "'");
-                                }
                             }
                         }
                     }
                 }
-            }
-            catch (CCDDException ce)
-            {
-                // Inform the user that script execution failed
-                logScriptError(FileEnvVar.expandEnvVars(assn[AssociationsColumn.SCRIPT_FILE.ordinal()].toString(),
-                                                        envVarMap),
-                               assn[AssociationsColumn.MEMBERS.ordinal()].toString(),
-                               ce.getMessage(),
-                               parent);
-
-                // Set the flag for this association indicating it can't be executed
-                isBad[assnIndex] = true;
-            }
-            catch (Exception e)
-            {
-                // Display a dialog providing details on the unanticipated error
-                CcddUtilities.displayException(e, ccddMain.getMainFrame());
-            }
+                catch (CCDDException ce)
+                {
+                    // Inform the user that script execution failed
+                    logScriptError(FileEnvVar.expandEnvVars(assn[AssociationsColumn.SCRIPT_FILE.ordinal()].toString(),
+                                                            envVarMap),
+                                   assn[AssociationsColumn.MEMBERS.ordinal()].toString(),
+                                   ce.getMessage(),
+                                   parent);
 
-            assnIndex++;
+                    // Set the flag for this association indicating it can't be executed
+                    isBad[assnIndex] = true;
+                }
+                catch (Exception e)
+                {
+                    // Display a dialog providing details on the unanticipated error
+                    CcddUtilities.displayException(e, ccddMain.getMainFrame());
+                }
+
+                assnIndex++;
+            }
+        }
+        finally
+        {
+            // Discard any tables loaded but not read and restore use of the primary connection,
+            // even if loading the tables fails
+            dbTable.setPrefetchTables(null);
+            ccddMain.getDbCommandHandler().setReaderMode(false);
         }
 
         assnIndex = 0;
+        progressStep = 0;
+
+        // Check if the associations are executed one at a time. If so then each association is
+        // executed, in the order supplied, as soon as its data is gathered
+        boolean isSequential = ModifiableSizeInfo.CONCURRENT_SCRIPT_ASSOCIATIONS.getSize() <= 1;
+
+        // Create storage for the associations to execute in parallel, grouped by script file
+        Map<String, List<ScriptExecution>> scriptExecutions = new LinkedHashMap<String, List<ScriptExecution>>();
 
-        // Once all table information is loaded then gather the data for each association and
-        // execute it. Step through each script association definition
+        // Create storage for the script engines and compiled scripts, stored by script file name,
+        // for reuse by subsequent executions of a script. The storage is local to this script run
+        // so that the engines are discarded when the run ends, however it ends
+        Map<String, CachedScript> scriptCache = new HashMap<String, CachedScript>();
+
+        // Once all table information is loaded then gather the data for each association. The
+        // table information is shared by the associations and isn't altered once loaded. Step
+        // through each script association definition
         for (Object[] assn : associations)
         {
             // Check if script execution is canceled
@@ -1740,55 +1991,364 @@ public class CcddScriptHandler
                 String scriptFileName = FileEnvVar.expandEnvVars(assn[AssociationsColumn.SCRIPT_FILE.ordinal()].toString(),
                                                                  envVarMap);
 
-                try
+                ScriptExecution execution = new ScriptExecution(assnIndex,
+                                                                 assn,
+                                                                 scriptFileName,
+                                                                 combinedTableInfo,
+                                                                 groupNames);
+
+                // Check if the associations are executed one at a time
+                if (isSequential)
+                {
+                    // Execute the association
+                    executeScriptAssociation(execution,
+                                             scriptCache,
+                                             isBad,
+                                             linkHandler,
+                                             groupHandler,
+                                             parent);
+                }
+                // The associations are executed in parallel
+                else
                 {
-                    // Check if the cancellation dialog is displayed
-                    if (haltDlg != null)
+                    // Check if no association using this script file has been encountered
+                    if (!scriptExecutions.containsKey(scriptFileName))
                     {
-                        // Update the progress bar. Display the association name in the progress
-                        // bar; if the name is blank then display the script (with full path)
-                        haltDlg.updateProgressBar((!assn[AssociationsColumn.NAME.ordinal()].toString().isEmpty()
-                                                                                                                 ? assn[AssociationsColumn.NAME.ordinal()].toString()
-                                                                                                                 : scriptFileName),
-                                                  haltDlg.getNumDivisionPerStep() * step);
-                        step++;
+                        // Create storage for the script file's associations
+                        scriptExecutions.put(scriptFileName, new ArrayList<ScriptExecution>());
                     }
 
-                    // Execute the script using the indicated table data
-                    executeScript(scriptFileName,
-                                  combinedTableInfo,
-                                  groupNames,
-                                  linkHandler,
-                                  groupHandler,
-                                  parent);
+                    // Add the association to the list of those that use this script file. These
+                    // associations are executed after the data for every association is gathered
+                    scriptExecutions.get(scriptFileName).add(execution);
                 }
-                catch (CCDDException ce)
-                {
-                    // Inform the user that script execution failed
-                    logScriptError(scriptFileName,
-                                   assn[AssociationsColumn.MEMBERS.ordinal()].toString(),
-                                   ce.getMessage(),
+            }
+
+            assnIndex++;
+        }
+
+        // Execute any script associations gathered for parallel execution
+        executeAssociations(scriptExecutions.values(),
+                            scriptCache,
+                            isBad,
+                            linkHandler,
+                            groupHandler,
+                            parent);
+
+        return isBad;
+    }
+
+    /**********************************************************************************************
+     * Execute the script associations gathered for parallel execution. The associations that use
+     * the same script file are executed one at a time in the order supplied, and the associations
+     * using different script files are executed in parallel, each with its own script engine
+     *
+     * @param scriptExecutions
+     *            lists of the script associations to execute, grouped by script file
+     *
+     * @param scriptCache
+     *            script engines and compiled scripts for the script run, stored by script file
+     *            name
+     *
+     * @param isBad
+     *            array containing flags that indicate, for each association, if the association
+     *            did not complete successfully
+     *
+     * @param linkHandler
+     *            link handler reference
+     *
+     * @param groupHandler
+     *            group handler reference
+     *
+     * @param parent
+     *            GUI component over which to center any error dialog
+     *********************************************************************************************/
+    private void executeAssociations(Collection<List<ScriptExecution>> scriptExecutions,
+                                     final Map<String, CachedScript> scriptCache,
+                                     final boolean[] isBad,
+                                     final CcddLinkHandler linkHandler,
+                                     final CcddGroupHandler groupHandler,
+                                     final Component parent)
+    {
+        // Create a queue of the script association groups to execute
+        final Deque<List<ScriptExecution>> pending = new ArrayDeque<List<ScriptExecution>>(scriptExecutions);
+
+        // Get the number of association groups that can be executed concurrently
+        int numWorkers = Math.min(ModifiableSizeInfo.CONCURRENT_SCRIPT_ASSOCIATIONS.getSize(),
+                                  pending.size());
+
+        // Check if the associations are executed one at a time
+        if (numWorkers <= 1)
+        {
+            // Step through each group of associations that use the same script file
+            for (List<ScriptExecution> executions : pending)
+            {
+                // Execute the associations in the group
+                executeScriptGroup(executions,
+                                   scriptCache,
+                                   isBad,
+                                   linkHandler,
+                                   groupHandler,
                                    parent);
+            }
+        }
+        // The associations are executed in parallel
+        else
+        {
+            List<Thread> workers = new ArrayList<Thread>();
 
-                    // Set the flag for this association indicating it can't be executed
-                    isBad[assnIndex] = true;
-                }
-                catch (Exception e)
+            synchronized (scriptWorkers)
+            {
+                // Step through each worker thread to create
+                for (int index = 0; index < numWorkers; index++)
                 {
-                    // Check if script execution wasn't canceled by the user (halting a running
-                    // script can generate errors; these 'explained' errors are ignored)
-                    if (haltDlg == null || !haltDlg.isHalted())
+                    // Create a thread to execute association groups until none remain
+                    Thread worker = new Thread(new Runnable()
                     {
-                        // Display a dialog providing details on the unanticipated error
-                        CcddUtilities.displayException(e, ccddMain.getMainFrame());
-                    }
+                        /**************************************************************************
+                         * Execute script association groups
+                         *************************************************************************/
+                        @Override
+                        public void run()
+                        {
+                            boolean isDone = false;
+
+                            // Continue to execute association groups until none remain
+                            while (!isDone)
+                            {
+                                List<ScriptExecution> executions;
+
+                                synchronized (pending)
+                                {
+                                    // Get the next group of associations to execute
+                                    executions = pending.poll();
+                                }
+
+                                // Check if an association group remains
+                                if (executions != null)
+                                {
+                                    // Execute the associations in the group
+                                    executeScriptGroup(executions,
+                                                       scriptCache,
+                                                       isBad,
+                                                       linkHandler,
+                                                       groupHandler,
+                                                       parent);
+                                }
+                                // All of the association groups have been executed
+                                else
+                                {
+                                    isDone = true;
+                                }
+                            }
+                        }
+                    });
+
+                    // Store the thread so that it can be stopped if script execution is canceled,
+                    // then start the thread
+                    workers.add(worker);
+                    scriptWorkers.add(worker);
+                    worker.start();
                 }
             }
 
-            assnIndex++;
+            // Step through each worker thread
+            for (Thread worker : workers)
+            {
+                try
+                {
+                    // Wait for the thread to complete
+                    worker.join();
+                }
+                catch (InterruptedException ie)
+                {
+                    // Restore the interrupt status and stop waiting on the worker threads
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+
+            synchronized (scriptWorkers)
+            {
+                // Remove the references to the completed threads
+                scriptWorkers.removeAll(workers);
+            }
         }
+    }
 
-        return isBad;
+    /**********************************************************************************************
+     * Execute a group of script associations that use the same script file, in order
+     *
+     * @param executions
+     *            list of the script associations to execute
+     *
+     * @param scriptCache
+     *            script engines and compiled scripts for the script run, stored by script file
+     *            name
+     *
+     * @param isBad
+     *            array containing flags that indicate, for each association, if the association
+     *            did not complete successfully
+     *
+     * @param linkHandler
+     *            link handler reference
+     *
+     * @param groupHandler
+     *            group handler reference
+     *
+     * @param parent
+     *            GUI component over which to center any error dialog
+     *********************************************************************************************/
+    private void executeScriptGroup(List<ScriptExecution> executions,
+                                    Map<String, CachedScript> scriptCache,
+                                    boolean[] isBad,
+                                    CcddLinkHandler linkHandler,
+                                    CcddGroupHandler groupHandler,
+                                    Component parent)
+    {
+        // Step through each association in the group
+        for (ScriptExecution execution : executions)
+        {
+            // Check if script execution is canceled
+            if (haltDlg != null && haltDlg.isHalted())
+            {
+                break;
+            }
+
+            // Execute the association
+            executeScriptAssociation(execution,
+                                     scriptCache,
+                                     isBad,
+                                     linkHandler,
+                                     groupHandler,
+                                     parent);
+        }
+    }
+
+    /**********************************************************************************************
+     * Execute a script association
+     *
+     * @param execution
+     *            script association to execute
+     *
+     * @param scriptCache
+     *            script engines and compiled scripts for the script run, stored by script file
+     *            name
+     *
+     * @param isBad
+     *            array containing flags that indicate, for each association, if the association
+     *            did not complete successfully
+     *
+     * @param linkHandler
+     *            link handler reference
+     *
+     * @param groupHandler
+     *            group handler reference
+     *
+     * @param parent
+     *            GUI component over which to center any error dialog
+     *********************************************************************************************/
+    private void executeScriptAssociation(ScriptExecution execution,
+                                          Map<String, CachedScript> scriptCache,
+                                          boolean[] isBad,
+                                          CcddLinkHandler linkHandler,
+                                          CcddGroupHandler groupHandler,
+                                          Component parent)
+    {
+        Object[] assn = execution.getAssociation();
+
+        try
+        {
+            // Update the progress bar
+            updateScriptProgress(assn, execution.getScriptFileName());
+
+            long startTime = System.currentTimeMillis();
+
+            // Execute the script using the indicated table data
+            executeScript(execution.getScriptFileName(),
+                          scriptCache,
+                          execution.getTableInformation(),
+                          execution.getGroupNames(),
+                          linkHandler,
+                          groupHandler,
+                          parent);
+
+            // Log the association's execution time
+            eventLog.logEvent(STATUS_MSG,
+                              "Script '"
+                                          + execution.getScriptFileName()
+                                          + "' using table(s) '"
+                                          + convertAssociationMembersFormat(assn[AssociationsColumn.MEMBERS.ordinal()].toString(),
+                                                                            false)
+                                          + "' executed in "
+                                          + (System.currentTimeMillis() - startTime)
+                                          + " msec");
+        }
+        catch (CCDDException ce)
+        {
+            // Inform the user that script execution failed
+            logScriptError(execution.getScriptFileName(),
+                           assn[AssociationsColumn.MEMBERS.ordinal()].toString(),
+                           ce.getMessage(),
+                           parent);
+
+            // Set the flag for this association indicating it can't be executed
+            isBad[execution.getAssociationIndex()] = true;
+        }
+        catch (Exception e)
+        {
+            // Check if script execution wasn't canceled by the user (halting a running script can
+            // generate errors; these 'explained' errors are ignored)
+            if (haltDlg == null || !haltDlg.isHalted())
+            {
+                // Display a dialog providing details on the unanticipated error
+                CcddUtilities.displayException(e, ccddMain.getMainFrame());
+            }
+        }
+    }
+
+    /**********************************************************************************************
+     * Update the script execution progress bar, if the cancellation dialog is displayed
+     *
+     * @param assn
+     *            script association being executed
+     *
+     * @param scriptFileName
+     *            script file name, with any environment variables expanded
+     *********************************************************************************************/
+    private synchronized void updateScriptProgress(Object[] assn, String scriptFileName)
+    {
+        // Check if the cancellation dialog is displayed
+        if (haltDlg != null)
+        {
+            // Update the progress bar. Display the association name in the progress bar; if the
+            // name is blank then display the script (with full path)
+            haltDlg.updateProgressBar((!assn[AssociationsColumn.NAME.ordinal()].toString().isEmpty()
+                                                                                                     ? assn[AssociationsColumn.NAME.ordinal()].toString()
+                                                                                                     : scriptFileName),
+                                      haltDlg.getNumDivisionPerStep() * progressStep);
+            progressStep++;
+        }
+    }
+
+    /**********************************************************************************************
+     * Stop any threads executing script associations in parallel
+     *********************************************************************************************/
+    @SuppressWarnings("deprecation")
+    private void stopScriptWorkers()
+    {
+        synchronized (scriptWorkers)
+        {
+            // Step through each script execution thread
+            for (Thread worker : scriptWorkers)
+            {
+                // Forcibly stop the thread (see the note where the main script execution thread
+                // is stopped)
+                worker.stop();
+            }
+
+            scriptWorkers.clear();
+        }
     }
 
     /**********************************************************************************************
@@ -2009,29 +2569,14 @@ public class CcddScriptHandler
                 // Get the script engine
                 scriptEngine = factory.getScriptEngine();
 
-                // Create an instance of the script data access handler, then use this as a
-                // reference for the version of the access handler class that contains static
-                // method calls to the non-static version. Some scripting languages work with
-                // either the non-static or static version (Python, Groovy), but others only work
-                // with the non-static (JavaScript, Ruby) or static version (Scala) (this can be
-                // Java version dependent as well).
-                CcddScriptDataAccessHandler accessHandler = new CcddScriptDataAccessHandler(ccddMain,
-                                                                                            scriptEngine,
-                                                                                            tableInformation,
-                                                                                            linkHandler,
-                                                                                            groupHandler,
-                                                                                            scriptFileName,
-                                                                                            groupNames,
-                                                                                            parent);
-                CcddScriptDataAccessHandlerStatic staticHandler = new CcddScriptDataAccessHandlerStatic(accessHandler);
-
-                // Bind the script data access handlers (non-static and static versions) to the
-                // script context so that the handlers' public access methods can be accessed by
-                // the script using the binding names ('ccdd' or 'ccdds')
-                Bindings scriptBindings = scriptEngine.createBindings();
-                scriptBindings.put("ccdd", accessHandler);
-                scriptBindings.put("ccdds", staticHandler);
-                scriptEngine.setBindings(scriptBindings, ScriptContext.ENGINE_SCOPE);
+                // Bind the script data access handlers to the script engine
+                setScriptBindings(scriptEngine,
+                                  scriptFileName,
+                                  tableInformation,
+                                  linkHandler,
+                                  groupHandler,
+                                  groupNames,
+                                  parent);
 
                 // Stop searching since a match was found
                 break;
@@ -2058,6 +2603,11 @@ public class CcddScriptHandler
      *            script file name. The file extension is used to determine the script engine and
      *            therefore must conform to standard extension usage
      *
+     * @param scriptCache
+     *            script engines and compiled scripts for the script run, stored by script file
+     *            name. The script's engine and compiled script are obtained from, and stored in,
+     *            this cache
+     *
      * @param tableInformation
      *            array of table information
      *
@@ -2077,36 +2627,192 @@ public class CcddScriptHandler
      *             If an error occurs while attempting to access the script file
      *********************************************************************************************/
     private void executeScript(String scriptFileName,
+                               Map<String, CachedScript> scriptCache,
                                TableInformation[] tableInformation,
                                List<String> groupNames,
                                CcddLinkHandler linkHandler,
                                CcddGroupHandler groupHandler,
                                Component parent) throws CCDDException
     {
-        // Get the script engine for the supplied script file name and table information
-        ScriptEngine scriptEngine = getScriptEngine(scriptFileName,
-                                                    tableInformation,
-                                                    linkHandler,
-                                                    groupHandler,
-                                                    groupNames,
-                                                    parent);
+        ScriptEngine scriptEngine = null;
+        CachedScript cachedScript;
+        FileEnvVar scriptFile = new FileEnvVar(scriptFileName);
+
+        synchronized (scriptCache)
+        {
+            // Remove the script's cached engine and compiled script (if any) from the cache so
+            // that no other association uses the engine while this script executes
+            cachedScript = scriptCache.remove(scriptFileName);
+        }
 
         try
         {
-            // Execute the script
-            scriptEngine.eval(new FileReader(scriptFileName));
+            // Check if the script is cached and the script file is unchanged since it was
+            // compiled
+            if (cachedScript != null && cachedScript.isCurrent(scriptFile))
+            {
+                // Reuse the cached engine. New bindings are created for the access handlers
+                scriptEngine = cachedScript.getScriptEngine();
+                setScriptBindings(scriptEngine,
+                                  scriptFileName,
+                                  tableInformation,
+                                  linkHandler,
+                                  groupHandler,
+                                  groupNames,
+                                  parent);
+            }
+            // The script isn't cached or the script file has changed
+            else
+            {
+                cachedScript = null;
+
+                // Get the script engine for the supplied script file name and table information
+                scriptEngine = getScriptEngine(scriptFileName,
+                                               tableInformation,
+                                               linkHandler,
+                                               groupHandler,
+                                               groupNames,
+                                               parent);
+            }
+
+            try
+            {
+                // Check if the script engine can compile the script
+                if (scriptEngine instanceof Compilable)
+                {
+                    // Check if the script hasn't been compiled
+                    if (cachedScript == null)
+                    {
+                        FileReader scriptReader = new FileReader(scriptFile);
+
+                        try
+                        {
+                            // Compile the script
+                            cachedScript = new CachedScript(scriptEngine,
+                                                            ((Compilable) scriptEngine).compile(scriptReader),
+                                                            scriptFile);
+                        }
+                        finally
+                        {
+                            scriptReader.close();
+                        }
+                    }
+
+                    // Execute the compiled script
+                    cachedScript.getCompiledScript().eval();
+                }
+                // The script engine can't compile the script
+                else
+                {
+                    FileReader scriptReader = new FileReader(scriptFile);
+
+                    try
+                    {
+                        // Execute the script
+                        scriptEngine.eval(scriptReader);
+                    }
+                    finally
+                    {
+                        scriptReader.close();
+                    }
+                }
+            }
+            catch (Exception e)
+            {
+                // Inform the user that the script encountered an error
+                throw new CCDDException("Script file '"
+                                        + scriptFileName
+                                        + "' error '"
+                                        + e.getMessage()
+                                        + "'");
+            }
         }
-        catch (Exception e)
+        finally
         {
-            // Inform the user that the script encountered an error
-            throw new CCDDException("Script file '"
-                                    + scriptFileName
-                                    + "' error '"
-                                    + e.getMessage()
-                                    + "'");
+            // Check if a script engine was obtained
+            if (scriptEngine != null)
+            {
+                // Replace the engine's bindings so that the engine doesn't retain the access
+                // handlers, and through them the table information, after the script completes
+                scriptEngine.setBindings(scriptEngine.createBindings(), ScriptContext.ENGINE_SCOPE);
+            }
+
+            // Release this thread's reference to the static access handler's non-static handler
+            CcddScriptDataAccessHandlerStatic.releaseThreadAccessHandler();
+
+            // Check if the script is compiled
+            if (cachedScript != null)
+            {
+                synchronized (scriptCache)
+                {
+                    // Store the engine and compiled script for use by subsequent executions. This
+                    // is done only after the engine's bindings are released since another thread
+                    // can obtain the engine from the cache once it's stored
+                    scriptCache.put(scriptFileName, cachedScript);
+                }
+            }
         }
     }
 
+    /**********************************************************************************************
+     * Bind the non-static and static script data access handlers for the supplied script file
+     * name and table information to the script engine so that the public access methods can be
+     * utilized. Any existing engine bindings are replaced
+     *
+     * @param scriptEngine
+     *            script engine to which to bind the access handlers
+     *
+     * @param scriptFileName
+     *            script file name
+     *
+     * @param tableInformation
+     *            array of table information
+     *
+     * @param linkHandler
+     *            link handler reference
+     *
+     * @param groupHandler
+     *            group handler reference
+     *
+     * @param groupNames
+     *            list containing the names of any groups referenced in the script association
+     *
+     * @param parent
+     *            GUI component over which to center any error dialog
+     *********************************************************************************************/
+    private void setScriptBindings(ScriptEngine scriptEngine,
+                                   String scriptFileName,
+                                   TableInformation[] tableInformation,
+                                   CcddLinkHandler linkHandler,
+                                   CcddGroupHandler groupHandler,
+                                   List<String> groupNames,
+                                   Component parent)
+    {
+        // Create an instance of the script data access handler, then use this as a
+        // reference for the version of the access handler class that contains static
+        // method calls to the non-static version. Some scripting languages work with
+        // either the non-static or static version (Python, Groovy), but others only work
+        // with the non-static (JavaScript, Ruby) or static version (Scala) (this can be
+        // Java version dependent as well).
+        CcddScriptDataAccessHandler accessHandler = new CcddScriptDataAccessHandler(ccddMain,
+                                                                                    scriptEngine,
+                                                                                    tableInformation,
+                                                                                    linkHandler,
+                                                                                    groupHandler,
+                                                                                    scriptFileName,
+                                                                                    groupNames,
+                                                                                    parent);
+        CcddScriptDataAccessHandlerStatic staticHandler = new CcddScriptDataAccessHandlerStatic(accessHandler);
+
+        // Bind the script data access handlers (non-static and static versions) to the
+        // script context so that the handlers' public access methods can be accessed by
+        // the script using the binding names ('ccdd' or 'ccdds')
+        Bindings scriptBindings = scriptEngine.createBindings();
+        scriptBindings.put("ccdd", accessHandler);
+        scriptBindings.put("ccdds", staticHandler);
+        scriptEngine.setBindings(scriptBindings, ScriptContext.ENGINE_SCOPE);
+    }
+
     /**********************************************************************************************
      * Recursive method to load a table, and all the tables referenced within it and its child
      * tables. The data is combined into a single array
@@ -10,18 +10,11 @@ import static CCDD.CcddConstants.INTERNAL_TABLE_PREFIX;
 import static CCDD.CcddConstants.TABLE_DESCRIPTION_SEPARATOR;
 
 import java.awt.Component;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.nio.CharBuffer;
-import java.nio.MappedByteBuffer;
-import java.nio.channels.FileChannel;
-import java.nio.charset.Charset;
-import java.nio.charset.CharsetDecoder;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -32,7 +25,6 @@ import CCDD.CcddConstants.DatabaseListCommand;
 import CCDD.CcddConstants.DefaultColumn;
 import CCDD.CcddConstants.DefaultInputType;
 import CCDD.CcddConstants.DialogOption;
-import CCDD.CcddConstants.EventColumns;
 import CCDD.CcddConstants.InternalTable;
 import CCDD.CcddConstants.InternalTable.AppSchedulerColumn;
 import CCDD.CcddConstants.InternalTable.AssociationsColumn;
@@ -59,6 +51,7 @@ public class CcddSearchHandler extends CcddDialogHandler
     // Class references
     private final CcddDbCommandHandler dbCommand;
     private final CcddTableTypeHandler tableTypeHandler;
+    private final CcddSearchIndexHandler searchIndexHandler;
     private CcddEventLogDialog eventLog;
 
     // Search dialog type
@@ -94,6 +87,7 @@ public class CcddSearchHandler extends CcddDialogHandler
         // Create references to shorten subsequent calls
         dbCommand = ccddMain.getDbCommandHandler();
         tableTypeHandler = ccddMain.getTableTypeHandler();
+        searchIndexHandler = ccddMain.getSearchIndexHandler();
     }
 
     /**********************************************************************************************
@@ -158,26 +152,42 @@ public class CcddSearchHandler extends CcddDialogHandler
                                                                                        : SearchType.ALL.toString())
                                                                      : SearchType.SCRIPT.toString();
 
-        // Search the database for the text
-        String[] hits = dbCommand.getList(DatabaseListCommand.SEARCH,
-                                          new String[][] {{"_search_text_",
-                                                           searchText},
-                                                          {"_case_insensitive_",
-                                                           String.valueOf(ignoreCase)},
-                                                          {"_allow_regex_",
-                                                           "true"},
-                                                          {"_selected_tables_",
-                                                           searchType},
-                                                          {"_columns_",
-                                                           searchColumns}},
-                                          CcddSearchHandler.this);
+        // Search the table cells for the text using the search index
+        List<String[]> hits = searchIndexHandler.searchTables(searchText,
+                                                              ignoreCase,
+                                                              searchType,
+                                                              searchColumns,
+                                                              0,
+                                                              -1,
+                                                              CcddSearchHandler.this);
+
+        // Check if the search index can't be used to perform the search
+        if (hits == null)
+        {
+            hits = new ArrayList<String[]>();
+
+            // Search the database for the text
+            for (String hit : dbCommand.getList(DatabaseListCommand.SEARCH,
+                                                new String[][] {{"_search_text_",
+                                                                 searchText},
+                                                                {"_case_insensitive_",
+                                                                 String.valueOf(ignoreCase)},
+                                                                {"_allow_regex_",
+                                                                 "true"},
+                                                                {"_selected_tables_",
+                                                                 searchType},
+                                                                {"_columns_",
+                                                                 searchColumns}},
+                                                CcddSearchHandler.this))
+            {
+                // Split the found item into table, column, description, and context
+                hits.add(hit.split(TABLE_DESCRIPTION_SEPARATOR, 4));
+            }
+        }
 
         // Step through each table/column containing the search text
-        for (String hit : hits)
+        for (String[] tblColDescAndCntxt : hits)
         {
-            // Split the found item into table, column, description, and context
-            String[] tblColDescAndCntxt = hit.split(TABLE_DESCRIPTION_SEPARATOR, 4);
-
             // Create a reference to the search result's column name to shorten comparisons below
             String hitColumnName = tblColDescAndCntxt[SearchResultsQueryColumn.COLUMN.ordinal()];
 
@@ -679,76 +689,22 @@ public class CcddSearchHandler extends CcddDialogHandler
         // Initialize the list to contain the search results
         List<Object[]> matchDataList = new ArrayList<Object[]>();
 
-        // Set up Charset and CharsetDecoder for ISO-8859-15
-        Charset charset = Charset.forName("ISO-8859-15");
-        CharsetDecoder decoder = charset.newDecoder();
-
-        // Pattern used to detect separate lines
-        Pattern linePattern = Pattern.compile(".*\r?\n");
+        CcddEventLogFileHandler logFileHandler = null;
 
         try
         {
-            // Open a file stream on the event log file and then get a channel from the stream
-            FileInputStream fis = new FileInputStream(eventLog.getEventLogFile());
-            FileChannel fc = fis.getChannel();
-
-            // Get the file's size and then map it into memory
-            MappedByteBuffer byteBuffer = fc.map(FileChannel.MapMode.READ_ONLY, 0, fc.size());
-
-            // Decode the file into a char buffer
-            CharBuffer charBuffer = decoder.decode(byteBuffer);
+            // Open the event log file. The file is searched in chunks, in parallel
+            logFileHandler = new CcddEventLogFileHandler(eventLog.getEventLogFile());
 
-            // Create the line and pattern matchers, then perform the search
-            Matcher lineMatch = linePattern.matcher(charBuffer);
-
-            long row = 1;
-
-            // For each line in the file
-            while (lineMatch.find())
+            // Step through each match in the event log file
+            for (Object[] match : logFileHandler.search(searchPattern, targetRow))
             {
-                // Check if no target row is provided ,or if one is that it matches this log
-                // entry's row
-                if (targetRow == null || row == targetRow)
-                {
-                    // Get the line from the file and strip any leading or trailing white space
-                    String line = lineMatch.group().toString();
-
-                    // Break the input line into its separate columns
-                    String[] parts = line.split("\\|", EventColumns.values().length - 1);
-
-                    // Step through each log entry column
-                    for (int column = 0; column < parts.length; column++)
-                    {
-                        // Create the pattern matcher from the pattern. Ignore any HTML tags in the
-                        // log entry column text
-                        Matcher matcher = searchPattern.matcher(CcddUtilities.removeHTMLTags(parts[column].toString()));
-
-                        // Check if a match exists in the text string
-                        if (matcher.find())
-                        {
-                            // Add the search result to the list
-                            matchDataList.add(new Object[] {row,
-                                                            eventLog.getEventTable().getColumnName(column + 1),
-                                                            parts[column]});
-                        }
-                    }
-
-                    // Check if the end of the file has been reached or if this is a single log
-                    // entry row search
-                    if (lineMatch.end() == charBuffer.limit()
-                        || targetRow != null)
-                    {
-                        // Exit the loop
-                        break;
-                    }
-                }
-
-                row++;
+                // Add the search result to the list, replacing the column index with the column
+                // name (the index column isn't stored in the file)
+                matchDataList.add(new Object[] {match[0],
+                                                eventLog.getEventTable().getColumnName((Integer) match[1] + 1),
+                                                match[2]});
             }
-
-            // Close the channel and the stream
-            fc.close();
-            fis.close();
         }
         catch (IOException ioe)
         {
@@ -759,6 +715,15 @@ public class CcddSearchHandler extends CcddDialogHandler
                                                       JOptionPane.WARNING_MESSAGE,
                                                       DialogOption.OK_OPTION);
         }
+        finally
+        {
+            // Check if the event log file was opened
+            if (logFileHandler != null)
+            {
+                // Close the event log file
+                logFileHandler.close();
+            }
+        }
 
         // Display the search results
         return sortSearchResults(matchDataList);
@@ -0,0 +1,1401 @@
+/**
+ * CFS Command and Data Dictionary search index handler.
+ *
+ * Copyright 2017 United States Government as represented by the Administrator of the National
+ * Aeronautics and Space Administration. No copyright is claimed in the United States under Title
+ * 17, U.S. Code. All Other Rights Reserved.
+ */
+package CCDD;
+
+import static CCDD.CcddConstants.INTERNAL_TABLE_PREFIX;
+
+import java.awt.Component;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import CCDD.CcddConstants.EventLogMessageType;
+import CCDD.CcddConstants.InternalTable;
+import CCDD.CcddConstants.ModifiableSizeInfo;
+import CCDD.CcddConstants.SearchType;
+
+/**************************************************************************************************
+ * CFS Command and Data Dictionary search index handler class. The index holds the text of every
+ * table cell in the project database so that the table and script searches can be performed in
+ * memory instead of by the search_tables() database function, which scans every column of every
+ * table for each search. Each distinct cell value is stored once, along with the cells in which
+ * it appears, and the values are indexed by the three-character sequences (trigrams) they
+ * contain. The literal text required by a search pattern selects the candidate values from the
+ * trigram index, so that only these values are matched against the pattern. The index is kept
+ * for each table separately. It's built when first needed, and a table's entry is rebuilt the
+ * first time the index is needed after the table is modified, whether by this session or by
+ * another
+ *************************************************************************************************/
+public class CcddSearchIndexHandler
+{
+    // Class references
+    private final CcddMain ccddMain;
+    private final CcddDbCommandHandler dbCommand;
+
+    // Search index entry for each table, keyed by the table name; empty if the index isn't built
+    private final Map<String, TableIndex> tableIndices;
+
+    // Change marker for each table when the index last exceeded the maximum number of cells; null
+    // if the index didn't exceed the maximum
+    private Map<String, String> oversizeMarkers;
+
+    // Match ranks. A match with the entire cell text ranks highest, followed by a match at the
+    // beginning of the cell text, then a match elsewhere in the cell text
+    private static final int EXACT_MATCH = 0;
+    private static final int PREFIX_MATCH = 1;
+    private static final int CONTAINS_MATCH = 2;
+
+    // Number of characters in an indexed character sequence
+    private static final int TRIGRAM_LENGTH = 3;
+
+    /**********************************************************************************************
+     * Growable list of integer values, used to store the index's cell references and trigram
+     * postings without creating an object for each value
+     *********************************************************************************************/
+    private static class IntList
+    {
+        private int[] items;
+        private int size;
+
+        /******************************************************************************************
+         * Growable list of integer values class constructor
+         *****************************************************************************************/
+        IntList()
+        {
+            items = new int[4];
+            size = 0;
+        }
+
+        /******************************************************************************************
+         * Add a value to the list
+         *
+         * @param value
+         *            value to add
+         *****************************************************************************************/
+        protected void add(int value)
+        {
+            // Check if the list is full
+            if (size == items.length)
+            {
+                // Increase the list's capacity
+                items = Arrays.copyOf(items, size * 2);
+            }
+
+            items[size] = value;
+            size++;
+        }
+
+        /******************************************************************************************
+         * Get the value at the specified index
+         *
+         * @param index
+         *            index of the value
+         *
+         * @return Value at the specified index
+         *****************************************************************************************/
+        protected int get(int index)
+        {
+            return items[index];
+        }
+
+        /******************************************************************************************
+         * Get the number of values in the list
+         *
+         * @return Number of values in the list
+         *****************************************************************************************/
+        protected int size()
+        {
+            return size;
+        }
+    }
+
+    /**********************************************************************************************
+     * Search index table entry class. The entry's contents aren't altered once the entry is built
+     *********************************************************************************************/
+    private static class TableIndex
+    {
+        // Table name, description (comment), and change marker when the entry was built
+        private final String tableName;
+        private final String tableDescription;
+        private final String marker;
+
+        // Column names
+        private final String[] tableColumns;
+
+        // Contents of each table row, in the format returned by the search_tables() function
+        private String[] tableRows;
+
+        // Distinct cell values
+        private final List<String> values;
+
+        // Cells containing each distinct value. Each cell is stored as the two values: column
+        // index and row index
+        private final List<IntList> valueCells;
+
+        // Indices of the distinct values containing each trigram
+        private final Map<String, IntList> trigrams;
+
+        // Number of cells having a value
+        private int numCells;
+
+        /******************************************************************************************
+         * Search index table entry class constructor
+         *
+         * @param tableName
+         *            table name
+         *
+         * @param tableDescription
+         *            table description
+         *
+         * @param marker
+         *            table's change marker
+         *
+         * @param tableColumns
+         *            array of the table's column names
+         *****************************************************************************************/
+        TableIndex(String tableName, String tableDescription, String marker, String[] tableColumns)
+        {
+            this.tableName = tableName;
+            this.tableDescription = tableDescription;
+            this.marker = marker;
+            this.tableColumns = tableColumns;
+            tableRows = new String[0];
+            values = new ArrayList<String>();
+            valueCells = new ArrayList<IntList>();
+            trigrams = new HashMap<String, IntList>();
+            numCells = 0;
+        }
+    }
+
+    /**********************************************************************************************
+     * Search index handler class constructor
+     *
+     * @param ccddMain
+     *            main class
+     *********************************************************************************************/
+    CcddSearchIndexHandler(CcddMain ccddMain)
+    {
+        this.ccddMain = ccddMain;
+        dbCommand = ccddMain.getDbCommandHandler();
+        tableIndices = new TreeMap<String, TableIndex>();
+        oversizeMarkers = null;
+    }
+
+    /**********************************************************************************************
+     * Search the table cells for the text. The search matches the one performed by the
+     * search_tables() database function
+     *
+     * @param searchText
+     *            text string to search for, in the form provided to the search_tables() function
+     *            (i.e., a regular expression in which backslashes are escaped as in a PostgreSQL
+     *            escape string constant)
+     *
+     * @param ignoreCase
+     *            true to ignore case when looking for matching text
+     *
+     * @param selectedTables
+     *            string containing the search type(s) (SearchType) that determine the tables to
+     *            search
+     *
+     * @param searchColumns
+     *            string containing the names of columns, separated by commas, to which to
+     *            constrain the search; blank to search all columns
+     *
+     * @param startIndex
+     *            index of the first ranked match to return
+     *
+     * @param maximumMatches
+     *            maximum number of matches to return; -1 to return all matches following the
+     *            starting index
+     *
+     * @param parent
+     *            GUI component over which to center any error dialog
+     *
+     * @return List containing the table name, column name, table description, and row contents
+     *         for each matching cell, ordered by rank (exact matches, matches at the beginning of
+     *         the cell text, then other matches) and then by table name, column name, and row;
+     *         null if the search index is disabled, can't be built, or can't perform the search,
+     *         in which case the search must be performed by the database
+     *********************************************************************************************/
+    protected List<String[]> searchTables(String searchText,
+                                          boolean ignoreCase,
+                                          String selectedTables,
+                                          String searchColumns,
+                                          int startIndex,
+                                          int maximumMatches,
+                                          Component parent)
+    {
+        List<String[]> matches = null;
+
+        // Get the search index, building it if needed
+        List<TableIndex> index = getSearchIndex(parent);
+
+        // Check if the search index is available
+        if (index != null)
+        {
+            Pattern searchPattern = null;
+
+            // Convert the search text to the regular expression seen by the search_tables()
+            // function
+            String regex = unescapeStringConstant(searchText);
+
+            // Convert the regular expression to the equivalent Java pattern
+            String javaRegex = convertToJavaRegex(regex);
+
+            // Check if the regular expression can be converted
+            if (javaRegex != null)
+            {
+                try
+                {
+                    // Compile the search pattern. In a PostgreSQL regular expression a period
+                    // matches any character, including a line feed
+                    searchPattern = Pattern.compile(javaRegex,
+                                                    Pattern.DOTALL
+                                                               | (ignoreCase
+                                                                             ? Pattern.CASE_INSENSITIVE
+                                                                               | Pattern.UNICODE_CASE
+                                                                             : 0));
+                }
+                catch (PatternSyntaxException pse)
+                {
+                    // The pattern uses a regular expression construct that differs between Java
+                    // and PostgreSQL; the search is performed by the database instead
+                }
+            }
+
+            // Check if the search pattern is valid
+            if (searchPattern != null)
+            {
+                matches = searchIndex(index,
+                                      searchPattern,
+                                      regex,
+                                      selectedTables,
+                                      searchColumns,
+                                      startIndex,
+                                      maximumMatches);
+            }
+        }
+
+        return matches;
+    }
+
+    /**********************************************************************************************
+     * Convert a PostgreSQL regular expression to a Java regular expression that matches the same
+     * text. Outside of a bracket expression a dollar sign matches only at the end of the text in
+     * PostgreSQL, whereas in Java it also matches before a line feed that ends the text; it's
+     * replaced by the Java end of input anchor. A bracket expression containing a character
+     * class, equivalence class, or collating element (e.g., [[:digit:]]) has no Java equivalent
+     *
+     * @param regex
+     *            PostgreSQL regular expression
+     *
+     * @return Equivalent Java regular expression; null if the expression can't be converted, in
+     *         which case the search must be performed by the database
+     *********************************************************************************************/
+    private static String convertToJavaRegex(String regex)
+    {
+        StringBuilder javaRegex = new StringBuilder(regex.length() + 8);
+        boolean isInBracket = false;
+
+        // Step through each character in the regular expression
+        for (int index = 0; index < regex.length() && javaRegex != null; index++)
+        {
+            char character = regex.charAt(index);
+
+            // Check if this is an escape character followed by another character
+            if (character == '\\' && index + 1 < regex.length())
+            {
+                // Copy the escape sequence unchanged
+                javaRegex.append(character).append(regex.charAt(index + 1));
+                index++;
+            }
+            // Check if this character is within a bracket expression
+            else if (isInBracket)
+            {
+                // Check if this begins a character class, equivalence class, or collating
+                // element
+                if (character == '['
+                    && index + 1 < regex.length()
+                    && ":=.".indexOf(regex.charAt(index + 1)) != -1)
+                {
+                    // The expression can't be converted
+                    javaRegex = null;
+                }
+                // Not a bracketed class or element
+                else
+                {
+                    // Check if this ends the bracket expression
+                    if (character == ']')
+                    {
+                        isInBracket = false;
+                    }
+
+                    javaRegex.append(character);
+                }
+            }
+            // Check if this begins a bracket expression
+            else if (character == '[')
+            {
+                isInBracket = true;
+                javaRegex.append(character);
+
+                // Check if the bracket expression is negated
+                if (index + 1 < regex.length() && regex.charAt(index + 1) == '^')
+                {
+                    javaRegex.append('^');
+                    index++;
+                }
+
+                // Check if the first character in the bracket expression is a closing bracket,
+                // which is then treated as a literal character
+                if (index + 1 < regex.length() && regex.charAt(index + 1) == ']')
+                {
+                    javaRegex.append("\\]");
+                    index++;
+                }
+            }
+            // Check if this is an end of text anchor
+            else if (character == '$')
+            {
+                // Replace the anchor with the Java end of input anchor
+                javaRegex.append("\\z");
+            }
+            // Any other character
+            else
+            {
+                javaRegex.append(character);
+            }
+        }
+
+        return javaRegex != null
+                                 ? javaRegex.toString()
+                                 : null;
+    }
+
+    /**********************************************************************************************
+     * Get the search index, building the entries for the tables that are new or modified since
+     * their entries were built. The entries for the other tables are kept
+     *
+     * @param parent
+     *            GUI component over which to center any error dialog
+     *
+     * @return List containing the search index entry for each table, in table name order; null if
+     *         the index is disabled, the project is too large to index, a save point is
+     *         established (changes made after the save point aren't visible to every connection),
+     *         the table change markers can't be obtained, or an error occurs building the index
+     *********************************************************************************************/
+    private synchronized List<TableIndex> getSearchIndex(Component parent)
+    {
+        List<TableIndex> index = null;
+        Map<String, String> markers = null;
+
+        // Check if the search index is enabled and no save point is established
+        if (ModifiableSizeInfo.MAX_SEARCH_INDEX_CELLS.getSize() != 0 && !dbCommand.isSavePoint())
+        {
+            try
+            {
+                // Get the change marker for each table. These reveal the tables changed by this
+                // session or by other sessions since the tables' entries were built
+                markers = ccddMain.getDbTableCommandHandler().queryTableChangeMarkers(parent);
+            }
+            catch (SQLException se)
+            {
+                // The markers are unavailable; the search is performed by the database
+            }
+        }
+
+        // Check if the table changes can be detected, and that the index didn't exceed the
+        // maximum number of cells when built for the tables in their current state. If not then
+        // the search is performed by the database
+        if (markers != null && !markers.equals(oversizeMarkers))
+        {
+            try
+            {
+                List<String> changedNames = new ArrayList<String>();
+                int numCells = 0;
+                boolean isOversize = false;
+
+                // Remove the entries for the tables that no longer exist
+                tableIndices.keySet().retainAll(markers.keySet());
+
+                // Step through each table's marker
+                for (Entry<String, String> marker : markers.entrySet())
+                {
+                    TableIndex tableIndex = tableIndices.get(marker.getKey());
+
+                    // Check if the table has no entry or is modified since its entry was built
+                    if (tableIndex == null || !tableIndex.marker.equals(marker.getValue()))
+                    {
+                        // Add the table to the list of those to rebuild
+                        changedNames.add(marker.getKey());
+                    }
+                    // The table's entry is current
+                    else
+                    {
+                        // Add the entry's cells to the total
+                        numCells += tableIndex.numCells;
+                    }
+                }
+
+                // Check if any table entry needs to be built
+                if (!changedNames.isEmpty())
+                {
+                    Map<String, String> descriptions = new HashMap<String, String>();
+                    Map<String, String[]> columns = new HashMap<String, String[]>();
+
+                    // Get the description and column names for every table
+                    getTableColumns(descriptions, columns, parent);
+
+                    // Step through each table to rebuild
+                    for (String tableName : changedNames)
+                    {
+                        // Build the table's entry, constraining it to the number of cells
+                        // remaining
+                        TableIndex tableIndex = buildTableIndex(tableName,
+                                                                descriptions.get(tableName),
+                                                                markers.get(tableName),
+                                                                columns.get(tableName),
+                                                                ModifiableSizeInfo.MAX_SEARCH_INDEX_CELLS.getSize()
+                                                                                        - numCells,
+                                                                parent);
+
+                        // Check if the maximum number of cells is exceeded
+                        if (tableIndex == null)
+                        {
+                            // Discard the index; the project is searched by the database. No
+                            // attempt is made to rebuild the index until a table is modified
+                            tableIndices.clear();
+                            oversizeMarkers = markers;
+                            isOversize = true;
+                            break;
+                        }
+
+                        // Store the table's entry and add its cells to the total
+                        tableIndices.put(tableName, tableIndex);
+                        numCells += tableIndex.numCells;
+                    }
+                }
+
+                // Check if the index was built for the tables in their current state
+                if (!isOversize)
+                {
+                    oversizeMarkers = null;
+                    index = new ArrayList<TableIndex>(tableIndices.values());
+                }
+            }
+            catch (SQLException se)
+            {
+                // Inform the user that the index couldn't be built
+                ccddMain.getSessionEventLog().logEvent(EventLogMessageType.FAIL_MSG,
+                                                       "Cannot build search index; cause '"
+                                                                                     + se.getMessage()
+                                                                                     + "'");
+
+                // Discard the index so that it's rebuilt on the next search
+                tableIndices.clear();
+            }
+        }
+
+        return index;
+    }
+
+    /**********************************************************************************************
+     * Get the description and column names of every table. The tables are the ones examined by
+     * the search_tables() function
+     *
+     * @param descriptions
+     *            map in which to store each table's description, keyed by the table name
+     *
+     * @param columns
+     *            map in which to store each table's column names, keyed by the table name
+     *
+     * @param parent
+     *            GUI component over which to center any error dialog
+     *
+     * @throws SQLException
+     *             If an error occurs obtaining the table information
+     *********************************************************************************************/
+    private void getTableColumns(Map<String, String> descriptions,
+                                 Map<String, String[]> columns,
+                                 Component parent) throws SQLException
+    {
+        ResultSet tableInfo = dbCommand.executeDbQuery("SELECT c.table_name::text, "
+                                                       + "c.column_name::text, "
+                                                       + "coalesce(obj_description(cl.oid, "
+                                                       + "'pg_class'), '') FROM "
+                                                       + "information_schema.columns AS c "
+                                                       + "JOIN information_schema.tables AS t "
+                                                       + "ON (t.table_name = c.table_name AND "
+                                                       + "t.table_schema = c.table_schema) "
+                                                       + "JOIN pg_namespace AS n ON "
+                                                       + "n.nspname = c.table_schema JOIN "
+                                                       + "pg_class AS cl ON (cl.relname = "
+                                                       + "c.table_name AND cl.relnamespace = "
+                                                       + "n.oid) WHERE c.table_schema = "
+                                                       + "'public' AND t.table_type = 'BASE "
+                                                       + "TABLE' ORDER BY c.table_name, "
+                                                       + "c.ordinal_position;",
+                                                       parent);
+
+        // Check if the query failed
+        if (tableInfo == null)
+        {
+            throw new SQLException("table information query returned null ResultSet");
+        }
+
+        String tableName = null;
+        List<String> tableColumns = new ArrayList<String>();
+
+        // Step through each table column
+        while (tableInfo.next())
+        {
+            // Check if this is the first column of a table
+            if (!tableInfo.getString(1).equals(tableName))
+            {
+                // Check if a table has been added
+                if (tableName != null)
+                {
+                    // Store the previous table's column names
+                    columns.put(tableName, tableColumns.toArray(new String[0]));
+                }
+
+                // Store the table's description
+                tableName = tableInfo.getString(1);
+                descriptions.put(tableName, tableInfo.getString(3));
+                tableColumns.clear();
+            }
+
+            // Add the column name to the table's list
+            tableColumns.add(tableInfo.getString(2));
+        }
+
+        tableInfo.close();
+
+        // Check if a table has been added
+        if (tableName != null)
+        {
+            // Store the last table's column names
+            columns.put(tableName, tableColumns.toArray(new String[0]));
+        }
+    }
+
+    /**********************************************************************************************
+     * Build the search index entry for a table from the table's contents
+     *
+     * @param tableName
+     *            table name
+     *
+     * @param tableDescription
+     *            table description; null if the table has no columns
+     *
+     * @param marker
+     *            table's change marker
+     *
+     * @param tableColumns
+     *            array of the table's column names; null if the table has no columns
+     *
+     * @param maximumCells
+     *            maximum number of cells allowed in the entry
+     *
+     * @param parent
+     *            GUI component over which to center any error dialog
+     *
+     * @return Search index entry for the table; null if the number of table cells exceeds the
+     *         maximum allowed
+     *
+     * @throws SQLException
+     *             If an error occurs reading the table
+     *********************************************************************************************/
+    private TableIndex buildTableIndex(String tableName,
+                                       String tableDescription,
+                                       String marker,
+                                       String[] tableColumns,
+                                       int maximumCells,
+                                       Component parent) throws SQLException
+    {
+        TableIndex index = new TableIndex(tableName,
+                                          tableDescription == null
+                                                                   ? ""
+                                                                   : tableDescription,
+                                          marker,
+                                          tableColumns == null
+                                                               ? new String[0]
+                                                               : tableColumns);
+
+        // Create a map to locate the index of each distinct value as the values are stored
+        Map<String, Integer> valueIndices = new HashMap<String, Integer>();
+
+        // Build the command to obtain the table's row contents (formatted as in the
+        // search_tables() function) and its cell values
+        StringBuilder command = new StringBuilder("SELECT regexp_replace(search_row::text, "
+                                                  + "E'^\\\\(|(\\\\)$)', '', 'g')");
+
+        // Step through each column in the table
+        for (String column : index.tableColumns)
+        {
+            // Add the column's value, converted to text, to the command
+            command.append(", cast(").append(quoteIdentifier(column)).append(" AS text)");
+        }
+
+        command.append(" FROM public.")
+               .append(quoteIdentifier(tableName))
+               .append(" AS search_row;");
+
+        // Get the table's contents
+        ResultSet rowData = dbCommand.executeDbQuery(command.toString(), parent);
+
+        // Check if the query failed
+        if (rowData == null)
+        {
+            throw new SQLException("table contents query returned null ResultSet");
+        }
+
+        List<String> rows = new ArrayList<String>();
+
+        // Step through each row in the table while the maximum number of cells isn't exceeded
+        while (rowData.next() && index != null)
+        {
+            // Store the row contents. Trailing white space characters are removed, as they are
+            // from a database list query result
+            String row = rowData.getString(1);
+            rows.add(row == null
+                                 ? ""
+                                 : row.replaceFirst("[\\x00-\\x20]+$", ""));
+
+            // Step through each column in the row
+            for (int column = 0; column < index.tableColumns.length; column++)
+            {
+                String value = rowData.getString(column + 2);
+
+                // Check if the cell has a value. A null value doesn't match any search
+                if (value != null)
+                {
+                    // Get the index of the value in the list of distinct values
+                    Integer valueIndex = valueIndices.get(value);
+
+                    // Check if this is the first occurrence of the value
+                    if (valueIndex == null)
+                    {
+                        // Add the value to the list of distinct values
+                        valueIndex = index.values.size();
+                        valueIndices.put(value, valueIndex);
+                        index.values.add(value);
+                        index.valueCells.add(new IntList());
+                    }
+
+                    // Store the cell's location with the value
+                    IntList cells = index.valueCells.get(valueIndex);
+                    cells.add(column);
+                    cells.add(rows.size() - 1);
+                    index.numCells++;
+
+                    // Check if the maximum number of indexed cells is exceeded
+                    if (index.numCells > maximumCells)
+                    {
+                        // Discard the entry; the project is searched by the database
+                        index = null;
+                        break;
+                    }
+                }
+            }
+        }
+
+        rowData.close();
+
+        // Check if the entry is still being built
+        if (index != null)
+        {
+            // Store the table's row contents
+            index.tableRows = rows.toArray(new String[0]);
+
+            // Step through each distinct value
+            for (int valueIndex = 0; valueIndex < index.values.size(); valueIndex++)
+            {
+                // Fold the value's case so that the trigrams can be used for case sensitive and
+                // case insensitive searches
+                String value = foldCase(index.values.get(valueIndex));
+
+                // Step through each trigram in the value
+                for (int start = 0; start <= value.length() - TRIGRAM_LENGTH; start++)
+                {
+                    String trigram = value.substring(start, start + TRIGRAM_LENGTH);
+
+                    // Check if the trigram contains only ASCII characters. The literal text used
+                    // to select candidate values is constrained to these characters, so other
+                    // trigrams aren't needed
+                    if (isAsciiText(trigram))
+                    {
+                        // Get the list of values containing the trigram
+                        IntList postings = index.trigrams.get(trigram);
+
+                        // Check if this is the first occurrence of the trigram
+                        if (postings == null)
+                        {
+                            // Create the list and add it to the trigram index
+                            postings = new IntList();
+                            index.trigrams.put(trigram, postings);
+                        }
+
+                        // Check if the value isn't already in the trigram's list (the values are
+                        // processed in order, so the value is the last entry if the trigram
+                        // occurs more than once in the value)
+                        if (postings.size() == 0
+                            || postings.get(postings.size() - 1) != valueIndex)
+                        {
+                            // Add the value to the trigram's list
+                            postings.add(valueIndex);
+                        }
+                    }
+                }
+            }
+        }
+
+        return index;
+    }
+
+    /**********************************************************************************************
+     * Search the index for the cells matching the search pattern
+     *
+     * @param index
+     *            list containing the search index entry for each table, in table name order
+     *
+     * @param searchPattern
+     *            compiled search pattern
+     *
+     * @param regex
+     *            search pattern regular expression
+     *
+     * @param selectedTables
+     *            string containing the search type(s) that determine the tables to search
+     *
+     * @param searchColumns
+     *            string containing the names of columns, separated by commas, to which to
+     *            constrain the search; blank to search all columns
+     *
+     * @param startIndex
+     *            index of the first ranked match to return
+     *
+     * @param maximumMatches
+     *            maximum number of matches to return; -1 to return all matches following the
+     *            starting index
+     *
+     * @return List containing the table name, column name, table description, and row contents
+     *         for each matching cell, in rank order
+     *********************************************************************************************/
+    private List<String[]> searchIndex(final List<TableIndex> index,
+                                       Pattern searchPattern,
+                                       String regex,
+                                       String selectedTables,
+                                       String searchColumns,
+                                       int startIndex,
+                                       int maximumMatches)
+    {
+        List<String[]> matches = new ArrayList<String[]>();
+        List<int[]> rankedCells = new ArrayList<int[]>();
+
+        // Get the column names to which the search is constrained, if any
+        Set<String> columnNames = new HashSet<String>();
+
+        for (String column : (searchColumns == null
+                                                     ? ""
+                                                     : searchColumns).split(","))
+        {
+            // Check if the column name isn't blank
+            if (!column.trim().isEmpty())
+            {
+                columnNames.add(column.trim());
+            }
+        }
+
+        // Get the literal text the pattern requires
+        List<String> literals = getRequiredLiterals(regex);
+        Matcher matcher = searchPattern.matcher("");
+
+        // Step through each table's index entry
+        for (int tableIndex = 0; tableIndex < index.size(); tableIndex++)
+        {
+            TableIndex table = index.get(tableIndex);
+
+            // Check if the table is searched based on the search type(s)
+            if (isTableSelected(table.tableName, selectedTables))
+            {
+                // Get the indices of the table's values that can match the search pattern based
+                // on the literal text the pattern requires
+                IntList candidates = getCandidateValues(table, literals);
+                int numCandidates = candidates == null
+                                                       ? table.values.size()
+                                                       : candidates.size();
+
+                // Step through each candidate value
+                for (int candidate = 0; candidate < numCandidates; candidate++)
+                {
+                    int valueIndex = candidates == null
+                                                        ? candidate
+                                                        : candidates.get(candidate);
+
+                    // Check if the value matches the search pattern
+                    if (matcher.reset(table.values.get(valueIndex)).find())
+                    {
+                        // Rank the match
+                        int rank = matcher.matches()
+                                                     ? EXACT_MATCH
+                                                     : (matcher.lookingAt()
+                                                                            ? PREFIX_MATCH
+                                                                            : CONTAINS_MATCH);
+                        IntList cells = table.valueCells.get(valueIndex);
+
+                        // Step through each cell containing the value
+                        for (int cell = 0; cell < cells.size(); cell += 2)
+                        {
+                            int column = cells.get(cell);
+
+                            // Check if the column is one to which the search is constrained (if
+                            // any)
+                            if (columnNames.isEmpty()
+                                || columnNames.contains(table.tableColumns[column]))
+                            {
+                                // Store the matching cell's rank and location
+                                rankedCells.add(new int[] {rank,
+                                                           tableIndex,
+                                                           column,
+                                                           cells.get(cell + 1)});
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        // Sort the matching cells by rank, then by table name, column name, and row
+        Collections.sort(rankedCells, new Comparator<int[]>()
+        {
+            /**************************************************************************************
+             * Compare the ranks and locations of two matching cells
+             *************************************************************************************/
+            @Override
+            public int compare(int[] cell1, int[] cell2)
+            {
+                int result = Integer.compare(cell1[0], cell2[0]);
+
+                // Check if the ranks are the same
+                if (result == 0)
+                {
+                    // Compare the table names
+                    result = index.get(cell1[1]).tableName.compareTo(index.get(cell2[1]).tableName);
+
+                    // Check if the table names are the same
+                    if (result == 0)
+                    {
+                        // Compare the column names
+                        result = index.get(cell1[1]).tableColumns[cell1[2]].compareTo(index.get(cell2[1]).tableColumns[cell2[2]]);
+
+                        // Check if the column names are the same
+                        if (result == 0)
+                        {
+                            // Compare the rows
+                            result = Integer.compare(cell1[3], cell2[3]);
+                        }
+                    }
+                }
+
+                return result;
+            }
+        });
+
+        // Determine the index following the last match to return
+        int endIndex = maximumMatches < 0
+                                          ? rankedCells.size()
+                                          : (int) Math.min((long) startIndex + maximumMatches,
+                                                           rankedCells.size());
+
+        // Step through each match to return
+        for (int matchIndex = Math.max(startIndex, 0); matchIndex < endIndex; matchIndex++)
+        {
+            int[] cell = rankedCells.get(matchIndex);
+            TableIndex table = index.get(cell[1]);
+
+            // Add the match's table name, column name, table description, and row contents to
+            // the list
+            matches.add(new String[] {table.tableName,
+                                      table.tableColumns[cell[2]],
+                                      table.tableDescription,
+                                      table.tableRows[cell[3]]});
+        }
+
+        return matches;
+    }
+
+    /**********************************************************************************************
+     * Get the indices of a table's values that contain every trigram in the literal text required
+     * by the search pattern
+     *
+     * @param table
+     *            search index entry for the table
+     *
+     * @param literals
+     *            list of the literal text sequences required by the search pattern
+     *
+     * @return List of the candidate value indices, in ascending order; null if the pattern doesn't
+     *         require any literal text containing a trigram, in which case every value is a
+     *         candidate
+     *********************************************************************************************/
+    private IntList getCandidateValues(TableIndex table, List<String> literals)
+    {
+        IntList candidates = null;
+        List<IntList> postingsList = new ArrayList<IntList>();
+        boolean isMissing = false;
+
+        // Step through each literal text sequence required by the pattern
+        for (String literal : literals)
+        {
+            // Step through each trigram in the literal text
+            for (int start = 0; start <= literal.length() - TRIGRAM_LENGTH; start++)
+            {
+                // Get the list of values containing the trigram
+                IntList postings = table.trigrams.get(literal.substring(start,
+                                                                        start + TRIGRAM_LENGTH));
+
+                // Check if no value contains the trigram
+                if (postings == null)
+                {
+                    isMissing = true;
+                }
+                // Check if the trigram's list isn't already included
+                else if (!postingsList.contains(postings))
+                {
+                    postingsList.add(postings);
+                }
+            }
+        }
+
+        // Check if a trigram is in none of the values
+        if (isMissing)
+        {
+            // No value can match the pattern
+            candidates = new IntList();
+        }
+        // Check if any trigrams are required
+        else if (!postingsList.isEmpty())
+        {
+            // Sort the trigram lists by size so that the intersection starts with the smallest
+            // list
+            Collections.sort(postingsList, new Comparator<IntList>()
+            {
+                /**********************************************************************************
+                 * Compare the sizes of two trigram lists
+                 *********************************************************************************/
+                @Override
+                public int compare(IntList list1, IntList list2)
+                {
+                    return Integer.compare(list1.size(), list2.size());
+                }
+            });
+
+            candidates = postingsList.get(0);
+
+            // Step through the remaining trigram lists
+            for (int listIndex = 1; listIndex < postingsList.size() && candidates.size() != 0; listIndex++)
+            {
+                IntList postings = postingsList.get(listIndex);
+                IntList common = new IntList();
+                int postingIndex = 0;
+
+                // Step through each candidate value
+                for (int candidate = 0; candidate < candidates.size(); candidate++)
+                {
+                    // Advance through the trigram's list to the candidate value
+                    while (postingIndex < postings.size()
+                           && postings.get(postingIndex) < candidates.get(candidate))
+                    {
+                        postingIndex++;
+                    }
+
+                    // Check if the trigram's list contains the candidate value
+                    if (postingIndex < postings.size()
+                        && postings.get(postingIndex) == candidates.get(candidate))
+                    {
+                        // Keep the candidate value
+                        common.add(candidates.get(candidate));
+                    }
+                }
+
+                candidates = common;
+            }
+        }
+
+        return candidates;
+    }
+
+    /**********************************************************************************************
+     * Get the literal text sequences, each containing at least one trigram, that any text
+     * matching the search pattern must contain. The sequences are extracted only from patterns
+     * consisting of literal characters, wild cards, anchors, and quantifiers (optionally enclosed
+     * in a single non-capturing group); any other construct results in no sequences. Only ASCII
+     * characters are included in the sequences, and these are case folded
+     *
+     * @param regex
+     *            search pattern regular expression
+     *
+     * @return List of the required literal text sequences; an empty list if there are none
+     *********************************************************************************************/
+    private List<String> getRequiredLiterals(String regex)
+    {
+        List<String> literals = new ArrayList<String>();
+        List<String> sequences = new ArrayList<String>();
+        boolean isComplex = false;
+
+        // Check if the pattern is enclosed in a non-capturing group
+        if (regex.startsWith("(?:") && regex.endsWith(")"))
+        {
+            // Remove the group so that the text within can be examined. Any other group in the
+            // text results in no sequences being returned, so the group removed is known to be
+            // the one enclosing the entire pattern
+            regex = regex.substring(3, regex.length() - 1);
+        }
+
+        StringBuilder sequence = new StringBuilder();
+
+        // Step through each character in the pattern
+        for (int index = 0; index < regex.length() && !isComplex; index++)
+        {
+            char character = regex.charAt(index);
+
+            switch (character)
+            {
+                case '\\':
+                    // Check if the escaped character isn't a letter or digit (an escaped letter
+                    // or digit represents a character class, back reference, or other construct)
+                    if (index + 1 < regex.length()
+                        && !Character.isLetterOrDigit(regex.charAt(index + 1)))
+                    {
+                        // Add the escaped character to the sequence
+                        index++;
+                        sequence.append(regex.charAt(index));
+                    }
+                    // The escape isn't for a literal character
+                    else
+                    {
+                        isComplex = true;
+                    }
+
+                    break;
+
+                case '*':
+                case '?':
+                case '+':
+                case '{':
+                    // Check if the sequence contains a character
+                    if (sequence.length() != 0)
+                    {
+                        // The quantifier applies to the preceding character, so the character
+                        // isn't required to be at this position. Remove it from the sequence
+                        sequence.setLength(sequence.length() - 1);
+                    }
+
+                    // End the sequence
+                    sequences.add(sequence.toString());
+                    sequence.setLength(0);
+
+                    // Check if the quantifier is a repetition range
+                    if (character == '{')
+                    {
+                        // Skip the range
+                        int endIndex = regex.indexOf('}', index);
+                        isComplex = endIndex == -1;
+                        index = endIndex;
+                    }
+
+                    break;
+
+                case '.':
+                case '^':
+                case '$':
+                    // End the sequence
+                    sequences.add(sequence.toString());
+                    sequence.setLength(0);
+                    break;
+
+                case '(':
+                case ')':
+                case '[':
+                case '|':
+                    // Groups, character classes, and alternatives aren't examined
+                    isComplex = true;
+                    break;
+
+                default:
+                    // Add the character to the sequence
+                    sequence.append(character);
+                    break;
+            }
+        }
+
+        // Check if the pattern contains only constructs that were examined
+        if (!isComplex)
+        {
+            sequences.add(sequence.toString());
+
+            // Step through each sequence
+            for (String text : sequences)
+            {
+                // Split the case folded sequence into the portions containing only ASCII
+                // characters
+                for (String literal : foldCase(text).split("[^\\x00-\\x7f]+"))
+                {
+                    // Check if the literal text contains a trigram
+                    if (literal.length() >= TRIGRAM_LENGTH)
+                    {
+                        literals.add(literal);
+                    }
+                }
+            }
+        }
+
+        return literals;
+    }
+
+    /**********************************************************************************************
+     * Determine if a table is searched based on the search type(s), using the same criteria as
+     * the search_tables() function
+     *
+     * @param tableName
+     *            table name
+     *
+     * @param selectedTables
+     *            string containing the search type(s) that determine the tables to search
+     *
+     * @return true if the table is searched
+     *********************************************************************************************/
+    private boolean isTableSelected(String tableName, String selectedTables)
+    {
+        return (isSearchTypeSelected(SearchType.ALL, selectedTables))
+               || (isSearchTypeSelected(SearchType.PROTO, selectedTables)
+                   && !tableName.matches("^" + INTERNAL_TABLE_PREFIX + ".*$"))
+               || (isSearchTypeSelected(SearchType.DATA, selectedTables)
+                   && !tableName.matches("^"
+                                         + INTERNAL_TABLE_PREFIX
+                                         + "((?!"
+                                         + InternalTable.VALUES.getTableName().replaceFirst("^"
+                                                                                            + INTERNAL_TABLE_PREFIX,
+                                                                                            "")
+                                         + ").)*$"))
+               || (isSearchTypeSelected(SearchType.INPUT, selectedTables)
+                   && (tableName.toLowerCase().startsWith(InternalTable.TABLE_TYPES.getTableName().toLowerCase())
+                       || tableName.toLowerCase().startsWith(InternalTable.FIELDS.getTableName().toLowerCase())))
+               || (isSearchTypeSelected(SearchType.SCRIPT, selectedTables)
+                   && tableName.startsWith(InternalTable.SCRIPT.getTableName()));
+    }
+
+    /**********************************************************************************************
+     * Determine if a search type is included in the selected search type(s)
+     *
+     * @param searchType
+     *            search type
+     *
+     * @param selectedTables
+     *            string containing the search type(s) that determine the tables to search
+     *
+     * @return true if the search type is included in the selected search type(s), ignoring case
+     *********************************************************************************************/
+    private boolean isSearchTypeSelected(SearchType searchType, String selectedTables)
+    {
+        return selectedTables.toLowerCase().contains(searchType.toString().toLowerCase());
+    }
+
+    /**********************************************************************************************
+     * Enclose a table or column name in double quotes so that it's used as is in a database
+     * command
+     *
+     * @param identifier
+     *            table or column name
+     *
+     * @return Quoted table or column name
+     *********************************************************************************************/
+    private static String quoteIdentifier(String identifier)
+    {
+        return "\"" + identifier.replaceAll("\"", "\"\"") + "\"";
+    }
+
+    /**********************************************************************************************
+     * Convert the text as it appears in a PostgreSQL escape string constant (E'...') to the text
+     * the constant represents
+     *
+     * @param text
+     *            text as it appears in the string constant
+     *
+     * @return Text represented by the string constant
+     *********************************************************************************************/
+    private static String unescapeStringConstant(String text)
+    {
+        StringBuilder result = new StringBuilder(text.length());
+
+        // Step through each character in the text
+        for (int index = 0; index < text.length(); index++)
+        {
+            char character = text.charAt(index);
+
+            // Check if this is an escape sequence
+            if (character == '\\' && index + 1 < text.length())
+            {
+                index++;
+                character = text.charAt(index);
+
+                switch (character)
+                {
+                    case 'b':
+                        result.append('\b');
+                        break;
+
+                    case 'f':
+                        result.append('\f');
+                        break;
+
+                    case 'n':
+                        result.append('\n');
+                        break;
+
+                    case 'r':
+                        result.append('\r');
+                        break;
+
+                    case 't':
+                        result.append('\t');
+                        break;
+
+                    case 'x':
+                        // Get the hexadecimal value (up to two digits) following the escape
+                        int hexEnd = index + 1;
+
+                        while (hexEnd < text.length()
+                               && hexEnd < index + 3
+                               && Character.digit(text.charAt(hexEnd), 16) != -1)
+                        {
+                            hexEnd++;
+                        }
+
+                        // Check if no hexadecimal digits follow the escape
+                        if (hexEnd == index + 1)
+                        {
+                            // The escaped character represents itself
+                            result.append(character);
+                        }
+                        // The escape is followed by a hexadecimal value
+                        else
+                        {
+                            // Add the character with the hexadecimal value
+                            result.append((char) Integer.parseInt(text.substring(index + 1, hexEnd),
+                                                                  16));
+                            index = hexEnd - 1;
+                        }
+
+                        break;
+
+                    default:
+                        // Get the octal value (up to three digits) starting at the escaped
+                        // character
+                        int octalEnd = index;
+
+                        while (octalEnd < text.length()
+                               && octalEnd < index + 3
+                               && Character.digit(text.charAt(octalEnd), 8) != -1)
+                        {
+                            octalEnd++;
+                        }
+
+                        // Check if the escaped character isn't an octal digit
+                        if (octalEnd == index)
+                        {
+                            // The escaped character represents itself
+                            result.append(character);
+                        }
+                        // The escape is followed by an octal value
+                        else
+                        {
+                            // Add the character with the octal value
+                            result.append((char) Integer.parseInt(text.substring(index, octalEnd),
+                                                                  8));
+                            index = octalEnd - 1;
+                        }
+
+                        break;
+                }
+            }
+            // Check if this is a doubled single quote
+            else if (character == '\'' && text.startsWith("''", index))
+            {
+                // The doubled quote represents a single quote
+                result.append(character);
+                index++;
+            }
+            // The character represents itself
+            else
+            {
+                result.append(character);
+            }
+        }
+
+        return result.toString();
+    }
+
+    /**********************************************************************************************
+     * Fold the case of each character in the text. Characters that match ignoring case fold to
+     * the same character
+     *
+     * @param text
+     *            text to fold
+     *
+     * @return Case folded text, with the same length as the input text
+     *********************************************************************************************/
+    private static String foldCase(String text)
+    {
+        char[] characters = text.toCharArray();
+
+        // Step through each character in the text
+        for (int index = 0; index < characters.length; index++)
+        {
+            // Fold the character's case
+            characters[index] = Character.toLowerCase(Character.toUpperCase(characters[index]));
+        }
+
+        return new String(characters);
+    }
+
+    /**********************************************************************************************
+     * Determine if the text contains only ASCII characters
+     *
+     * @param text
+     *            text to check
+     *
+     * @return true if the text contains only ASCII characters
+     *********************************************************************************************/
+    private static boolean isAsciiText(String text)
+    {
+        boolean isAscii = true;
+
+        // Step through each character in the text
+        for (int index = 0; index < text.length() && isAscii; index++)
+        {
+            isAscii = text.charAt(index) < 0x80;
+        }
+
+        return isAscii;
+    }
+}
@@ -32,7 +32,9 @@ import java.awt.event.MouseEvent;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -5455,11 +5457,20 @@ public class CcddTableEditorHandler extends CcddInputFieldPanelHandler
         // Create storage for the array used to indicate if a row has been modified
         boolean[] rowModified = new boolean[committedTableInfo.getData().length];
 
+        // Create a map of the committed rows, keyed by primary key value, so that each table row's
+        // committed counterpart can be located without searching the committed data. If more
+        // than one committed row has the same primary key the first is used
+        Map<Object, Integer> committedRows = new HashMap<Object, Integer>(numCommitted * 2);
+
+        // Step through each row in the committed version of the table data
+        for (int comRow = 0; comRow < numCommitted; comRow++)
+        {
+            committedRows.putIfAbsent(committedTableInfo.getData()[comRow][primaryKeyIndex], comRow);
+        }
+
         // Step through each row in the table
         for (int tblRow = 0; tblRow < tableData.length; tblRow++)
         {
-            boolean matchFound = false;
-
             // Check if the table is open in a table editor, the variable path, variable name, and
             // data type columns are present, and the path isn't manually set
             if (editorDialog != null
@@ -5476,43 +5487,41 @@ public class CcddTableEditorHandler extends CcddInputFieldPanelHandler
                 tableData[tblRow][variablePathIndex] = "";
             }
 
-            // Step through each row in the committed version of the table data
-            for (int comRow = 0; comRow < numCommitted && !matchFound; comRow++)
+            // Get the index of the committed row with the same primary key value
+            Integer comRow = committedRows.get(tableData[tblRow][primaryKeyIndex]);
+
+            // Set the flag indicating if this row has a match
+            boolean matchFound = comRow != null;
+
+            // Check if a committed row has the same primary key value
+            if (matchFound)
             {
-                // Check if the primary key values match for these rows
-                if (tableData[tblRow][primaryKeyIndex].equals(committedTableInfo.getData()[comRow][primaryKeyIndex]))
-                {
-                    // Set the flag indicating this row has a match
-                    matchFound = true;
+                // Copy the current row's primary key and row index into the empty comparison row
+                emptyRow[primaryKeyIndex] = tableData[tblRow][primaryKeyIndex];
+                emptyRow[rowIndex] = tableData[tblRow][rowIndex];
 
-                    // Copy the current row's primary key and row index into the empty comparison
-                    // row
-                    emptyRow[primaryKeyIndex] = tableData[tblRow][primaryKeyIndex];
-                    emptyRow[rowIndex] = tableData[tblRow][rowIndex];
+                // Check if the row is not now empty (if empty then the change is processed as a
+                // row deletion instead of a modification)
+                if (!Arrays.equals(tableData[tblRow], emptyRow))
+                {
+                    // Set the flag indicating this row has a modification
+                    rowModified[comRow] = true;
 
-                    // Check if the row is not now empty (if empty then the change is processed as
-                    // a row deletion instead of a modification)
-                    if (!Arrays.equals(tableData[tblRow], emptyRow))
+                    // Step through each column in the row
+                    for (int column = 0; column < tableData[tblRow].length; column++)
                     {
-                        // Set the flag indicating this row has a modification
-                        rowModified[comRow] = true;
-
-                        // Step through each column in the row
-                        for (int column = 0; column < tableData[tblRow].length; column++)
+                        // Check if the current and committed values don't match
+                        if (!tableData[tblRow][column].equals(committedTableInfo.getData()[comRow][column]))
                         {
-                            // Check if the current and committed values don't match
-                            if (!tableData[tblRow][column].equals(committedTableInfo.getData()[comRow][column]))
-                            {
-                                // Store the row modification information and stop searching
-                                modifications.add(new TableModification(tableData[tblRow],
-                                                                        committedTableInfo.getData()[comRow],
-                                                                        variableNameIndex,
-                                                                        dataTypeIndex,
-                                                                        arraySizeIndex,
-                                                                        bitLengthIndex,
-                                                                        rateIndex));
-                                break;
-                            }
+                            // Store the row modification information and stop searching
+                            modifications.add(new TableModification(tableData[tblRow],
+                                                                    committedTableInfo.getData()[comRow],
+                                                                    variableNameIndex,
+                                                                    dataTypeIndex,
+                                                                    arraySizeIndex,
+                                                                    bitLengthIndex,
+                                                                    rateIndex));
+                            break;
                         }
                     }
                 }
@@ -886,8 +886,9 @@ public class CcddTableManagerDialog extends CcddDialogHandler
             }
         };
 
-        // Check if the project database contains any tables
-        if (tableTree.getRootNode().getChildCount() != 0)
+        // Check if the project database contains any tables. The tree model's root is used so that
+        // the nodes not yet created aren't built
+        if (tableTree.getModel().getChildCount(tableTree.getModel().getRoot()) != 0)
         {
             // Create panels to hold the components of the dialog
             allPnl = new JPanel(new GridBagLayout());
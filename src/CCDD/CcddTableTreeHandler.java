@@ -36,9 +36,17 @@ import java.awt.Insets;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.MouseEvent;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javax.swing.BorderFactory;
 import javax.swing.JCheckBox;
@@ -54,8 +62,10 @@ import javax.swing.event.TreeExpansionEvent;
 import javax.swing.event.TreeExpansionListener;
 import javax.swing.event.TreeSelectionEvent;
 import javax.swing.event.TreeSelectionListener;
+import javax.swing.event.TreeWillExpandListener;
 import javax.swing.tree.DefaultMutableTreeNode;
 import javax.swing.tree.DefaultTreeModel;
+import javax.swing.tree.ExpandVetoException;
 import javax.swing.tree.TreeNode;
 import javax.swing.tree.TreePath;
 
@@ -167,6 +177,25 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
 
     private final int GROUP_HEADER_LEVEL = 2;
 
+    // Index of the tree's nodes, keyed by node path (each list contains the nodes with that path
+    // in preorder) and by node name (the first node in preorder with that name). The index is
+    // built when a node is next searched for after the tree changes; null if the index must be
+    // rebuilt
+    private Map<String, List<ToolTipTreeNode>> nodePathIndex;
+    private Map<String, ToolTipTreeNode> nodeNameIndex;
+
+    // Table members for the table nodes whose child nodes haven't been created, keyed by node. A
+    // node's child nodes are created when the node is expanded or a path through it is resolved;
+    // null if the tree's nodes are all created when the tree is built
+    private Map<ToolTipTreeNode, TableMembers> pendingNodes;
+
+    // Table members, keyed by table name
+    private Map<String, TableMembers> tableMembersByName;
+
+    // Flags indicating if a structure table has descendant variables, keyed by table name. Only
+    // used if the tree contains primitive variables and isn't filtered by data rate
+    private Map<String, Boolean> variableTables;
+
     /**********************************************************************************************
      * Table tree handler class constructor
      *
@@ -265,6 +294,28 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
 
         removeNodes = new ArrayList<ToolTipTreeNode>();
 
+        // Add a listener for table tree expansion events
+        addTreeWillExpandListener(new TreeWillExpandListener()
+        {
+            /**************************************************************************************
+             * Create the child nodes of the node about to be expanded if these haven't been
+             * created yet
+             *************************************************************************************/
+            @Override
+            public void treeWillExpand(TreeExpansionEvent tee) throws ExpandVetoException
+            {
+                loadChildNodes((TreeNode) tee.getPath().getLastPathComponent());
+            }
+
+            /**************************************************************************************
+             * Handle a table tree collapse event. Nothing is done in this case
+             *************************************************************************************/
+            @Override
+            public void treeWillCollapse(TreeExpansionEvent tee) throws ExpandVetoException
+            {
+            }
+        });
+
         // Get the table information from the database and use it to build the table tree
         buildTableTreeFromDatabase(parent);
     }
@@ -501,7 +552,9 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
     }
 
     /**********************************************************************************************
-     * Get the table tree root node
+     * Get the table tree root node. If the tree's child nodes are created on demand then nodes
+     * below the top-level tables may not exist yet; use getPreorderEnumeration() to step through
+     * the tree's nodes so that these are created as they're reached
      *
      * @return Table tree root node
      *********************************************************************************************/
@@ -510,6 +563,60 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
         return root;
     }
 
+    /**********************************************************************************************
+     * Get an enumeration that steps through the specified node and its descendants in preorder.
+     * The child nodes of a node that haven't been created yet are created when the enumeration
+     * reaches the node, so only the portion of the tree actually stepped through is built
+     *
+     * @param startNode
+     *            node from which to begin
+     *
+     * @return Enumeration of the start node and its descendants, in preorder
+     *********************************************************************************************/
+    protected Enumeration<TreeNode> getPreorderEnumeration(final TreeNode startNode)
+    {
+        return new Enumeration<TreeNode>()
+        {
+            // Nodes awaiting return by the enumeration, with the next node at the top
+            private final Deque<TreeNode> remaining = new ArrayDeque<TreeNode>(Collections.singleton(startNode));
+
+            /**************************************************************************************
+             * Check if any nodes remain in the enumeration
+             *
+             * @return true if any nodes remain
+             *************************************************************************************/
+            @Override
+            public boolean hasMoreElements()
+            {
+                return !remaining.isEmpty();
+            }
+
+            /**************************************************************************************
+             * Get the next node in the enumeration, creating its child nodes if these haven't
+             * been created yet
+             *
+             * @return Next node in preorder
+             *************************************************************************************/
+            @Override
+            public TreeNode nextElement()
+            {
+                TreeNode node = remaining.pop();
+
+                // Create the node's child nodes if these haven't been created yet
+                loadChildNodes(node);
+
+                // Step through the node's children in reverse order so that the first child is
+                // the next node returned
+                for (int index = node.getChildCount() - 1; index >= 0; index--)
+                {
+                    remaining.push(node.getChildAt(index));
+                }
+
+                return node;
+            }
+        };
+    }
+
     /**********************************************************************************************
      * Get the status of the group filter
      *
@@ -554,6 +661,10 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
     {
         this.excludedVariables = excludedVariables;
 
+        // Create any child nodes that haven't been created yet. The enable state of a node
+        // depends on the exclusion state of all of its descendants
+        loadAllChildNodes(root);
+
         // Set the node enable state (by setting the node name color) based on whether or not the
         // name is in the exclusion list
         setNodeEnableByExcludeList();
@@ -682,10 +793,39 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
         // inhibit actions involving tree selection value changes during the build process
         isBuilding = true;
 
+        // Discard the node index for the previous tree
+        invalidateNodeIndex();
+
+        // Check if the tree isn't filtered by group or table type and that no variables are
+        // excluded. The child nodes of the table nodes in such a tree are created when the node
+        // is expanded or a path through it is resolved; otherwise the node's descendants are
+        // needed to determine the validity and enable state of the node, so all of the nodes are
+        // created when the tree is built
+        pendingNodes = !isByGroup
+                       && !isByType
+                       && (excludedVariables == null || excludedVariables.isEmpty())
+                                                                                     ? new HashMap<ToolTipTreeNode, TableMembers>()
+                                                                                     : null;
+
+        // Store the table members by table name
+        storeTableMembers(tableMembers);
+
         // Create the tree's root node using the database name and hide the root node (project
         // database name). Since the root node isn't visible there is no need for a description
         root = new ToolTipTreeNode(dbControl.getDatabaseName(), null);
-        setModel(new DefaultTreeModel(root));
+        setModel(new DefaultTreeModel(root)
+        {
+            /**************************************************************************************
+             * Override the leaf check so that a node with child nodes that haven't been created
+             * yet can be expanded
+             *************************************************************************************/
+            @Override
+            public boolean isLeaf(Object node)
+            {
+                return super.isLeaf(node)
+                       && (pendingNodes == null || !pendingNodes.containsKey(node));
+            }
+        });
         setRootVisible(false);
 
         // Set the flag to indicate if all nodes, only the prototype node, or only the instance
@@ -902,6 +1042,26 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
         isBuilding = false;
     }
 
+    /**********************************************************************************************
+     * Store the specified table members and index them by table name
+     *
+     * @param members
+     *            list of table members
+     *********************************************************************************************/
+    private void storeTableMembers(List<TableMembers> members)
+    {
+        tableMembers = members;
+        tableMembersByName = new HashMap<String, TableMembers>(members.size() * 2);
+        variableTables = new HashMap<String, Boolean>();
+
+        // Step through each table
+        for (TableMembers member : members)
+        {
+            // Store the table's members using the table name as the key
+            tableMembersByName.put(member.getTableName(), member);
+        }
+    }
+
     /**********************************************************************************************
      * Add the pseudo-group containing all tables to the specified prototype and instance nodes
      *
@@ -1333,7 +1493,9 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
     /**********************************************************************************************
      * Build the table tree nodes. This is a recursive method. In order to prevent an infinite
      * loop, a check is made for a child node that exists in its own path; if found the recursion
-     * is terminated for that node
+     * is terminated for that node. If the tree's child nodes are created on demand then the child
+     * node is added without its descendants, which are created when the node is expanded or a
+     * path through it is resolved
      *
      * @param thisMember
      *            TableMember class
@@ -1371,112 +1533,407 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
             // Add the child node to its parent
             parentNode.add(childNode);
 
-            // Get the parent table and variable path for this variable
-            String fullTablePath = getFullVariablePath(childNode.getPath());
-
-            // Step through each table/variable referenced by the table member
-            for (int memIndex = 0; memIndex < thisMember.getDataTypes().size(); memIndex++)
+            // Check if the child nodes are created on demand
+            if (pendingNodes != null)
             {
-                // Check if this data type is a primitive
-                if (dataTypeHandler.isPrimitive(thisMember.getDataTypes().get(memIndex)))
+                // Check if the table has any members that appear in the tree
+                if (hasChildNodes(thisMember,
+                                  getFullVariablePath(childNode.getPath()),
+                                  new HashSet<String>()))
                 {
-                    String tablePath = fullTablePath;
+                    // Store the table members so that the node's child nodes can be created when
+                    // needed
+                    pendingNodes.put(childNode, thisMember);
+                }
+                // Check if primitive variables are included in the tree (the node is only
+                // displayed if it has variables)
+                else if (isPrimitiveTree())
+                {
+                    // Remove the node
+                    parentNode.remove(childNode);
+                }
+            }
+            // All of the nodes are created when the tree is built
+            else
+            {
+                // Build the nodes for the table's members
+                buildMemberNodes(thisMember, childNode);
 
-                    // Set to true if the variable has a path (i.e., this is not a prototype's
-                    // variable)
-                    boolean isChildVariable = tablePath.contains(",");
+                // Check if primitive variables are included in the tree and this node has no
+                // children (variables)
+                if (isPrimitiveTree() && childNode.getChildCount() == 0)
+                {
+                    // Remove the node
+                    parentNode.remove(childNode);
+                }
+            }
+        }
+    }
 
-                    // Check if the variable has a path
-                    if (isChildVariable)
-                    {
-                        // Add the data type and variable name to the variable path
-                        tablePath += ","
-                                     + thisMember.getDataTypes().get(memIndex)
-                                     + "."
-                                     + thisMember.getVariableNames().get(memIndex);
-                    }
+    /**********************************************************************************************
+     * Build the nodes for the members of the specified table and add them to the table's node
+     *
+     * @param thisMember
+     *            TableMember class
+     *
+     * @param tableNode
+     *            node for the table
+     *********************************************************************************************/
+    private void buildMemberNodes(TableMembers thisMember, ToolTipTreeNode tableNode)
+    {
+        // Get the parent table and variable path for this variable
+        String fullTablePath = getFullVariablePath(tableNode.getPath());
 
-                    String rate = null;
+        // Step through each table/variable referenced by the table member
+        for (int memIndex = 0; memIndex < thisMember.getDataTypes().size(); memIndex++)
+        {
+            // Check if this data type is a primitive
+            if (dataTypeHandler.isPrimitive(thisMember.getDataTypes().get(memIndex)))
+            {
+                // Get the variable path for this variable
+                String tablePath = getMemberVariablePath(thisMember, memIndex, fullTablePath);
 
-                    // Check if a rate filter is in effect
-                    if (rateFilter != null)
+                // Check if no rate filter is in effect or, if not, that the rate matches the
+                // specified rate filter
+                if (isRateMatch(thisMember, memIndex, tablePath))
+                {
+                    // Get the full variable name in the form data_type.variable_name[:bit_length]
+                    String variable = thisMember.getFullVariableNameWithBits(memIndex);
+
+                    // Check that no exclusion list is supplied, or if one is in effect that the
+                    // variable, using its full path and name, is not in the exclusion list
+                    if (excludedVariables == null || !excludedVariables.contains(tablePath))
                     {
-                        // Get the rate value for this variable. Use the prototype's value if the
-                        // variable doesn't have a specific rate assigned
-                        int index = rateValues.indexOf(tablePath);
-                        rate = isChildVariable
-                               && index != -1
-                                              ? rateValues.get(index)[2]
-                                              : thisMember.getRates().get(memIndex)[rateIndex];
+                        // Add the primitive as a node to this child node
+                        tableNode.add(new ToolTipTreeNode(variable, null));
                     }
-
-                    // Check if no rate filter is in effect or, if not, that the rate matches the
-                    // specified rate filter
-                    if (rateFilter == null || rate.equals(rateFilter))
+                    // The variable is in the exclusion list
+                    else
                     {
-                        // Get the full variable name in the form
-                        // data_type.variable_name[:bit_length]
-                        String variable = thisMember.getFullVariableNameWithBits(memIndex);
-
-                        // Check that no exclusion list is supplied, or if one is in effect that
-                        // the variable, using its full path and name, is not in the exclusion list
-                        if (excludedVariables == null || !excludedVariables.contains(tablePath))
-                        {
-                            // Add the primitive as a node to this child node
-                            childNode.add(new ToolTipTreeNode(variable, null));
-                        }
-                        // The variable is in the exclusion list
-                        else
-                        {
-                            // Add the variable with the node text grayed out
-                            childNode.add(new ToolTipTreeNode(DISABLED_TEXT_COLOR + variable, null));
-                        }
+                        // Add the variable with the node text grayed out
+                        tableNode.add(new ToolTipTreeNode(DISABLED_TEXT_COLOR + variable, null));
                     }
                 }
+            }
+            // Data type is not a primitive, it's a structure
+            else
+            {
+                // Get the members of the table referenced by the data type
+                TableMembers member = tableMembersByName.get(thisMember.getDataTypes().get(memIndex));
+
+                // Check if the data type references a table in the tree
+                if (member != null)
+                {
+                    // Build the node name from the prototype and variable names
+                    String nodeName = thisMember.getDataTypes().get(memIndex)
+                                      + "."
+                                      + thisMember.getVariableNames().get(memIndex);
+
+                    // Get the variable name path to this node
+                    String tablePath = fullTablePath + "," + nodeName;
+
+                    // Add this table to the current table's node. The node name is in the format
+                    // 'dataType.variableName<[arrayIndex]>'. If a specific description exists for
+                    // the table then use it for the tool tip text; otherwise use the prototype's
+                    // description
+                    buildNodes(member,
+                               tableNode,
+                               new ToolTipTreeNode(nodeName,
+                                                   getDescriptions
+                                                                   ? getTableDescription(tablePath,
+                                                                                         thisMember.getDataTypes()
+                                                                                                   .get(memIndex))
+                                                                   : null));
+                }
+            }
+        }
+    }
+
+    /**********************************************************************************************
+     * Check if the specified table has any members for which a node is created. If primitive
+     * variables are included in the tree then a structure member only has a node if it has a
+     * descendant variable that meets the rate filter criteria (if any). This is a recursive
+     * method
+     *
+     * @param thisMember
+     *            TableMember class
+     *
+     * @param fullTablePath
+     *            parent table and variable path for the table
+     *
+     * @param ancestorTables
+     *            names of the tables in the path to this table; used to prevent an infinite loop
+     *            if a table contains a recursive reference
+     *
+     * @return true if a node is created for at least one of the table's members
+     *********************************************************************************************/
+    private boolean hasChildNodes(TableMembers thisMember,
+                                  String fullTablePath,
+                                  Set<String> ancestorTables)
+    {
+        boolean hasChild = false;
+
+        // Get the stored result for this table if the result doesn't depend on the table's path
+        Boolean isVariableTable = isPrimitiveTree() && rateFilter == null
+                                                                          ? variableTables.get(thisMember.getTableName())
+                                                                          : null;
+
+        // Check if the result for the table is stored
+        if (isVariableTable != null)
+        {
+            hasChild = isVariableTable;
+        }
+        // The result must be determined from the table's members
+        else
+        {
+            ancestorTables.add(thisMember.getTableName());
+
+            // Step through each table/variable referenced by the table member, stopping if a
+            // member with a node is found
+            for (int memIndex = 0; memIndex < thisMember.getDataTypes().size() && !hasChild; memIndex++)
+            {
+                // Check if this data type is a primitive
+                if (dataTypeHandler.isPrimitive(thisMember.getDataTypes().get(memIndex)))
+                {
+                    // Set the flag if the variable meets the rate filter criteria, if any
+                    hasChild = isRateMatch(thisMember,
+                                           memIndex,
+                                           getMemberVariablePath(thisMember,
+                                                                 memIndex,
+                                                                 fullTablePath));
+                }
                 // Data type is not a primitive, it's a structure
                 else
                 {
-                    // Step through the other tables
-                    for (TableMembers member : tableMembers)
+                    // Get the members of the table referenced by the data type
+                    TableMembers member = tableMembersByName.get(thisMember.getDataTypes().get(memIndex));
+
+                    // Check if the data type references a table in the tree that isn't a
+                    // recursive reference
+                    if (member != null && !ancestorTables.contains(member.getTableName()))
                     {
-                        // Check if the table is a member of the target table
-                        if (thisMember.getDataTypes().get(memIndex).equals(member.getTableName()))
-                        {
-                            // Build the node name from the prototype and variable names
-                            String nodeName = thisMember.getDataTypes().get(memIndex)
-                                              + "."
-                                              + thisMember.getVariableNames().get(memIndex);
-
-                            // Get the variable name path to this node
-                            String tablePath = fullTablePath + "," + nodeName;
-
-                            // Add this table to the current table's node. The node name is in the
-                            // format 'dataType.variableName<[arrayIndex]>'. If a specific
-                            // description exists for the table then use it for the tool tip text;
-                            // otherwise use the prototype's description
-                            buildNodes(member,
-                                       childNode,
-                                       new ToolTipTreeNode(nodeName,
-                                                           getDescriptions
-                                                                           ? getTableDescription(tablePath,
-                                                                                                 thisMember.getDataTypes()
-                                                                                                           .get(memIndex))
-                                                                           : null));
-                        }
+                        // Set the flag if primitive variables aren't included in the tree or if
+                        // the structure has a variable with a node
+                        hasChild = !isPrimitiveTree()
+                                   || hasChildNodes(member,
+                                                    fullTablePath
+                                                                 + ","
+                                                                 + thisMember.getDataTypes().get(memIndex)
+                                                                 + "."
+                                                                 + thisMember.getVariableNames().get(memIndex),
+                                                    ancestorTables);
+                    }
+                }
+            }
+
+            ancestorTables.remove(thisMember.getTableName());
+
+            // Check if the result doesn't depend on the table's path
+            if (isPrimitiveTree() && rateFilter == null)
+            {
+                // Store the result for the table
+                variableTables.put(thisMember.getTableName(), hasChild);
+            }
+        }
+
+        return hasChild;
+    }
+
+    /**********************************************************************************************
+     * Get the variable path for the specified primitive variable member of a table
+     *
+     * @param thisMember
+     *            TableMember class
+     *
+     * @param memIndex
+     *            index of the variable in the table's members
+     *
+     * @param fullTablePath
+     *            parent table and variable path for the table
+     *
+     * @return The variable path; this is the table's path if the table is a root table
+     *********************************************************************************************/
+    private String getMemberVariablePath(TableMembers thisMember,
+                                         int memIndex,
+                                         String fullTablePath)
+    {
+        String tablePath = fullTablePath;
+
+        // Check if the variable has a path (i.e., this is not a prototype's variable)
+        if (tablePath.contains(","))
+        {
+            // Add the data type and variable name to the variable path
+            tablePath += ","
+                         + thisMember.getDataTypes().get(memIndex)
+                         + "."
+                         + thisMember.getVariableNames().get(memIndex);
+        }
+
+        return tablePath;
+    }
+
+    /**********************************************************************************************
+     * Check if the specified primitive variable member of a table meets the rate filter criteria
+     *
+     * @param thisMember
+     *            TableMember class
+     *
+     * @param memIndex
+     *            index of the variable in the table's members
+     *
+     * @param tablePath
+     *            variable path
+     *
+     * @return true if no rate filter is in effect or if the variable's rate matches the rate
+     *         filter
+     *********************************************************************************************/
+    private boolean isRateMatch(TableMembers thisMember, int memIndex, String tablePath)
+    {
+        String rate = null;
+
+        // Check if a rate filter is in effect
+        if (rateFilter != null)
+        {
+            // Get the rate value for this variable. Use the prototype's value if the variable
+            // doesn't have a specific rate assigned
+            int index = rateValues.indexOf(tablePath);
+            rate = tablePath.contains(",")
+                   && index != -1
+                                  ? rateValues.get(index)[2]
+                                  : thisMember.getRates().get(memIndex)[rateIndex];
+        }
+
+        return rateFilter == null || rate.equals(rateFilter);
+    }
+
+    /**********************************************************************************************
+     * Check if primitive variables are included in the tree. A structure node in such a tree is
+     * only displayed if it has a descendant variable
+     *
+     * @return true if primitive variables are included in the tree
+     *********************************************************************************************/
+    private boolean isPrimitiveTree()
+    {
+        return treeType == STRUCTURES_WITH_PRIMITIVES
+               || treeType == INSTANCE_STRUCTURES_WITH_PRIMITIVES
+               || treeType == INSTANCE_STRUCTURES_WITH_PRIMITIVES_AND_RATES;
+    }
+
+    /**********************************************************************************************
+     * Create the child nodes of the specified node if these haven't been created yet. This
+     * replaces the placeholder method in CcddCommonTreeHandler
+     *
+     * @param node
+     *            node for which to create the child nodes
+     *********************************************************************************************/
+    @Override
+    protected void loadChildNodes(TreeNode node)
+    {
+        // Check if the child nodes are created on demand
+        if (pendingNodes != null)
+        {
+            // Get the members of the table represented by the node. The node is no longer pending
+            // once its child nodes are created
+            TableMembers member = pendingNodes.remove(node);
+
+            // Check if the node's child nodes haven't been created
+            if (member != null)
+            {
+                ToolTipTreeNode tableNode = (ToolTipTreeNode) node;
+                recursionTable = null;
+
+                // Build the nodes for the table's members
+                buildMemberNodes(member, tableNode);
+
+                // Check if the node index exists
+                if (nodePathIndex != null)
+                {
+                    // Step through each of the new child nodes
+                    for (Enumeration<?> element = tableNode.children(); element.hasMoreElements();)
+                    {
+                        // Add the child node to the index
+                        addNodeToIndex((ToolTipTreeNode) element.nextElement());
                     }
                 }
+
+                // Check if a recursive reference was detected and that warning dialogs aren't
+                // suppressed
+                if (recursionTable != null && !isSilent)
+                {
+                    // Inform the user that the table has a recursive reference
+                    new CcddDialogHandler().showMessageDialog(this,
+                                                              "<html><b>Table '</b>"
+                                                                    + removeExtraText(tableNode.getPath()[getHeaderNodeLevel()].toString())
+                                                                    + "<b>' contains a recursive reference to '</b>"
+                                                                    + recursionTable
+                                                                    + "<b>'",
+                                                              "Table Reference",
+                                                              JOptionPane.WARNING_MESSAGE,
+                                                              DialogOption.OK_OPTION);
+                }
             }
+        }
+    }
 
-            // Check if primitive variables are included in the tree and this node has no children
-            // (variables)
-            if ((treeType == STRUCTURES_WITH_PRIMITIVES
-                 || treeType == INSTANCE_STRUCTURES_WITH_PRIMITIVES
-                 || treeType == INSTANCE_STRUCTURES_WITH_PRIMITIVES_AND_RATES)
-                && childNode.getChildCount() == 0)
+    /**********************************************************************************************
+     * Create the child nodes that haven't been created yet for the specified node and all of its
+     * descendants. This is a recursive method
+     *
+     * @param node
+     *            node for which to create the descendant nodes
+     *********************************************************************************************/
+    private void loadAllChildNodes(TreeNode node)
+    {
+        // Check if any node's child nodes haven't been created
+        if (pendingNodes != null && !pendingNodes.isEmpty())
+        {
+            // Create the node's child nodes if these haven't been created yet
+            loadChildNodes(node);
+
+            // Step through each of the node's child nodes
+            for (int index = 0; index < node.getChildCount(); index++)
+            {
+                // Create the child node's descendants
+                loadAllChildNodes(node.getChildAt(index));
+            }
+        }
+    }
+
+    /**********************************************************************************************
+     * Create the child nodes that haven't been created yet for the nodes in the specified path,
+     * so that the node for the path exists in the tree (if the path is valid)
+     *
+     * @param nodePath
+     *            path of the node, in the form rootTable,tableName.variableName(,...)
+     *********************************************************************************************/
+    private void loadNodePath(String nodePath)
+    {
+        boolean isFound = true;
+
+        // Find the end of the root table in the path
+        int pathSeparator = nodePath.indexOf(",");
+
+        // Step through each ancestor in the path while the ancestor's node exists
+        while (pathSeparator != -1 && isFound)
+        {
+            // Get the nodes for the ancestor path
+            List<ToolTipTreeNode> nodes = nodePathIndex.get(nodePath.substring(0, pathSeparator));
+            isFound = nodes != null;
+
+            // Check if a node exists for the ancestor path
+            if (isFound)
             {
-                // Remove the node
-                parentNode.remove(childNode);
+                // Step through each node with the ancestor path. A copy of the list is used since
+                // creating the child nodes updates the node index
+                for (ToolTipTreeNode node : new ArrayList<ToolTipTreeNode>(nodes))
+                {
+                    // Create the node's child nodes if these haven't been created yet
+                    loadChildNodes(node);
+                }
             }
+
+            // Find the end of the next ancestor in the path
+            pathSeparator = nodePath.indexOf(",", pathSeparator + 1);
         }
     }
 
@@ -1618,6 +2075,9 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
         // Initialize the path list
         tablePathList = new ArrayList<Object[]>();
 
+        // Create any of the start node's descendants that haven't been created yet
+        loadAllChildNodes(startNode);
+
         // Step through each element and child of this node
         for (Enumeration<?> element = startNode.preorderEnumeration(); element.hasMoreElements();)
         {
@@ -1653,7 +2113,10 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
     protected List<String> pruneTreeToSearchCriteria(String searchText)
     {
         List<String> variableList = new ArrayList<String>();
-        List<ToolTipTreeNode> removeList = new ArrayList<ToolTipTreeNode>();
+        Set<ToolTipTreeNode> removeList = new LinkedHashSet<ToolTipTreeNode>();
+
+        // Create any nodes that haven't been created yet so that all of the nodes are searched
+        loadAllChildNodes(root);
 
         // Step through each element and child of the root node
         for (Enumeration<?> element = root.preorderEnumeration(); element.hasMoreElements();)
@@ -1673,14 +2136,10 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
 
                 do
                 {
-                    // Check if the list of nodes to removes contains this node (which is either
-                    // the node with a match or one of its ancestors)
-                    if (removeList.contains(node))
-                    {
-                        // Remove the node from the list so that it isn't removed from the tree
-                        // later
-                        removeList.remove(node);
-                    }
+                    // Remove the node (which is either the node with a match or one of its
+                    // ancestors) from the list of nodes to remove, if present, so that it isn't
+                    // removed from the tree later
+                    removeList.remove(node);
 
                     // Get the parent node for this node
                     node = (ToolTipTreeNode) node.getParent();
@@ -1705,6 +2164,9 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
             node.removeFromParent();
         }
 
+        // Discard the node index since nodes were removed
+        invalidateNodeIndex();
+
         // Force the root node to acknowledge with the node removals, then fully expand the pruned
         // tree
         ((DefaultTreeModel) getModel()).nodeStructureChanged(root);
@@ -1714,35 +2176,376 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
     }
 
     /**********************************************************************************************
-     * Determine if the specified path exists in the table tree
+     * Reload the table information from the database and rebuild the nodes for the specified
+     * structure tables, and for every structure table that references one of them (directly or
+     * through another structure), in place. The remaining nodes are unaltered. This is only
+     * performed for a structures with primitives tree that isn't filtered by group or type, and
+     * only if the structures present in the tree and their root status are unchanged; otherwise
+     * the tree must be rebuilt in full
      *
-     * @param targetPath
-     *            name of the node to search for, in the form
-     *            rootTable[,dataType1.variable1[,dataType2.variable2[,...]]]
+     * @param tableNames
+     *            names of the prototype structure tables that changed
      *
-     * @return true if the target path exists in in the tree
+     * @param parent
+     *            GUI component over which to center any error dialog
+     *
+     * @return Set containing the names of the structure tables whose nodes are rebuilt; null if
+     *         the nodes can't be rebuilt in place (the tree is unchanged if the set of nodes to
+     *         rebuild can't be determined, but is incomplete if a node can't be rebuilt)
      *********************************************************************************************/
-    protected boolean isNodeInTree(String targetPath)
+    protected Set<String> updateStructureNodes(Set<String> tableNames, Component parent)
     {
-        boolean isInTree = false;
+        Set<String> rebuiltTables = null;
+
+        // Check that the tree contains the structures with primitives and isn't filtered
+        if (treeType == STRUCTURES_WITH_PRIMITIVES && !isByGroup && !isByType)
+        {
+            // Get the tables and their members from the database
+            List<TableMembers> newMembers = dbTable.loadTableMembers(INCLUDE_PRIMITIVES,
+                                                                     sortByName,
+                                                                     parent);
+
+            // Check that the table members loaded successfully
+            if (newMembers != null)
+            {
+                // Create any nodes that haven't been created yet since these are based on the
+                // previous table members
+                loadAllChildNodes(root);
+
+                Map<String, TableMembers> structureMembers = new HashMap<String, TableMembers>();
+                Set<String> childTables = new HashSet<String>();
+                rebuiltTables = new HashSet<String>(tableNames);
+                boolean isAdded;
+
+                // Step through each table
+                for (TableMembers member : newMembers)
+                {
+                    // Check if the table represents a structure
+                    if (tableTypeHandler.getTypeDefinition(member.getTableType()).isStructure())
+                    {
+                        structureMembers.put(member.getTableName(), member);
+                    }
+
+                    // Step through each of the table's member data types
+                    for (String dataType : member.getDataTypes())
+                    {
+                        // Check if the data type isn't a reference to the table itself
+                        if (!dataType.equals(member.getTableName()))
+                        {
+                            // Store the data type; any structure in this list isn't a root table
+                            childTables.add(dataType);
+                        }
+                    }
+                }
+
+                do
+                {
+                    isAdded = false;
+
+                    // Step through each table
+                    for (TableMembers member : newMembers)
+                    {
+                        // Check if the table isn't already in the list of those to rebuild
+                        if (!rebuiltTables.contains(member.getTableName()))
+                        {
+                            // Step through each of the table's member data types
+                            for (String dataType : member.getDataTypes())
+                            {
+                                // Check if the data type is a table that is rebuilt
+                                if (rebuiltTables.contains(dataType))
+                                {
+                                    // Rebuild this table as well, and repeat the search since
+                                    // the tables that reference this one must also be rebuilt
+                                    rebuiltTables.add(member.getTableName());
+                                    isAdded = true;
+                                    break;
+                                }
+                            }
+                        }
+                    }
+                } while (isAdded);
+
+                List<ToolTipTreeNode> rebuildNodes = new ArrayList<ToolTipTreeNode>();
+
+                // Step through the tree's header nodes
+                for (Enumeration<?> header = root.children(); header.hasMoreElements() && rebuiltTables != null;)
+                {
+                    ToolTipTreeNode headerNode = (ToolTipTreeNode) header.nextElement();
+
+                    // Set the flag if the header contains the root structures
+                    boolean isRootHeader = headerNode.getUserObject().toString().equals(instanceNodeName);
+
+                    // Step through the structure nodes under the header
+                    for (Enumeration<?> element = headerNode.children(); element.hasMoreElements();)
+                    {
+                        ToolTipTreeNode node = (ToolTipTreeNode) element.nextElement();
+                        String tableName = node.getUserObject().toString();
+
+                        // Check if the structure no longer exists or if its root status changed
+                        if (!structureMembers.containsKey(tableName)
+                            || isRootHeader == childTables.contains(tableName))
+                        {
+                            // The tree must be rebuilt in full; stop searching
+                            rebuiltTables = null;
+                            break;
+                        }
+
+                        // Check if the node is to be rebuilt
+                        if (rebuiltTables.contains(tableName))
+                        {
+                            rebuildNodes.add(node);
+                        }
+                    }
+                }
+
+                // Check if every table to rebuild (that still exists as a structure) has a node
+                // in the tree
+                if (rebuiltTables != null)
+                {
+                    rebuiltTables.retainAll(structureMembers.keySet());
+
+                    // Check if a structure to rebuild doesn't have a node in the tree (e.g., it
+                    // had no variables previously)
+                    if (rebuildNodes.size() != rebuiltTables.size())
+                    {
+                        rebuiltTables = null;
+                    }
+                }
+
+                // Check if the nodes can be rebuilt in place
+                if (rebuiltTables != null)
+                {
+                    // Store the updated table members
+                    storeTableMembers(newMembers);
+
+                    // Step through each node to rebuild
+                    for (ToolTipTreeNode node : rebuildNodes)
+                    {
+                        ToolTipTreeNode headerNode = (ToolTipTreeNode) node.getParent();
+                        int index = headerNode.getIndex(node);
+                        String tableName = node.getUserObject().toString();
+                        ToolTipTreeNode newNode = new ToolTipTreeNode(tableName, null);
+
+                        // Remove the existing node and build the replacement (which is appended
+                        // to the header's nodes)
+                        headerNode.remove(index);
+                        recursionTable = null;
+                        buildNodes(structureMembers.get(tableName), headerNode, newNode);
+
+                        // Check if the replacement node wasn't added (e.g., the structure no
+                        // longer has any variables or a recursive reference is detected)
+                        if (newNode.getParent() != headerNode)
+                        {
+                            // The tree must be rebuilt in full; stop rebuilding nodes
+                            rebuiltTables = null;
+                            break;
+                        }
+
+                        // Move the replacement node to the original node's position
+                        headerNode.insert(newNode, index);
+                    }
+
+                    // Discard the node index since nodes were replaced
+                    invalidateNodeIndex();
+
+                    // Force the root node to draw with the node changes
+                    ((DefaultTreeModel) treeModel).nodeStructureChanged(root);
+                }
+            }
+        }
+
+        return rebuiltTables;
+    }
+
+    /**********************************************************************************************
+     * Remove all nodes from the tree
+     *********************************************************************************************/
+    @Override
+    protected void removeAllNodes()
+    {
+        super.removeAllNodes();
+
+        // Discard the node index since the nodes were removed
+        invalidateNodeIndex();
+    }
+
+    /**********************************************************************************************
+     * Discard the node path and name index. The index is rebuilt when a node is next searched for.
+     * This must be called whenever nodes are added to or removed from the tree after it's built
+     *********************************************************************************************/
+    protected void invalidateNodeIndex()
+    {
+        nodePathIndex = null;
+        nodeNameIndex = null;
+    }
+
+    /**********************************************************************************************
+     * Build the node path and name index from the current tree nodes
+     *********************************************************************************************/
+    private void buildNodeIndex()
+    {
+        nodePathIndex = new HashMap<String, List<ToolTipTreeNode>>();
+        nodeNameIndex = new HashMap<String, ToolTipTreeNode>();
 
         // Step through the table tree
-        for (Enumeration<?> element = getRootNode().preorderEnumeration(); element.hasMoreElements();)
+        for (Enumeration<?> element = root.preorderEnumeration(); element.hasMoreElements();)
+        {
+            // Add the node to the index
+            addNodeToIndex((ToolTipTreeNode) element.nextElement());
+        }
+    }
+
+    /**********************************************************************************************
+     * Add the specified node to the node path and name index
+     *
+     * @param node
+     *            tree node
+     *********************************************************************************************/
+    private void addNodeToIndex(ToolTipTreeNode node)
+    {
+        // Get the node's path
+        String nodePath = getIndexedNodePath(node);
+
+        // Get the list of nodes with this path
+        List<ToolTipTreeNode> nodes = nodePathIndex.get(nodePath);
+
+        // Check if this is the first node with this path
+        if (nodes == null)
+        {
+            // Create the list of nodes for the path and add it to the index
+            nodes = new ArrayList<ToolTipTreeNode>(1);
+            nodePathIndex.put(nodePath, nodes);
+        }
+
+        int index = nodes.size();
+
+        // Locate the node's position in the list. The list is kept in preorder so that the first
+        // node in the list is the first one encountered in a search of the tree. When the index is
+        // built the nodes arrive in preorder; nodes created on demand can precede ones already
+        // listed
+        while (index > 0 && isBeforeInPreorder(node, nodes.get(index - 1)))
         {
-            // Get the referenced node
-            ToolTipTreeNode tableNode = (ToolTipTreeNode) element.nextElement();
+            index--;
+        }
+
+        // Add the node to the path index
+        nodes.add(index, node);
 
-            // Check if the target path matches the path in the tree (skipping header nodes such as
-            // the project database and filter nodes)
-            if (targetPath.equals(removeExtraText(getFullVariablePath(tableNode.getPath()))))
+        // Get the node with the same name already in the name index, if any
+        String nodeName = getIndexedNodeName(node);
+        ToolTipTreeNode nameNode = nodeNameIndex.get(nodeName);
+
+        // Check if no node has this name or if this node precedes the one in the index
+        if (nameNode == null || isBeforeInPreorder(node, nameNode))
+        {
+            // Add the node to the name index
+            nodeNameIndex.put(nodeName, node);
+        }
+    }
+
+    /**********************************************************************************************
+     * Determine if the first node precedes the second node in a preorder traversal of the tree
+     *
+     * @param node
+     *            tree node to check
+     *
+     * @param otherNode
+     *            tree node against which to compare
+     *
+     * @return true if the first node precedes the second node in preorder; false if it follows the
+     *         second node, or if the nodes aren't in the same tree
+     *********************************************************************************************/
+    private boolean isBeforeInPreorder(TreeNode node, TreeNode otherNode)
+    {
+        boolean isBefore = false;
+        TreeNode[] path = ((ToolTipTreeNode) node).getPath();
+        TreeNode[] otherPath = ((ToolTipTreeNode) otherNode).getPath();
+
+        // Check if the nodes are in the same tree
+        if (path[0] == otherPath[0])
+        {
+            int level = 1;
+
+            // Step down the paths until the nodes' ancestors differ
+            while (level < path.length
+                   && level < otherPath.length
+                   && path[level] == otherPath[level])
             {
-                // Set the flag indicating the path is present in the tree and stop searching
-                isInTree = true;
-                break;
+                level++;
+            }
+
+            // Check if the paths diverge below a common ancestor
+            if (level < path.length && level < otherPath.length)
+            {
+                // The node that descends from the earlier child of the common ancestor precedes
+                // the other
+                TreeNode ancestor = path[level - 1];
+                isBefore = ancestor.getIndex(path[level]) < ancestor.getIndex(otherPath[level]);
+            }
+            // One node is an ancestor of the other
+            else
+            {
+                // An ancestor precedes its descendants
+                isBefore = path.length < otherPath.length;
             }
         }
 
-        return isInTree;
+        return isBefore;
+    }
+
+    /**********************************************************************************************
+     * Get the path used to index the specified node
+     *
+     * @param node
+     *            tree node
+     *
+     * @return The node's path, in the form rootTable[,dataType1.variable1[,...]], with any extra
+     *         text removed
+     *********************************************************************************************/
+    private String getIndexedNodePath(ToolTipTreeNode node)
+    {
+        return removeExtraText(getFullVariablePath(node.getUserObjectPath()));
+    }
+
+    /**********************************************************************************************
+     * Get the name used to index the specified node
+     *
+     * @param node
+     *            tree node
+     *
+     * @return The node's name, with any extra text removed
+     *********************************************************************************************/
+    private String getIndexedNodeName(ToolTipTreeNode node)
+    {
+        return removeExtraText(node.getUserObject().toString());
+    }
+
+    /**********************************************************************************************
+     * Check if an indexed node is still in the tree. A node removed from the tree without the
+     * index being discarded is detected here, in which case the index is rebuilt
+     *
+     * @param node
+     *            indexed tree node
+     *
+     * @return true if the node is still in the tree
+     *********************************************************************************************/
+    private boolean isIndexedNodeValid(ToolTipTreeNode node)
+    {
+        return node.getRoot() == root;
+    }
+
+    /**********************************************************************************************
+     * Determine if the specified path exists in the table tree
+     *
+     * @param targetPath
+     *            name of the node to search for, in the form
+     *            rootTable[,dataType1.variable1[,dataType2.variable2[,...]]]
+     *
+     * @return true if the target path exists in in the tree
+     *********************************************************************************************/
+    protected boolean isNodeInTree(String targetPath)
+    {
+        return getNodeByNodePath(targetPath) != null;
     }
 
     /**********************************************************************************************
@@ -1756,21 +2559,38 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
      *********************************************************************************************/
     protected ToolTipTreeNode getNodeByNodeName(String nodeName)
     {
-        ToolTipTreeNode node = null;
+        // Check if the node index needs to be built
+        if (nodeNameIndex == null)
+        {
+            buildNodeIndex();
+        }
 
-        // Step through the root node's children, if any
-        for (Enumeration<?> element = root.preorderEnumeration(); element.hasMoreElements();)
+        // Get the first node with the specified name
+        ToolTipTreeNode node = nodeNameIndex.get(nodeName);
+
+        // Check if the node is no longer in the tree or its name has changed
+        if (node != null
+            && (!isIndexedNodeValid(node) || !getIndexedNodeName(node).equals(nodeName)))
         {
-            // Get the referenced node
-            ToolTipTreeNode tableNode = (ToolTipTreeNode) element.nextElement();
+            // Rebuild the index and get the node again
+            buildNodeIndex();
+            node = nodeNameIndex.get(nodeName);
+        }
 
-            // Check if the node matches the target node's name
-            if (removeExtraText(tableNode.getUserObject().toString()).equals(nodeName))
-            {
-                // Store this node and stop searching
-                node = tableNode;
-                break;
-            }
+        // Check if the node isn't found and that the child nodes of any node haven't been created
+        if (node == null && pendingNodes != null && !pendingNodes.isEmpty())
+        {
+            // Create the remaining child nodes (these are added to the node index) and get the
+            // node again
+            loadAllChildNodes(root);
+            node = nodeNameIndex.get(nodeName);
+        }
+
+        // Check if the node exists
+        if (node != null)
+        {
+            // Create the node's child nodes if these haven't been created yet
+            loadChildNodes(node);
         }
 
         return node;
@@ -1789,7 +2609,7 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
      *********************************************************************************************/
     protected ToolTipTreeNode getNodeByNodePath(String nodePath)
     {
-        return getNodeByNodePath(nodePath, getRootNode());
+        return getNodeByNodePath(nodePath, root);
     }
 
     /**********************************************************************************************
@@ -1810,18 +2630,104 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
     {
         ToolTipTreeNode node = null;
 
-        // Step through the root node's children, if any
-        for (Enumeration<?> element = startNode.preorderEnumeration(); element.hasMoreElements();)
+        // Check if the start node exists
+        if (startNode != null)
         {
-            // Get the referenced node
-            ToolTipTreeNode tableNode = (ToolTipTreeNode) element.nextElement();
+            // Check if the start node isn't in the tree (in which case it isn't indexed)
+            if (startNode.getRoot() != root)
+            {
+                // Step through the start node and its descendants
+                for (Enumeration<?> element = startNode.preorderEnumeration(); element.hasMoreElements();)
+                {
+                    // Get the referenced node
+                    ToolTipTreeNode tableNode = (ToolTipTreeNode) element.nextElement();
 
-            // Check if the node matches the target node's path
-            if (removeExtraText(getFullVariablePath(tableNode.getUserObjectPath())).equals(nodePath))
+                    // Check if the node matches the target node's path
+                    if (getIndexedNodePath(tableNode).equals(nodePath))
+                    {
+                        // Store this node and stop searching
+                        node = tableNode;
+                        break;
+                    }
+                }
+            }
+            // The start node is in the tree
+            else
             {
-                // Store this node and stop searching
-                node = tableNode;
-                break;
+                // Check if the node index needs to be built
+                if (nodePathIndex == null)
+                {
+                    buildNodeIndex();
+                }
+
+                // Get the first node with the path that is the start node or one of its
+                // descendants
+                node = getIndexedNodeByPath(nodePath, startNode);
+
+                // Check if the node is no longer in the tree or its path has changed
+                if (node != null
+                    && (!isIndexedNodeValid(node) || !getIndexedNodePath(node).equals(nodePath)))
+                {
+                    // Rebuild the index and get the node again
+                    buildNodeIndex();
+                    node = getIndexedNodeByPath(nodePath, startNode);
+                }
+
+                // Check if the node isn't found and that the child nodes of any node haven't been
+                // created
+                if (node == null && pendingNodes != null && !pendingNodes.isEmpty())
+                {
+                    // Create the child nodes for the nodes in the path (these are added to the
+                    // node index) and get the node again
+                    loadNodePath(nodePath);
+                    node = getIndexedNodeByPath(nodePath, startNode);
+                }
+
+                // Check if the node exists
+                if (node != null)
+                {
+                    // Create the node's child nodes if these haven't been created yet
+                    loadChildNodes(node);
+                }
+            }
+        }
+
+        return node;
+    }
+
+    /**********************************************************************************************
+     * Get the first node, in preorder, in the node path index with the specified path that is the
+     * start node or one of its descendants
+     *
+     * @param nodePath
+     *            path of the node to search for
+     *
+     * @param startNode
+     *            node from which to begin
+     *
+     * @return TreeNode for the specified node path; null if the index contains no node with the
+     *         path within the start node's subtree
+     *********************************************************************************************/
+    private ToolTipTreeNode getIndexedNodeByPath(String nodePath, ToolTipTreeNode startNode)
+    {
+        ToolTipTreeNode node = null;
+
+        // Get the nodes with the specified path
+        List<ToolTipTreeNode> nodes = nodePathIndex.get(nodePath);
+
+        // Check if any node has the path
+        if (nodes != null)
+        {
+            // Step through the nodes with the path, in preorder
+            for (ToolTipTreeNode pathNode : nodes)
+            {
+                // Check if the node is the start node or one of its descendants
+                if (startNode == root || startNode.isNodeDescendant(pathNode))
+                {
+                    // Store this node and stop searching
+                    node = pathNode;
+                    break;
+                }
             }
         }
 
@@ -2267,6 +3173,9 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
         // Create storage for the primitive variable paths
         List<String> allPrimitivePaths = new ArrayList<String>();
 
+        // Create any of the start node's descendants that haven't been created yet
+        loadAllChildNodes(startNode);
+
         // Step through each element and child of this node
         for (Enumeration<?> element = startNode.preorderEnumeration(); element.hasMoreElements();)
         {
@@ -25,7 +25,9 @@ import static CCDD.CcddConstants.TYPE_STRUCTURE;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.swing.JOptionPane;
 
@@ -61,11 +63,128 @@ public class CcddTableTypeHandler
     private final CcddInputTypeHandler inputTypeHandler;
 
     // Type definitions list
-    private List<TypeDefinition> typeDefinitions;
+    private TypeDefinitionList typeDefinitions;
+
+    // Map used to locate a type definition based on its name as the key
+    private volatile TypeDefinitionCatalog typeCatalog;
 
     // Flag indicating that a data field was created for a table type
     private boolean isNewField;
 
+    /**********************************************************************************************
+     * Type definitions list class. The list exposes its change count so that a change to the
+     * list's contents, including one made via the list returned by getTypeDefinitions(), can be
+     * detected and the type definition map rebuilt
+     *********************************************************************************************/
+    @SuppressWarnings("serial")
+    private static class TypeDefinitionList extends ArrayList<TypeDefinition>
+    {
+        private int replaceCount;
+
+        /******************************************************************************************
+         * Type definitions list class constructor
+         *
+         * @param typeDefinitions
+         *            list of type definitions with which to initialize the list; null to create
+         *            an empty list
+         *****************************************************************************************/
+        TypeDefinitionList(List<TypeDefinition> typeDefinitions)
+        {
+            super(typeDefinitions == null
+                                          ? Collections.<TypeDefinition> emptyList()
+                                          : typeDefinitions);
+            replaceCount = 0;
+        }
+
+        /******************************************************************************************
+         * Replace the type definition at the specified index. ArrayList doesn't count a
+         * replacement as a structural change, so it's counted here instead
+         *****************************************************************************************/
+        @Override
+        public TypeDefinition set(int index, TypeDefinition element)
+        {
+            replaceCount++;
+            return super.set(index, element);
+        }
+
+        /******************************************************************************************
+         * Get the number of changes made to the list, including replacements
+         *
+         * @return Number of changes made to the list
+         *****************************************************************************************/
+        protected int getModificationCount()
+        {
+            return modCount + replaceCount;
+        }
+    }
+
+    /**********************************************************************************************
+     * Type definition catalog class. A catalog is an unmodifiable map of the type definitions,
+     * keyed by the type name in lower case, along with the list state from which it was built
+     *********************************************************************************************/
+    private static class TypeDefinitionCatalog
+    {
+        private final TypeDefinitionList typeList;
+        private final int modificationCount;
+        private final Map<String, TypeDefinition> typeMap;
+
+        /******************************************************************************************
+         * Type definition catalog class constructor
+         *
+         * @param typeList
+         *            list of type definitions from which to build the catalog
+         *****************************************************************************************/
+        TypeDefinitionCatalog(TypeDefinitionList typeList)
+        {
+            this.typeList = typeList;
+            modificationCount = typeList.getModificationCount();
+            Map<String, TypeDefinition> map = new HashMap<String, TypeDefinition>();
+
+            // Step through each type definition
+            for (TypeDefinition typeDefn : typeList)
+            {
+                String key = typeDefn.getName().toLowerCase();
+
+                // Check if a type with this name isn't already in the map. The first definition
+                // with a given name is used, matching the behavior of a sequential search
+                if (!map.containsKey(key))
+                {
+                    // Add the type definition to the map
+                    map.put(key, typeDefn);
+                }
+            }
+
+            typeMap = Collections.unmodifiableMap(map);
+        }
+
+        /******************************************************************************************
+         * Check if the catalog reflects the current contents of the specified list
+         *
+         * @param list
+         *            type definitions list
+         *
+         * @return true if the catalog was built from the specified list and the list hasn't
+         *         changed since
+         *****************************************************************************************/
+        protected boolean isCurrent(TypeDefinitionList list)
+        {
+            return typeList == list && modificationCount == list.getModificationCount();
+        }
+
+        /******************************************************************************************
+         * Get the type definition with the specified name
+         *
+         * @param typeName
+         *            table type name (case insensitive)
+         *
+         * @return Type definition with the specified name; null if no match is found
+         *****************************************************************************************/
+        protected TypeDefinition get(String typeName)
+        {
+            return typeMap.get(typeName.toLowerCase());
+        }
+    }
+
     // Command argument column definitions
     protected final static Object[][] commandArgumentColumns = new Object[][] {{COL_ARGUMENT + " ### Name",
                                                                                 "Command argument ### name",
@@ -172,6 +291,9 @@ public class CcddTableTypeHandler
         protected void setName(String typeName)
         {
             tableType = typeName;
+
+            // Discard the type definition map so that it's rebuilt using the new name
+            typeCatalog = null;
         }
 
         /******************************************************************************************
@@ -1107,7 +1229,7 @@ public class CcddTableTypeHandler
         fieldHandler = ccddMain.getFieldHandler();
         dbTable = ccddMain.getDbTableCommandHandler();
         dbControl = ccddMain.getDbControlHandler();
-        typeDefinitions = new ArrayList<TypeDefinition>();
+        typeDefinitions = new TypeDefinitionList(null);
 
         // Create the table type from the definitions stored in the database
         createTypesFromDatabase();
@@ -1176,7 +1298,10 @@ public class CcddTableTypeHandler
      *********************************************************************************************/
     protected void setTypeDefinitions(List<TypeDefinition> typeDefinitions)
     {
-        this.typeDefinitions = typeDefinitions;
+        this.typeDefinitions = new TypeDefinitionList(typeDefinitions);
+
+        // Build the type definition map for the new list
+        typeCatalog = new TypeDefinitionCatalog(this.typeDefinitions);
     }
 
     /**********************************************************************************************
@@ -1344,17 +1469,22 @@ public class CcddTableTypeHandler
     {
         TypeDefinition typeDefinition = null;
 
-        // Step through each definition
-        for (TypeDefinition typeDefn : typeDefinitions)
+        // Check if a type name is supplied
+        if (typeName != null)
         {
-            // Check if the supplied type name matches the type definition name; ignoring case
-            // sensitivity
-            if (typeName.equalsIgnoreCase(typeDefn.getName()))
+            TypeDefinitionCatalog catalog = typeCatalog;
+
+            // Check if the type definition map doesn't exist or the type definitions have changed
+            // since it was built
+            if (catalog == null || !catalog.isCurrent(typeDefinitions))
             {
-                // Store the type definition and stop searching
-                typeDefinition = typeDefn;
-                break;
+                // Build the map from the current type definitions
+                catalog = new TypeDefinitionCatalog(typeDefinitions);
+                typeCatalog = catalog;
             }
+
+            // Get the type definition with the supplied name
+            typeDefinition = catalog.get(typeName);
         }
 
         return typeDefinition;
@@ -120,7 +120,7 @@ public class CcddTelemetrySchedulerDialog extends CcddDialogHandler implements C
                 allVariableTreePaths = new ArrayList<String>();
 
                 // Step through all of the nodes in the variable tree
-                for (Enumeration<?> element = allVariableTree.getRootNode().preorderEnumeration(); element.hasMoreElements();)
+                for (Enumeration<?> element = allVariableTree.getPreorderEnumeration(allVariableTree.getRootNode()); element.hasMoreElements();)
                 {
                     // Convert the variable path to a string and add it to the list
                     allVariableTreePaths.add(allVariableTree.getFullVariablePath(((ToolTipTreeNode) element.nextElement()).getPath()));
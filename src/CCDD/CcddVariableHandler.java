@@ -18,8 +18,15 @@ import static CCDD.CcddConstants.TYPE_NAME_SEPARATOR;
 import static CCDD.CcddConstants.VARIABLE_PATH_SEPARATOR;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javax.swing.tree.TreeNode;
 
@@ -57,19 +64,38 @@ public class CcddVariableHandler
     // Table tree with table instances only and including primitive variables
     private CcddTableTreeHandler allVariableTree;
 
-    // List containing the paths for every structure and variable, and the offset to the structures
-    // and variables relative to their root structures
-    private List<String> structureAndVariablePaths;
+    // Array containing the paths for every structure and variable, in the order in which they
+    // appear relative to their root structures. The paths are interned since the same path
+    // strings are referenced by the tables, links, and other handlers
+    private String[] structureAndVariablePaths;
 
-    // List containing the offset to the structures and variables relative to their root
-    // structures, and the overall structure sizes. The index of a value in this list corresponds
-    // to the index of the variable path in the structureAndVariablePaths list
-    private List<Integer> structureAndVariableOffsets;
+    // Array containing the offset to the structures and variables relative to their root
+    // structures, and the overall structure sizes. The index of a value in this array corresponds
+    // to the index of the variable path in the structureAndVariablePaths array
+    private int[] structureAndVariableOffsets;
 
-    // List that indicates if the corresponding structure and variable path is a variable. False if
-    // the path is for a non-root table and its children. The index of a value in this list
-    // corresponds to the index of the variable path in the structureAndVariablePaths list
-    private List<Boolean> isVariable;
+    // Array that indicates if the corresponding structure and variable path is a variable. False
+    // if the path is for a non-root table and its children. The index of a value in this array
+    // corresponds to the index of the variable path in the structureAndVariablePaths array
+    private boolean[] isVariable;
+
+    // Map containing the index in the structureAndVariablePaths array for each structure and
+    // variable path (key). If a path appears more than once the index of the first occurrence is
+    // stored
+    private Map<String, Integer> structureAndVariableIndex;
+
+    // List containing the paths for valid variables
+    private List<String> allVariableNames;
+
+    // Map containing the path and offset list for each prototype and root structure (key), in
+    // the order in which the structures appear in the variable tree. The structure and variable
+    // path and offset arrays are the concatenation of these lists
+    private Map<String, PathAndOffsetList> structurePathLists;
+
+    // Map containing the size, in bytes, of each prototype and root structure (key) when the path
+    // and offset arrays were last stored; null if the arrays haven't been stored. This is used to
+    // determine which structures' sizes change when the arrays are rebuilt
+    private Map<String, Integer> structureSizes;
 
     // List containing a converted variable name list and the separators used to create the list.
     // Until forced to empty the list, the application stores each list if one with the specified
@@ -79,9 +105,12 @@ public class CcddVariableHandler
     // List containing all of the program-formatted variable paths, and their corresponding name
     // after converting any commas and brackets based on the specified separator characters. The
     // index of a value in this list corresponds to the index of the variable path in the
-    // structureAndVariablePaths list
+    // structureAndVariablePaths array
     private List<String> convertedVariableName;
 
+    // Map containing the index in the convertedVariableName list for each converted name (key)
+    private Map<String, Integer> convertedVariableIndex;
+
     // List containing the program-formatted variable paths (key). Only variable paths that have
     // user-defined names are included in this list
     private List<String> userDefinedVariablePathKey;
@@ -89,6 +118,11 @@ public class CcddVariableHandler
     // List containing the/ user-defined variable path names. The userDefinedVariablePathKey list
     private List<String> userDefinedVariableName;
 
+    // Maps containing the index in the userDefinedVariablePathKey and userDefinedVariableName
+    // lists, respectively, for each program-formatted variable path and user-defined name (key)
+    private Map<String, Integer> userDefinedVariablePathKeyIndex;
+    private Map<String, Integer> userDefinedVariableNameIndex;
+
     /**********************************************************************************************
      * Conversion list storage class
      *********************************************************************************************/
@@ -98,6 +132,7 @@ public class CcddVariableHandler
         private final boolean excludeDataTypes;
         private final String typeNameSeparator;
         private final List<String> convertedVariableName;
+        private final Map<String, Integer> convertedVariableIndex;
 
         /******************************************************************************************
          * Conversion list storage class constructor
@@ -113,16 +148,22 @@ public class CcddVariableHandler
          *
          * @param convertedVariableName
          *            converted variable name list built using the specified separators
+         *
+         * @param convertedVariableIndex
+         *            map of each converted variable name to its index in the converted variable
+         *            name list
          *****************************************************************************************/
         ConversionListStorage(String varPathSeparator,
                               boolean excludeDataTypes,
                               String typeNameSeparator,
-                              List<String> convertedVariableName)
+                              List<String> convertedVariableName,
+                              Map<String, Integer> convertedVariableIndex)
         {
             this.varPathSeparator = varPathSeparator;
             this.excludeDataTypes = excludeDataTypes;
             this.typeNameSeparator = typeNameSeparator;
             this.convertedVariableName = convertedVariableName;
+            this.convertedVariableIndex = convertedVariableIndex;
         }
 
         /******************************************************************************************
@@ -135,6 +176,18 @@ public class CcddVariableHandler
             return convertedVariableName;
         }
 
+        /******************************************************************************************
+         * Get the map of converted variable names to their index in the converted variable name
+         * list
+         *
+         * @return The map of converted variable names to their index in the converted variable
+         *         name list
+         *****************************************************************************************/
+        protected Map<String, Integer> getConvertedVariableIndex()
+        {
+            return convertedVariableIndex;
+        }
+
         /******************************************************************************************
          * Get the converted variable name list built using the associated separators
          *
@@ -160,6 +213,94 @@ public class CcddVariableHandler
         }
     }
 
+    /**********************************************************************************************
+     * Structure and variable path and offset list class. The offsets and variable flags are
+     * stored in primitive arrays that grow as paths are added
+     *********************************************************************************************/
+    private class PathAndOffsetList
+    {
+        private String[] paths;
+        private int[] offsets;
+        private boolean[] isVariable;
+        private int size;
+        private boolean hasMacro;
+
+        /******************************************************************************************
+         * Structure and variable path and offset list class constructor
+         *****************************************************************************************/
+        PathAndOffsetList()
+        {
+            paths = new String[16];
+            offsets = new int[16];
+            isVariable = new boolean[16];
+            size = 0;
+            hasMacro = false;
+        }
+
+        /******************************************************************************************
+         * Get the number of paths in the list
+         *
+         * @return Number of paths in the list
+         *****************************************************************************************/
+        protected int size()
+        {
+            return size;
+        }
+
+        /******************************************************************************************
+         * Add a path, and its offset and variable flag, to the list
+         *
+         * @param path
+         *            structure or variable path
+         *
+         * @param offset
+         *            offset of the variable relative to its root structure, or the structure
+         *            size
+         *
+         * @param isVar
+         *            true if the path is for a root structure or its children
+         *****************************************************************************************/
+        protected void add(String path, int offset, boolean isVar)
+        {
+            // Check if the arrays are full
+            if (size == paths.length)
+            {
+                // Double the size of the arrays
+                paths = Arrays.copyOf(paths, size * 2);
+                offsets = Arrays.copyOf(offsets, size * 2);
+                isVariable = Arrays.copyOf(isVariable, size * 2);
+            }
+
+            // Check if the path contains a macro
+            if (!hasMacro && CcddMacroHandler.hasMacro(path))
+            {
+                // Set the flag so that the macros are expanded when the path is stored
+                hasMacro = true;
+            }
+
+            // Store the interned path so that only a single copy of each path is retained
+            paths[size] = path.intern();
+            offsets[size] = offset;
+            isVariable[size] = isVar;
+            size++;
+        }
+
+        /******************************************************************************************
+         * Set the offset for the path at the specified index
+         *
+         * @param index
+         *            index of the path in the list
+         *
+         * @param offset
+         *            offset of the variable relative to its root structure, or the structure
+         *            size
+         *****************************************************************************************/
+        protected void setOffset(int index, int offset)
+        {
+            offsets[index] = offset;
+        }
+    }
+
     /**********************************************************************************************
      * Variable handler class constructor
      *
@@ -214,48 +355,64 @@ public class CcddVariableHandler
     /**********************************************************************************************
      * Get the list of structure and variable paths for valid variables
      *
-     * @return Reference to the list of structure and variable paths for valid variables; returns
-     *         an empty list if no variables exist
+     * @return Reference to the (unmodifiable) list of structure and variable paths for valid
+     *         variables; returns an empty list if no variables exist
      *********************************************************************************************/
     protected List<String> getAllVariableNames()
     {
-        List<String> allVariableNames = new ArrayList<String>();
-
-        // Step through each variable path
-        for (int index = 0; index < structureAndVariablePaths.size(); index++)
-        {
-            // Check if the variable path is a valid variable. The structureAndVariablePaths list
-            // includes non-root structures and their children; these are not valid variables (they
-            // are in the list for size and offset purposes), so are not included in the list
-            // returned
-            if (isVariable.get(index))
-            {
-                // Add the variable path to the list
-                allVariableNames.add(structureAndVariablePaths.get(index));
-            }
-        }
-
         return allVariableNames;
     }
 
     /**********************************************************************************************
      * Get the structure and variable paths list
      *
-     * @return Reference to the structure and variable paths list
+     * @return Reference to the (unmodifiable) structure and variable paths list
      *********************************************************************************************/
     protected List<String> getStructureAndVariablePaths()
     {
-        return structureAndVariablePaths;
+        return Collections.unmodifiableList(Arrays.asList(structureAndVariablePaths));
+    }
+
+    /**********************************************************************************************
+     * Get the index of the specified path in the structure and variable paths list
+     *
+     * @param path
+     *            structure or variable path
+     *
+     * @return Index of the first occurrence of the path in the structure and variable paths list;
+     *         -1 if the path isn't in the list
+     *********************************************************************************************/
+    protected int getStructureAndVariableIndex(String path)
+    {
+        return getIndex(structureAndVariableIndex, path);
     }
 
     /**********************************************************************************************
-     * Get the structure and variable offsets list
+     * Check if the specified path is in the structure and variable paths list
+     *
+     * @param path
+     *            structure or variable path
      *
-     * @return Reference to the structure and variable offsets list
+     * @return true if the path is in the structure and variable paths list
      *********************************************************************************************/
-    protected List<Integer> getStructureAndVariableOffsets()
+    protected boolean isStructureOrVariablePath(String path)
     {
-        return structureAndVariableOffsets;
+        return structureAndVariableIndex.containsKey(path);
+    }
+
+    /**********************************************************************************************
+     * Get the offset of the structure or variable at the specified index in the structure and
+     * variable paths list
+     *
+     * @param index
+     *            index of the path in the structure and variable paths list
+     *
+     * @return Offset of the variable relative to its root structure, or the structure size if the
+     *         path is for a root structure
+     *********************************************************************************************/
+    protected int getStructureAndVariableOffset(int index)
+    {
+        return structureAndVariableOffsets[index];
     }
 
     /**********************************************************************************************
@@ -386,13 +543,13 @@ public class CcddVariableHandler
         {
             // Get the index in the path list for the specified structure or variable. Remove the
             // bit length if provided
-            int index = structureAndVariablePaths.indexOf(dataType);
+            int index = getStructureAndVariableIndex(dataType);
 
             // Check if the target exists
             if (index != -1)
             {
                 // Get the size of the structure
-                sizeInBytes = structureAndVariableOffsets.get(index);
+                sizeInBytes = structureAndVariableOffsets[index];
             }
         }
 
@@ -419,7 +576,7 @@ public class CcddVariableHandler
 
         // Get the index into the variable path list for the specified structure/variable. A
         // variable's bit length is ignored if present
-        int index = structureAndVariablePaths.indexOf(macroHandler.getMacroExpansion(targetVariable).replaceFirst(":.+$", ""));
+        int index = getStructureAndVariableIndex(macroHandler.getMacroExpansion(targetVariable).replaceFirst(":.+$", ""));
 
         // Check that the structure/variable exists
         if (index != -1)
@@ -428,7 +585,7 @@ public class CcddVariableHandler
             if (targetVariable.contains(","))
             {
                 // Retrieve the variable's offset
-                offset = structureAndVariableOffsets.get(index);
+                offset = structureAndVariableOffsets[index];
             }
             // The target is a prototype/root structure
             else
@@ -453,22 +610,6 @@ public class CcddVariableHandler
      *********************************************************************************************/
     protected void buildPathAndOffsetLists()
     {
-        structureAndVariablePaths = new ArrayList<String>();
-        structureAndVariableOffsets = new ArrayList<Integer>();
-        isVariable = new ArrayList<Boolean>();
-        conversionLists = null;
-        convertedVariableName = null;
-
-        int lastIndex = 0;
-        int structIndex = -1;
-
-        // Initialize the offset, bit count, and the previous variable's size, type, and bit length
-        int offset = 0;
-        bitCount = 0;
-        lastByteSize = 0;
-        lastDataType = "";
-        lastBitLength = 0;
-
         // Create a tree containing all of the structures, both prototypes and instances, including
         // primitive variables. This is used for determining bit-packing, variable relative
         // position, variable offsets, and structure sizes. The prototypes (non-roots) are required
@@ -477,139 +618,304 @@ public class CcddVariableHandler
                                                    TableTreeType.STRUCTURES_WITH_PRIMITIVES,
                                                    ccddMain.getMainFrame());
 
-        // Step through all of the nodes in the variable tree
-        for (Enumeration<?> element = allVariableTree.getRootNode().preorderEnumeration(); element.hasMoreElements();)
+        structurePathLists = new LinkedHashMap<String, PathAndOffsetList>();
+
+        // Build the path and offset lists for every structure
+        buildStructurePathLists(null);
+    }
+
+    /**********************************************************************************************
+     * Update the three lists created by buildPathAndOffsetLists() following a change to the
+     * specified prototype structures. Only the paths and offsets for the changed structures and
+     * for the structures that reference them are rebuilt; those for the other structures are
+     * retained. If the change alters which structures exist or which are root structures then the
+     * lists are rebuilt in full
+     *
+     * @param prototypeNames
+     *            names of the prototype structures that changed
+     *********************************************************************************************/
+    protected void updatePathAndOffsetLists(Set<String> prototypeNames)
+    {
+        Set<String> rebuiltTables = null;
+
+        // Check if the lists have been built
+        if (structurePathLists != null)
         {
-            // Get the path to this node
-            TreeNode[] nodePath = ((ToolTipTreeNode) element.nextElement()).getPath();
+            // Rebuild the variable tree nodes for the changed structures and the structures that
+            // reference them
+            rebuiltTables = allVariableTree.updateStructureNodes(prototypeNames,
+                                                                 ccddMain.getMainFrame());
+        }
 
-            // Check if the path references a structure or variable (instead of the tree's root or
-            // header nodes)
-            if (nodePath.length > allVariableTree.getHeaderNodeLevel())
+        // Check if the tree nodes couldn't be rebuilt in place
+        if (rebuiltTables == null)
+        {
+            // Rebuild the lists in full
+            buildPathAndOffsetLists();
+        }
+        // The tree nodes were rebuilt in place
+        else
+        {
+            // Rebuild the path and offset lists for the affected structures
+            buildStructurePathLists(rebuiltTables);
+        }
+    }
+
+    /**********************************************************************************************
+     * Build the path and offset lists for the specified structures from the variable tree, then
+     * combine the lists for all structures to create the structure and variable path, offset, and
+     * variable flag arrays. The conversion list is reset, so the next request for a converted
+     * variable path triggers generation of the conversion lists
+     *
+     * @param tableNames
+     *            names of the prototype and root structures for which to build the path and
+     *            offset lists; null to build the lists for every structure
+     *********************************************************************************************/
+    private void buildStructurePathLists(Set<String> tableNames)
+    {
+        conversionLists = null;
+        convertedVariableName = null;
+        convertedVariableIndex = null;
+
+        // Step through the variable tree's header (prototype and instance) nodes
+        for (Enumeration<?> header = allVariableTree.getRootNode().children(); header.hasMoreElements();)
+        {
+            // Step through the prototype or root structure nodes under the header. Only these
+            // nodes are visited so that the descendants of structures whose lists aren't rebuilt
+            // needn't be created
+            for (Enumeration<?> element = ((TreeNode) header.nextElement()).children(); element.hasMoreElements();)
             {
-                // Get the variable path for this tree node
-                String varPath = allVariableTree.getFullVariablePath(nodePath);
+                ToolTipTreeNode node = (ToolTipTreeNode) element.nextElement();
 
-                // Check if the path contains a data type
-                if (varPath.matches(".+,.+\\..+"))
+                // Check if the structure's list is to be built
+                if (tableNames == null || tableNames.contains(node.getUserObject().toString()))
                 {
-                    // Extract the data type from the variable path
-                    String dataType = varPath.substring(varPath.lastIndexOf(",") + 1,
-                                                        varPath.lastIndexOf("."));
+                    PathAndOffsetList pathList = new PathAndOffsetList();
 
-                    // Check if this references a primitive data type
-                    if (dataTypeHandler.isPrimitive(dataType))
-                    {
-                        String bitLength = "";
+                    // Add the paths and offsets for the structure and its members. Replacing an
+                    // existing structure's list retains its position in the map
+                    addStructurePaths(node, pathList);
+                    structurePathLists.put(node.getUserObject().toString(), pathList);
+                }
+            }
+        }
 
-                        int bitIndex = varPath.indexOf(":");
+        // Store the paths, offsets, and variable flags, and build the path index
+        storePathAndOffsetLists();
+    }
 
-                        // Check if this variable has a bit length
-                        if (bitIndex != -1)
-                        {
-                            // Extract the bit length from the variable path
-                            bitLength = varPath.substring(bitIndex + 1);
+    /**********************************************************************************************
+     * Add the path and size of the specified prototype or root structure, followed by the paths
+     * and offsets of each of its members (in the order in which they appear in the structure), to
+     * the path and offset list
+     *
+     * @param structureNode
+     *            variable tree node for the prototype or root structure
+     *
+     * @param pathList
+     *            path and offset list to which to add the paths
+     *********************************************************************************************/
+    private void addStructurePaths(ToolTipTreeNode structureNode, PathAndOffsetList pathList)
+    {
+        // Store the index of the structure; its size is stored once the end of the structure is
+        // reached
+        int structIndex = pathList.size();
 
-                            // Remove the bit length from the variable path
-                            varPath = varPath.substring(0, bitIndex);
-                        }
+        // Set the flag that indicates if the paths are for a root structure and its children (and
+        // are therefore valid variables)
+        boolean isVar = structureNode.getPath()[1].toString().equals(DEFAULT_INSTANCE_NODE_NAME);
 
-                        // Adjust the offset to account for bit-packing
-                        offset = adjustVariableOffset(dataType, bitLength, offset);
-                    }
-                    // Not a primitive data type (i.e., it's a structure)
-                    else
-                    {
-                        // Add the last variable's byte size to the offset total
-                        offset += lastByteSize;
-
-                        // Reinitialize the bit count, and the previous variable's size, type, and
-                        // bit length
-                        bitCount = 0;
-                        lastByteSize = 0;
-                        lastDataType = "";
-                        lastBitLength = 0;
-                    }
-                }
-                // The path doesn't contain a data type; i.e., it's a prototype structure reference
-                else
+        // Initialize the offset, bit count, and the previous variable's size, type, and bit length
+        int offset = 0;
+        bitCount = 0;
+        lastByteSize = 0;
+        lastDataType = "";
+        lastBitLength = 0;
+
+        // Step through the structure node and its descendants
+        for (Enumeration<?> element = allVariableTree.getPreorderEnumeration(structureNode); element.hasMoreElements();)
+        {
+            // Get the variable path for this tree node
+            String varPath = allVariableTree.getFullVariablePath(((ToolTipTreeNode) element.nextElement()).getPath());
+
+            // Check if the path contains a data type
+            if (varPath.matches(".+,.+\\..+"))
+            {
+                // Extract the data type from the variable path
+                String dataType = varPath.substring(varPath.lastIndexOf(",") + 1,
+                                                    varPath.lastIndexOf("."));
+
+                // Check if this references a primitive data type
+                if (dataTypeHandler.isPrimitive(dataType))
                 {
-                    // Check that this isn't the first prototype structure detected. The size is
-                    // stored once the end of the structure is reached
-                    if (structIndex != -1)
+                    String bitLength = "";
+
+                    int bitIndex = varPath.indexOf(":");
+
+                    // Check if this variable has a bit length
+                    if (bitIndex != -1)
                     {
-                        // Adjust the offset to account for bit-packing
-                        offset = adjustVariableOffset(lastDataType, "", offset);
+                        // Extract the bit length from the variable path
+                        bitLength = varPath.substring(bitIndex + 1);
 
-                        // Store the offset as the size for this structure
-                        structureAndVariableOffsets.set(structIndex, offset);
+                        // Remove the bit length from the variable path
+                        varPath = varPath.substring(0, bitIndex);
                     }
 
-                    // Store the index of the prototype structure
-                    structIndex = lastIndex;
+                    // Adjust the offset to account for bit-packing
+                    offset = adjustVariableOffset(dataType, bitLength, offset);
+                }
+                // Not a primitive data type (i.e., it's a structure)
+                else
+                {
+                    // Add the last variable's byte size to the offset total
+                    offset += lastByteSize;
 
-                    // Reset the offset since this indicates the start of a new root structure.
-                    // Initialize the bit count, and the previous variable's size, type, and bit
+                    // Reinitialize the bit count, and the previous variable's size, type, and bit
                     // length
-                    offset = 0;
                     bitCount = 0;
                     lastByteSize = 0;
                     lastDataType = "";
                     lastBitLength = 0;
                 }
+            }
 
-                // Check if this is the first member of an array
-                if (varPath.matches(".+(?:\\[0\\])+"))
-                {
-                    // Add the array definition path (same as that for the first array member,
-                    // minus the array index) and offset
-                    structureAndVariablePaths.add(varPath.replaceFirst("(.+)(?:\\[0\\])+", "$1"));
-                    structureAndVariableOffsets.add(offset);
-                    isVariable.add(nodePath[1].toString().equals(DEFAULT_INSTANCE_NODE_NAME));
-
-                    // Update the index pointing to the last member of the structure processed
-                    lastIndex++;
-                }
+            // Check if this is the first member of an array
+            if (varPath.matches(".+(?:\\[0\\])+"))
+            {
+                // Add the array definition path (same as that for the first array member, minus
+                // the array index) and offset
+                pathList.add(varPath.replaceFirst("(.+)(?:\\[0\\])+", "$1"), offset, isVar);
+            }
 
-                // Add the variable path and its offset to the lists
-                structureAndVariablePaths.add(varPath);
-                structureAndVariableOffsets.add(offset);
-                isVariable.add(nodePath[1].toString().equals(DEFAULT_INSTANCE_NODE_NAME));
+            // Add the variable path and its offset to the lists
+            pathList.add(varPath, offset, isVar);
+        }
 
-                // Update the index pointing to the last member of the structure processed
-                lastIndex++;
-            }
+        // Adjust the offset to account for bit-packing
+        offset = adjustVariableOffset(lastDataType, "", offset);
+
+        // Store the offset as the size for this structure
+        pathList.setOffset(structIndex, offset);
+    }
+
+    /**********************************************************************************************
+     * Combine the path and offset lists for the structures to create the structure and variable
+     * paths, offsets, and variable flags arrays, expanding any macros in the paths, and build the
+     * path index and the list of valid variable paths
+     *********************************************************************************************/
+    private void storePathAndOffsetLists()
+    {
+        int numPaths = 0;
+
+        // Step through each structure's path and offset list
+        for (PathAndOffsetList pathList : structurePathLists.values())
+        {
+            // Add the number of paths in the structure's list to the total
+            numPaths += pathList.size();
         }
 
-        // Check if a prototype structure was detected
-        if (structIndex != -1)
+        structureAndVariablePaths = new String[numPaths];
+        structureAndVariableOffsets = new int[numPaths];
+        isVariable = new boolean[numPaths];
+        structureAndVariableIndex = new HashMap<String, Integer>(numPaths * 2);
+        List<String> variableNames = new ArrayList<String>();
+        int start = 0;
+
+        // Create storage for the structure sizes
+        Map<String, Integer> sizes = new HashMap<String, Integer>(structurePathLists.size() * 2);
+
+        // Step through each structure's path and offset list
+        for (Map.Entry<String, PathAndOffsetList> entry : structurePathLists.entrySet())
         {
-            // Adjust the offset to account for bit-packing
-            offset = adjustVariableOffset(lastDataType, "", offset);
+            // Store the structure's size, which is the offset of the list's first path
+            sizes.put(entry.getKey(), entry.getValue().offsets[0]);
+        }
+
+        // Check if the structure sizes haven't been determined previously
+        if (structureSizes == null)
+        {
+            // Clear the stored macro values since they may be incorrect due to embedded sizeof()
+            // calls. Now that the structure sizes are known subsequent macro expansions will be
+            // correct
+            macroHandler.clearStoredValues();
+        }
+        // The previous structure sizes are known
+        else
+        {
+            Set<String> changedStructures = new HashSet<String>();
+
+            // Step through each structure
+            for (Map.Entry<String, Integer> entry : sizes.entrySet())
+            {
+                // Check if the structure is new or its size changed
+                if (!entry.getValue().equals(structureSizes.get(entry.getKey())))
+                {
+                    changedStructures.add(entry.getKey());
+                }
+            }
 
-            // Store the offset as the size for this structure
-            structureAndVariableOffsets.set(structIndex, offset);
+            // Step through each previous structure
+            for (String structureName : structureSizes.keySet())
+            {
+                // Check if the structure no longer exists
+                if (!sizes.containsKey(structureName))
+                {
+                    changedStructures.add(structureName);
+                }
+            }
+
+            // Check if the size of any structure changed
+            if (!changedStructures.isEmpty())
+            {
+                // Discard the stored macro values that depend, via a sizeof() call, on the size
+                // of a changed structure. The other stored values remain correct
+                macroHandler.discardStructureSizeValues(changedStructures);
+            }
         }
 
-        // Clear the stored macro values since they may be incorrect due to embedded sizeof()
-        // calls. Now that the structure sizes are known subsequent macro expansions will be
-        // correct
-        macroHandler.clearStoredValues();
+        structureSizes = sizes;
 
-        // Step through each table and variable path
-        for (int index = 0; index < structureAndVariablePaths.size(); index++)
+        // Step through each structure's path and offset list
+        for (PathAndOffsetList pathList : structurePathLists.values())
         {
-            // Get the path at this index
-            String varPath = structureAndVariablePaths.get(index);
+            // Copy the structure's paths, offsets, and variable flags into the combined arrays
+            System.arraycopy(pathList.paths, 0, structureAndVariablePaths, start, pathList.size());
+            System.arraycopy(pathList.offsets, 0, structureAndVariableOffsets, start, pathList.size());
+            System.arraycopy(pathList.isVariable, 0, isVariable, start, pathList.size());
 
-            // Check if the path contains a macro
-            if (CcddMacroHandler.hasMacro(varPath))
+            // Step through each of the structure's paths
+            for (int index = start; index < start + pathList.size(); index++)
             {
-                // Update the path in the list with the macros expanded
-                structureAndVariablePaths.set(index, macroHandler.getMacroExpansion(varPath));
+                // Check if the structure contains a path with a macro, and if this path contains
+                // a macro
+                if (pathList.hasMacro && CcddMacroHandler.hasMacro(structureAndVariablePaths[index]))
+                {
+                    // Update the path with the macros expanded. The path is interned so that only
+                    // a single copy of each path is retained
+                    structureAndVariablePaths[index] = macroHandler.getMacroExpansion(structureAndVariablePaths[index])
+                                                                   .intern();
+                }
+
+                // Store the path's index if the path isn't already in the index
+                structureAndVariableIndex.putIfAbsent(structureAndVariablePaths[index], index);
+
+                // Check if the variable path is a valid variable. The structureAndVariablePaths
+                // array includes non-root structures and their children; these are not valid
+                // variables (they are in the array for size and offset purposes), so are not
+                // included in the variable list
+                if (isVariable[index])
+                {
+                    // Add the variable path to the list
+                    variableNames.add(structureAndVariablePaths[index]);
+                }
             }
+
+            start += pathList.size();
         }
 
+        allVariableNames = Collections.unmodifiableList(variableNames);
+
         // Add the structure paths and variables to the variable references input type and refresh
         // any open editors
         ccddMain.getInputTypeHandler().updateVariableReferences();
@@ -685,7 +991,7 @@ public class CcddVariableHandler
         boolean isInUse = false;
 
         // Locate the alternate name in the list of user-defined variable names
-        int index = userDefinedVariableName.indexOf(alternateName);
+        int index = getIndex(userDefinedVariableNameIndex, alternateName);
 
         // Check if the name was found (i.e., the name matches one manually set by the user)
         if (index != -1)
@@ -693,7 +999,7 @@ public class CcddVariableHandler
             // Check if the supplied program-formatted path doesn't correspond with of the
             // user-defined name - if the program-formatted path is the 'key' for the user-defined
             // name then it's the legitimate owner and doesn't constitute a duplicate reference
-            if (index != userDefinedVariablePathKey.indexOf(progDefinedPath))
+            if (index != getIndex(userDefinedVariablePathKeyIndex, progDefinedPath))
             {
                 // Set the flag to indicate the user-defined name is already in use
                 isInUse = true;
@@ -703,7 +1009,7 @@ public class CcddVariableHandler
         else
         {
             // Locate the alternate name in the list of program-converted variable names
-            index = convertedVariableName.indexOf(alternateName);
+            index = getIndex(convertedVariableIndex, alternateName);
 
             // Check if the name was found (i.e., the name matches one manually generated by the
             // program)
@@ -712,7 +1018,7 @@ public class CcddVariableHandler
                 // Check if the supplied program-formatted path doesn't correspond with of the
                 // converted name - if the program-formatted path is the 'key' for the converted
                 // name then it's the legitimate owner and doesn't constitute a duplicate reference
-                if (index != structureAndVariablePaths.indexOf(progDefinedPath))
+                if (index != getStructureAndVariableIndex(progDefinedPath))
                 {
                     // Set the flag to indicate the converted name is already in use
                     isInUse = true;
@@ -845,11 +1151,11 @@ public class CcddVariableHandler
      * @return The variable's full path and name with each variable in the path separated by the
      *         specified separator character(s); returns a blank if fullName is null or empty
      *********************************************************************************************/
-    protected String getFullVariableName(String fullName,
-                                         String varPathSeparator,
-                                         boolean excludeDataTypes,
-                                         String typeNameSeparator,
-                                         boolean substituteUserDefined)
+    protected synchronized String getFullVariableName(String fullName,
+                                                      String varPathSeparator,
+                                                      boolean excludeDataTypes,
+                                                      String typeNameSeparator,
+                                                      boolean substituteUserDefined)
     {
         String convertedFullName = "";
 
@@ -860,6 +1166,7 @@ public class CcddVariableHandler
             if (conversionLists != null)
             {
                 convertedVariableName = null;
+                convertedVariableIndex = null;
 
                 // Step through each of the stored conversion lists
                 for (ConversionListStorage conversionList : conversionLists)
@@ -872,6 +1179,7 @@ public class CcddVariableHandler
                         // Set the converted variable name list to the stored list and stop
                         // searching
                         convertedVariableName = conversionList.getConvertedVariableName();
+                        convertedVariableIndex = conversionList.getConvertedVariableIndex();
                         break;
                     }
                 }
@@ -894,7 +1202,7 @@ public class CcddVariableHandler
             if (substituteUserDefined)
             {
                 // Get the index of the variable name from the list of original names
-                int index = userDefinedVariablePathKey.indexOf(fullName);
+                int index = getIndex(userDefinedVariablePathKeyIndex, fullName);
 
                 // Check if the variable name was extracted from the list
                 if (index != -1)
@@ -910,7 +1218,7 @@ public class CcddVariableHandler
             if (convertedFullName.isEmpty())
             {
                 // Get the index of the variable path from the list of program-formatted names
-                int index = structureAndVariablePaths.indexOf(fullName);
+                int index = getStructureAndVariableIndex(fullName);
 
                 // Check if the variable name was extracted from the list
                 if (index != -1 && convertedVariableName.get(index) != null)
@@ -949,12 +1257,15 @@ public class CcddVariableHandler
     {
         String varPathColumnsDb = "";
         String varPathColumnsUser = "";
-        convertedVariableName = new ArrayList<String>();
+        convertedVariableName = new ArrayList<String>(structureAndVariablePaths.length);
+        convertedVariableIndex = new HashMap<String, Integer>(structureAndVariablePaths.length * 2);
         userDefinedVariablePathKey = new ArrayList<String>();
         userDefinedVariableName = new ArrayList<String>();
+        userDefinedVariablePathKeyIndex = new HashMap<String, Integer>();
+        userDefinedVariableNameIndex = new HashMap<String, Integer>();
 
         // Step through each variable
-        for (int index = 0; index < structureAndVariablePaths.size(); index++)
+        for (int index = 0; index < structureAndVariablePaths.length; index++)
         {
             String fullName = null;
 
@@ -962,13 +1273,16 @@ public class CcddVariableHandler
             // includes non-root structures and their children; these are not valid variables (they
             // are in the list for size and offset purposes), so are not included in the list
             // returned
-            if (isVariable.get(index))
+            if (isVariable[index])
             {
                 // Convert the variable path + name
-                fullName = convertVariableName(structureAndVariablePaths.get(index),
+                fullName = convertVariableName(structureAndVariablePaths[index],
                                                varPathSeparator,
                                                excludeDataTypes,
                                                typeNameSeparator);
+
+                // Store the converted name's index
+                convertedVariableIndex.putIfAbsent(fullName, index);
             }
 
             // Add the variable name to the converted variable name list
@@ -1045,12 +1359,12 @@ public class CcddVariableHandler
                     int variablePathIndex = typeDefn.getColumnIndexByInputType(DefaultInputType.VARIABLE_PATH);
 
                     // Add the variable path to the lists (program- and user-defined)
-                    userDefinedVariablePathKey.add(tableNameAndType[0]
-                                                   + ","
-                                                   + rowData[dataTypeIndex]
-                                                   + "."
-                                                   + rowData[variableNameIndex]);
-                    userDefinedVariableName.add(rowData[variablePathIndex]);
+                    addUserDefinedVariablePath(tableNameAndType[0]
+                                               + ","
+                                               + rowData[dataTypeIndex]
+                                               + "."
+                                               + rowData[variableNameIndex],
+                                               rowData[variablePathIndex]);
                 }
 
                 // Get the references in the custom values table for all user-defined variable
@@ -1067,8 +1381,7 @@ public class CcddVariableHandler
                     String[] tableNameAndPath = match.split(TABLE_DESCRIPTION_SEPARATOR, 2);
 
                     // Add the variable path to the lists (program- and user-defined)
-                    userDefinedVariablePathKey.add(tableNameAndPath[0]);
-                    userDefinedVariableName.add(tableNameAndPath[1]);
+                    addUserDefinedVariablePath(tableNameAndPath[0], tableNameAndPath[1]);
                 }
             }
         }
@@ -1077,7 +1390,8 @@ public class CcddVariableHandler
         ConversionListStorage conversionList = new ConversionListStorage(varPathSeparator,
                                                                          excludeDataTypes,
                                                                          typeNameSeparator,
-                                                                         convertedVariableName);
+                                                                         convertedVariableName,
+                                                                         convertedVariableIndex);
 
         // Check if the number of stored conversion lists has reached the maximum allowed
         if (conversionLists.size() == ModifiableSizeInfo.MAX_STORED_CONVERSIONS.getSize()
@@ -1093,6 +1407,44 @@ public class CcddVariableHandler
         conversionLists.add(conversionList);
     }
 
+    /**********************************************************************************************
+     * Add a program-formatted variable path and its user-defined name to the user-defined variable
+     * path lists and indices
+     *
+     * @param pathKey
+     *            variable path + name in the application's internal format
+     *
+     * @param name
+     *            user-defined variable path name
+     *********************************************************************************************/
+    private void addUserDefinedVariablePath(String pathKey, String name)
+    {
+        userDefinedVariablePathKeyIndex.putIfAbsent(pathKey, userDefinedVariablePathKey.size());
+        userDefinedVariableNameIndex.putIfAbsent(name, userDefinedVariableName.size());
+        userDefinedVariablePathKey.add(pathKey);
+        userDefinedVariableName.add(name);
+    }
+
+    /**********************************************************************************************
+     * Get the index stored in the specified index map for the specified key
+     *
+     * @param indexMap
+     *            map of keys to list indices
+     *
+     * @param key
+     *            key for which to get the index
+     *
+     * @return Index stored for the key; -1 if the key isn't in the map
+     *********************************************************************************************/
+    private static int getIndex(Map<String, Integer> indexMap, String key)
+    {
+        Integer index = indexMap.get(key);
+
+        return index == null
+                             ? -1
+                             : index;
+    }
+
     /**********************************************************************************************
      * Remove the data type(s) from the supplied variable path + name
      *
@@ -1159,7 +1511,7 @@ public class CcddVariableHandler
                            .replaceFirst("\\:\\d+$", "");
 
         // Compare the converted variable name to those already added to the list
-        while (convertedVariableName.contains(fullName))
+        while (convertedVariableIndex.containsKey(fullName))
         {
             // A matching name already exists; append an underscore to this variable's name
             fullName += "_";
@@ -1172,7 +1524,7 @@ public class CcddVariableHandler
      * Remove the converted variable name list(s) other than the one created using the separators
      * stored in the program preferences
      *********************************************************************************************/
-    protected void removeUnusedLists()
+    protected synchronized void removeUnusedLists()
     {
         // Get the separators stored in the program preferences
         String varPathSeparator = ccddMain.getProgPrefs().get(VARIABLE_PATH_SEPARATOR,
@@ -1188,6 +1540,7 @@ public class CcddVariableHandler
             List<ConversionListStorage> unusedConversionList = new ArrayList<ConversionListStorage>();
 
             convertedVariableName = null;
+            convertedVariableIndex = null;
 
             // Step through each of the stored conversion lists
             for (ConversionListStorage conversionList : conversionLists)
@@ -1198,6 +1551,7 @@ public class CcddVariableHandler
                 {
                     // Set the converted variable name list to the stored list
                     convertedVariableName = conversionList.getConvertedVariableName();
+                    convertedVariableIndex = conversionList.getConvertedVariableIndex();
                 }
                 // This list uses separators other than those stored in the program preferences
                 else
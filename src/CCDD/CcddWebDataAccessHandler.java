@@ -130,9 +130,24 @@ public class CcddWebDataAccessHandler extends AbstractHandler
             query = "";
         }
 
-        // Process the request and get the information encoded as a JSON string. The leading '/' is
-        // removed from the request path
-        String jsonResponse = getQueryResults(target.replaceFirst("^/", "").trim(), query);
+        String jsonResponse;
+
+        // Web requests only read from the database, so execute the request's queries using the
+        // read-only connections. This allows requests to be processed concurrently with each
+        // other and with any changes being made to the project
+        ccddMain.getDbCommandHandler().setReaderMode(true);
+
+        try
+        {
+            // Process the request and get the information encoded as a JSON string. The leading
+            // '/' is removed from the request path
+            jsonResponse = getQueryResults(target.replaceFirst("^/", "").trim(), query);
+        }
+        finally
+        {
+            // Restore use of the primary connection for the (pooled) request thread
+            ccddMain.getDbCommandHandler().setReaderMode(false);
+        }
 
         // Check if the specified content was loaded successfully
         if (jsonResponse != null)
@@ -11,12 +11,26 @@ import static CCDD.CcddConstants.TYPE_COMMAND;
 import static CCDD.CcddConstants.TYPE_STRUCTURE;
 
 import java.awt.Component;
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigInteger;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 
 import javax.script.Invocable;
@@ -28,12 +42,10 @@ import javax.xml.bind.JAXBException;
 import javax.xml.bind.MarshalException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMResult;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 
 import org.omg.space.xtce.ArgumentTypeSetType;
 import org.omg.space.xtce.ArgumentTypeSetType.FloatArgumentType;
@@ -109,6 +121,7 @@ import CCDD.CcddConstants.EndianType;
 import CCDD.CcddConstants.InputTypeFormat;
 import CCDD.CcddConstants.InternalTable.FieldsColumn;
 import CCDD.CcddConstants.ModifiableOtherSettingInfo;
+import CCDD.CcddConstants.ModifiableSizeInfo;
 import CCDD.CcddTableTypeHandler.TypeDefinition;
 
 /**************************************************************************************************
@@ -143,6 +156,11 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
     private ObjectFactory factory;
     private SpaceSystemType rootSystem;
 
+    // Space system name index, containing the space systems with each name, and the parent of
+    // each space system
+    private Map<String, List<SpaceSystemType>> spaceSystemIndex;
+    private Map<SpaceSystemType, SpaceSystemType> parentSystems;
+
     // Reference to the script engine as an Invocable interface; used if external (script) methods
     // are used for the export operation
     private Invocable invocable;
@@ -440,6 +458,786 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
         }
     }
 
+    /**********************************************************************************************
+     * Export table information class. Contains the information needed to load a table and build
+     * its space system, and the results of doing so
+     *********************************************************************************************/
+    private class ExportTable
+    {
+        private final String tableName;
+        private final String loadTableName;
+        private final String tablePath;
+        private final boolean isTlmHdrTable;
+        private final boolean isCmdHdrTable;
+        private final boolean isRootStructure;
+        private String systemPath;
+        private String systemName;
+        private String fullPath;
+        private String expandedTableName;
+        private String applicationID;
+        private TableInformation tableInfo;
+        private TypeDefinition typeDefn;
+        private SpaceSystemType tableSystem;
+        private CCDDException exception;
+
+        /******************************************************************************************
+         * Export table information class constructor
+         *
+         * @param tableName
+         *            table name used to identify the table's space system
+         *
+         * @param loadTableName
+         *            name of the table from which to load the data
+         *
+         * @param tablePath
+         *            table path stored in the space system's short description
+         *
+         * @param systemPath
+         *            path of the system to which the table belongs; null if the path is
+         *            determined by the root table's system path data field
+         *
+         * @param isTlmHdrTable
+         *            true if this table represents the telemetry header or one of its
+         *            descendants
+         *
+         * @param isCmdHdrTable
+         *            true if this table represents the command header or one of its descendants
+         *
+         * @param isRootStructure
+         *            true if the table is a root structure table
+         *****************************************************************************************/
+        ExportTable(String tableName,
+                    String loadTableName,
+                    String tablePath,
+                    String systemPath,
+                    boolean isTlmHdrTable,
+                    boolean isCmdHdrTable,
+                    boolean isRootStructure)
+        {
+            this.tableName = tableName;
+            this.loadTableName = loadTableName;
+            this.tablePath = tablePath;
+            this.systemPath = systemPath;
+            this.isTlmHdrTable = isTlmHdrTable;
+            this.isCmdHdrTable = isCmdHdrTable;
+            this.isRootStructure = isRootStructure;
+            tableInfo = null;
+            typeDefn = null;
+            tableSystem = null;
+            exception = null;
+        }
+
+        /******************************************************************************************
+         * Check if the table represents a structure or command, and is therefore exported
+         *
+         * @return true if the table represents a structure or command
+         *****************************************************************************************/
+        protected boolean isExported()
+        {
+            return typeDefn != null && (typeDefn.isStructure() || typeDefn.isCommand());
+        }
+
+        /******************************************************************************************
+         * Get the path of the system to which the table belongs
+         *
+         * @return Path of the system to which the table belongs; null if no system path is
+         *         defined
+         *****************************************************************************************/
+        protected String getSystemPath()
+        {
+            return systemPath;
+        }
+
+        /******************************************************************************************
+         * Get the name of the table's space system
+         *
+         * @return Name of the table's space system
+         *****************************************************************************************/
+        protected String getSystemName()
+        {
+            return systemName;
+        }
+
+        /******************************************************************************************
+         * Get the table path, with any macros expanded
+         *
+         * @return Table path, with any macros expanded
+         *****************************************************************************************/
+        protected String getFullPath()
+        {
+            return fullPath;
+        }
+
+        /******************************************************************************************
+         * Get the table description
+         *
+         * @return Table description
+         *****************************************************************************************/
+        protected String getDescription()
+        {
+            return tableInfo.getDescription();
+        }
+
+        /******************************************************************************************
+         * Get the space system containing the table's telemetry and command metadata
+         *
+         * @return Space system containing the table's telemetry and command metadata; null if the
+         *         space system isn't built (e.g., external (script) methods are used)
+         *****************************************************************************************/
+        protected SpaceSystemType getTableSystem()
+        {
+            return tableSystem;
+        }
+
+        /******************************************************************************************
+         * Get the exception that occurred loading the table or building its space system
+         *
+         * @return Exception that occurred loading the table or building its space system; null if
+         *         no error occurred
+         *****************************************************************************************/
+        protected CCDDException getException()
+        {
+            return exception;
+        }
+
+        /******************************************************************************************
+         * Load the table's data and, if the table represents a structure or command, build a
+         * space system containing the table's telemetry or command metadata. The space system
+         * isn't added to the space system hierarchy. This may be executed concurrently for
+         * different tables; the macro handler is accessed by one table at a time. The space
+         * system isn't built if external (script) methods are used since these may depend on the
+         * space system hierarchy
+         *
+         * @param tlmHdrSysPath
+         *            telemetry header table system path; null or blank if none
+         *
+         * @param cmdHdrSysPath
+         *            command header table system path; null or blank if none
+         *****************************************************************************************/
+        protected void loadAndBuild(String tlmHdrSysPath, String cmdHdrSysPath)
+        {
+            try
+            {
+                // Get the information from the database for the specified table
+                tableInfo = dbTable.loadTableData(loadTableName, true, false, parent);
+
+                // Check if the table's data successfully loaded
+                if (!tableInfo.isErrorFlag())
+                {
+                    // Get the table type and from the type get the type definition. The type
+                    // definition can be a global parameter since if the table represents a
+                    // structure, then all of its children are also structures, and if the table
+                    // represents commands or other table type then it is processed within this
+                    // nest level
+                    typeDefn = tableTypeHandler.getTypeDefinition(tableInfo.getType());
+
+                    // Check if the table type represents a structure or command
+                    if (isExported())
+                    {
+                        // Get the application ID data field value, if present
+                        applicationID = CcddMessageIDHandler.getMessageID(fieldHandler.getFieldValue(loadTableName,
+                                                                                                     DefaultInputType.MESSAGE_NAME_AND_ID));
+
+                        // Check if the system path isn't already defined (this is the case for
+                        // children of the telemetry header table)
+                        if (systemPath == null)
+                        {
+                            // Get the path of the system to which this table belongs from the
+                            // table's root table system path data field (if present)
+                            systemPath = fieldHandler.getFieldValue(tableInfo.getRootTable(),
+                                                                    DefaultInputType.SYSTEM_PATH);
+                        }
+
+                        // Store the table name and get the index of the last instance table
+                        // referenced in the table's path
+                        String shortTableName = tableName;
+                        int index = tableInfo.getTablePath().lastIndexOf(",");
+
+                        // The macro handler stores expanded macro values as these are evaluated,
+                        // so only one table at a time is allowed to use it
+                        synchronized (macroHandler)
+                        {
+                            // Replace all macro names with their corresponding values
+                            tableInfo.setData(macroHandler.replaceAllMacros(tableInfo.getData()));
+
+                            // Check if the table is an instance table
+                            if (index != -1)
+                            {
+                                // Get the name of the final table (dataType.varName) in the
+                                // path. This shorter name is used to identify the space system
+                                // (it's position in the space system hierarchy determines its
+                                // parent table)
+                                shortTableName = tableInfo.getTablePath().substring(index + 1);
+
+                                // Check if the root table for this instance has a system path
+                                // defined
+                                if (systemPath == null)
+                                {
+                                    systemPath = "";
+                                }
+
+                                // Add the table's path to its system path. Change each comma to
+                                // a '/' so that this instance is placed correctly in its space
+                                // system hierarchy
+                                systemPath += "/" +
+                                              macroHandler.getMacroExpansion(tableInfo.getTablePath()
+                                                                                      .substring(0, index)
+                                                                                      .replaceAll(",", "/"));
+                            }
+
+                            // Expand any macros in the space system name, table path, and
+                            // table name
+                            systemName = cleanSystemPath(macroHandler.getMacroExpansion(shortTableName));
+                            fullPath = macroHandler.getMacroExpansion(tablePath);
+                            expandedTableName = macroHandler.getMacroExpansion(tableName);
+                        }
+
+                        // Check if a system path exists (it always exists for an instance table,
+                        // but not necessarily for a root/prototype table)
+                        if (systemPath != null)
+                        {
+                            // Replace any invalid characters with an underscore so that the space
+                            // system name complies with the XTCE schema
+                            systemPath = cleanSystemPath(systemPath);
+                        }
+
+                        // Check if the internal methods are used to build the space system
+                        if (invocable == null)
+                        {
+                            // Create a space system for the table (it's added to the space system
+                            // hierarchy later) and add the table's telemetry or command metadata
+                            tableSystem = factory.createSpaceSystemType();
+                            tableSystem.setName(systemName);
+                            buildSpaceSystem(tableSystem, tlmHdrSysPath, cmdHdrSysPath);
+                        }
+                    }
+                }
+                // An error occurred loading the table information
+                else
+                {
+                    throw new CCDDException("Unable to load table '" + tableName + "'");
+                }
+            }
+            catch (CCDDException ce)
+            {
+                // Store the exception; it's thrown when the table's space system is added to the
+                // space system hierarchy
+                exception = ce;
+            }
+        }
+
+        /******************************************************************************************
+         * Add the table's telemetry or command metadata to the specified space system
+         *
+         * @param parentSystem
+         *            space system to which to add the table's metadata
+         *
+         * @param tlmHdrSysPath
+         *            telemetry header table system path; null or blank if none
+         *
+         * @param cmdHdrSysPath
+         *            command header table system path; null or blank if none
+         *
+         * @throws CCDDException
+         *             If an error occurs executing an external (script) method
+         *****************************************************************************************/
+        protected void buildSpaceSystem(SpaceSystemType parentSystem,
+                                        String tlmHdrSysPath,
+                                        String cmdHdrSysPath) throws CCDDException
+        {
+            String tableName = expandedTableName;
+            List<AssociatedColumns> commandArguments;
+
+            // Check if this is a structure table
+            if (typeDefn.isStructure())
+            {
+                // Get the default column indices
+                int varColumn = typeDefn.getColumnIndexByInputType(DefaultInputType.VARIABLE);
+                int typeColumn = typeDefn.getColumnIndexByInputType(DefaultInputType.PRIM_AND_STRUCT);
+                int sizeColumn = typeDefn.getColumnIndexByInputType(DefaultInputType.ARRAY_INDEX);
+                int bitColumn = typeDefn.getColumnIndexByInputType(DefaultInputType.BIT_LENGTH);
+                int enumColumn = typeDefn.getColumnIndexByInputTypeFormat(InputTypeFormat.ENUMERATION);
+                int descColumn = typeDefn.getColumnIndexByInputType(DefaultInputType.DESCRIPTION);
+                int unitsColumn = typeDefn.getColumnIndexByInputType(DefaultInputType.UNITS);
+                int minColumn = typeDefn.getColumnIndexByInputTypeFormat(InputTypeFormat.MINIMUM);
+                int maxColumn = typeDefn.getColumnIndexByInputTypeFormat(InputTypeFormat.MAXIMUM);
+
+                // Check if this is the command header structure or a descendant
+                // structure of the command header. In order for it to be referenced as
+                // the header by the command tables it must be converted into the same
+                // format as a command table, then rendered into XTCE XML as
+                // CommandMetaData
+                if (isCmdHdrTable)
+                {
+                    // Set the number of argument columns per command argument
+                    int columnsPerArg = CcddTableTypeHandler.commandArgumentColumns.length;
+
+                    // Initialize the offset in the command row so that space if
+                    // created for the command name and description, then created an
+                    // array to contain the converted command table data
+                    int argOffset = 2;
+                    String[][] tableData = new String[1][tableInfo.getData().length
+                                                         * columnsPerArg
+                                                         + 2];
+
+                    // Initialize the storage for the command argument column indices
+                    commandArguments = new ArrayList<AssociatedColumns>();
+
+                    // Store the command header table name (use only the variable name
+                    // portion if this is a child table) and description as the command
+                    // name and description
+                    tableData[0][0] = tableName.replaceFirst("[^\\.]+\\.", "");
+                    tableData[0][1] = tableInfo.getDescription();
+
+                    // Step through each row in the command header table
+                    for (String[] rowData : CcddUtilities.convertObjectToString(tableInfo.getData()))
+                    {
+                        // Check if this isn't an array member (the array definition is
+                        // sufficient to define the array elements)
+                        if (!ArrayVariable.isArrayMember(rowData[varColumn]))
+                        {
+                            // Store the components of each variable within the command
+                            // header in the form of a command argument
+                            tableData[0][argOffset] = varColumn != -1
+                                                                      ? rowData[varColumn]
+                                                                      : null;
+                            tableData[0][argOffset + 1] = typeColumn != -1
+                                                                           ? rowData[typeColumn]
+                                                                           : null;
+                            tableData[0][argOffset + 2] = sizeColumn != -1
+                                                                           ? rowData[sizeColumn]
+                                                                           : null;
+                            tableData[0][argOffset + 3] = bitColumn != -1
+                                                                          ? rowData[bitColumn]
+                                                                          : null;
+                            tableData[0][argOffset + 4] = enumColumn != -1
+                                                                           ? rowData[enumColumn]
+                                                                           : null;
+                            tableData[0][argOffset + 5] = minColumn != -1
+                                                                          ? rowData[minColumn]
+                                                                          : null;
+                            tableData[0][argOffset + 6] = maxColumn != -1
+                                                                          ? rowData[maxColumn]
+                                                                          : null;
+                            tableData[0][argOffset + 7] = descColumn != -1
+                                                                           ? rowData[descColumn]
+                                                                           : null;
+                            tableData[0][argOffset + 8] = unitsColumn != -1
+                                                                            ? rowData[unitsColumn]
+                                                                            : null;
+
+                            // Store the column indices for each of the command header
+                            // arguments
+                            commandArguments.add(new AssociatedColumns(false,
+                                                                       (varColumn != -1
+                                                                                        ? argOffset
+                                                                                        : -1),
+                                                                       (typeColumn != -1
+                                                                                         ? argOffset + 1
+                                                                                         : -1),
+                                                                       (sizeColumn != -1
+                                                                                         ? argOffset + 2
+                                                                                         : -1),
+                                                                       (bitColumn != -1
+                                                                                        ? argOffset + 3
+                                                                                        : -1),
+                                                                       (enumColumn != -1
+                                                                                         ? argOffset + 4
+                                                                                         : -1),
+                                                                       (minColumn != -1
+                                                                                        ? argOffset + 5
+                                                                                        : -1),
+                                                                       (maxColumn != -1
+                                                                                        ? argOffset + 6
+                                                                                        : -1),
+                                                                       (descColumn != -1
+                                                                                         ? argOffset + 7
+                                                                                         : -1),
+                                                                       (unitsColumn != -1
+                                                                                          ? argOffset + 8
+                                                                                          : -1),
+                                                                       null));
+
+                            // Increment the offset for the next row
+                            argOffset += columnsPerArg;
+                        }
+                    }
+
+                    // Add the command header or descendant arguments to the command
+                    // header space system
+                    addSpaceSystemCommands(parentSystem,
+                                           tableData,
+                                           0,
+                                           -1,
+                                           1,
+                                           true,
+                                           cmdHdrSysPath,
+                                           null,
+                                           commandArguments);
+                }
+                // This is not the command header structure
+                else
+                {
+                    // Add the structure table's variables to the space system's
+                    // telemetry meta data
+                    addSpaceSystemParameters(parentSystem,
+                                             tableName,
+                                             CcddUtilities.convertObjectToString(tableInfo.getData()),
+                                             varColumn,
+                                             typeColumn,
+                                             sizeColumn,
+                                             bitColumn,
+                                             enumColumn,
+                                             descColumn,
+                                             unitsColumn,
+                                             minColumn,
+                                             maxColumn,
+                                             isTlmHdrTable,
+                                             tlmHdrSysPath,
+                                             isRootStructure,
+                                             applicationID);
+                }
+            }
+            // This is a command table
+            else
+            {
+                // Get the list containing the associated column indices for each
+                // argument grouping
+                commandArguments = typeDefn.getAssociatedCommandArgumentColumns(false);
+
+                // Get the first description type column in the command table type
+                // definition
+                int cmdDescColumn = typeDefn.getColumnIndexByInputType(DefaultInputType.DESCRIPTION);
+
+                // Check if the description belongs to a command argument and not the
+                // overall command. All columns prior to the first argument name apply
+                // to the entire command
+                if (commandArguments.size() != 0
+                    && commandArguments.get(0).getDescription() != -1
+                    && cmdDescColumn == commandArguments.get(0).getDescription())
+                {
+                    // There is no column for the command description, so reset its
+                    // column index
+                    cmdDescColumn = -1;
+                }
+
+                // Add the command(s) from this table to the parent system
+                addSpaceSystemCommands(parentSystem,
+                                       CcddUtilities.convertObjectToString(tableInfo.getData()),
+                                       typeDefn.getColumnIndexByInputType(DefaultInputType.COMMAND_NAME),
+                                       typeDefn.getColumnIndexByInputType(DefaultInputType.COMMAND_CODE),
+                                       cmdDescColumn,
+                                       false,
+                                       cmdHdrSysPath,
+                                       applicationID,
+                                       commandArguments);
+            }
+        }
+    }
+
+    /**********************************************************************************************
+     * XML stream writer class. Passes the output to the supplied writer, adding line feeds and
+     * indentation so that each element begins on a new line. This allows the XML to be written to
+     * the file as it's marshaled (the Marshaller's own formatting has a hard-coded limit of 8
+     * indentation levels)
+     *********************************************************************************************/
+    private static class IndentingXMLStreamWriter implements XMLStreamWriter
+    {
+        private final XMLStreamWriter writer;
+        private final String indent;
+        private final Deque<Boolean> hasChildElement;
+        private boolean isStarted;
+
+        /******************************************************************************************
+         * XML stream writer class constructor
+         *
+         * @param writer
+         *            writer to which to pass the output
+         *
+         * @param indent
+         *            string to output per indentation level
+         *****************************************************************************************/
+        IndentingXMLStreamWriter(XMLStreamWriter writer, String indent)
+        {
+            this.writer = writer;
+            this.indent = indent;
+            hasChildElement = new ArrayDeque<Boolean>();
+            isStarted = false;
+        }
+
+        /******************************************************************************************
+         * Output a line feed and the indentation for the current nest level, unless this is the
+         * first output
+         *
+         * @param level
+         *            nest level
+         *
+         * @throws XMLStreamException
+         *             If an error occurs writing the output
+         *****************************************************************************************/
+        private void writeIndent(int level) throws XMLStreamException
+        {
+            // Check if any output has occurred
+            if (isStarted)
+            {
+                StringBuilder text = new StringBuilder("\n");
+
+                // Step through each nest level
+                for (int index = 0; index < level; index++)
+                {
+                    text.append(indent);
+                }
+
+                writer.writeCharacters(text.toString());
+            }
+
+            isStarted = true;
+        }
+
+        /******************************************************************************************
+         * Prepare for the output of an element; indent the element and flag that the parent
+         * element contains an element
+         *
+         * @throws XMLStreamException
+         *             If an error occurs writing the output
+         *****************************************************************************************/
+        private void beforeElement() throws XMLStreamException
+        {
+            writeIndent(hasChildElement.size());
+
+            // Check if the element has a parent element
+            if (!hasChildElement.isEmpty())
+            {
+                hasChildElement.pop();
+                hasChildElement.push(true);
+            }
+        }
+
+        @Override
+        public void writeStartElement(String localName) throws XMLStreamException
+        {
+            beforeElement();
+            writer.writeStartElement(localName);
+            hasChildElement.push(false);
+        }
+
+        @Override
+        public void writeStartElement(String namespaceURI,
+                                      String localName) throws XMLStreamException
+        {
+            beforeElement();
+            writer.writeStartElement(namespaceURI, localName);
+            hasChildElement.push(false);
+        }
+
+        @Override
+        public void writeStartElement(String prefix,
+                                      String localName,
+                                      String namespaceURI) throws XMLStreamException
+        {
+            beforeElement();
+            writer.writeStartElement(prefix, localName, namespaceURI);
+            hasChildElement.push(false);
+        }
+
+        @Override
+        public void writeEmptyElement(String namespaceURI,
+                                      String localName) throws XMLStreamException
+        {
+            beforeElement();
+            writer.writeEmptyElement(namespaceURI, localName);
+        }
+
+        @Override
+        public void writeEmptyElement(String prefix,
+                                      String localName,
+                                      String namespaceURI) throws XMLStreamException
+        {
+            beforeElement();
+            writer.writeEmptyElement(prefix, localName, namespaceURI);
+        }
+
+        @Override
+        public void writeEmptyElement(String localName) throws XMLStreamException
+        {
+            beforeElement();
+            writer.writeEmptyElement(localName);
+        }
+
+        @Override
+        public void writeEndElement() throws XMLStreamException
+        {
+            // Check if the element contains other elements
+            if (hasChildElement.pop())
+            {
+                // Place the end tag on its own line
+                writeIndent(hasChildElement.size());
+            }
+
+            writer.writeEndElement();
+        }
+
+        @Override
+        public void writeEndDocument() throws XMLStreamException
+        {
+            writer.writeEndDocument();
+            writer.writeCharacters("\n");
+        }
+
+        @Override
+        public void close() throws XMLStreamException
+        {
+            writer.close();
+        }
+
+        @Override
+        public void flush() throws XMLStreamException
+        {
+            writer.flush();
+        }
+
+        @Override
+        public void writeAttribute(String localName, String value) throws XMLStreamException
+        {
+            writer.writeAttribute(localName, value);
+        }
+
+        @Override
+        public void writeAttribute(String prefix,
+                                   String namespaceURI,
+                                   String localName,
+                                   String value) throws XMLStreamException
+        {
+            writer.writeAttribute(prefix, namespaceURI, localName, value);
+        }
+
+        @Override
+        public void writeAttribute(String namespaceURI,
+                                   String localName,
+                                   String value) throws XMLStreamException
+        {
+            writer.writeAttribute(namespaceURI, localName, value);
+        }
+
+        @Override
+        public void writeNamespace(String prefix, String namespaceURI) throws XMLStreamException
+        {
+            writer.writeNamespace(prefix, namespaceURI);
+        }
+
+        @Override
+        public void writeDefaultNamespace(String namespaceURI) throws XMLStreamException
+        {
+            writer.writeDefaultNamespace(namespaceURI);
+        }
+
+        @Override
+        public void writeComment(String data) throws XMLStreamException
+        {
+            writer.writeComment(data);
+        }
+
+        @Override
+        public void writeProcessingInstruction(String target) throws XMLStreamException
+        {
+            writer.writeProcessingInstruction(target);
+        }
+
+        @Override
+        public void writeProcessingInstruction(String target,
+                                               String data) throws XMLStreamException
+        {
+            writer.writeProcessingInstruction(target, data);
+        }
+
+        @Override
+        public void writeCData(String data) throws XMLStreamException
+        {
+            writer.writeCData(data);
+        }
+
+        @Override
+        public void writeDTD(String dtd) throws XMLStreamException
+        {
+            writer.writeDTD(dtd);
+        }
+
+        @Override
+        public void writeEntityRef(String name) throws XMLStreamException
+        {
+            writer.writeEntityRef(name);
+        }
+
+        @Override
+        public void writeStartDocument() throws XMLStreamException
+        {
+            writer.writeStartDocument();
+            isStarted = true;
+        }
+
+        @Override
+        public void writeStartDocument(String version) throws XMLStreamException
+        {
+            writer.writeStartDocument(version);
+            isStarted = true;
+        }
+
+        @Override
+        public void writeStartDocument(String encoding, String version) throws XMLStreamException
+        {
+            writer.writeStartDocument(encoding, version);
+            isStarted = true;
+        }
+
+        @Override
+        public void writeCharacters(String text) throws XMLStreamException
+        {
+            writer.writeCharacters(text);
+        }
+
+        @Override
+        public void writeCharacters(char[] text, int start, int len) throws XMLStreamException
+        {
+            writer.writeCharacters(text, start, len);
+        }
+
+        @Override
+        public String getPrefix(String uri) throws XMLStreamException
+        {
+            return writer.getPrefix(uri);
+        }
+
+        @Override
+        public void setPrefix(String prefix, String uri) throws XMLStreamException
+        {
+            writer.setPrefix(prefix, uri);
+        }
+
+        @Override
+        public void setDefaultNamespace(String uri) throws XMLStreamException
+        {
+            writer.setDefaultNamespace(uri);
+        }
+
+        @Override
+        public void setNamespaceContext(NamespaceContext context) throws XMLStreamException
+        {
+            writer.setNamespaceContext(context);
+        }
+
+        @Override
+        public NamespaceContext getNamespaceContext()
+        {
+            return writer.getNamespaceContext();
+        }
+
+        @Override
+        public Object getProperty(String name) throws IllegalArgumentException
+        {
+            return writer.getProperty(name);
+        }
+    }
+
     /**********************************************************************************************
      * XTCE handler class constructor
      *
@@ -613,6 +1411,11 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
             // Get the top-level space system
             rootSystem = (SpaceSystemType) jaxbElement.getValue();
 
+            // Create the space system name index and add the space systems to it
+            spaceSystemIndex = new HashMap<String, List<SpaceSystemType>>();
+            parentSystems = new IdentityHashMap<SpaceSystemType, SpaceSystemType>();
+            indexSpaceSystems(rootSystem, null);
+
             tableDefinitions = new ArrayList<TableDefinition>();
             structureTypeDefn = null;
             commandTypeDefn = null;
@@ -2895,15 +3698,43 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
                             (String) extraInfo[5],
                             (String) extraInfo[6]);
 
-        // Output the XML to the specified file. The Marshaller has a hard-coded limit of 8
-        // levels; once exceeded it starts back at the first column. Therefore, a Transformer
-        // is used to set the indentation amount (it doesn't have an indentation level limit)
-        DOMResult domResult = new DOMResult();
-        marshaller.marshal(project, domResult);
-        Transformer transformer = TransformerFactory.newInstance().newTransformer();
-        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-        transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "3");
-        transformer.transform(new DOMSource(domResult.getNode()), new StreamResult(exportFile));
+        OutputStream outputStream = null;
+        XMLStreamWriter xmlWriter = null;
+
+        try
+        {
+            // Output the XML to the specified file as it's marshaled. The Marshaller has a
+            // hard-coded limit of 8 levels; once exceeded it starts back at the first column.
+            // Therefore, the stream writer sets the indentation (it doesn't have an indentation
+            // level limit)
+            outputStream = new BufferedOutputStream(new FileOutputStream(exportFile));
+            xmlWriter = new IndentingXMLStreamWriter(XMLOutputFactory.newInstance()
+                                                                     .createXMLStreamWriter(outputStream,
+                                                                                            "UTF-8"),
+                                                     "   ");
+            xmlWriter.writeStartDocument("UTF-8", "1.0");
+
+            // Marshal the XML as a document fragment since the stream writer supplies the
+            // document's start and end
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+            marshaller.marshal(project, xmlWriter);
+            xmlWriter.writeEndDocument();
+            xmlWriter.flush();
+        }
+        finally
+        {
+            // Check if the XML writer was created
+            if (xmlWriter != null)
+            {
+                xmlWriter.close();
+            }
+
+            // Check if the output stream was opened
+            if (outputStream != null)
+            {
+                outputStream.close();
+            }
+        }
     }
 
     /**********************************************************************************************
@@ -2960,6 +3791,10 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
         classification2Attr = classification2;
         classification3Attr = classification3;
 
+        // Create the space system name index
+        spaceSystemIndex = new HashMap<String, List<SpaceSystemType>>();
+        parentSystems = new IdentityHashMap<SpaceSystemType, SpaceSystemType>();
+
         // Create the root space system
         rootSystem = addSpaceSystem(null,
                                     cleanSystemPath(dbControl.getProjectName()),
@@ -3057,7 +3892,8 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
     }
 
     /**********************************************************************************************
-     * Build the space systems
+     * Build the space systems. The tables are loaded and their space systems built concurrently,
+     * then each table's space system is added to the space system hierarchy in table order
      *
      * @param tableNames
      *            array containing the names of the tables to export
@@ -3067,11 +3903,12 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
      *********************************************************************************************/
     private void buildSpaceSystems(String[] tableNames) throws CCDDException
     {
-        List<String> processedTables = new ArrayList<String>();
+        Set<String> processedTables = new HashSet<String>();
+        List<ExportTable> exportTables = new ArrayList<ExportTable>();
 
         // Get the telemetry and command header table system paths (if present)
-        String tlmHdrSysPath = fieldHandler.getFieldValue(tlmHeaderTable, DefaultInputType.SYSTEM_PATH);
-        String cmdHdrSysPath = fieldHandler.getFieldValue(cmdHeaderTable, DefaultInputType.SYSTEM_PATH);
+        final String tlmHdrSysPath = fieldHandler.getFieldValue(tlmHeaderTable, DefaultInputType.SYSTEM_PATH);
+        final String cmdHdrSysPath = fieldHandler.getFieldValue(cmdHeaderTable, DefaultInputType.SYSTEM_PATH);
 
         // Step through each table path+name
         for (String tablePath : tableNames)
@@ -3194,322 +4031,151 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
                 }
             }
 
-            // Check if this table has already been loaded and its space system built. This
-            // prevents repeated references to the telemetry/command header and its children from
-            // being from being reprocessed
-            if (!processedTables.contains(tableName))
+            // Check if this table has already been included. This prevents repeated references
+            // to the telemetry/command header and its children from being reprocessed
+            if (processedTables.add(tableName))
             {
-                // Add the table name to the list of those already processed so that future
-                // references are ignored
-                processedTables.add(tableName);
+                // Add the table to the list of those to export
+                exportTables.add(new ExportTable(tableName,
+                                                 loadTableName,
+                                                 tablePath,
+                                                 systemPath,
+                                                 isTlmHdrTable,
+                                                 isCmdHdrTable,
+                                                 dbTable.isRootStructure(loadTableName)));
+            }
+        }
 
-                // Get the information from the database for the specified table
-                TableInformation tableInfo = dbTable.loadTableData(loadTableName,
-                                                                   true,
-                                                                   false,
-                                                                   parent);
+        List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
 
-                // Check if the table's data successfully loaded
-                if (!tableInfo.isErrorFlag())
+        // Step through each table to export
+        for (final ExportTable exportTable : exportTables)
+        {
+            // Create a task to load the table and build its space system
+            tasks.add(new Callable<Void>()
+            {
+                /**********************************************************************************
+                 * Load the table and build its space system
+                 *********************************************************************************/
+                @Override
+                public Void call()
                 {
-                    // Get the table type and from the type get the type definition. The type
-                    // definition can be a global parameter since if the table represents a
-                    // structure, then all of its children are also structures, and if the table
-                    // represents commands or other table type then it is processed within this
-                    // nest level
-                    TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(tableInfo.getType());
+                    // Use the read-only database connections (if any) so that the tables can be
+                    // loaded concurrently
+                    ccddMain.getDbCommandHandler().setReaderMode(true);
 
-                    // Check if the table type represents a structure or command
-                    if (typeDefn != null && (typeDefn.isStructure() || typeDefn.isCommand()))
+                    try
                     {
-                        // Replace all macro names with their corresponding values
-                        tableInfo.setData(macroHandler.replaceAllMacros(tableInfo.getData()));
-
-                        // Get the application ID data field value, if present
-                        String applicationID = CcddMessageIDHandler.getMessageID(fieldHandler.getFieldValue(loadTableName,
-                                                                                                            DefaultInputType.MESSAGE_NAME_AND_ID));
-
-                        // Check if the system path isn't already defined (this is the case for
-                        // children of the telemetry header table)
-                        if (systemPath == null)
-                        {
-                            // Get the path of the system to which this table belongs from the
-                            // table'ss root table system path data field (if present)
-                            systemPath = fieldHandler.getFieldValue(tableInfo.getRootTable(),
-                                                                    DefaultInputType.SYSTEM_PATH);
-                        }
-
-                        // Initialize the parent system to be the root (top-level) system
-                        SpaceSystemType parentSystem = project.getValue();
-
-                        // Store the table name and get the index of the last instance table
-                        // referenced in the table's path
-                        String shortTableName = tableName;
-                        int index = tableInfo.getTablePath().lastIndexOf(",");
-
-                        // Check if the table is an instance table
-                        if (index != -1)
-                        {
-                            // Get the name of the final table (dataType.varName) in the path. This
-                            // shorter name is used to identify the space system (it's position in
-                            // the space system hierarchy determines its parent table)
-                            shortTableName = tableInfo.getTablePath().substring(index + 1);
+                        exportTable.loadAndBuild(tlmHdrSysPath, cmdHdrSysPath);
+                    }
+                    finally
+                    {
+                        ccddMain.getDbCommandHandler().setReaderMode(false);
+                    }
 
-                            // Check if the root table for this instance has a system path defined
-                            if (systemPath == null)
-                            {
-                                systemPath = "";
-                            }
+                    return null;
+                }
+            });
+        }
 
-                            // Add the table's path to its system path. Change each comma to a '/'
-                            // so that this instance is placed correctly in its space system
-                            // hierarchy
-                            systemPath += "/" +
-                                          macroHandler.getMacroExpansion(tableInfo.getTablePath()
-                                                                                  .substring(0, index)
-                                                                                  .replaceAll(",", "/"));
-                        }
+        // Create a pool to load the tables and build their space systems. The number of threads
+        // matches the number of read-only database connections
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1,
+                                                      ModifiableSizeInfo.READER_CONNECTIONS.getSize()));
 
-                        // Check if a system path exists (it always exists for an instance table,
-                        // but not necessarily for a root/prototype table)
-                        if (systemPath != null)
-                        {
-                            // Replace any invalid characters with an underscore so that the space
-                            // system name complies with the XTCE schema
-                            systemPath = cleanSystemPath(systemPath);
+        try
+        {
+            // Step through each table's task, waiting for it to complete
+            for (Future<Void> future : pool.invokeAll(tasks))
+            {
+                future.get();
+            }
+        }
+        catch (InterruptedException | ExecutionException e)
+        {
+            throw new CCDDException("XTCE conversion failed; cause '</b>" + e.getMessage() + "<b>'");
+        }
+        finally
+        {
+            pool.shutdown();
+        }
 
-                            // Step through each system name in the path
-                            for (String systemName : systemPath.split("\\s*/\\s*"))
-                            {
-                                // Check if the system name isn't blank (this ignores a beginning
-                                // '/' if present)
-                                if (!systemName.isEmpty())
-                                {
-                                    // Search the existing space systems for one with this system's
-                                    // name (if none exists then use the root system's name)
-                                    SpaceSystemType existingSystem = getSpaceSystemByName(systemName,
-                                                                                          parentSystem);
-
-                                    // Set the parent system to the existing system if found, else
-                                    // create a new space system using the name from the table's
-                                    // system path data field
-                                    parentSystem = existingSystem == null
-                                                                          ? addSpaceSystem(parentSystem,
-                                                                                           systemName,
-                                                                                           null,
-                                                                                           null,
-                                                                                           classification2Attr,
-                                                                                           validationStatusAttr,
-                                                                                           versionAttr)
-                                                                          : existingSystem;
-                                }
-                            }
-                        }
+        // Step through each table to export, in the order supplied
+        for (ExportTable exportTable : exportTables)
+        {
+            // Check if an error occurred loading the table or building its space system
+            if (exportTable.getException() != null)
+            {
+                throw exportTable.getException();
+            }
 
-                        // Add the space system, if needed. It's possible it may already exist due
-                        // to being referenced in the path of a child table. In this case the space
-                        // system isn't created again, but the descriptions and attributes are
-                        // updated to those for this table since these aren't supplied if the space
-                        // system is created due t being in a child's path
-                        parentSystem = addSpaceSystem(parentSystem,
-                                                      cleanSystemPath(macroHandler.getMacroExpansion(shortTableName)),
-                                                      tableInfo.getDescription(),
-                                                      macroHandler.getMacroExpansion(tablePath),
-                                                      classification3Attr,
-                                                      validationStatusAttr,
-                                                      versionAttr);
-
-                        // Check if this is a structure table
-                        if (typeDefn.isStructure())
-                        {
-                            // Get the default column indices
-                            int varColumn = typeDefn.getColumnIndexByInputType(DefaultInputType.VARIABLE);
-                            int typeColumn = typeDefn.getColumnIndexByInputType(DefaultInputType.PRIM_AND_STRUCT);
-                            int sizeColumn = typeDefn.getColumnIndexByInputType(DefaultInputType.ARRAY_INDEX);
-                            int bitColumn = typeDefn.getColumnIndexByInputType(DefaultInputType.BIT_LENGTH);
-                            int enumColumn = typeDefn.getColumnIndexByInputTypeFormat(InputTypeFormat.ENUMERATION);
-                            int descColumn = typeDefn.getColumnIndexByInputType(DefaultInputType.DESCRIPTION);
-                            int unitsColumn = typeDefn.getColumnIndexByInputType(DefaultInputType.UNITS);
-                            int minColumn = typeDefn.getColumnIndexByInputTypeFormat(InputTypeFormat.MINIMUM);
-                            int maxColumn = typeDefn.getColumnIndexByInputTypeFormat(InputTypeFormat.MAXIMUM);
-
-                            // Expand any macros in the table path
-                            tableName = macroHandler.getMacroExpansion(tableName);
-
-                            // Check if this is the command header structure or a descendant
-                            // structure of the command header. In order for it to be referenced as
-                            // the header by the command tables it must be converted into the same
-                            // format as a command table, then rendered into XTCE XML as
-                            // CommandMetaData
-                            if (isCmdHdrTable)
-                            {
-                                // Set the number of argument columns per command argument
-                                int columnsPerArg = CcddTableTypeHandler.commandArgumentColumns.length;
-
-                                // Initialize the offset in the command row so that space if
-                                // created for the command name and description, then created an
-                                // array to contain the converted command table data
-                                int argOffset = 2;
-                                String[][] tableData = new String[1][tableInfo.getData().length
-                                                                     * columnsPerArg
-                                                                     + 2];
-
-                                // Initialize the storage for the command argument column indices
-                                commandArguments = new ArrayList<AssociatedColumns>();
-
-                                // Store the command header table name (use only the variable name
-                                // portion if this is a child table) and description as the command
-                                // name and description
-                                tableData[0][0] = tableName.replaceFirst("[^\\.]+\\.", "");
-                                tableData[0][1] = tableInfo.getDescription();
-
-                                // Step through each row in the command header table
-                                for (String[] rowData : CcddUtilities.convertObjectToString(tableInfo.getData()))
-                                {
-                                    // Check if this isn't an array member (the array definition is
-                                    // sufficient to define the array elements)
-                                    if (!ArrayVariable.isArrayMember(rowData[varColumn]))
-                                    {
-                                        // Store the components of each variable within the command
-                                        // header in the form of a command argument
-                                        tableData[0][argOffset] = varColumn != -1
-                                                                                  ? rowData[varColumn]
-                                                                                  : null;
-                                        tableData[0][argOffset + 1] = typeColumn != -1
-                                                                                       ? rowData[typeColumn]
-                                                                                       : null;
-                                        tableData[0][argOffset + 2] = sizeColumn != -1
-                                                                                       ? rowData[sizeColumn]
-                                                                                       : null;
-                                        tableData[0][argOffset + 3] = bitColumn != -1
-                                                                                      ? rowData[bitColumn]
-                                                                                      : null;
-                                        tableData[0][argOffset + 4] = enumColumn != -1
-                                                                                       ? rowData[enumColumn]
-                                                                                       : null;
-                                        tableData[0][argOffset + 5] = minColumn != -1
-                                                                                      ? rowData[minColumn]
-                                                                                      : null;
-                                        tableData[0][argOffset + 6] = maxColumn != -1
-                                                                                      ? rowData[maxColumn]
-                                                                                      : null;
-                                        tableData[0][argOffset + 7] = descColumn != -1
-                                                                                       ? rowData[descColumn]
-                                                                                       : null;
-                                        tableData[0][argOffset + 8] = unitsColumn != -1
-                                                                                        ? rowData[unitsColumn]
-                                                                                        : null;
-
-                                        // Store the column indices for each of the command header
-                                        // arguments
-                                        commandArguments.add(new AssociatedColumns(false,
-                                                                                   (varColumn != -1
-                                                                                                    ? argOffset
-                                                                                                    : -1),
-                                                                                   (typeColumn != -1
-                                                                                                     ? argOffset + 1
-                                                                                                     : -1),
-                                                                                   (sizeColumn != -1
-                                                                                                     ? argOffset + 2
-                                                                                                     : -1),
-                                                                                   (bitColumn != -1
-                                                                                                    ? argOffset + 3
-                                                                                                    : -1),
-                                                                                   (enumColumn != -1
-                                                                                                     ? argOffset + 4
-                                                                                                     : -1),
-                                                                                   (minColumn != -1
-                                                                                                    ? argOffset + 5
-                                                                                                    : -1),
-                                                                                   (maxColumn != -1
-                                                                                                    ? argOffset + 6
-                                                                                                    : -1),
-                                                                                   (descColumn != -1
-                                                                                                     ? argOffset + 7
-                                                                                                     : -1),
-                                                                                   (unitsColumn != -1
-                                                                                                      ? argOffset + 8
-                                                                                                      : -1),
-                                                                                   null));
-
-                                        // Increment the offset for the next row
-                                        argOffset += columnsPerArg;
-                                    }
-                                }
+            // Check if the table type represents a structure or command
+            if (exportTable.isExported())
+            {
+                // Initialize the parent system to be the root (top-level) system
+                SpaceSystemType parentSystem = project.getValue();
 
-                                // Add the command header or descendant arguments to the command
-                                // header space system
-                                addSpaceSystemCommands(parentSystem,
-                                                       tableData,
-                                                       0,
-                                                       -1,
-                                                       1,
-                                                       true,
-                                                       cmdHdrSysPath,
-                                                       null);
-                            }
-                            // This is not the command header structure
-                            else
-                            {
-                                // Add the structure table's variables to the space system's
-                                // telemetry meta data
-                                addSpaceSystemParameters(parentSystem,
-                                                         tableName,
-                                                         CcddUtilities.convertObjectToString(tableInfo.getData()),
-                                                         varColumn,
-                                                         typeColumn,
-                                                         sizeColumn,
-                                                         bitColumn,
-                                                         enumColumn,
-                                                         descColumn,
-                                                         unitsColumn,
-                                                         minColumn,
-                                                         maxColumn,
-                                                         isTlmHdrTable,
-                                                         tlmHdrSysPath,
-                                                         dbTable.isRootStructure(loadTableName),
-                                                         applicationID);
-                            }
-                        }
-                        // This is a command table
-                        else
+                // Check if a system path exists (it always exists for an instance table, but not
+                // necessarily for a root/prototype table)
+                if (exportTable.getSystemPath() != null)
+                {
+                    // Step through each system name in the path
+                    for (String systemName : exportTable.getSystemPath().split("\\s*/\\s*"))
+                    {
+                        // Check if the system name isn't blank (this ignores a beginning '/' if
+                        // present)
+                        if (!systemName.isEmpty())
                         {
-                            // Get the list containing the associated column indices for each
-                            // argument grouping
-                            commandArguments = typeDefn.getAssociatedCommandArgumentColumns(false);
-
-                            // Get the first description type column in the command table type
-                            // definition
-                            int cmdDescColumn = typeDefn.getColumnIndexByInputType(DefaultInputType.DESCRIPTION);
-
-                            // Check if the description belongs to a command argument and not the
-                            // overall command. All columns prior to the first argument name apply
-                            // to the entire command
-                            if (commandArguments.size() != 0
-                                && commandArguments.get(0).getDescription() != -1
-                                && cmdDescColumn == commandArguments.get(0).getDescription())
-                            {
-                                // There is no column for the command description, so reset its
-                                // column index
-                                cmdDescColumn = -1;
-                            }
+                            // Search the existing space systems for one with this system's name
+                            // (if none exists then use the root system's name)
+                            SpaceSystemType existingSystem = getSpaceSystemByName(systemName,
+                                                                                  parentSystem);
 
-                            // Add the command(s) from this table to the parent system
-                            addSpaceSystemCommands(parentSystem,
-                                                   CcddUtilities.convertObjectToString(tableInfo.getData()),
-                                                   typeDefn.getColumnIndexByInputType(DefaultInputType.COMMAND_NAME),
-                                                   typeDefn.getColumnIndexByInputType(DefaultInputType.COMMAND_CODE),
-                                                   cmdDescColumn,
-                                                   false,
-                                                   cmdHdrSysPath,
-                                                   applicationID);
+                            // Set the parent system to the existing system if found, else create
+                            // a new space system using the name from the table's system path data
+                            // field
+                            parentSystem = existingSystem == null
+                                                                  ? addSpaceSystem(parentSystem,
+                                                                                   systemName,
+                                                                                   null,
+                                                                                   null,
+                                                                                   classification2Attr,
+                                                                                   validationStatusAttr,
+                                                                                   versionAttr)
+                                                                  : existingSystem;
                         }
                     }
                 }
-                // An error occurred loading the table information
+
+                // Add the space system, if needed. It's possible it may already exist due to being
+                // referenced in the path of a child table. In this case the space system isn't
+                // created again, but the descriptions and attributes are updated to those for
+                // this table since these aren't supplied if the space system is created due to
+                // being in a child's path
+                parentSystem = addSpaceSystem(parentSystem,
+                                              exportTable.getSystemName(),
+                                              exportTable.getDescription(),
+                                              exportTable.getFullPath(),
+                                              classification3Attr,
+                                              validationStatusAttr,
+                                              versionAttr);
+
+                // Check if the table's telemetry or command metadata was built, and that the space
+                // system doesn't already contain metadata
+                if (exportTable.getTableSystem() != null
+                    && parentSystem.getTelemetryMetaData() == null
+                    && parentSystem.getCommandMetaData() == null)
+                {
+                    // Move the table's telemetry and command metadata to the space system
+                    parentSystem.setTelemetryMetaData(exportTable.getTableSystem().getTelemetryMetaData());
+                    parentSystem.setCommandMetaData(exportTable.getTableSystem().getCommandMetaData());
+                }
+                // The metadata wasn't built, or the table's metadata must be combined with that
+                // already in the space system
                 else
                 {
-                    throw new CCDDException("Unable to load table '" + tableName + "'");
+                    // Add the table's telemetry or command metadata to the space system
+                    exportTable.buildSpaceSystem(parentSystem, tlmHdrSysPath, cmdHdrSysPath);
                 }
             }
         }
@@ -3581,6 +4247,9 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
                 // Add the new space system as a child of the specified system
                 parentSystem.getSpaceSystem().add(childSystem);
             }
+
+            // Add the new space system to the space system name index
+            addSpaceSystemToIndex(childSystem, parentSystem);
         }
 
         // Check if a description is provided
@@ -3610,9 +4279,60 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
         return childSystem;
     }
 
+    /**********************************************************************************************
+     * Add the specified space system, and its subsystems, to the space system name index
+     *
+     * @param spaceSystem
+     *            space system to add to the index
+     *
+     * @param parentSystem
+     *            space system's parent space system; null if this is the root space system
+     *********************************************************************************************/
+    private void indexSpaceSystems(SpaceSystemType spaceSystem, SpaceSystemType parentSystem)
+    {
+        // Add the space system to the index
+        addSpaceSystemToIndex(spaceSystem, parentSystem);
+
+        // Step through each subsystem
+        for (SpaceSystemType sys : spaceSystem.getSpaceSystem())
+        {
+            // Add the subsystem (and its subsystems, if any) to the index
+            indexSpaceSystems(sys, spaceSystem);
+        }
+    }
+
+    /**********************************************************************************************
+     * Add the specified space system to the space system name index
+     *
+     * @param spaceSystem
+     *            space system to add to the index
+     *
+     * @param parentSystem
+     *            space system's parent space system; null if this is the root space system
+     *********************************************************************************************/
+    private void addSpaceSystemToIndex(SpaceSystemType spaceSystem, SpaceSystemType parentSystem)
+    {
+        // Get the list of space systems with this system's name
+        List<SpaceSystemType> systems = spaceSystemIndex.get(spaceSystem.getName());
+
+        // Check if no space system with this name has been indexed
+        if (systems == null)
+        {
+            // Create a list for the space systems with this name
+            systems = new ArrayList<SpaceSystemType>(1);
+            spaceSystemIndex.put(spaceSystem.getName(), systems);
+        }
+
+        // Add the space system to the index and store its parent
+        systems.add(spaceSystem);
+        parentSystems.put(spaceSystem, parentSystem);
+    }
+
     /**********************************************************************************************
      * Get the reference to the space system with the specified name, starting at the specified
-     * space system
+     * space system. If more than one space system with the name exists at or below the starting
+     * space system then the first one encountered in a depth-first search of the hierarchy is
+     * returned
      *
      * @param systemName
      *            name to search for within the space system hierarchy
@@ -3625,59 +4345,111 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
      *********************************************************************************************/
     private SpaceSystemType getSpaceSystemByName(String systemName, SpaceSystemType startingSystem)
     {
-        // Search the space system hierarchy, beginning at the specified space system
-        return searchSpaceSystemsForName(systemName, startingSystem, null);
+        SpaceSystemType foundSystem = null;
+        List<SpaceSystemType> foundPath = null;
+
+        // Get the list of space systems with this name
+        List<SpaceSystemType> systems = spaceSystemIndex.get(systemName);
+
+        // Check if any space system has this name
+        if (systems != null)
+        {
+            // Step through each space system with this name
+            for (SpaceSystemType system : systems)
+            {
+                // Get the list of space systems from the starting system to this system
+                List<SpaceSystemType> path = getSpaceSystemPath(system, startingSystem);
+
+                // Check if the system is the starting system or one of its subsystems, and if it
+                // precedes any system already found
+                if (path != null && (foundPath == null || isSpaceSystemBefore(path, foundPath)))
+                {
+                    // Store the reference to the matching system and its path
+                    foundSystem = system;
+                    foundPath = path;
+                }
+            }
+        }
+
+        return foundSystem;
     }
 
     /**********************************************************************************************
-     * Recursively search through the space system tree for the space system with the same name as
-     * the search name
-     *
-     * @param systemName
-     *            name to search for within the space system hierarchy
+     * Get the list of space systems from the starting space system to the specified space system
      *
      * @param spaceSystem
-     *            current space system to check
+     *            space system for which to get the path
      *
-     * @param foundSystem
-     *            space system that matches the search name; null if no match has been found
+     * @param startingSystem
+     *            space system at which the path begins
      *
-     * @return Reference to the space system with the same name as the search name; null if no
-     *         space system name matches the search name
+     * @return List of space systems from the starting space system to the specified space system,
+     *         inclusive; null if the space system isn't the starting space system or one of its
+     *         subsystems
      *********************************************************************************************/
-    private SpaceSystemType searchSpaceSystemsForName(String systemName,
-                                                      SpaceSystemType spaceSystem,
-                                                      SpaceSystemType foundSystem)
+    private List<SpaceSystemType> getSpaceSystemPath(SpaceSystemType spaceSystem,
+                                                     SpaceSystemType startingSystem)
     {
-        // Check if the space system hasn't been found
-        if (foundSystem == null)
+        List<SpaceSystemType> path = new ArrayList<SpaceSystemType>();
+        SpaceSystemType system = spaceSystem;
+
+        // Step up through the space system's ancestors until the starting system or the root is
+        // reached
+        while (system != null && system != startingSystem)
         {
-            // Check if the current system's name matches the search name
-            if (spaceSystem.getName().equals(systemName))
-            {
-                // Store the reference to the matching system
-                foundSystem = spaceSystem;
-            }
-            // Check if the space system has subsystems
-            else if (!spaceSystem.getSpaceSystem().isEmpty())
+            path.add(0, system);
+            system = parentSystems.get(system);
+        }
+
+        // Check if the starting system was reached
+        if (system != null)
+        {
+            path.add(0, system);
+        }
+        // The space system isn't within the starting system
+        else
+        {
+            path = null;
+        }
+
+        return path;
+    }
+
+    /**********************************************************************************************
+     * Determine if the first space system precedes the second in a depth-first search of the
+     * space system hierarchy
+     *
+     * @param path1
+     *            list of space systems from the starting space system to the first space system
+     *
+     * @param path2
+     *            list of space systems from the starting space system to the second space system
+     *
+     * @return true if the first space system is encountered before the second in a depth-first
+     *         search
+     *********************************************************************************************/
+    private boolean isSpaceSystemBefore(List<SpaceSystemType> path1, List<SpaceSystemType> path2)
+    {
+        boolean isBefore = path1.size() < path2.size();
+
+        // Step through the space systems common to both paths (the first is always the starting
+        // system)
+        for (int index = 1; index < path1.size() && index < path2.size(); index++)
+        {
+            // Check if the paths diverge at this level
+            if (path1.get(index) != path2.get(index))
             {
-                // Step through each subsystem
-                for (SpaceSystemType sys : spaceSystem.getSpaceSystem())
-                {
-                    // Search the subsystem (and its subsystems, if any) for a match
-                    foundSystem = searchSpaceSystemsForName(systemName, sys, foundSystem);
+                // Get the list of subsystems belonging to the space system at which the paths
+                // diverge
+                List<SpaceSystemType> subsystems = path1.get(index - 1).getSpaceSystem();
 
-                    // Check if a system with a matching name was found
-                    if (foundSystem != null)
-                    {
-                        // Stop searching
-                        break;
-                    }
-                }
+                // The first path precedes the second if its subsystem at this level comes first
+                isBefore = subsystems.indexOf(path1.get(index)) < subsystems.indexOf(path2.get(index));
+                break;
             }
         }
 
-        return foundSystem;
+        return isBefore;
     }
 
     /**********************************************************************************************
@@ -4702,7 +5474,8 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
     }
 
     /**********************************************************************************************
-     * Add the command(s) from a table to the specified space system
+     * Add the command(s) from a table to the specified space system using the command argument
+     * column indices for the table currently being exported
      *
      * @param spaceSystem
      *            space system reference
@@ -4739,6 +5512,61 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
                                           boolean isCmdHeader,
                                           String cmdHdrSysPath,
                                           String applicationID) throws CCDDException
+    {
+        addSpaceSystemCommands(spaceSystem,
+                               tableData,
+                               cmdNameColumn,
+                               cmdCodeColumn,
+                               cmdDescColumn,
+                               isCmdHeader,
+                               cmdHdrSysPath,
+                               applicationID,
+                               commandArguments);
+    }
+
+    /**********************************************************************************************
+     * Add the command(s) from a table to the specified space system
+     *
+     * @param spaceSystem
+     *            space system reference
+     *
+     * @param tableData
+     *            table data array
+     *
+     * @param cmdNameColumn
+     *            command name column index
+     *
+     * @param cmdCodeColumn
+     *            command code column index
+     *
+     * @param cmdDescColumn
+     *            command description column index
+     *
+     * @param isCmdHeader
+     *            true if this table represents the command header
+     *
+     * @param cmdHdrSysPath
+     *            command header table system path
+     *
+     * @param applicationID
+     *            application ID
+     *
+     * @param commandArguments
+     *            list containing the associated column indices for each command argument
+     *            grouping
+     *
+     * @throws CCDDException
+     *             If an error occurs executing an external (script) method
+     *********************************************************************************************/
+    protected void addSpaceSystemCommands(SpaceSystemType spaceSystem,
+                                          String[][] tableData,
+                                          int cmdNameColumn,
+                                          int cmdCodeColumn,
+                                          int cmdDescColumn,
+                                          boolean isCmdHeader,
+                                          String cmdHdrSysPath,
+                                          String applicationID,
+                                          List<AssociatedColumns> commandArguments) throws CCDDException
     {
         // Set the flag assuming the internal method is used
         boolean useInternal = true;
@@ -4746,6 +5574,10 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
         // Check if an external method is to be used
         if (invocable != null)
         {
+            // Store the command argument column indices so that these are available to the
+            // script's data access methods
+            this.commandArguments = commandArguments;
+
             try
             {
                 // Execute the external method